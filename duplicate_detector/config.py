@@ -13,15 +13,22 @@ STATIC_BASE = PROJECT_ROOT / "news_crawler" / "src" / "main" / "resources" / "st
 
 # 동적으로 설정할 변수들 (현재 시간 기반으로 자동 설정)
 import datetime
+import os
+
+# Java 실행이 넘겨준 날짜/시간대 (RunContext) - 있으면 시각을 다시 계산하지 않음
+RUN_DATE_ENV = "CRAWLER_RUN_DATE"
+RUN_PERIOD_ENV = "CRAWLER_RUN_PERIOD"
+
+# 시각은 한 번만 읽어 날짜와 시간대가 서로 다른 시각에서 나오지 않도록 함
+_NOW = datetime.datetime.now()
 
 def get_current_period():
-    now = datetime.datetime.now()
-    return "am" if now.hour < 12 else "pm"
+    return os.environ.get(RUN_PERIOD_ENV) or ("am" if _NOW.hour < 12 else "pm")
 
 def get_current_date():
-    return datetime.datetime.now().strftime("%Y-%m-%d")
+    return os.environ.get(RUN_DATE_ENV) or _NOW.strftime("%Y-%m-%d")
 
-# 현재 시간 기반으로 자동 설정
+# 실행이 넘겨준 값, 없으면 현재 시간 기반으로 자동 설정
 PERIOD = get_current_period()
 DATE = get_current_date()
 CATEGORY = "세계"
@@ -36,5 +43,9 @@ ALL_CATEGORIES = ["정치", "경제", "사회", "생활", "세계", "IT과학",
 def get_file_path(period=PERIOD, date=DATE, category=CATEGORY):
     return STATIC_BASE / period / f"{date}_{period}" / "detail" / f"naver_news_{category}_{period}_detailed.csv"
 
+def get_title_candidates_path(period=PERIOD, date=DATE, category=CATEGORY):
+    """Java 상세 크롤링이 상세 파일 옆에 쓰는 제목 MinHash LSH 후보 그룹 파일"""
+    return STATIC_BASE / period / f"{date}_{period}" / "detail" / f"naver_news_{category}_{period}_title_candidates.csv"
+
 def get_dedup_dir(period=PERIOD, date=DATE):
     return STATIC_BASE / period / f"{date}_{period}" / "deduplicated-related"
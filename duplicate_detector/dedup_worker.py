@@ -0,0 +1,88 @@
+# 상주 중복 제거 워커: Java 서비스가 한 번 띄워 두고 stdin/stdout JSON 줄 단위로 작업을 보냄
+#
+# 시작할 때 pandas/konlpy(Okt JVM)/SBERT 모델을 한 번만 읽고 준비되면 {"type": "ready"}를 보낸다.
+# 요청 (한 줄에 JSON 하나):
+#   {"id": "1", "op": "ping"}
+#   {"id": "2", "op": "dedup", "date": "2025-08-01", "period": "am", "categories": ["정치", ...],
+#    "inputs": {"정치": "/.../incremental/input_정치_2025-08-01_am.csv"}}  (inputs는 증분 실행할 카테고리만)
+#   {"id": "3", "op": "shutdown"}
+# 응답: {"id": ..., "type": "pong" | "result" | "error", ...}
+# 작업 중 print 출력은 프로토콜과 섞이지 않도록 stderr로 보낸다.
+import json
+import os
+import sys
+import time
+import traceback
+from pathlib import Path
+
+current_dir = Path(__file__).parent
+sys.path.append(str(current_dir))
+
+# 프로토콜 전용 출력 (print는 stderr로 돌림)
+_protocol_out = sys.stdout
+sys.stdout = sys.stderr
+
+
+def send(message):
+    _protocol_out.write(json.dumps(message, ensure_ascii=False) + "\n")
+    _protocol_out.flush()
+
+
+def warm_up():
+    """무거운 모듈과 모델을 미리 읽음 (실행마다 반복되던 고정 비용)"""
+    start = time.time()
+    import run_all_categories  # noqa: F401  pandas, konlpy, sentence_transformers 로드
+    from preprocess_config import okt
+    okt.nouns("중복 제거 워커 준비")  # Okt JVM 기동
+    return time.time() - start
+
+
+def handle(request):
+    op = request.get("op")
+    request_id = request.get("id")
+    if op == "ping":
+        return {"id": request_id, "type": "pong", "pid": os.getpid()}
+    if op == "dedup":
+        from config import ALL_CATEGORIES, THRESHOLD_TITLE
+        from run_all_categories import run_categories
+        start = time.time()
+        # 날짜/시간대는 워커 시작 시각이 아니라 요청 값을 씀
+        results = run_categories(
+            date=request["date"],
+            period=request["period"],
+            categories=request.get("categories") or ALL_CATEGORIES,
+            threshold_title=request.get("threshold_title", THRESHOLD_TITLE),
+            inputs=request.get("inputs"),
+        )
+        return {"id": request_id, "type": "result", "results": results, "seconds": round(time.time() - start, 3)}
+    raise ValueError(f"알 수 없는 요청: {op}")
+
+
+def main():
+    try:
+        seconds = warm_up()
+    except Exception as e:
+        send({"type": "error", "error": f"워커 준비 실패: {e}"})
+        traceback.print_exc()
+        return 1
+    send({"type": "ready", "pid": os.getpid(), "seconds": round(seconds, 3)})
+
+    for line in sys.stdin:
+        line = line.strip()
+        if not line:
+            continue
+        request = {}
+        try:
+            request = json.loads(line)
+            if request.get("op") == "shutdown":
+                send({"id": request.get("id"), "type": "bye"})
+                return 0
+            send(handle(request))
+        except Exception as e:
+            traceback.print_exc()
+            send({"id": request.get("id"), "type": "error", "error": str(e)})
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -1,17 +1,115 @@
 # group_by_union_find	제목 유사도 계산, Union-Find 기반 그룹핑
 
+import os
 import pandas as pd
 from collections import defaultdict
 from sklearn.feature_extraction.text import TfidfVectorizer
 from sklearn.metrics.pairwise import cosine_similarity
 from config import THRESHOLD_TITLE, THRESHOLD_CONTENT
 from preprocessing_title import preprocess_titles
+from stage_format import resolve_stage_path
 
-def compute_title_similarity(df, threshold):
+def load_title_candidates(candidates_path, detailed_path, row_count):
+    """Java가 쓴 제목 후보 그룹 읽기 (group -> 행 번호 목록)
+
+    후보 파일이 없거나, 상세 파일보다 오래됐거나, 행 번호가 상세 파일 범위를 벗어나면 None (전체 비교로 진행)
+    """
+    candidates_file = resolve_stage_path(candidates_path, prefer_columnar=False)
+    detailed_file = resolve_stage_path(detailed_path)
+    if not candidates_file.exists() or not detailed_file.exists():
+        return None
+    if os.path.getmtime(candidates_file) < os.path.getmtime(detailed_file):
+        print(f"제목 후보 파일이 상세 파일보다 오래되어 전체 비교로 진행합니다: {candidates_file.name}")
+        return None
+
+    candidates = pd.read_csv(candidates_file)  # .gz/.zst는 pandas가 확장자로 판별
+    if len(candidates) and candidates['row'].max() >= row_count:
+        print(f"제목 후보 파일의 행 번호가 상세 파일과 맞지 않아 전체 비교로 진행합니다: {candidates_file.name}")
+        return None
+    return [list(rows) for _, rows in candidates.groupby('group')['row']]
+
+def collapse_exact_duplicates(df):
+    """본문 해시(content_hash)가 같은 기사를 대표 1건만 남기고 빼기 - 형태소 분석/임베딩 전에 입력을 줄임
+
+    대표는 신뢰 언론사(trusted) 기사 우선, 그다음 먼저 나온 기사.
+    반환: (남은 df, 뺀 기사 df(대표 oid_aid를 _exact_rep_oid_aid에 기록), 원래 행 번호 → 남은 df 행 번호 목록)
+    뺀 기사의 행 번호는 대표의 행 번호로 옮겨, 제목 후보 그룹을 그대로 쓸 수 있게 한다.
+    """
+    positions = list(range(len(df)))
+    if 'content_hash' not in df.columns or 'oid_aid' not in df.columns:
+        return df, df.iloc[0:0], positions
+
+    hashes = df['content_hash'].fillna('').astype(str)
+    trusted = pd.to_numeric(df['trusted'], errors='coerce').fillna(0) if 'trusted' in df.columns else None
+    order = sorted(range(len(df)), key=lambda i: (-(trusted.iat[i] if trusted is not None else 0), i))
+    rep_by_hash = {}
+    rep_of = {}
+    for i in order:
+        content_hash = hashes.iat[i]
+        if not content_hash:
+            continue
+        if content_hash in rep_by_hash:
+            rep_of[i] = rep_by_hash[content_hash]
+        else:
+            rep_by_hash[content_hash] = i
+    if not rep_of:
+        return df, df.iloc[0:0], positions
+
+    keep = [i for i in range(len(df)) if i not in rep_of]
+    new_position = {original: new for new, original in enumerate(keep)}
+    positions = [new_position[i] if i in new_position else new_position[rep_of[i]] for i in range(len(df))]
+    removed = sorted(rep_of)
+    duplicates = df.iloc[removed].copy()
+    duplicates['_exact_rep_oid_aid'] = [df['oid_aid'].iat[rep_of[i]] for i in removed]
+    print(f"본문이 같은 기사 {len(removed)}건을 대표 기사로 묶었습니다 ({len(df)} → {len(keep)}건 비교)")
+    return df.iloc[keep].reset_index(drop=True), duplicates, positions
+
+def remap_candidate_groups(candidate_groups, positions):
+    """제목 후보 그룹의 행 번호를 collapse_exact_duplicates 이후 행 번호로 바꾸기 (2건 미만 그룹은 버림)"""
+    remapped = []
+    for rows in candidate_groups:
+        rows = sorted({positions[row] for row in rows})
+        if len(rows) > 1:
+            remapped.append(rows)
+    return remapped
+
+def expand_exact_duplicates(df_dedup, duplicates):
+    """대표가 최종 결과에 남았으면 뺐던 기사를 대표의 연관 기사로 되살림 (대표가 제거됐으면 같은 본문 기사도 제거)
+
+    반환: (연관 뉴스 (rep_oid_aid, related_oid_aid, 1.0) 목록, 결과에 붙일 기사 df)
+    """
+    if duplicates.empty:
+        return [], duplicates
+    restored = duplicates[duplicates['_exact_rep_oid_aid'].isin(set(df_dedup['oid_aid']))]
+    related = [(rep, oid_aid, 1.0) for rep, oid_aid in zip(restored['_exact_rep_oid_aid'], restored['oid_aid'])]
+    return related, restored.drop(columns=['_exact_rep_oid_aid'])
+
+def _candidate_pairs(candidate_groups):
+    pairs = set()
+    for rows in candidate_groups:
+        rows = sorted(rows)
+        for a in range(len(rows)):
+            for b in range(a + 1, len(rows)):
+                pairs.add((rows[a], rows[b]))
+    return sorted(pairs)
+
+def compute_title_similarity(df, threshold, candidate_groups=None):
     df['clean_title'] = df['title'].apply(preprocess_titles)
 
     vectorizer = TfidfVectorizer()
     tfidf_matrix = vectorizer.fit_transform(df['clean_title'])
+
+    # 후보 그룹이 있으면 그룹 안의 쌍만 비교 (TF-IDF 벡터는 L2 정규화되어 있어 내적이 코사인 유사도)
+    if candidate_groups is not None:
+        pairs = _candidate_pairs(candidate_groups)
+        print(f"제목 후보 쌍 {len(pairs)}개 비교 (전체 {len(df) * (len(df) - 1) // 2}쌍)")
+        similar_pairs = []
+        for i, j in pairs:
+            similarity = tfidf_matrix[i].multiply(tfidf_matrix[j]).sum()
+            if similarity >= threshold:
+                similar_pairs.append((i, j, similarity))
+        return similar_pairs
+
     similarity_matrix = cosine_similarity(tfidf_matrix)
 
     similar_pairs = []
@@ -47,7 +145,7 @@ def group_by_union_find(similar_pairs):
 
     return list(groups_dict.values())
 
-def build_title_similarity_groups(df, threshold):
-    similar_pairs = compute_title_similarity(df, threshold)
+def build_title_similarity_groups(df, threshold, candidate_groups=None):
+    similar_pairs = compute_title_similarity(df, threshold, candidate_groups)
     groups = group_by_union_find(similar_pairs)
     return groups, similar_pairs    
@@ -10,42 +10,54 @@ sys.path.append(str(current_dir))
 
 from config import ALL_CATEGORIES, PERIOD, DATE, THRESHOLD_TITLE, get_file_path, get_dedup_dir
 from run_dedup import process_single_category
+from stage_format import resolve_stage_path
 
-def main():
-    print("모든 카테고리 중복 제거 시작!")
-    print(f"날짜: {DATE}")
-    print(f"시간대: {PERIOD}")
-    print(f"총 카테고리 수: {len(ALL_CATEGORIES)}")
-    print("=" * 50)
-    
-    total_start_time = time.time()
-    success_count = 0
-    failed_categories = []
-    
-    for i, category in enumerate(ALL_CATEGORIES, 1):
-        print(f"\n[{i}/{len(ALL_CATEGORIES)}] {category} 카테고리 처리 중...")
+
+def run_categories(date=DATE, period=PERIOD, categories=ALL_CATEGORIES, threshold_title=THRESHOLD_TITLE, inputs=None):
+    """카테고리들을 순서대로 처리하고 카테고리별 결과 반환
+
+    inputs: {카테고리: 증분 입력 파일 경로} - 있는 카테고리는 상세 파일 대신 그 입력만 비교하고 이전 결과에 합침
+    결과: {카테고리: {"status": "ok" | "missing" | "error", "seconds": 소요시간, "error": 메시지}}
+    """
+    results = {}
+    for i, category in enumerate(categories, 1):
+        print(f"\n[{i}/{len(categories)}] {category} 카테고리 처리 중...")
         print("-" * 30)
-        
+
+        start_time = time.time()
         try:
             # 파일 존재 여부 확인
-            file_path = get_file_path(PERIOD, DATE, category)
+            input_path = (inputs or {}).get(category)
+            file_path = resolve_stage_path(input_path or get_file_path(period, date, category))
             if not file_path.exists():
                 print(f"파일이 존재하지 않습니다: {file_path}")
-                failed_categories.append(category)
+                results[category] = {"status": "missing", "seconds": 0.0}
                 continue
-            
+
             # 단일 카테고리 처리
-            start_time = time.time()
-            process_single_category(category, PERIOD, DATE, THRESHOLD_TITLE)
-            end_time = time.time()
-            
-            print(f"{category} 완료! (소요시간: {end_time - start_time:.2f}초)")
-            success_count += 1
-            
+            process_single_category(category, period, date, threshold_title, input_path=input_path)
+            elapsed = time.time() - start_time
+
+            print(f"{category} 완료! (소요시간: {elapsed:.2f}초)")
+            results[category] = {"status": "ok", "seconds": round(elapsed, 3)}
+
         except Exception as e:
             print(f"{category} 처리 중 오류 발생: {str(e)}")
-            failed_categories.append(category)
-            continue
+            results[category] = {"status": "error", "seconds": round(time.time() - start_time, 3), "error": str(e)}
+    return results
+
+
+def main():
+    print("모든 카테고리 중복 제거 시작!")
+    print(f"날짜: {DATE}")
+    print(f"시간대: {PERIOD}")
+    print(f"총 카테고리 수: {len(ALL_CATEGORIES)}")
+    print("=" * 50)
+    
+    total_start_time = time.time()
+    results = run_categories(DATE, PERIOD, ALL_CATEGORIES, THRESHOLD_TITLE)
+    success_count = sum(1 for result in results.values() if result["status"] == "ok")
+    failed_categories = [category for category, result in results.items() if result["status"] != "ok"]
     
     total_end_time = time.time()
     
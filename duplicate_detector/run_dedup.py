@@ -1,32 +1,65 @@
 # 전체 실행 로직 통합: 전처리 → 유사도 분석 → 대표기사 선정 및 저장 
 import os
+from pathlib import Path
 import pandas as pd
 from konlpy.tag import Okt
 from itertools import combinations
-from config import CATEGORY, PERIOD, DATE, THRESHOLD_TITLE, get_file_path, get_dedup_dir
+from config import CATEGORY, PERIOD, DATE, THRESHOLD_TITLE, get_file_path, get_dedup_dir, get_title_candidates_path
 from preprocessing_title import preprocess_titles
-from grouping import build_title_similarity_groups
+from grouping import (build_title_similarity_groups, load_title_candidates, collapse_exact_duplicates,
+                      remap_candidate_groups, expand_exact_duplicates)
 from content_filter import filter_and_pick_representative_by_content
-
-def process_single_category(category, period=PERIOD, date=DATE, threshold_title=THRESHOLD_TITLE):
-    """단일 카테고리 처리 함수"""
-    print(f"{category} 카테고리 중복 제거 시작...")
+from stage_format import read_stage_table, write_stage_table, resolve_stage_path
+
+def _merge_with_previous(current, previous_path, input_oids, key_column, dedup_subset=None):
+    """증분 실행: 이전 출력에서 이번 입력에 들어간 기사(key_column 기준) 행을 빼고 이번 결과를 더함"""
+    if not resolve_stage_path(previous_path).exists():
+        return current
+    previous = read_stage_table(previous_path)
+    if key_column in previous.columns:
+        previous = previous[~previous[key_column].astype(str).isin(input_oids)]
+    merged = pd.concat([previous, current], ignore_index=True)
+    if dedup_subset:
+        merged = merged.drop_duplicates(subset=dedup_subset, keep="last")
+    return merged
+
+
+def process_single_category(category, period=PERIOD, date=DATE, threshold_title=THRESHOLD_TITLE, input_path=None):
+    """단일 카테고리 처리 함수
+
+    input_path가 있으면 증분 실행: Java가 만든 입력(새로 들어왔거나 본문이 바뀐 기사 + 이전 실행의 대표 기사)만
+    비교하고, 결과를 기존 deduplicated_*/related_* 출력에 합쳐서 저장한다.
+    """
+    incremental = input_path is not None
+    print(f"{category} 카테고리 중복 제거 시작..." + (" (증분)" if incremental else ""))
     
     # ----- 경로 설정 -----
-    file_path = get_file_path(period, date, category)
+    file_path = Path(input_path) if incremental else get_file_path(period, date, category)
     dedup_dir = get_dedup_dir(period, date)
     dedup_dir.mkdir(parents=True, exist_ok=True)  # 안전하게 디렉토리 생성
 
-    # ----- 데이터 로드 -----
-    df = pd.read_csv(file_path)
+    # ----- 데이터 로드 (컬럼형 파일이 있으면 우선) -----
+    df = read_stage_table(file_path)
     df['title'] = df['title'].fillna('')
     df['content'] = df['content'].fillna('')
+    input_oids = set(df['oid_aid'].astype(str)) if 'oid_aid' in df.columns else set()
+
+    # ----- Java MinHash LSH 제목 후보 그룹 (있으면 그 안에서만 비교, 상세 파일 행 번호 기준) -----
+    # 증분 입력은 상세 파일과 행 번호가 다르고 작으므로 전체 쌍을 비교
+    candidate_groups = None if incremental else load_title_candidates(
+        get_title_candidates_path(period, date, category), file_path, len(df))
+
+    # ----- 본문 해시가 같은 기사는 대표 1건만 비교 대상에 남김 -----
+    df, exact_duplicates, positions = collapse_exact_duplicates(df)
+    if candidate_groups is not None:
+        candidate_groups = remap_candidate_groups(candidate_groups, positions)
 
     # ----- 제목 전처리 -----
     df['clean_title'] = df['title'].apply(preprocess_titles)
 
     # ----- 제목 기반 유사 그룹 생성 -----
-    groups, title_similar_pairs = build_title_similarity_groups(df, threshold=threshold_title)
+    groups, title_similar_pairs = build_title_similarity_groups(df, threshold=threshold_title,
+                                                                candidate_groups=candidate_groups)
     print(f"\n유사 그룹 수: {len(groups)}")
 
     # 제목 유사도 출력
@@ -96,10 +129,18 @@ def process_single_category(category, period=PERIOD, date=DATE, threshold_title=
     final_ids = sorted(set(rep_ids + related_indices))  # 중복 제거
     df_dedup = df.loc[final_ids].copy()
 
+    # ----- 본문이 같아 뺐던 기사: 대표가 남았으면 대표의 연관 기사로 되살림 -----
+    exact_related, exact_rows = expand_exact_duplicates(df_dedup, exact_duplicates)
+    related_info.extend(exact_related)
+
     # ----- 연관 뉴스 CSV 저장 -----
     related_df = pd.DataFrame(related_info, columns=["rep_oid_aid", "related_oid_aid", "similarity"])
     related_csv_path = os.path.join(dedup_dir, f"related_{category}_{date}_{period}.csv")
-    related_df.to_csv(related_csv_path, index=False)
+    if incremental:
+        # 다시 비교한 기사가 연관 기사였던 이전 연결은 이번 결과로 대체
+        related_df = _merge_with_previous(related_df, related_csv_path, input_oids, "related_oid_aid",
+                                          dedup_subset=["rep_oid_aid", "related_oid_aid"])
+    related_csv_path = write_stage_table(related_df, related_csv_path)
 
     print(f"연관 뉴스 {len(related_df)}건 저장 완료: {related_csv_path}")
 
@@ -120,7 +161,7 @@ def process_single_category(category, period=PERIOD, date=DATE, threshold_title=
         "제거": "REMOVED"
     }
 
-    with open(log_path, "w", encoding="utf-8") as f:
+    with open(log_path, "a" if incremental else "w", encoding="utf-8") as f:
         mark_dict = {}
 
         for idx, group in enumerate(groups, 1):
@@ -165,6 +206,11 @@ def process_single_category(category, period=PERIOD, date=DATE, threshold_title=
         df_dedup["mark"] = df_dedup.index.map(mark_dict).fillna("유지")  # 혹시 누락된 인덱스도 기본값 넣기
 
         df_dedup["dedup_state"] = df_dedup["mark"].map(dedup_state_map)
+
+        if len(exact_rows):
+            exact_rows = exact_rows.assign(mark="연관", dedup_state=dedup_state_map["연관"])
+            df_dedup = pd.concat([df_dedup, exact_rows], ignore_index=True)
+            print(f"본문이 같은 기사 {len(exact_rows)}건을 연관 기사로 추가")
         
         # 불필요한 컬럼 제거
         columns_to_remove = ['clean_title', 'news_category_name', 'category_name']
@@ -172,7 +218,9 @@ def process_single_category(category, period=PERIOD, date=DATE, threshold_title=
             if col in df_dedup.columns:
                 df_dedup = df_dedup.drop(col, axis=1)
         
-        df_dedup.to_csv(output_path, index=False)
+        if incremental:
+            df_dedup = _merge_with_previous(df_dedup, output_path, input_oids, "oid_aid")
+        output_path = write_stage_table(df_dedup, output_path)
 
     print(f"\n본문 유사도 기반 대표 기사 저장 완료: {output_path}")
     print(f"중복 제거 결과: {len(df)} → {len(df_dedup)}개")
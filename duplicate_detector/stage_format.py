@@ -0,0 +1,279 @@
+# 단계 사이 컬럼형 바이너리 파일(.ncol) 읽기/쓰기
+# 형식은 Java의 com.news.news_crawler.stage.ColumnarWriter와 동일
+#   헤더   : "NCOL" | version(1) | 컬럼 수(varint) | 컬럼마다 [이름 길이(varint) | 이름 | 인코딩(1)]
+#   행 그룹: 컬럼마다 [바이트 길이(int32) | 값...]  (일반 값: 길이+1 varint + UTF-8, 사전 값: id+1 varint, 0 = null)
+#   푸터   : 행 그룹 수(int32) | 그룹마다 [오프셋(int64) | 행 수(int32)] | 사전 컬럼마다 [항목 수(int32) | 항목...]
+#   트레일러: 푸터 오프셋(int64) | 전체 행 수(int64) | "NCOL"
+#
+# 단계 출력 파일은 CRAWLER_STAGE_COMPRESSION(none, gzip, zstd) 설정에 따라 .gz/.zst 확장자를 붙여 압축하고,
+# 읽을 때는 확장자로 압축 방식을 판별한다. (Java StageFiles와 동일)
+import gzip
+import mmap
+import os
+import struct
+from pathlib import Path
+
+import pandas as pd
+
+MAGIC = b"NCOL"
+VERSION = 1
+ENCODING_PLAIN = 0
+ENCODING_DICTIONARY = 1
+TRAILER_SIZE = 8 + 8 + 4
+ROW_GROUP_SIZE = 1024
+
+COLUMNAR_EXTENSION = ".ncol"
+COMPRESSION_EXTENSIONS = {"none": "", "gzip": ".gz", "zstd": ".zst"}
+_COMPRESSION_ALIASES = {"": "none", "none": "none", "gzip": "gzip", "gz": "gzip", "zstd": "zstd", "zst": "zstd"}
+
+
+def _configured_compression():
+    name = os.environ.get("CRAWLER_STAGE_COMPRESSION", "").strip().lower()
+    if name not in _COMPRESSION_ALIASES:
+        raise ValueError(f"지원하지 않는 압축 방식: {name} (none, gzip, zstd)")
+    return _COMPRESSION_ALIASES[name]
+
+
+COMPRESSION = _configured_compression()
+
+# 값 종류가 적어 사전 인코딩하는 컬럼 (Java StageFiles.DICTIONARY_COLUMNS와 동일)
+DICTIONARY_COLUMNS = {"news_category_id", "news_category_name", "press", "trusted", "mark", "dedup_state"}
+
+
+def columnar_path(csv_path):
+    """CSV 논리 경로와 같은 위치/이름의 컬럼형 파일 논리 경로"""
+    return Path(csv_path).with_suffix(COLUMNAR_EXTENSION)
+
+
+def output_path(logical_path):
+    """논리 경로(.csv/.ncol)에 설정된 압축 확장자를 붙인 실제 출력 경로"""
+    return Path(str(logical_path) + COMPRESSION_EXTENSIONS[COMPRESSION])
+
+
+def _read_order():
+    return [COMPRESSION] + [name for name in COMPRESSION_EXTENSIONS if name != COMPRESSION]
+
+
+def resolve_stage_path(csv_path, prefer_columnar=True):
+    """읽을 파일 선택 - 컬럼형 파일 우선, 같은 형식 안에서는 설정된 압축 방식 우선 (없으면 csv_path 그대로)"""
+    candidates = [columnar_path(csv_path), Path(csv_path)] if prefer_columnar else [Path(csv_path)]
+    for logical in candidates:
+        for name in _read_order():
+            path = Path(str(logical) + COMPRESSION_EXTENSIONS[name])
+            if path.exists():
+                return path
+    return Path(csv_path)
+
+
+def _compression_of(path):
+    name = str(path)
+    if name.endswith(".gz"):
+        return "gzip"
+    if name.endswith(".zst"):
+        return "zstd"
+    return "none"
+
+
+def _zstandard():
+    try:
+        import zstandard
+    except ImportError as e:
+        raise ImportError("zstd 압축 파일을 처리하려면 zstandard 패키지가 필요합니다 (pip install zstandard)") from e
+    return zstandard
+
+
+def _open_write(path, target=None):
+    """target(최종 경로)의 확장자에 맞게 압축하는 쓰기 스트림"""
+    compression = _compression_of(target or path)
+    if compression == "gzip":
+        return gzip.open(path, "wb")
+    if compression == "zstd":
+        return _zstandard().open(path, "wb")
+    return open(path, "wb")
+
+
+def _read_bytes(path):
+    compression = _compression_of(path)
+    if compression == "gzip":
+        with gzip.open(path, "rb") as f:
+            return f.read()
+    with open(path, "rb") as f:
+        data = f.read()
+    # 이어 붙인 프레임까지 모두 읽도록 스트림으로 풂
+    with _zstandard().ZstdDecompressor().stream_reader(data, read_across_frames=True) as reader:
+        return reader.read()
+
+
+def _read_varint(buf, pos):
+    value = 0
+    shift = 0
+    while True:
+        b = buf[pos]
+        pos += 1
+        value |= (b & 0x7F) << shift
+        shift += 7
+        if not b & 0x80:
+            return value, pos
+
+
+def _write_varint(out, value):
+    while value & ~0x7F:
+        out.append((value & 0x7F) | 0x80)
+        value >>= 7
+    out.append(value)
+
+
+def _read_string(buf, pos):
+    length, pos = _read_varint(buf, pos)
+    return bytes(buf[pos:pos + length]).decode("utf-8"), pos + length
+
+
+def _write_string(out, text):
+    data = text.encode("utf-8")
+    _write_varint(out, len(data))
+    out.extend(data)
+
+
+def read_table(path):
+    """컬럼형 파일을 DataFrame으로 읽기 (모든 값은 문자열, null은 None)
+    압축되지 않은 파일은 메모리 매핑, 압축 파일은 풀어서 메모리에서 읽음"""
+    if _compression_of(path) != "none":
+        return _parse_table(_read_bytes(path), path)
+    with open(path, "rb") as f, mmap.mmap(f.fileno(), 0, access=mmap.ACCESS_READ) as buf:
+        return _parse_table(buf, path)
+
+
+def _parse_table(buf, path):
+    if buf[0:4] != MAGIC or buf[-4:] != MAGIC:
+        raise ValueError(f"컬럼형 파일 형식이 아닙니다: {path}")
+    if buf[4] != VERSION:
+        raise ValueError(f"지원하지 않는 컬럼형 파일 버전: {buf[4]}")
+
+    pos = 5
+    column_count, pos = _read_varint(buf, pos)
+    names, dictionary_flags = [], []
+    for _ in range(column_count):
+        name, pos = _read_string(buf, pos)
+        names.append(name)
+        dictionary_flags.append(buf[pos] == ENCODING_DICTIONARY)
+        pos += 1
+
+    trailer = len(buf) - TRAILER_SIZE
+    footer_offset, _total_rows = struct.unpack_from(">qq", buf, trailer)
+    pos = footer_offset
+    (group_count,) = struct.unpack_from(">i", buf, pos)
+    pos += 4
+    groups = []
+    for _ in range(group_count):
+        offset, rows = struct.unpack_from(">qi", buf, pos)
+        groups.append((offset, rows))
+        pos += 12
+    dictionaries = [None] * column_count
+    for c in range(column_count):
+        if not dictionary_flags[c]:
+            continue
+        (entry_count,) = struct.unpack_from(">i", buf, pos)
+        pos += 4
+        entries = []
+        for _ in range(entry_count):
+            entry, pos = _read_string(buf, pos)
+            entries.append(entry)
+        dictionaries[c] = entries
+
+    columns = [[] for _ in range(column_count)]
+    for offset, rows in groups:
+        pos = offset
+        for c in range(column_count):
+            (length,) = struct.unpack_from(">i", buf, pos)
+            pos += 4
+            end = pos + length
+            values = columns[c]
+            cursor = pos
+            for _ in range(rows):
+                marker, cursor = _read_varint(buf, cursor)
+                if marker == 0:
+                    values.append(None)
+                elif dictionary_flags[c]:
+                    values.append(dictionaries[c][marker - 1])
+                else:
+                    values.append(bytes(buf[cursor:cursor + marker - 1]).decode("utf-8"))
+                    cursor += marker - 1
+            pos = end
+
+    return pd.DataFrame({name: values for name, values in zip(names, columns)}, columns=names)
+
+
+def write_table(df, path, dictionary_columns=DICTIONARY_COLUMNS):
+    """DataFrame을 컬럼형 파일로 쓰기 (값은 문자열로 저장, NaN/None은 null)"""
+    names = [str(c) for c in df.columns]
+    dictionary_flags = [name in dictionary_columns for name in names]
+
+    header = bytearray(MAGIC)
+    header.append(VERSION)
+    _write_varint(header, len(names))
+    for name, is_dict in zip(names, dictionary_flags):
+        _write_string(header, name)
+        header.append(ENCODING_DICTIONARY if is_dict else ENCODING_PLAIN)
+
+    dictionaries = [dict() if is_dict else None for is_dict in dictionary_flags]
+    column_values = [df[col].tolist() for col in df.columns]
+    total_rows = len(df)
+
+    path = Path(path)
+    tmp_path = path.with_name(".tmp-" + path.name)
+    groups = []
+    with _open_write(tmp_path, target=path) as f:
+        f.write(header)
+        offset = len(header)
+        for start in range(0, total_rows, ROW_GROUP_SIZE):
+            end = min(start + ROW_GROUP_SIZE, total_rows)
+            groups.append((offset, end - start))
+            for c, values in enumerate(column_values):
+                block = bytearray()
+                for value in values[start:end]:
+                    if value is None or (isinstance(value, float) and value != value):
+                        block.append(0)
+                        continue
+                    text = str(value)
+                    if dictionary_flags[c]:
+                        ids = dictionaries[c]
+                        if text not in ids:
+                            ids[text] = len(ids)
+                        _write_varint(block, ids[text] + 1)
+                    else:
+                        data = text.encode("utf-8")
+                        _write_varint(block, len(data) + 1)
+                        block.extend(data)
+                f.write(struct.pack(">i", len(block)))
+                f.write(block)
+                offset += 4 + len(block)
+
+        footer = bytearray(struct.pack(">i", len(groups)))
+        for group_offset, rows in groups:
+            footer.extend(struct.pack(">qi", group_offset, rows))
+        for ids in dictionaries:
+            if ids is None:
+                continue
+            footer.extend(struct.pack(">i", len(ids)))
+            for entry in ids:  # dict는 삽입 순서 = id 순서
+                _write_string(footer, entry)
+        footer.extend(struct.pack(">qq", offset, total_rows))
+        footer.extend(MAGIC)
+        f.write(footer)
+    os.replace(tmp_path, path)
+
+
+def read_stage_table(csv_path):
+    """단계 입력 읽기 - 같은 이름의 컬럼형 파일이 있으면 우선 사용 (압축은 확장자로 판별)"""
+    path = resolve_stage_path(csv_path)
+    if COLUMNAR_EXTENSION in path.suffixes:
+        return read_table(path)
+    return pd.read_csv(path, dtype={"content_hash": str})  # .gz/.zst는 pandas가 확장자로 판별, 해시는 앞자리 0 유지
+
+
+def write_stage_table(df, csv_path):
+    """단계 출력 쓰기 - CSV와 컬럼형 파일을 설정된 압축 방식으로 함께 저장, 실제 CSV 경로 반환"""
+    csv_output = output_path(csv_path)
+    df.to_csv(csv_output, index=False)  # 압축은 pandas가 확장자로 판별
+    write_table(df, output_path(columnar_path(csv_path)))
+    return csv_output
@@ -4,12 +4,19 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
+import java.util.Map;
+
 @SpringBootApplication
 @EnableScheduling
 public class NewsCrawlerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(NewsCrawlerApplication.class, args);
+        SpringApplication app = new SpringApplication(NewsCrawlerApplication.class);
+        // 크롤링 지표를 Prometheus 형식으로 수집할 수 있도록 기본 노출 (application.properties 설정이 우선)
+        app.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,info,metrics,prometheus"
+        ));
+        app.run(args);
     }
 
 }
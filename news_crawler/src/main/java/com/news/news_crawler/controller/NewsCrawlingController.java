@@ -1,15 +1,20 @@
 package com.news.news_crawler.controller;
 
+import com.news.news_crawler.service.CrawlJob;
+import com.news.news_crawler.service.CrawlJobRegistry;
+import com.news.news_crawler.service.CrawlProfilingService;
+import com.news.news_crawler.service.CrawlRunCoordinator;
 import com.news.news_crawler.service.NewsCrawlingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/crawling")
@@ -20,22 +25,43 @@ public class NewsCrawlingController {
     @Autowired
     private NewsCrawlingService newsCrawlingService;
     
+    @Autowired
+    private CrawlProfilingService crawlProfilingService;
+    
+    @Autowired
+    private CrawlJobRegistry crawlJobRegistry;
+    
+    @Autowired
+    private CrawlRunCoordinator crawlRunCoordinator;
+    
     /**
      * 전체 크롤링 프로세스를 수동으로 실행
+     * 이미 실행 중이면 새로 시작하지 않고 진행 중인 실행에 합쳐짐
+     * profile=true 이면 해당 실행 구간을 JFR로 기록
      */
     @GetMapping("/start")
     @PostMapping("/start")
-    public ResponseEntity<Map<String, Object>> startCrawling() {
+    public ResponseEntity<Map<String, Object>> startCrawling(
+            @RequestParam(value = "profile", defaultValue = "false") boolean profile) {
         Map<String, Object> response = new HashMap<>();
         
         try {
             logger.info("수동 크롤링 요청 받음");
             
             // 비동기로 크롤링 실행
-            CompletableFuture<Void> future = newsCrawlingService.runFullCrawlingProcessAsync();
+            CrawlRunCoordinator.Submission submission = crawlRunCoordinator.trigger("manual");
+            CrawlJob job = submission.job();
+            if (profile && !submission.coalesced()) {
+                crawlProfilingService.recordRun(job);
+            }
             
             response.put("status", "success");
-            response.put("message", "크롤링이 시작되었습니다. 백그라운드에서 실행 중입니다.");
+            response.put("runId", job.getRunId());
+            response.put("coalesced", submission.coalesced());
+            response.put("job", job.snapshot());
+            response.put("message", submission.coalesced()
+                    ? "이미 실행 중인 크롤링이 있어 해당 실행에 합쳐졌습니다."
+                    : "크롤링이 시작되었습니다. 백그라운드에서 실행 중입니다.");
             response.put("timestamp", java.time.LocalDateTime.now().toString());
             
             logger.info("크롤링 시작 응답 전송");
@@ -54,20 +80,104 @@ public class NewsCrawlingController {
     }
     
     /**
-     * 크롤링 상태 확인
+     * 크롤링 상태 확인 (가장 최근 실행과 보관 중인 실행 목록)
      */
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> getCrawlingStatus() {
         Map<String, Object> response = new HashMap<>();
         
-        response.put("status", "running");
-        response.put("message", "크롤링 서비스가 실행 중입니다.");
+        Optional<CrawlJob> latest = crawlJobRegistry.latest();
+        if (latest.isPresent() && !latest.get().isFinished()) {
+            response.put("status", "running");
+            response.put("message", "크롤링이 실행 중입니다.");
+        } else {
+            response.put("status", "idle");
+            response.put("message", "실행 중인 크롤링이 없습니다.");
+        }
+        response.put("latest", latest.map(CrawlJob::snapshot).orElse(null));
+        response.put("runs", crawlJobRegistry.snapshots());
         response.put("timestamp", java.time.LocalDateTime.now().toString());
         response.put("currentTime", java.time.LocalDateTime.now().toString());
         
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 특정 실행의 진행 상황 (단계, 카테고리별 건수, 동시성, 처리 속도, ETA)
+     */
+    @GetMapping("/status/{runId}")
+    public ResponseEntity<Map<String, Object>> getRunStatus(@PathVariable("runId") String runId) {
+        Optional<CrawlJob> job = crawlJobRegistry.find(runId);
+        if (job.isEmpty()) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("status", "error");
+            response.put("message", "실행을 찾을 수 없습니다: " + runId);
+            return ResponseEntity.status(404).body(response);
+        }
+        return ResponseEntity.ok(job.get().snapshot());
+    }
+    
+    /**
+     * 실행 취소 (작업자는 진행 중인 배치를 마치고 멈춤)
+     */
+    @PostMapping("/cancel/{runId}")
+    public ResponseEntity<Map<String, Object>> cancelRun(@PathVariable("runId") String runId) {
+        Map<String, Object> response = new HashMap<>();
+        if (crawlRunCoordinator.cancel(runId)) {
+            response.put("status", "success");
+            response.put("message", "취소 요청이 전달되었습니다: " + runId);
+            return ResponseEntity.ok(response);
+        }
+        response.put("status", "error");
+        response.put("message", "실행 중인 크롤링을 찾을 수 없습니다: " + runId);
+        return ResponseEntity.status(404).body(response);
+    }
+    
+    /**
+     * 특정 실행의 진행 상황을 Server-Sent Events로 스트리밍
+     */
+    @GetMapping(value = "/status/{runId}/stream", produces = "text/event-stream")
+    public ResponseEntity<SseEmitter> streamRunStatus(@PathVariable("runId") String runId) {
+        return crawlJobRegistry.find(runId)
+                .map(job -> ResponseEntity.ok(crawlJobRegistry.subscribe(job)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * 지난 폴더의 상세 크롤링 백필 (정기 실행과 독립된 세션에서 백그라운드 실행)
+     * 응답의 runId로 /status/{runId}, /status/{runId}/stream, /cancel/{runId} 사용
+     */
+    @PostMapping("/backfill/detail")
+    public ResponseEntity<Map<String, Object>> backfillDetail(
+            @RequestParam("folder") String folder,
+            @RequestParam(value = "maxConcurrency", required = false) Integer maxConcurrency) {
+        Map<String, Object> response = new HashMap<>();
+        
+        try {
+            CrawlJob job = newsCrawlingService.startDetailBackfill(folder, maxConcurrency);
+            response.put("status", "success");
+            response.put("runId", job.getRunId());
+            response.put("job", job.snapshot());
+            response.put("message", "상세 크롤링 백필이 시작되었습니다. 백그라운드에서 실행 중입니다: " + folder);
+            response.put("timestamp", java.time.LocalDateTime.now().toString());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (IllegalStateException e) {
+            // 같은 폴더를 처리 중인 실행과 겹치는 경우
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(409).body(response);
+        } catch (Exception e) {
+            logger.error("상세 크롤링 백필 시작 실패: " + e.getMessage(), e);
+            response.put("status", "error");
+            response.put("message", "상세 크롤링 백필 시작 실패: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
     /**
      * 특정 단계만 실행 (테스트용)
      */
@@ -82,19 +192,19 @@ public class NewsCrawlingController {
             switch (stepNumber) {
                 case 1:
                     stepName = "뉴스 목록 크롤링";
-                    newsCrawlingService.runNewsListCrawling();
+                    crawlRunCoordinator.runStepExclusively(stepName, newsCrawlingService::runNewsListCrawling);
                     break;
                 case 2:
                     stepName = "뉴스 상세 크롤링";
-                    newsCrawlingService.runNewsDetailCrawling();
+                    crawlRunCoordinator.runStepExclusively(stepName, newsCrawlingService::runNewsDetailCrawling);
                     break;
                 case 3:
                     stepName = "중복 제거 처리";
-                    newsCrawlingService.runDeduplicationProcess();
+                    crawlRunCoordinator.runStepExclusively(stepName, newsCrawlingService::runDeduplicationProcess);
                     break;
                 case 4:
                     stepName = "데이터베이스 저장";
-                    newsCrawlingService.runDatabaseInsertion();
+                    crawlRunCoordinator.runStepExclusively(stepName, newsCrawlingService::runDatabaseInsertion);
                     break;
                 default:
                     response.put("status", "error");
@@ -109,6 +219,14 @@ public class NewsCrawlingController {
             
             return ResponseEntity.ok(response);
             
+        } catch (IllegalStateException e) {
+            // 다른 실행과 겹치는 경우
+            response.put("status", "error");
+            response.put("message", e.getMessage());
+            response.put("timestamp", java.time.LocalDateTime.now().toString());
+            
+            return ResponseEntity.status(409).body(response);
+            
         } catch (Exception e) {
             logger.error("단계별 크롤링 실패: " + e.getMessage(), e);
             
@@ -0,0 +1,308 @@
+package com.news.news_crawler.csv;
+
+import com.news.news_crawler.stage.RecordReader;
+import com.news.news_crawler.stage.StageFiles;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV 스트리밍 리더
+ *
+ * 줄 단위가 아니라 문자 버퍼 단위로 읽기 때문에 큰따옴표 안의 줄바꿈(기사 본문 등)이 있어도 레코드가 깨지지 않는다.
+ * 레코드의 모든 필드는 재사용되는 하나의 문자 배열에 이어서 저장하고, 필드는 {@link #get(int)} 호출 시에만 문자열로 만든다.
+ *
+ * <pre>
+ * try (CsvReader reader = CsvReader.open(path)) {
+ *     reader.readHeader();
+ *     int title = reader.requireColumn("title");
+ *     while (reader.next()) {
+ *         String value = reader.get(title);
+ *     }
+ * }
+ * </pre>
+ *
+ * 형식이 어긋난 입력은 예외 없이 관대하게 읽는다 (따옴표 없는 필드 안의 큰따옴표는 문자 그대로, 닫히지 않은 따옴표는 파일 끝까지 한 필드).
+ */
+public class CsvReader implements RecordReader {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+
+    private final Reader in;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+
+    // 현재 레코드 (재사용)
+    private char[] recordChars = new char[1024];
+    private int recordLength;
+    private int[] fieldStarts = new int[16];
+    private int[] fieldEnds = new int[16];
+    private int fieldCount;
+
+    private long recordNumber;
+    private long lineNumber = 1;
+    private boolean firstRead = true;
+
+    private Map<String, Integer> headerIndex = Collections.emptyMap();
+    private List<String> header = Collections.emptyList();
+
+    public CsvReader(Reader in) {
+        this(in, DEFAULT_BUFFER_SIZE);
+    }
+
+    public CsvReader(Reader in, int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be positive: " + bufferSize);
+        }
+        this.in = in;
+        this.buffer = new char[bufferSize];
+    }
+
+    /**
+     * UTF-8 CSV 파일 열기 (.gz/.zst 확장자면 압축을 풀어 읽음)
+     */
+    public static CsvReader open(Path path) throws IOException {
+        return new CsvReader(new InputStreamReader(StageFiles.newInputStream(path), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 첫 레코드를 헤더로 읽어 컬럼명 → 인덱스 매핑 생성
+     * @return 헤더가 있으면 true (빈 파일이면 false)
+     */
+    @Override
+    public boolean readHeader() throws IOException {
+        if (!next()) {
+            return false;
+        }
+        String[] names = toArray();
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].trim();
+            names[i] = name;
+            index.putIfAbsent(name, i);
+        }
+        header = Collections.unmodifiableList(Arrays.asList(names));
+        headerIndex = index;
+        return true;
+    }
+
+    @Override
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * 헤더 기준 컬럼 인덱스 (없으면 -1)
+     */
+    @Override
+    public int column(String name) {
+        Integer index = headerIndex.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * 다음 레코드로 이동 (빈 줄은 건너뜀)
+     * @return 레코드가 있으면 true, 파일 끝이면 false
+     */
+    @Override
+    public boolean next() throws IOException {
+        while (true) {
+            int result = readRecord();
+            if (result < 0) {
+                return false;
+            }
+            if (result > 0) {
+                recordNumber++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 레코드 하나를 읽음
+     * @return -1: 파일 끝, 0: 빈 줄, 1: 레코드
+     */
+    private int readRecord() throws IOException {
+        recordLength = 0;
+        fieldCount = 0;
+        int fieldStart = 0;
+        boolean inQuotes = false;
+        boolean quotedField = false;
+        boolean sawAnything = false;
+
+        while (true) {
+            if (position >= limit && !fill()) {
+                if (!sawAnything) {
+                    return -1;
+                }
+                endField(fieldStart);
+                return 1;
+            }
+            char c = buffer[position++];
+
+            if (inQuotes) {
+                if (c == QUOTE) {
+                    if (position >= limit && !fill()) {
+                        endField(fieldStart);
+                        return 1;
+                    }
+                    if (buffer[position] == QUOTE) {
+                        append(QUOTE); // 이스케이프된 큰따옴표
+                        position++;
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append(c);
+                }
+                continue;
+            }
+
+            if (c == DELIMITER) {
+                sawAnything = true;
+                endField(fieldStart);
+                fieldStart = recordLength;
+                quotedField = false;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    if (position >= limit) {
+                        fill();
+                    }
+                    if (position < limit && buffer[position] == '\n') {
+                        position++;
+                    }
+                }
+                lineNumber++;
+                if (!sawAnything) {
+                    return 0;
+                }
+                endField(fieldStart);
+                return 1;
+            } else if (c == QUOTE && recordLength == fieldStart && !quotedField) {
+                sawAnything = true;
+                inQuotes = true;
+                quotedField = true;
+            } else {
+                sawAnything = true;
+                append(c);
+            }
+        }
+    }
+
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        int read;
+        do {
+            read = in.read(buffer, 0, buffer.length);
+        } while (read == 0);
+        if (read < 0) {
+            eof = true;
+            position = 0;
+            limit = 0;
+            return false;
+        }
+        position = 0;
+        limit = read;
+        if (firstRead) {
+            firstRead = false;
+            if (buffer[0] == '\uFEFF') {
+                position = 1; // UTF-8 BOM 제거
+                if (position >= limit) {
+                    return fill();
+                }
+            }
+        }
+        return true;
+    }
+
+    private void append(char c) {
+        if (recordLength == recordChars.length) {
+            recordChars = Arrays.copyOf(recordChars, recordChars.length * 2);
+        }
+        recordChars[recordLength++] = c;
+    }
+
+    private void endField(int start) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = recordLength;
+        fieldCount++;
+    }
+
+    /**
+     * 현재 레코드의 필드 수
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * 현재 레코드의 i번째 필드 (범위 밖이면 빈 문자열)
+     */
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= fieldCount) {
+            return "";
+        }
+        return new String(recordChars, fieldStarts[index], fieldEnds[index] - fieldStarts[index]);
+    }
+
+    /**
+     * 현재 레코드에서 헤더 이름으로 필드 조회 (컬럼이 없으면 빈 문자열)
+     */
+    @Override
+    public String get(String columnName) {
+        return get(column(columnName));
+    }
+
+    /**
+     * 현재 레코드를 배열로 복사
+     */
+    public String[] toArray() {
+        String[] fields = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            fields[i] = get(i);
+        }
+        return fields;
+    }
+
+    /**
+     * 현재 레코드 번호 (헤더 포함, 1부터)
+     */
+    @Override
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    /**
+     * 현재 읽은 위치의 물리적 줄 번호 (오류 메시지용)
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
@@ -0,0 +1,144 @@
+package com.news.news_crawler.csv;
+
+import com.news.news_crawler.stage.StageFiles;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * RFC 4180 CSV 라이터 ({@link CsvReader}와 짝)
+ *
+ * 모든 필드를 큰따옴표로 감싸고 내부 큰따옴표는 두 번 써서 이스케이프한다.
+ * 줄바꿈이 들어간 필드도 그대로 쓰며, 레코드 구분자는 LF이다.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final char DELIMITER = ',';
+    private static final char QUOTE = '"';
+
+    private final Writer out;
+    private final StageFiles.AppendStream appendStream; // append로 연 경우만
+    private boolean firstField = true;
+    private long records;
+
+    public CsvWriter(Writer out) {
+        this(out, null);
+    }
+
+    private CsvWriter(Writer out, StageFiles.AppendStream appendStream) {
+        this.out = out;
+        this.appendStream = appendStream;
+    }
+
+    /**
+     * UTF-8 CSV 파일 열기 (덮어쓰기, .gz/.zst 확장자면 압축)
+     */
+    public static CsvWriter create(Path path, String... header) throws IOException {
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(
+                StageFiles.newOutputStream(path), StandardCharsets.UTF_8)));
+        if (header.length > 0) {
+            writer.writeRecord(header);
+        }
+        return writer;
+    }
+
+    /**
+     * UTF-8 CSV 파일에 이어쓰기 - 파일이 없거나 비어 있을 때만 헤더를 씀 (.gz/.zst 확장자면 압축)
+     * 다 쓴 뒤 {@link #commit()}을 불러야 하며, 커밋 없이 닫으면 이어 쓴 내용은 버려진다.
+     */
+    public static CsvWriter append(Path path, String... header) throws IOException {
+        StageFiles.AppendStream stream = StageFiles.newAppendStream(path);
+        CsvWriter writer = new CsvWriter(new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8)), stream);
+        if (stream.isEmptyBefore() && header.length > 0) {
+            try {
+                writer.writeRecord(header);
+            } catch (IOException e) {
+                writer.close();
+                throw e;
+            }
+        }
+        return writer;
+    }
+
+    /**
+     * 필드 하나 쓰기 (null은 빈 문자열)
+     */
+    public CsvWriter field(String value) throws IOException {
+        if (!firstField) {
+            out.write(DELIMITER);
+        }
+        firstField = false;
+        out.write(QUOTE);
+        if (value != null) {
+            int length = value.length();
+            int start = 0;
+            for (int i = 0; i < length; i++) {
+                if (value.charAt(i) == QUOTE) {
+                    out.write(value, start, i - start + 1);
+                    out.write(QUOTE);
+                    start = i + 1;
+                }
+            }
+            out.write(value, start, length - start);
+        }
+        out.write(QUOTE);
+        return this;
+    }
+
+    public CsvWriter field(long value) throws IOException {
+        return field(Long.toString(value));
+    }
+
+    public CsvWriter field(double value) throws IOException {
+        return field(Double.toString(value));
+    }
+
+    /**
+     * 현재 레코드 종료
+     */
+    public void endRecord() throws IOException {
+        out.write('\n');
+        firstField = true;
+        records++;
+    }
+
+    public void writeRecord(String... fields) throws IOException {
+        for (String field : fields) {
+            field(field);
+        }
+        endRecord();
+    }
+
+    /**
+     * 지금까지 쓴 레코드 수 (헤더 포함)
+     */
+    public long getRecordCount() {
+        return records;
+    }
+
+    /**
+     * 이어 쓴 레코드 확정 (create로 연 경우에는 flush만 함)
+     */
+    public void commit() throws IOException {
+        out.flush();
+        if (appendStream != null) {
+            appendStream.commit();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
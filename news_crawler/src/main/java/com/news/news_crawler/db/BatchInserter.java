@@ -0,0 +1,144 @@
+package com.news.news_crawler.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JDBC 배치 삽입기
+ *
+ * 행을 batchSize개씩 addBatch/executeBatch로 보내고 배치마다 트랜잭션을 커밋한다.
+ * 배치가 실패하면 롤백 후 반으로 나눠 다시 시도(이분 탐색)해서, 실패한 행만 골라내고 나머지는 모두 저장한다.
+ * 하나의 연결을 쓰므로 스레드 안전하지 않다.
+ */
+public class BatchInserter<T> implements AutoCloseable {
+
+    /**
+     * 행 값을 PreparedStatement 파라미터에 바인딩
+     */
+    @FunctionalInterface
+    public interface Binder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * 커밋된 배치 결과
+     * @param updateCounts 행별 반영 건수 (드라이버가 알 수 없으면 {@link Statement#SUCCESS_NO_INFO})
+     * @param generatedKeys 생성 키 (키를 요청하지 않았으면 빈 배열, INSERT IGNORE로 무시된 행은 키가 없음)
+     */
+    public record CommittedBatch<T>(List<T> rows, List<Integer> indexes, int[] updateCounts, long[] generatedKeys) {
+    }
+
+    @FunctionalInterface
+    public interface CommitListener<T> {
+        void onCommitted(CommittedBatch<T> batch) throws SQLException;
+    }
+
+    /**
+     * 단독으로 다시 시도해도 실패한 행
+     * @param index insert()에 넘긴 목록 안의 위치
+     */
+    @FunctionalInterface
+    public interface FailureListener<T> {
+        void onFailed(T row, int index, SQLException error);
+    }
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final boolean returnKeys;
+    private final int batchSize;
+    private final Binder<T> binder;
+    private final boolean autoCommit;
+
+    public BatchInserter(Connection connection, String sql, boolean returnKeys, int batchSize, Binder<T> binder) throws SQLException {
+        this.connection = connection;
+        this.returnKeys = returnKeys;
+        this.batchSize = Math.max(1, batchSize);
+        this.binder = binder;
+        this.autoCommit = connection.getAutoCommit();
+        this.statement = returnKeys
+                ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql);
+        connection.setAutoCommit(false);
+    }
+
+    /**
+     * 행 목록을 배치로 삽입
+     * @return 커밋된 행 수 (실패한 행 제외)
+     */
+    public int insert(List<T> rows, CommitListener<T> onCommitted, FailureListener<T> onFailed) throws SQLException {
+        List<Integer> indexes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            indexes.add(i);
+        }
+        int committed = 0;
+        for (int start = 0; start < rows.size(); start += batchSize) {
+            int end = Math.min(start + batchSize, rows.size());
+            committed += insertBatch(rows.subList(start, end), indexes.subList(start, end), onCommitted, onFailed);
+        }
+        return committed;
+    }
+
+    private int insertBatch(List<T> rows, List<Integer> indexes, CommitListener<T> onCommitted, FailureListener<T> onFailed) throws SQLException {
+        int[] updateCounts;
+        long[] keys;
+        try {
+            for (T row : rows) {
+                binder.bind(statement, row);
+                statement.addBatch();
+            }
+            updateCounts = statement.executeBatch();
+            keys = returnKeys ? readKeys() : new long[0];
+            connection.commit();
+        } catch (SQLException e) {
+            statement.clearBatch();
+            connection.rollback();
+            if (rows.size() == 1) {
+                onFailed.onFailed(rows.get(0), indexes.get(0), e);
+                return 0;
+            }
+            // 실패한 배치를 반으로 나눠 다시 시도
+            int middle = rows.size() / 2;
+            return insertBatch(rows.subList(0, middle), indexes.subList(0, middle), onCommitted, onFailed)
+                    + insertBatch(rows.subList(middle, rows.size()), indexes.subList(middle, rows.size()), onCommitted, onFailed);
+        }
+        if (onCommitted != null) {
+            onCommitted.onCommitted(new CommittedBatch<>(rows, indexes, updateCounts, keys));
+        }
+        return rows.size();
+    }
+
+    private long[] readKeys() throws SQLException {
+        List<Long> keys = new ArrayList<>();
+        try (ResultSet resultSet = statement.getGeneratedKeys()) {
+            while (resultSet.next()) {
+                keys.add(resultSet.getLong(1));
+            }
+        }
+        return keys.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            statement.close();
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * MySQL 연결 URL에 rewriteBatchedStatements=true 추가 (배치를 여러 행 INSERT 한 문장으로 보냄)
+     * MySQL이 아니거나 이미 지정되어 있으면 그대로 반환
+     */
+    public static String withRewriteBatchedStatements(String url) {
+        if (url == null || !url.startsWith("jdbc:mysql:") || url.contains("rewriteBatchedStatements")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+}
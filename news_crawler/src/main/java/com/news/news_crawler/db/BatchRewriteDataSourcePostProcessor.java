@@ -0,0 +1,38 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.util.DbLoadConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 커넥션 풀이 MySQL이면 URL에 rewriteBatchedStatements=true 추가
+ * crawler.db.mode=bulk이면 스테이징 폴더의 LOAD DATA LOCAL INFILE 허용(allowLoadLocalInfileInPath)도 추가
+ * (풀이 처음 연결을 열기 전, 설정이 바인딩된 직후에 적용)
+ */
+@Component
+public class BatchRewriteDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public BatchRewriteDataSourcePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari && !hikari.isRunning()) {
+            String url = hikari.getJdbcUrl();
+            String rewritten = BatchInserter.withRewriteBatchedStatements(url);
+            DbLoadConfig config = DbLoadConfig.from(environment);
+            if (config.getMode() == DbLoadConfig.Mode.BULK) {
+                rewritten = StagingBulkLoader.withLocalInfilePath(rewritten, config.getStagingDir());
+            }
+            if (rewritten != null && !rewritten.equals(url)) {
+                hikari.setJdbcUrl(rewritten);
+            }
+        }
+        return bean;
+    }
+}
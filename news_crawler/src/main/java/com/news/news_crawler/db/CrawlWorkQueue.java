@@ -0,0 +1,403 @@
+package com.news.news_crawler.db;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 크롤러 서버가 실행 하나를 나눠 처리하는 DB 작업 큐 (crawl_work_item 테이블)
+ *
+ * 실행(runKey, 예: 2025-08-01_am)마다 카테고리 목록(LIST) 작업을 넣고,
+ * 목록이 끝나면 그 카테고리의 상세 링크 샤드(DETAIL) 작업을, 샤드가 모두 끝나면 중복 제거·저장(DEDUP) 작업을 넣는다.
+ * 다음 작업은 앞 작업을 끝낸 트랜잭션 안에서 넣으므로 서버가 그 사이에 죽어도 빠지지 않는다.
+ *
+ * 서버는 SELECT ... FOR UPDATE SKIP LOCKED로 다른 서버가 잡고 있는 행을 건너뛰며 작업을 하나씩 가져가고(claim),
+ * 처리하는 동안 임대 만료 시각(lease_until)을 주기적으로 늘린다(heartbeat).
+ * 임대가 지난 RUNNING 작업은 서버가 죽은 것으로 보고 다른 서버가 다시 가져간다.
+ * 시각은 서버마다 시계가 다를 수 있으므로 DB 시각(LOCALTIMESTAMP)만 쓴다. (MySQL 8, H2 공통 SQL)
+ *
+ * 남은 작업 없이 끝난 실행에 같은 시간대 안에서 다시 요청이 들어오면(수동 실행, 서버 재시작) 실패한 작업만
+ * 실행 횟수를 0으로 되돌려 다시 처리한다. 다시 돌린 상세 샤드가 끝나면 이미 끝난 중복 제거 작업도 다시 연다.
+ */
+public class CrawlWorkQueue {
+
+    /**
+     * 작업 종류 (priority가 큰 작업을 먼저 가져가 먼저 시작한 카테고리가 끝까지 흘러가게 함)
+     */
+    public enum Kind {
+        LIST(0),   // 카테고리 목록 크롤링
+        DETAIL(1), // 목록 링크 샤드 하나의 상세 크롤링
+        DEDUP(2);  // 샤드 합치기 + 중복 제거 + DB 저장
+
+        private final int priority;
+
+        Kind(int priority) {
+            this.priority = priority;
+        }
+    }
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    /**
+     * 가져간 작업 (attempts: 이번 실행을 포함한 실행 횟수)
+     */
+    public record Item(long id, String runKey, Kind kind, String category, int shard, int shardCount, int attempts) {
+    }
+
+    public record Progress(int pending, int running, int done, int failed) {
+
+        /**
+         * 남은 작업이 없는지 (모두 DONE 또는 FAILED)
+         */
+        public boolean isDrained() {
+            return pending == 0 && running == 0;
+        }
+    }
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS crawl_work_item ("
+            + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "run_key VARCHAR(32) NOT NULL, "
+            + "kind VARCHAR(16) NOT NULL, "
+            + "category VARCHAR(32) NOT NULL, "
+            + "shard INT NOT NULL, "
+            + "shard_count INT NOT NULL, "
+            + "priority INT NOT NULL, "
+            + "status VARCHAR(16) NOT NULL, "
+            + "lease_owner VARCHAR(128), "
+            + "lease_until TIMESTAMP NULL, "
+            + "heartbeat_at TIMESTAMP NULL, "
+            + "attempts INT NOT NULL, "
+            + "available_at TIMESTAMP NOT NULL, "
+            + "last_error VARCHAR(1000), "
+            + "updated_at TIMESTAMP NOT NULL, "
+            + "CONSTRAINT uk_crawl_work_item UNIQUE (run_key, kind, category, shard))";
+    private static final String INSERT_ITEM = "INSERT IGNORE INTO crawl_work_item "
+            + "(run_key, kind, category, shard, shard_count, priority, status, attempts, available_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 'PENDING', 0, LOCALTIMESTAMP, LOCALTIMESTAMP)";
+    private static final String SELECT_CLAIMABLE = "SELECT id, kind, category, shard, shard_count, attempts, status "
+            + "FROM crawl_work_item WHERE run_key = ? "
+            + "AND ((status = 'PENDING' AND available_at <= LOCALTIMESTAMP) OR (status = 'RUNNING' AND lease_until < LOCALTIMESTAMP)) "
+            + "ORDER BY priority DESC, id LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final DataSource dataSource;
+    private final int leaseSeconds;
+    private final int detailShards;
+    private final int maxAttempts;
+    private final int retryDelaySeconds;
+
+    /**
+     * @param leaseSeconds 임대 기간 (heartbeat 간격보다 넉넉하게)
+     * @param detailShards 카테고리 목록을 나눌 상세 샤드 수
+     * @param maxAttempts 작업당 최대 실행 횟수 (임대 만료로 다시 가져간 경우 포함)
+     * @param retryDelaySeconds 실패한 작업을 다시 가져갈 수 있게 되기까지의 대기 시간
+     */
+    public CrawlWorkQueue(DataSource dataSource, int leaseSeconds, int detailShards, int maxAttempts, int retryDelaySeconds) {
+        this.dataSource = dataSource;
+        this.leaseSeconds = leaseSeconds;
+        this.detailShards = Math.max(1, detailShards);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelaySeconds = retryDelaySeconds;
+    }
+
+    /**
+     * 테이블이 없으면 생성
+     */
+    public void createTable() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        }
+    }
+
+    /**
+     * 실행의 카테고리 목록 작업 등록 (이미 있으면 그대로 - 먼저 시작한 서버의 실행에 합류)
+     * 실행이 이미 끝났고(PENDING/RUNNING 없음) 실패한 작업이 있으면 그 작업들을 처음부터 다시 시도하게 되돌림
+     * @return 새로 넣거나 다시 시도하게 되돌린 작업 수
+     */
+    public int enqueueRun(String runKey, List<String> categories) throws SQLException {
+        return inTransaction(connection -> {
+            int inserted = 0;
+            for (String category : categories) {
+                inserted += insert(connection, runKey, Kind.LIST, category, 0, 1);
+            }
+            return inserted + retryFailedIfDrained(connection, runKey);
+        });
+    }
+
+    /**
+     * 가져갈 수 있는 작업 하나를 잡아 임대 (없으면 empty)
+     * 최대 실행 횟수를 다 쓴 채 임대가 끝난 작업은 실패로 닫고 다음 작업을 찾음
+     */
+    public Optional<Item> claim(String runKey, String owner) throws SQLException {
+        return inTransaction(connection -> {
+            while (true) {
+                Item item;
+                boolean expired;
+                try (PreparedStatement select = connection.prepareStatement(SELECT_CLAIMABLE)) {
+                    select.setString(1, runKey);
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        if (!resultSet.next()) {
+                            return Optional.empty();
+                        }
+                        item = new Item(resultSet.getLong(1), runKey, Kind.valueOf(resultSet.getString(2)), resultSet.getString(3),
+                                resultSet.getInt(4), resultSet.getInt(5), resultSet.getInt(6) + 1);
+                        expired = Status.RUNNING.name().equals(resultSet.getString(7));
+                    }
+                }
+                if (expired && item.attempts() > maxAttempts) {
+                    finish(connection, item, Status.FAILED, "임대 만료 (서버 중단)");
+                    continue;
+                }
+                try (PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET status = 'RUNNING', "
+                        + "lease_owner = ?, lease_until = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP), heartbeat_at = LOCALTIMESTAMP, "
+                        + "attempts = ?, updated_at = LOCALTIMESTAMP WHERE id = ?")) {
+                    update.setString(1, owner);
+                    update.setInt(2, leaseSeconds);
+                    update.setInt(3, item.attempts());
+                    update.setLong(4, item.id());
+                    update.executeUpdate();
+                }
+                return Optional.of(item);
+            }
+        });
+    }
+
+    /**
+     * 처리 중인 작업의 임대 연장
+     * @return 연장한 작업 수 (ids보다 적으면 임대를 잃은 작업이 있음)
+     */
+    public int heartbeat(String owner, Collection<Long> ids) throws SQLException {
+        int extended = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET "
+                     + "lease_until = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP), heartbeat_at = LOCALTIMESTAMP "
+                     + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'")) {
+            for (Long id : ids) {
+                update.setInt(1, leaseSeconds);
+                update.setLong(2, id);
+                update.setString(3, owner);
+                extended += update.executeUpdate();
+            }
+        }
+        return extended;
+    }
+
+    /**
+     * 작업 완료 기록 + 다음 단계 작업 등록
+     * @return false면 임대를 잃어 다른 서버가 이미 가져감 (결과는 기록하지 않음)
+     */
+    public boolean complete(Item item, String owner) throws SQLException {
+        return inTransaction(connection -> {
+            if (!owns(connection, item, owner)) {
+                return false;
+            }
+            finish(connection, item, Status.DONE, null);
+            return true;
+        });
+    }
+
+    /**
+     * 작업 실패 기록 - 실행 횟수가 남았으면 retryDelaySeconds 뒤에 다시 가져갈 수 있게 되돌림
+     * @return 최종 실패로 닫았는지
+     */
+    public boolean fail(Item item, String owner, String error) throws SQLException {
+        return inTransaction(connection -> {
+            if (!owns(connection, item, owner)) {
+                return false;
+            }
+            if (item.attempts() >= maxAttempts) {
+                finish(connection, item, Status.FAILED, error);
+                return true;
+            }
+            try (PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET status = 'PENDING', "
+                    + "lease_owner = NULL, lease_until = NULL, available_at = TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP), "
+                    + "last_error = ?, updated_at = LOCALTIMESTAMP WHERE id = ?")) {
+                update.setInt(1, retryDelaySeconds);
+                update.setString(2, truncate(error));
+                update.setLong(3, item.id());
+                update.executeUpdate();
+            }
+            return false;
+        });
+    }
+
+    /**
+     * 실행 횟수를 세지 않고 작업 반납 (취소/종료 시 다른 서버가 바로 가져가도록)
+     */
+    public void release(Item item, String owner) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET status = 'PENDING', "
+                     + "lease_owner = NULL, lease_until = NULL, attempts = attempts - 1, updated_at = LOCALTIMESTAMP "
+                     + "WHERE id = ? AND lease_owner = ? AND status = 'RUNNING'")) {
+            update.setLong(1, item.id());
+            update.setString(2, owner);
+            update.executeUpdate();
+        }
+    }
+
+    /**
+     * 실행의 상태별 작업 수
+     */
+    public Progress progress(String runKey) throws SQLException {
+        int[] counts = new int[Status.values().length];
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(
+                     "SELECT status, COUNT(*) FROM crawl_work_item WHERE run_key = ? GROUP BY status")) {
+            select.setString(1, runKey);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    counts[Status.valueOf(resultSet.getString(1)).ordinal()] = resultSet.getInt(2);
+                }
+            }
+        }
+        return new Progress(counts[Status.PENDING.ordinal()], counts[Status.RUNNING.ordinal()],
+                counts[Status.DONE.ordinal()], counts[Status.FAILED.ordinal()]);
+    }
+
+    // 잠금을 잡고 아직 이 서버가 임대 중인지 확인
+    private static boolean owns(Connection connection, Item item, String owner) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT lease_owner, status FROM crawl_work_item WHERE id = ? FOR UPDATE")) {
+            select.setLong(1, item.id());
+            try (ResultSet resultSet = select.executeQuery()) {
+                return resultSet.next() && owner.equals(resultSet.getString(1))
+                        && Status.RUNNING.name().equals(resultSet.getString(2));
+            }
+        }
+    }
+
+    // 작업을 DONE/FAILED로 닫고 다음 단계 작업 등록
+    private void finish(Connection connection, Item item, Status status, String error) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET status = ?, "
+                + "lease_until = NULL, last_error = ?, updated_at = LOCALTIMESTAMP WHERE id = ?")) {
+            update.setString(1, status.name());
+            update.setString(2, truncate(error));
+            update.setLong(3, item.id());
+            update.executeUpdate();
+        }
+
+        if (item.kind() == Kind.LIST && status == Status.DONE) {
+            for (int shard = 0; shard < detailShards; shard++) {
+                insert(connection, item.runKey(), Kind.DETAIL, item.category(), shard, detailShards);
+            }
+        } else if (item.kind() == Kind.DETAIL) {
+            // 같은 카테고리 샤드가 동시에 끝나도 한 번만 보도록 목록 작업 행을 잠그고 남은 샤드 확인
+            try (PreparedStatement lock = connection.prepareStatement("SELECT id FROM crawl_work_item "
+                    + "WHERE run_key = ? AND kind = 'LIST' AND category = ? FOR UPDATE")) {
+                lock.setString(1, item.runKey());
+                lock.setString(2, item.category());
+                lock.executeQuery().close();
+            }
+            int open = 0;
+            int done = 0;
+            try (PreparedStatement count = connection.prepareStatement("SELECT status, COUNT(*) FROM crawl_work_item "
+                    + "WHERE run_key = ? AND kind = 'DETAIL' AND category = ? GROUP BY status")) {
+                count.setString(1, item.runKey());
+                count.setString(2, item.category());
+                try (ResultSet resultSet = count.executeQuery()) {
+                    while (resultSet.next()) {
+                        Status shardStatus = Status.valueOf(resultSet.getString(1));
+                        if (shardStatus == Status.DONE) {
+                            done += resultSet.getInt(2);
+                        } else if (shardStatus != Status.FAILED) {
+                            open += resultSet.getInt(2);
+                        }
+                    }
+                }
+            }
+            if (open == 0 && done > 0) {
+                // 일부 샤드가 실패해도 가져온 기사는 저장
+                if (insert(connection, item.runKey(), Kind.DEDUP, item.category(), 0, item.shardCount()) == 0
+                        && status == Status.DONE) {
+                    // 다시 돌린 샤드가 이미 끝난 중복 제거 뒤에 기사를 더 가져옴 - 합치기·중복 제거·저장을 다시
+                    reopen(connection, "run_key = ? AND kind = 'DEDUP' AND category = ? AND status IN ('DONE', 'FAILED')",
+                            item.runKey(), item.category());
+                }
+            }
+        }
+    }
+
+    // 남은 작업 없이 끝난 실행이면 실패한 작업을 되돌림 (실행의 행을 잠가 동시에 합류한 서버가 두 번 되돌리지 않게 함)
+    private static int retryFailedIfDrained(Connection connection, String runKey) throws SQLException {
+        int failed = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT status FROM crawl_work_item WHERE run_key = ? FOR UPDATE")) {
+            select.setString(1, runKey);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    Status status = Status.valueOf(resultSet.getString(1));
+                    if (status == Status.PENDING || status == Status.RUNNING) {
+                        return 0; // 아직 진행 중인 실행 - 그대로 합류
+                    }
+                    if (status == Status.FAILED) {
+                        failed++;
+                    }
+                }
+            }
+        }
+        return failed == 0 ? 0 : reopen(connection, "run_key = ? AND status = 'FAILED'", runKey);
+    }
+
+    // 조건에 맞는 작업을 실행 횟수 0인 PENDING으로 되돌림
+    private static int reopen(Connection connection, String condition, String... parameters) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement("UPDATE crawl_work_item SET status = 'PENDING', "
+                + "lease_owner = NULL, lease_until = NULL, attempts = 0, available_at = LOCALTIMESTAMP, "
+                + "updated_at = LOCALTIMESTAMP WHERE " + condition)) {
+            for (int i = 0; i < parameters.length; i++) {
+                update.setString(i + 1, parameters[i]);
+            }
+            return update.executeUpdate();
+        }
+    }
+
+    private static int insert(Connection connection, String runKey, Kind kind, String category, int shard, int shardCount)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_ITEM)) {
+            insert.setString(1, runKey);
+            insert.setString(2, kind.name());
+            insert.setString(3, category);
+            insert.setInt(4, shard);
+            insert.setInt(5, shardCount);
+            insert.setInt(6, kind.priority);
+            return insert.executeUpdate();
+        }
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @FunctionalInterface
+    private interface TransactionBody<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    private <T> T inTransaction(TransactionBody<T> body) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                T result = body.run(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+}
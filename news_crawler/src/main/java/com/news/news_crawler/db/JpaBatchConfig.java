@@ -0,0 +1,27 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.util.DbLoadConfig;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Hibernate JDBC 배치 설정 기본값
+ *
+ * spring.jpa.properties.hibernate.*로 직접 지정한 값이 있으면 그대로 둔다.
+ * 배치 크기는 JDBC 경로와 같은 crawler.db.batch-size를 따른다.
+ */
+@Configuration
+public class JpaBatchConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(Environment environment) {
+        int batchSize = DbLoadConfig.from(environment).getBatchSize();
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -0,0 +1,270 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.entity.DedupState;
+import com.news.news_crawler.entity.News;
+import com.news.news_crawler.entity.NewsCategory;
+import com.news.news_crawler.entity.RelatedNews;
+import com.news.news_crawler.repository.NewsRepository;
+import com.news.news_crawler.repository.RelatedNewsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * JPA 엔티티(News, RelatedNews)로 저장하는 대량 쓰기 경로
+ *
+ * StatelessSession으로 영속성 컨텍스트 없이 insert하고, 시퀀스에서 미리 받은 id 덕분에
+ * hibernate.jdbc.batch_size개씩 JDBC 배치로 나간다. 배치마다 트랜잭션을 커밋하며,
+ * 배치가 실패하면 {@link BatchInserter}처럼 반씩 나눠 다시 시도해 실패한 행만 골라낸다.
+ * INSERT IGNORE가 없으므로 이미 있는 키는 호출하는 쪽에서 미리 걸러야 한다.
+ *
+ * 시퀀스에서 미리 받아 둔 id 범위는 프로세스가 끝날 때까지 메모리에 남으므로, 같은 테이블에 AUTO_INCREMENT로 쓰는
+ * 경로(batch/bulk 모드, 다른 서버)와 함께 쓰면 id가 겹친다. {@link #beginSession()}이 이를 확인해 거부한다.
+ */
+@Component
+public class JpaNewsWriter {
+
+    /**
+     * 단독으로 다시 시도해도 실패한 행
+     * @param index 넘긴 목록 안의 위치
+     */
+    @FunctionalInterface
+    public interface FailureListener<T> {
+        void onFailed(T row, int index, RuntimeException error);
+    }
+
+    private final SessionFactory sessionFactory;
+    private final DataSource dataSource;
+    private final NewsRepository newsRepository;
+    private final RelatedNewsRepository relatedNewsRepository;
+    private volatile boolean sequencesAligned;
+    // 이 프로세스의 시퀀스가 책임지는 가장 큰 id (맞출 때 테이블의 최대 id, JPA로 넣은 id)
+    private final AtomicLong newsHighWater = new AtomicLong();
+    private final AtomicLong relatedHighWater = new AtomicLong();
+
+    public JpaNewsWriter(EntityManagerFactory entityManagerFactory, DataSource dataSource,
+                         NewsRepository newsRepository, RelatedNewsRepository relatedNewsRepository) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.dataSource = dataSource;
+        this.newsRepository = newsRepository;
+        this.relatedNewsRepository = relatedNewsRepository;
+    }
+
+    /**
+     * 저장 세션 시작 시 호출 - 처음이면 시퀀스를 맞추고, 이후에는 그 사이 다른 경로가 AUTO_INCREMENT로 행을 넣었는지 확인
+     *
+     * 시퀀스를 다시 맞춰도 이미 받아 둔 id 범위는 버려지지 않아, AUTO_INCREMENT로 들어간 행과 id가 겹쳐 저장이 실패한다.
+     * 이 경우 저장 방식을 하나로 맞추고 프로세스를 다시 시작해야 한다.
+     * @throws IllegalStateException JPA로 넣지 않은, 마지막으로 확인한 것보다 큰 id가 있음
+     */
+    public void beginSession() {
+        if (!sequencesAligned) {
+            alignSequences();
+            return;
+        }
+        checkNotMixed("news", newsRepository.findMaxId(), newsHighWater.get());
+        checkNotMixed("related_news", relatedNewsRepository.findMaxId(), relatedHighWater.get());
+    }
+
+    // 테이블 최대 id를 먼저 읽고 기준과 비교 (JPA 삽입은 커밋 전에 기준을 올리므로 진행 중인 저장을 오인하지 않음)
+    private static void checkNotMixed(String table, long maxId, long highWater) {
+        if (maxId > highWater) {
+            throw new IllegalStateException(table + "에 JPA 시퀀스 밖의 id(" + maxId + " > " + highWater + ")가 있습니다. "
+                    + "crawler.db.mode=jpa는 AUTO_INCREMENT로 쓰는 batch/bulk 모드나 다른 서버와 함께 쓸 수 없습니다 "
+                    + "(저장 방식을 맞춘 뒤 다시 시작하세요)");
+        }
+    }
+
+    /**
+     * 주어진 oid_aid 중 이미 저장된 것
+     */
+    public Set<String> findExistingOidAids(Collection<String> oidAids) {
+        List<String> keys = oidAids.stream().filter(oidAid -> oidAid != null).distinct().toList();
+        return keys.isEmpty() ? Set.of() : new HashSet<>(newsRepository.findExistingOidAids(keys));
+    }
+
+    /**
+     * 주어진 쌍 중 이미 저장된 것 ("rep_oid_aid:related_oid_aid")
+     */
+    public Set<String> findExistingPairs(Collection<RelatedNewsRow> rows) {
+        List<String> reps = rows.stream().map(RelatedNewsRow::repOidAid).distinct().toList();
+        Set<String> pairs = new HashSet<>();
+        if (!reps.isEmpty()) {
+            for (RelatedNews related : relatedNewsRepository.findByRepOidAidIn(reps)) {
+                pairs.add(pairKey(related.getRepOidAid(), related.getRelatedOidAid()));
+            }
+        }
+        return pairs;
+    }
+
+    public static String pairKey(String repOidAid, String relatedOidAid) {
+        return repOidAid + ":" + relatedOidAid;
+    }
+
+    /**
+     * 뉴스 삽입
+     * @return 행별 새 news.id (실패한 행은 0)
+     */
+    public long[] insertNews(List<NewsRow> rows, NewsCategory category, LocalDateTime createdAt, int batchSize,
+                             FailureListener<NewsRow> onFailed) {
+        alignSequences();
+        return insert(rows, news -> News.builder()
+                .title(news.title())
+                .content(news.content())
+                .press(news.press())
+                .publishedAt(news.publishedAt())
+                .reporter(news.reporter())
+                .dedupState(news.dedupState() == null || news.dedupState().isEmpty() ? null : DedupState.valueOf(news.dedupState()))
+                .createdAt(createdAt)
+                .trusted(news.trusted())
+                .imageUrl(news.imageUrl())
+                .oidAid(news.oidAid())
+                .contentHash(news.contentHash())
+                .category(category)
+                .build(), News::getId, newsHighWater, batchSize, onFailed);
+    }
+
+    /**
+     * 연관 뉴스 삽입
+     * @return 저장된 행 수
+     */
+    public int insertRelated(List<RelatedNewsRow> rows, LocalDateTime createdAt, int batchSize,
+                             FailureListener<RelatedNewsRow> onFailed) {
+        alignSequences();
+        long[] ids = insert(rows, related -> RelatedNews.builder()
+                .repOidAid(related.repOidAid())
+                .relatedOidAid(related.relatedOidAid())
+                .similarity(related.similarity())
+                .createdAt(createdAt)
+                .build(), RelatedNews::getId, relatedHighWater, batchSize, onFailed);
+        int inserted = 0;
+        for (long id : ids) {
+            if (id > 0) {
+                inserted++;
+            }
+        }
+        return inserted;
+    }
+
+    private <R, E> long[] insert(List<R> rows, Function<R, E> toEntity, Function<E, Long> idOf, AtomicLong highWater,
+                                 int batchSize, FailureListener<R> onFailed) {
+        long[] ids = new long[rows.size()];
+        int size = Math.max(1, batchSize);
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(size);
+            for (int start = 0; start < rows.size(); start += size) {
+                insertBatch(session, rows, start, Math.min(start + size, rows.size()), toEntity, idOf, highWater, ids, onFailed);
+            }
+        }
+        return ids;
+    }
+
+    private <R, E> void insertBatch(StatelessSession session, List<R> rows, int start, int end, Function<R, E> toEntity,
+                                    Function<E, Long> idOf, AtomicLong highWater, long[] ids, FailureListener<R> onFailed) {
+        List<E> entities = new ArrayList<>(end - start);
+        Transaction transaction = session.beginTransaction();
+        try {
+            for (int i = start; i < end; i++) {
+                E entity = toEntity.apply(rows.get(i));
+                session.insert(entity);
+                entities.add(entity);
+                highWater.accumulateAndGet(idOf.apply(entity), Math::max);
+            }
+            transaction.commit();
+        } catch (RuntimeException e) {
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            if (end - start == 1) {
+                onFailed.onFailed(rows.get(start), start, e);
+                return;
+            }
+            // 실패한 배치를 반으로 나눠 다시 시도 (새 엔티티라 id도 새로 받음)
+            int middle = (start + end) >>> 1;
+            insertBatch(session, rows, start, middle, toEntity, idOf, highWater, ids, onFailed);
+            insertBatch(session, rows, middle, end, toEntity, idOf, highWater, ids, onFailed);
+            return;
+        }
+        for (int i = 0; i < entities.size(); i++) {
+            ids[start + i] = idOf.apply(entities.get(i));
+        }
+    }
+
+    /**
+     * 처음 쓰기 전에 시퀀스를 테이블의 최대 id 위로 맞춤
+     *
+     * 기존 행과 batch/bulk 모드(AUTO_INCREMENT)로 넣은 행의 id와 겹치지 않게 한다.
+     * 풀링 최적화기는 시퀀스 값 v에서 (v - allocationSize, v] 범위를 쓰므로 최대 id + allocationSize 이상으로 맞춘다.
+     */
+    private void alignSequences() {
+        if (sequencesAligned) {
+            return;
+        }
+        synchronized (this) {
+            if (sequencesAligned) {
+                return;
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                long newsMax = newsRepository.findMaxId();
+                long relatedMax = relatedNewsRepository.findMaxId();
+                newsHighWater.accumulateAndGet(newsMax, Math::max);
+                relatedHighWater.accumulateAndGet(relatedMax, Math::max);
+                alignSequence(connection, "news_seq", newsMax + News.ID_ALLOCATION_SIZE);
+                alignSequence(connection, "related_news_seq", relatedMax + RelatedNews.ID_ALLOCATION_SIZE);
+            } catch (SQLException e) {
+                throw new IllegalStateException("id 시퀀스 맞추기 실패: " + e.getMessage(), e);
+            }
+            sequencesAligned = true;
+        }
+    }
+
+    private static void alignSequence(Connection connection, String sequence, long atLeast) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        try (Statement statement = connection.createStatement()) {
+            if (product.equalsIgnoreCase("MySQL")) {
+                // MySQL은 시퀀스가 없어 Hibernate가 next_val 한 행짜리 테이블을 씀
+                statement.execute("CREATE TABLE IF NOT EXISTS " + sequence + " (next_val BIGINT)");
+                try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + sequence)) {
+                    resultSet.next();
+                    if (resultSet.getLong(1) == 0) {
+                        statement.execute("INSERT INTO " + sequence + " VALUES (1)");
+                    }
+                }
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE " + sequence + " SET next_val = GREATEST(next_val, ?)")) {
+                    update.setLong(1, atLeast);
+                    update.executeUpdate();
+                }
+            } else if (product.equalsIgnoreCase("H2")) {
+                long current;
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE UPPER(SEQUENCE_NAME) = UPPER(?)")) {
+                    select.setString(1, sequence);
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        current = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+                    }
+                }
+                if (current < atLeast) {
+                    statement.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + atLeast);
+                }
+            }
+        }
+    }
+}
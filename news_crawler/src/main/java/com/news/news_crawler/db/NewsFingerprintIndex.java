@@ -0,0 +1,307 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.dedup.ContentSimHash;
+import com.news.news_crawler.dedup.TitleMinHashLsh;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 사이에 유지하는 기사 지문 색인 (본문 SimHash + 제목 MinHash)
+ *
+ * 저장한 기사의 지문을 news_fingerprint 테이블에 남기고 보존 기간(retentionDays) 안의 지문을 메모리에 올려 둔다.
+ * 새 실행의 기사는 DB에 쓰기 전에 이전 실행 기사와 비교한다.
+ * - 본문 SimHash 해밍 거리가 duplicateMaxDistance 이하면 중복 (저장하지 않음)
+ * - 아니고 제목 MinHash 추정 유사도가 relatedMinTitleSimilarity 이상이면 연관 (저장하고 related_news로 연결)
+ *
+ * 본문 비교는 64비트를 16비트 블록 4개로 나눠, 거리 3 이하인 지문은 적어도 한 블록이 같다는 점을 이용해 블록 값으로 후보를 찾는다.
+ * 제목 비교는 LSH 밴드 버킷으로 후보를 찾는다.
+ * 이번 실행에서 저장한 지문은 실행이 끝날 때({@link #publishPending()}) 색인에 더해, 같은 실행 안의 기사끼리는 비교하지 않는다
+ * (실행 안의 중복은 Python 중복 제거가 이미 처리함).
+ * 다른 서버(인스턴스)가 저장한 지문은 실행을 시작할 때마다({@link #ensureLoaded}) 마지막으로 읽은 created_at 이후 것만 더 읽는다.
+ */
+public class NewsFingerprintIndex {
+
+    /**
+     * 이전 실행 기사와 비교한 결과 종류
+     */
+    public enum MatchKind {
+        DUPLICATE, // 본문이 거의 같음 - 저장하지 않음
+        RELATED    // 제목이 비슷함 - 저장하고 연관 뉴스로 연결
+    }
+
+    /**
+     * 비교 결과 (oidAid: 이미 저장된 기사)
+     */
+    public record Match(MatchKind kind, String oidAid, float similarity) {
+    }
+
+    /**
+     * 기사 지문 (본문이 비었으면 contentSimHash가 ContentSimHash.NONE, 제목이 비었으면 titleSignature가 null)
+     */
+    public record Fingerprint(String oidAid, long contentSimHash, long[] titleSignature) {
+    }
+
+    private record Entry(Fingerprint fingerprint, long createdAtMillis) {
+    }
+
+    private static final int SIMHASH_BLOCKS = 4;
+    // 다시 읽을 때 마지막 created_at보다 이만큼 앞부터 읽음 - 늦게 커밋된 지문, 서버 간 시계 차이 대비 (oid_aid로 중복 제외)
+    private static final long RELOAD_OVERLAP_MILLIS = 10 * 60 * 1000L;
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS news_fingerprint ("
+            + "oid_aid VARCHAR(64) NOT NULL PRIMARY KEY, "
+            + "content_simhash BIGINT NOT NULL, "
+            + "title_minhash VARBINARY(512), "
+            + "created_at TIMESTAMP NOT NULL)";
+
+    private final int retentionDays;
+    private final int duplicateMaxDistance;
+    private final double relatedMinTitleSimilarity;
+    private final TitleMinHashLsh lsh = new TitleMinHashLsh();
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(); // oid_aid → 지문 (읽은 순서)
+    private final List<Map<Integer, List<Entry>>> simHashBlocks = new ArrayList<>();
+    private final Map<Long, List<Entry>> titleBuckets = new HashMap<>();
+    private final List<Entry> pending = new ArrayList<>();
+    private boolean loaded;
+    private long loadedUpTo; // 지금까지 DB에서 읽은 지문의 가장 늦은 created_at (high-water mark)
+
+    // 통계 (마지막 load 이후)
+    private final AtomicLong checked = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong related = new AtomicLong();
+
+    /**
+     * @param retentionDays 지문 보존 기간 (일)
+     * @param duplicateMaxDistance 중복으로 볼 본문 SimHash 최대 해밍 거리 (블록 후보 탐색 때문에 최대 3)
+     * @param relatedMinTitleSimilarity 연관으로 볼 제목 MinHash 최소 추정 유사도
+     */
+    public NewsFingerprintIndex(int retentionDays, int duplicateMaxDistance, double relatedMinTitleSimilarity) {
+        if (duplicateMaxDistance < 0 || duplicateMaxDistance >= SIMHASH_BLOCKS) {
+            throw new IllegalArgumentException("duplicateMaxDistance는 0~" + (SIMHASH_BLOCKS - 1) + "이어야 합니다: " + duplicateMaxDistance);
+        }
+        this.retentionDays = retentionDays;
+        this.duplicateMaxDistance = duplicateMaxDistance;
+        this.relatedMinTitleSimilarity = relatedMinTitleSimilarity;
+        for (int i = 0; i < SIMHASH_BLOCKS; i++) {
+            simHashBlocks.add(new HashMap<>());
+        }
+    }
+
+    public Fingerprint fingerprint(String oidAid, String title, String content) {
+        return new Fingerprint(oidAid, ContentSimHash.of(content), lsh.signature(title));
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 실행 시작 시 호출 - 테이블이 없으면 만들고 보존 기간이 지난 지문을 지운 뒤,
+     * 처음이면 DB에서 모두 읽고, 이미 읽었으면 메모리에서 기간이 지난 지문을 빼고 마지막으로 읽은 뒤에 저장된 지문만 더 읽는다
+     */
+    public synchronized void ensureLoaded(Connection connection) throws SQLException {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_TABLE);
+        }
+        try (PreparedStatement delete = connection.prepareStatement("DELETE FROM news_fingerprint WHERE created_at < ?")) {
+            delete.setTimestamp(1, cutoff);
+            delete.executeUpdate();
+        }
+
+        if (!loaded) {
+            entries.clear();
+            pending.clear();
+            int added = load(connection, cutoff);
+            rebuild();
+            loaded = true;
+            checked.set(0);
+            duplicates.set(0);
+            related.set(0);
+            System.out.printf("기사 지문 색인 로드: %d개 (최근 %d일)\n", added, retentionDays);
+        } else {
+            publishPending();
+            entries.values().removeIf(entry -> entry.createdAtMillis() < cutoff.getTime());
+            int added = load(connection, new Timestamp(Math.max(cutoff.getTime(), loadedUpTo - RELOAD_OVERLAP_MILLIS)));
+            rebuild();
+            if (added > 0) {
+                System.out.printf("기사 지문 색인: 다른 실행에서 저장한 지문 %d개 추가\n", added);
+            }
+        }
+    }
+
+    // since 이후 지문 읽기 (이미 있는 oid_aid는 건너뜀) - 새로 더한 수
+    private int load(Connection connection, Timestamp since) throws SQLException {
+        int added = 0;
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT oid_aid, content_simhash, title_minhash, created_at FROM news_fingerprint WHERE created_at >= ?")) {
+            select.setFetchSize(10_000);
+            select.setTimestamp(1, since);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long createdAt = resultSet.getTimestamp(4).getTime();
+                    loadedUpTo = Math.max(loadedUpTo, createdAt);
+                    String oidAid = resultSet.getString(1);
+                    if (entries.containsKey(oidAid)) {
+                        continue;
+                    }
+                    Fingerprint fingerprint = new Fingerprint(oidAid, resultSet.getLong(2), decode(resultSet.getBytes(3)));
+                    entries.put(oidAid, new Entry(fingerprint, createdAt));
+                    added++;
+                }
+            }
+        }
+        return added;
+    }
+
+    private void rebuild() {
+        simHashBlocks.forEach(Map::clear);
+        titleBuckets.clear();
+        entries.values().forEach(this::index);
+    }
+
+    private void index(Entry entry) {
+        Fingerprint fingerprint = entry.fingerprint();
+        if (fingerprint.contentSimHash() != ContentSimHash.NONE) {
+            for (int block = 0; block < SIMHASH_BLOCKS; block++) {
+                simHashBlocks.get(block).computeIfAbsent(block(fingerprint.contentSimHash(), block), k -> new ArrayList<>(1)).add(entry);
+            }
+        }
+        if (fingerprint.titleSignature() != null) {
+            for (long key : lsh.bandKeys(fingerprint.titleSignature())) {
+                titleBuckets.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+            }
+        }
+    }
+
+    /**
+     * 이전 실행 기사 중 가장 가까운 것 (중복 우선, 없으면 null)
+     */
+    public synchronized Match match(Fingerprint fingerprint) {
+        checked.incrementAndGet();
+        long simHash = fingerprint.contentSimHash();
+        if (simHash != ContentSimHash.NONE) {
+            Entry best = null;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int block = 0; block < SIMHASH_BLOCKS; block++) {
+                for (Entry entry : simHashBlocks.get(block).getOrDefault(block(simHash, block), List.of())) {
+                    int distance = ContentSimHash.distance(simHash, entry.fingerprint().contentSimHash());
+                    if (distance <= duplicateMaxDistance && distance < bestDistance) {
+                        best = entry;
+                        bestDistance = distance;
+                    }
+                }
+            }
+            if (best != null) {
+                duplicates.incrementAndGet();
+                return new Match(MatchKind.DUPLICATE, best.fingerprint().oidAid(),
+                        ContentSimHash.similarity(simHash, best.fingerprint().contentSimHash()));
+            }
+        }
+
+        long[] signature = fingerprint.titleSignature();
+        if (signature != null) {
+            Entry best = null;
+            double bestSimilarity = relatedMinTitleSimilarity;
+            for (long key : lsh.bandKeys(signature)) {
+                for (Entry entry : titleBuckets.getOrDefault(key, List.of())) {
+                    double similarity = TitleMinHashLsh.similarity(signature, entry.fingerprint().titleSignature());
+                    if (similarity >= bestSimilarity && (best == null || similarity > bestSimilarity)) {
+                        best = entry;
+                        bestSimilarity = similarity;
+                    }
+                }
+            }
+            if (best != null) {
+                related.incrementAndGet();
+                return new Match(MatchKind.RELATED, best.fingerprint().oidAid(), (float) bestSimilarity);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 저장한 기사의 지문을 DB에 남기고 실행이 끝날 때 색인에 더할 목록에 넣기 (같은 oid_aid는 무시)
+     */
+    public void save(Connection connection, List<Fingerprint> fingerprints) throws SQLException {
+        if (fingerprints.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = "INSERT IGNORE INTO news_fingerprint (oid_aid, content_simhash, title_minhash, created_at) VALUES (?, ?, ?, ?)";
+        try (BatchInserter<Fingerprint> inserter = new BatchInserter<>(connection, sql, false, 500, (statement, fingerprint) -> {
+            statement.setString(1, fingerprint.oidAid());
+            statement.setLong(2, fingerprint.contentSimHash());
+            statement.setBytes(3, encode(fingerprint.titleSignature()));
+            statement.setTimestamp(4, now);
+        })) {
+            inserter.insert(fingerprints, null, (fingerprint, index, e) ->
+                    System.err.println("기사 지문 저장 실패 (" + fingerprint.oidAid() + "): " + e.getMessage()));
+        }
+        synchronized (this) {
+            for (Fingerprint fingerprint : fingerprints) {
+                pending.add(new Entry(fingerprint, now.getTime()));
+            }
+        }
+    }
+
+    /**
+     * 이번 실행에서 저장한 지문을 색인에 더하기 (다음 실행부터 비교 대상)
+     */
+    public synchronized void publishPending() {
+        for (Entry entry : pending) {
+            if (entries.putIfAbsent(entry.fingerprint().oidAid(), entry) == null) {
+                index(entry);
+            }
+        }
+        pending.clear();
+    }
+
+    /**
+     * 사람이 읽을 통계 (비교 수, 중복, 연관, 색인 크기)
+     */
+    public synchronized String stats() {
+        return String.format("비교 %d, 중복 %d, 연관 %d, 색인 %d개", checked.get(), duplicates.get(), related.get(), entries.size());
+    }
+
+    private static int block(long simHash, int block) {
+        return (int) (simHash >>> (block * 16)) & 0xFFFF;
+    }
+
+    private static byte[] encode(long[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Long.BYTES);
+        for (long value : signature) {
+            buffer.putLong(value);
+        }
+        return buffer.array();
+    }
+
+    // 서명 길이가 지금 설정과 다르면(LSH 설정 변경 전 지문) 제목 비교에서 제외
+    private long[] decode(byte[] bytes) {
+        if (bytes == null || bytes.length != lsh.signatureLength() * Long.BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long[] signature = new long[bytes.length / Long.BYTES];
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = buffer.getLong();
+        }
+        return signature;
+    }
+}
@@ -0,0 +1,15 @@
+package com.news.news_crawler.db;
+
+import java.time.LocalDateTime;
+
+/**
+ * 중복 제거 결과 파일에서 읽은 뉴스 한 건 (DB 쓰기 전까지 불변)
+ * imageUrl, oidAid, contentHash는 비어 있으면 null
+ */
+public record NewsRow(String title, String content, String press, LocalDateTime publishedAt, String reporter,
+                      String dedupState, boolean trusted, String imageUrl, String oidAid, String contentHash) {
+
+    public NewsRow withDedupState(String value) {
+        return new NewsRow(title, content, press, publishedAt, reporter, value, trusted, imageUrl, oidAid, contentHash);
+    }
+}
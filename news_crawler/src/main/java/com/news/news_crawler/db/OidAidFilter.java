@@ -0,0 +1,183 @@
+package com.news.news_crawler.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 이미 저장된 news.oid_aid 사전 확인 필터
+ *
+ * 시작 시 news.oid_aid 전체를 Bloom 필터에 한 번 읽어 두고, 저장할 때마다 새 oid_aid를 추가한다.
+ * 필터가 "없다"고 하는 키는 DB를 보지 않고 새 기사로 보고, "있을 수도 있다"고 하는 키만 IN (...) 조회로 확인한다.
+ * 다른 프로세스가 넣은 행은 필터에 없을 수 있으므로 INSERT IGNORE는 그대로 최종 방어선으로 둔다.
+ */
+public class OidAidFilter {
+
+    private static final int CONFIRM_BATCH_SIZE = 500;
+    private static final long MIN_CAPACITY = 100_000;
+
+    private final double fpp;
+    private volatile BloomFilter filter;
+    private final AtomicLong size = new AtomicLong();
+
+    // 통계 (마지막 load 이후)
+    private final AtomicLong probes = new AtomicLong();
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param fpp Bloom 필터 목표 오탐률 (오탐은 IN 조회 한 번 비용)
+     */
+    public OidAidFilter(double fpp) {
+        this.fpp = fpp;
+    }
+
+    public boolean isLoaded() {
+        return filter != null;
+    }
+
+    /**
+     * 아직 읽지 않았거나 예상 용량을 넘어 오탐률이 커졌으면 다시 읽기
+     */
+    public synchronized void ensureLoaded(Connection connection) throws SQLException {
+        BloomFilter current = filter;
+        if (current == null || size.get() > current.capacity()) {
+            load(connection);
+        }
+    }
+
+    /**
+     * news.oid_aid 전체로 필터를 새로 만든다 (용량은 현재 행 수의 두 배)
+     */
+    public synchronized void load(Connection connection) throws SQLException {
+        long count;
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM news WHERE oid_aid IS NOT NULL")) {
+            resultSet.next();
+            count = resultSet.getLong(1);
+        }
+
+        BloomFilter loaded = new BloomFilter(Math.max(MIN_CAPACITY, count * 2), fpp);
+        long added = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(10_000);
+            try (ResultSet resultSet = statement.executeQuery("SELECT oid_aid FROM news WHERE oid_aid IS NOT NULL")) {
+                while (resultSet.next()) {
+                    loaded.add(resultSet.getString(1));
+                    added++;
+                }
+            }
+        }
+        filter = loaded;
+        size.set(added);
+        probes.set(0);
+        confirmed.set(0);
+        falsePositives.set(0);
+        System.out.printf("oid_aid 필터 로드: %d개 (용량 %d, 오탐률 %.3f)\n", added, loaded.capacity(), fpp);
+    }
+
+    /**
+     * 저장된(또는 INSERT IGNORE로 이미 있던 것이 확인된) oid_aid 추가
+     */
+    public void add(String oidAid) {
+        BloomFilter current = filter;
+        if (current != null && oidAid != null) {
+            current.add(oidAid);
+            size.incrementAndGet();
+        }
+    }
+
+    /**
+     * 주어진 oid_aid 중 news에 이미 있는 것
+     *
+     * 필터에 없는 키는 조회하지 않는다. 필터를 아직 읽지 않았으면 빈 집합(모두 새 기사로 취급)을 반환한다.
+     */
+    public Set<String> findExisting(Connection connection, Collection<String> oidAids) throws SQLException {
+        try {
+            return findExisting(oidAids, candidates -> {
+                try {
+                    return selectExisting(connection, candidates);
+                } catch (SQLException e) {
+                    throw new UncheckedSqlException(e);
+                }
+            });
+        } catch (UncheckedSqlException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 필터가 있을 수도 있다고 한 키만 confirm으로 확인 (JPA 리포지토리 등 다른 조회 경로용)
+     * @param confirm 후보 키 중 실제로 저장된 키를 돌려주는 조회 (최대 CONFIRM_BATCH_SIZE개씩 호출)
+     */
+    public Set<String> findExisting(Collection<String> oidAids, Function<List<String>, Collection<String>> confirm) {
+        BloomFilter current = filter;
+        if (current == null) {
+            return Collections.emptySet();
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String oidAid : oidAids) {
+            if (oidAid != null && current.mightContain(oidAid)) {
+                candidates.add(oidAid);
+            }
+        }
+        probes.addAndGet(oidAids.size());
+        if (candidates.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < candidates.size(); start += CONFIRM_BATCH_SIZE) {
+            existing.addAll(confirm.apply(candidates.subList(start, Math.min(start + CONFIRM_BATCH_SIZE, candidates.size()))));
+        }
+        confirmed.addAndGet(existing.size());
+        falsePositives.addAndGet(new HashSet<>(candidates).size() - existing.size());
+        return existing;
+    }
+
+    private static List<String> selectExisting(Connection connection, List<String> batch) throws SQLException {
+        List<String> existing = new ArrayList<>();
+        String placeholders = String.join(",", Collections.nCopies(batch.size(), "?"));
+        try (PreparedStatement select = connection.prepareStatement("SELECT oid_aid FROM news WHERE oid_aid IN (" + placeholders + ")")) {
+            for (int i = 0; i < batch.size(); i++) {
+                select.setString(i + 1, batch.get(i));
+            }
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    existing.add(resultSet.getString(1));
+                }
+            }
+        }
+        return existing;
+    }
+
+    private static final class UncheckedSqlException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UncheckedSqlException(SQLException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
+
+    /**
+     * 사람이 읽을 통계 (조회 키 수, 확인된 중복 수, 오탐 수)
+     */
+    public String stats() {
+        return String.format("조회 %d, 기존 %d, 오탐 %d, 필터 %d개", probes.get(), confirmed.get(), falsePositives.get(), size.get());
+    }
+}
@@ -0,0 +1,7 @@
+package com.news.news_crawler.db;
+
+/**
+ * 연관 뉴스 파일에서 읽은 대표 기사 - 연관 기사 쌍 한 건
+ */
+public record RelatedNewsRow(String repOidAid, String relatedOidAid, float similarity) {
+}
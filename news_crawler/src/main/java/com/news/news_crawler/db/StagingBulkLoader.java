@@ -0,0 +1,314 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.csv.CsvWriter;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스테이징 테이블을 거치는 대량 적재
+ *
+ * 행을 정규화한 임시 CSV로 쓴 뒤 한 문장으로 스테이징 임시 테이블에 적재하고
+ * (MySQL: LOAD DATA LOCAL INFILE, H2: CSVREAD), 이미 있는 oid_aid를 건너뛰는 INSERT ... SELECT 한 문장으로
+ * news/related_news에 합친다. 새로 생긴 news.id는 조회 한 번으로 가져온다.
+ * 뉴스 병합은 INSERT IGNORE라서 다른 연결이 같은 oid_aid를 아직 커밋하지 않은 채 넣고 있어도
+ * 중복 키 오류로 병합 전체가 실패하지 않고 그 행만 건너뛴다.
+ *
+ * MySQL에서는 서버의 local_infile이 켜져 있어야 하고, 연결 URL에 스테이징 폴더를 허용하는
+ * allowLoadLocalInfileInPath가 있어야 한다 ({@link #withLocalInfilePath}).
+ * 스테이징 테이블은 연결 단위 임시 테이블이라 카테고리별 연결에서 동시에 써도 섞이지 않는다.
+ */
+public class StagingBulkLoader {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] NEWS_COLUMNS = {
+            "title", "content", "press", "published_at", "reporter", "dedup_state", "trusted", "image_url", "oid_aid", "content_hash"};
+    private static final String[] RELATED_COLUMNS = {"rep_oid_aid", "related_oid_aid", "similarity"};
+
+    enum Dialect { MYSQL, H2 }
+
+    private final Connection connection;
+    private final Dialect dialect;
+    private final Path stagingDir;
+
+    public StagingBulkLoader(Connection connection, Path stagingDir) throws SQLException {
+        this.connection = connection;
+        this.stagingDir = stagingDir;
+        String product = connection.getMetaData().getDatabaseProductName();
+        if (product.equalsIgnoreCase("MySQL")) {
+            this.dialect = Dialect.MYSQL;
+        } else if (product.equalsIgnoreCase("H2")) {
+            this.dialect = Dialect.H2;
+        } else {
+            throw new SQLException("대량 적재를 지원하지 않는 DB입니다: " + product);
+        }
+    }
+
+    /**
+     * 뉴스 스테이징 파일 열기 (닫으면 임시 파일 삭제)
+     */
+    public NewsStaging newsStaging() throws IOException {
+        return new NewsStaging(createStagingFile("news"));
+    }
+
+    /**
+     * 연관 뉴스 스테이징 파일 열기 (닫으면 임시 파일 삭제)
+     */
+    public RelatedStaging relatedStaging() throws IOException {
+        return new RelatedStaging(createStagingFile("related_news"));
+    }
+
+    private Path createStagingFile(String table) throws IOException {
+        Files.createDirectories(stagingDir);
+        return Files.createTempFile(stagingDir, table + "_staging_", ".csv");
+    }
+
+    /**
+     * 뉴스 스테이징 - 같은 oid_aid는 파일에서 처음 나온 행만 적재 (INSERT IGNORE와 같은 결과)
+     */
+    public final class NewsStaging implements Closeable {
+
+        private final Path file;
+        private final CsvWriter writer;
+        private final Map<String, Integer> indexByOidAid = new HashMap<>();
+        private int rows;
+
+        private NewsStaging(Path file) throws IOException {
+            this.file = file;
+            this.writer = CsvWriter.create(file, NEWS_COLUMNS);
+        }
+
+        /**
+         * 행 추가 (추가한 순서가 인덱스)
+         */
+        public void add(NewsRow row) throws IOException {
+            int index = rows++;
+            if (row.oidAid() != null && indexByOidAid.putIfAbsent(row.oidAid(), index) != null) {
+                return;
+            }
+            writer.field(row.title())
+                    .field(row.content())
+                    .field(row.press())
+                    .field(TIMESTAMP_FORMAT.format(row.publishedAt()))
+                    .field(row.reporter())
+                    .field(row.dedupState())
+                    .field(row.trusted() ? "1" : "0")
+                    .field(row.imageUrl())
+                    .field(row.oidAid())
+                    .field(row.contentHash())
+                    .endRecord();
+        }
+
+        /**
+         * 스테이징 적재 후 news에 병합 (하나의 트랜잭션)
+         * @return 추가 순서 인덱스 → 새 news.id (이미 있던 oid_aid, 다른 연결이 먼저 넣은 oid_aid, oid_aid 없는 행은 빠짐)
+         */
+        public Map<Integer, Long> merge(String categoryName, Timestamp createdAt) throws IOException, SQLException {
+            writer.close();
+            // 아래 조회에서 이번 병합의 행을 created_at으로 구분하므로 DATETIME에 그대로 저장되는 초 단위로 맞춤
+            Timestamp mergedAt = Timestamp.valueOf(createdAt.toLocalDateTime().withNano(0));
+            return inTransaction(() -> {
+                createStagingTable("news_staging", dialect == Dialect.MYSQL
+                        ? "title TEXT, content MEDIUMTEXT, press VARCHAR(255), published_at DATETIME, reporter VARCHAR(255), "
+                          + "dedup_state VARCHAR(32), trusted BOOLEAN, image_url TEXT, oid_aid VARCHAR(64), content_hash VARCHAR(16), INDEX (oid_aid)"
+                        : "title VARCHAR, content VARCHAR, press VARCHAR(255), published_at TIMESTAMP, reporter VARCHAR(255), "
+                          + "dedup_state VARCHAR(32), trusted BOOLEAN, image_url VARCHAR, oid_aid VARCHAR(64), content_hash VARCHAR(16)");
+                loadStagingTable("news_staging", file, NEWS_COLUMNS);
+
+                long maxIdBefore;
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM news")) {
+                    resultSet.next();
+                    maxIdBefore = resultSet.getLong(1);
+                }
+
+                String merge = "INSERT IGNORE INTO news (title, content, press, published_at, reporter, dedup_state, created_at, updated_at, trusted, image_url, oid_aid, category_name, content_hash) "
+                        + "SELECT s.title, s.content, s.press, s.published_at, s.reporter, s.dedup_state, ?, NULL, s.trusted, "
+                        + "NULLIF(s.image_url, ''), NULLIF(s.oid_aid, ''), ?, NULLIF(s.content_hash, '') "
+                        + "FROM news_staging s "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM news n WHERE n.oid_aid = s.oid_aid)";
+                try (PreparedStatement statement = connection.prepareStatement(merge)) {
+                    statement.setTimestamp(1, mergedAt);
+                    statement.setString(2, categoryName);
+                    statement.executeUpdate();
+                }
+
+                // 이번 병합으로 생긴 id만 - 다른 oid_aid는 조인으로, 다른 연결이 먼저 넣은 같은 oid_aid는 created_at/카테고리로 걸러짐
+                Map<Integer, Long> ids = new HashMap<>();
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT n.id, n.oid_aid FROM news n JOIN news_staging s ON n.oid_aid = s.oid_aid "
+                                + "WHERE n.id > ? AND n.created_at = ? AND n.category_name " + (categoryName == null ? "IS NULL" : "= ?"))) {
+                    statement.setLong(1, maxIdBefore);
+                    statement.setTimestamp(2, mergedAt);
+                    if (categoryName != null) {
+                        statement.setString(3, categoryName);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        while (resultSet.next()) {
+                            Integer index = indexByOidAid.get(resultSet.getString(2));
+                            if (index != null) {
+                                ids.put(index, resultSet.getLong(1));
+                            }
+                        }
+                    }
+                }
+                dropStagingTable("news_staging");
+                return ids;
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * 연관 뉴스 스테이징 - 같은 (rep_oid_aid, related_oid_aid) 쌍은 처음 것만 적재
+     */
+    public final class RelatedStaging implements Closeable {
+
+        private final Path file;
+        private final CsvWriter writer;
+        private final Set<String> pairs = new HashSet<>();
+
+        private RelatedStaging(Path file) throws IOException {
+            this.file = file;
+            this.writer = CsvWriter.create(file, RELATED_COLUMNS);
+        }
+
+        public void add(RelatedNewsRow row) throws IOException {
+            if (!pairs.add(row.repOidAid() + '\u0000' + row.relatedOidAid())) {
+                return;
+            }
+            writer.field(row.repOidAid())
+                    .field(row.relatedOidAid())
+                    .field(Float.toString(row.similarity()))
+                    .endRecord();
+        }
+
+        /**
+         * 스테이징 적재 후 related_news에 병합 (하나의 트랜잭션)
+         * @return 새로 추가된 행 수
+         */
+        public int merge(Timestamp createdAt) throws IOException, SQLException {
+            writer.close();
+            return inTransaction(() -> {
+                createStagingTable("related_staging", dialect == Dialect.MYSQL
+                        ? "rep_oid_aid VARCHAR(64), related_oid_aid VARCHAR(64), similarity FLOAT, INDEX (rep_oid_aid, related_oid_aid)"
+                        : "rep_oid_aid VARCHAR(64), related_oid_aid VARCHAR(64), similarity REAL");
+                loadStagingTable("related_staging", file, RELATED_COLUMNS);
+
+                int inserted;
+                String merge = "INSERT INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at) "
+                        + "SELECT s.rep_oid_aid, s.related_oid_aid, s.similarity, ? "
+                        + "FROM related_staging s "
+                        + "WHERE NOT EXISTS (SELECT 1 FROM related_news r "
+                        + "WHERE r.rep_oid_aid = s.rep_oid_aid AND r.related_oid_aid = s.related_oid_aid)";
+                try (PreparedStatement statement = connection.prepareStatement(merge)) {
+                    statement.setTimestamp(1, createdAt);
+                    inserted = statement.executeUpdate();
+                }
+                dropStagingTable("related_staging");
+                return inserted;
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+    private <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    // 풀로 돌아간 연결에 남아 있을 수 있으므로 먼저 지우고 만듦
+    private void createStagingTable(String table, String columns) throws SQLException {
+        dropStagingTable(table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(dialect == Dialect.MYSQL
+                    ? "CREATE TEMPORARY TABLE " + table + " (" + columns + ")"
+                    : "CREATE LOCAL TEMPORARY TABLE " + table + " (" + columns + ")");
+        }
+    }
+
+    private void dropStagingTable(String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(dialect == Dialect.MYSQL
+                    ? "DROP TEMPORARY TABLE IF EXISTS " + table
+                    : "DROP TABLE IF EXISTS " + table);
+        }
+    }
+
+    private void loadStagingTable(String table, Path file, String[] columns) throws SQLException {
+        String path = file.toAbsolutePath().toString();
+        String sql;
+        if (dialect == Dialect.MYSQL) {
+            // CsvWriter 형식: 모든 필드를 큰따옴표로 감싸고 내부 큰따옴표는 두 번, 레코드 구분은 LF
+            sql = "LOAD DATA LOCAL INFILE '" + escapeMysql(path) + "' INTO TABLE " + table
+                    + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY ',' ENCLOSED BY '\"' ESCAPED BY ''"
+                    + " LINES TERMINATED BY '\\n' IGNORE 1 LINES (" + String.join(", ", columns) + ")";
+        } else {
+            sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") SELECT * FROM CSVREAD('"
+                    + path.replace("'", "''") + "', NULL, 'charset=UTF-8')";
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            if (dialect == Dialect.MYSQL) {
+                throw new SQLException("LOAD DATA LOCAL INFILE 실패 - 서버 local_infile과 연결 URL의 allowLoadLocalInfileInPath("
+                        + stagingDir.toAbsolutePath() + ")를 확인하세요: " + e.getMessage(), e.getSQLState(), e.getErrorCode(), e);
+            }
+            throw e;
+        }
+    }
+
+    private static String escapeMysql(String value) {
+        return value.replace("\\", "\\\\").replace("'", "\\'");
+    }
+
+    /**
+     * MySQL 연결 URL에 스테이징 폴더에서만 LOAD DATA LOCAL INFILE을 허용하는 설정 추가
+     * MySQL이 아니거나 이미 지정되어 있으면 그대로 반환
+     */
+    public static String withLocalInfilePath(String url, Path stagingDir) {
+        if (url == null || !url.startsWith("jdbc:mysql:") || url.contains("allowLoadLocalInfile")) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + "allowLoadLocalInfileInPath=" + stagingDir.toAbsolutePath();
+    }
+}
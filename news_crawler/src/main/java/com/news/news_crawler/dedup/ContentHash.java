@@ -0,0 +1,51 @@
+package com.news.news_crawler.dedup;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정규화한 본문의 64비트 해시 (16자리 16진수)
+ *
+ * 여러 언론사에 같은 본문으로 실리는 통신사 기사는 앞의 발신지/기자 표기, 끝의 기자 이메일과 저작권 문구,
+ * 띄어쓰기만 다른 경우가 많다. 이 부분을 지우고 공백을 모두 없앤 뒤 해시해서 본문이 같은 기사를 비교 없이 찾는다.
+ */
+public final class ContentHash {
+
+    // (서울=연합뉴스), [워싱턴=뉴시스] 같은 발신지 표기
+    private static final Pattern DATELINE = Pattern.compile("[(\\[][^()\\[\\]]{1,30}=[^()\\[\\]]{1,30}[)\\]]");
+    private static final Pattern BYLINE = Pattern.compile("[가-힣]{2,5}\\s*(객원기자|기자|특파원|통신원)");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+    private static final Pattern COPYRIGHT = Pattern.compile("(ⓒ|©|\\(c\\)|저작권자|무단\\s*전재)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SPACES_AND_MARKS = Pattern.compile("[\\s=▶■▲△◆◇·]+");
+    private static final int COPYRIGHT_TAIL = 200; // 저작권 문구는 본문 끝부분에서만 찾음
+
+    private ContentHash() {
+    }
+
+    /**
+     * 본문 해시 (본문이 비면 빈 문자열)
+     */
+    public static String of(String content) {
+        String normalized = normalize(content);
+        if (normalized.isEmpty()) {
+            return "";
+        }
+        return String.format("%016x", Hashing.hash(normalized, 0, normalized.length()));
+    }
+
+    static String normalize(String content) {
+        if (content == null) {
+            return "";
+        }
+        String text = content;
+        int tailStart = Math.max(0, text.length() - COPYRIGHT_TAIL);
+        Matcher copyright = COPYRIGHT.matcher(text);
+        if (copyright.find(tailStart)) {
+            text = text.substring(0, copyright.start());
+        }
+        text = DATELINE.matcher(text).replaceAll(" ");
+        text = EMAIL.matcher(text).replaceAll(" ");
+        text = BYLINE.matcher(text).replaceAll(" ");
+        return SPACES_AND_MARKS.matcher(text).replaceAll("").toLowerCase();
+    }
+}
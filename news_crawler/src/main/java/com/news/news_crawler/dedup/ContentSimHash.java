@@ -0,0 +1,67 @@
+package com.news.news_crawler.dedup;
+
+import java.util.regex.Pattern;
+
+/**
+ * 본문 64비트 SimHash
+ *
+ * 특수문자를 공백으로 바꾸고 소문자화한 본문의 연속 두 단어를 특징으로 써서, 특징 해시의 비트별 다수결로 지문을 만든다.
+ * 문장 몇 개가 바뀐 기사는 지문의 몇 비트만 달라지므로 해밍 거리로 거의 같은 본문을 찾을 수 있다.
+ */
+public final class ContentSimHash {
+
+    /** 본문이 비어 지문을 만들 수 없음 (실제 지문이 0일 확률은 무시) */
+    public static final long NONE = 0L;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}_\\s]", Pattern.UNICODE_CHARACTER_CLASS);
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    private ContentSimHash() {
+    }
+
+    public static long of(String content) {
+        if (content == null || content.isBlank()) {
+            return NONE;
+        }
+        String text = SPACES.matcher(NON_WORD.matcher(content).replaceAll(" ")).replaceAll(" ").trim().toLowerCase();
+        if (text.isEmpty()) {
+            return NONE;
+        }
+
+        int[] votes = new int[64];
+        int previousStart = -1;
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf(' ', start);
+            if (end < 0) {
+                end = text.length();
+            }
+            // 첫 단어 하나뿐인 본문도 지문이 나오도록 단어 하나짜리 특징으로 시작
+            long feature = Hashing.hash(text, previousStart < 0 ? start : previousStart, end);
+            for (int bit = 0; bit < 64; bit++) {
+                votes[bit] += ((feature >>> bit) & 1) != 0 ? 1 : -1;
+            }
+            previousStart = start;
+            start = end + 1;
+        }
+
+        long simHash = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                simHash |= 1L << bit;
+            }
+        }
+        return simHash == NONE ? ~NONE : simHash; // 지문 없음 값과 구분
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * 해밍 거리를 0~1 유사도로 (1 - 거리/64)
+     */
+    public static float similarity(long a, long b) {
+        return 1f - distance(a, b) / 64f;
+    }
+}
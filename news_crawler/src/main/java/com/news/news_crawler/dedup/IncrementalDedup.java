@@ -0,0 +1,210 @@
+package com.news.news_crawler.dedup;
+
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.stage.RecordReader;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.stage.StageCompression;
+import com.news.news_crawler.stage.StageFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리별 증분 중복 제거 계획
+ *
+ * 중복 제거를 마친 기사의 본문 해시를 deduplicated-related/incremental/manifest_{카테고리}_{날짜}_{시간대}.csv
+ * (컬럼 oid_aid, content_hash)에 남겨 두고, 같은 시간대를 다시 실행하면 상세 파일에서
+ * 새로 들어왔거나 본문 해시가 바뀐 기사만 골라 이전 실행의 대표 기사(REPRESENTATIVE, KEPT)와 함께 입력 파일로 쓴다.
+ * Python 중복 제거는 이 입력만 비교하고 결과를 기존 deduplicated_, related_ 출력에 합친다.
+ *
+ * - 매니페스트나 이전 출력이 없거나 바뀐 기사 비율이 maxDeltaRatio를 넘으면 전체 실행
+ * - 바뀐 기사가 없으면 건너뜀 (이전 출력을 그대로 씀)
+ * - 매니페스트는 Python 작업이 성공한 뒤({@link #complete(Plan)})에만 갱신하므로 실패한 실행은 다음에 다시 비교된다
+ * - 상세 파일과 중복 제거 폴더 위치는 {@link RunContext}(실행 목록의 폴더 구조)에서 받음
+ */
+public final class IncrementalDedup {
+
+    public enum Mode {
+        FULL,  // 상세 파일 전체
+        DELTA, // 바뀐 기사 + 이전 대표 기사
+        SKIP   // 바뀐 기사 없음
+    }
+
+    /**
+     * 카테고리 하나의 계획
+     * @param input DELTA일 때 Python에 넘길 입력 파일 논리 경로 (아니면 null)
+     * @param hashes 작업이 성공하면 매니페스트에 쓸 oid_aid → 본문 해시
+     */
+    public record Plan(String category, Mode mode, Path input, Path manifest, Map<String, String> hashes,
+                       int deltaRows, int representatives) {
+    }
+
+    private static final String INCREMENTAL_DIR = "incremental";
+    private static final Set<String> REPRESENTATIVE_STATES = Set.of("REPRESENTATIVE", "KEPT", "");
+
+    private final double maxDeltaRatio;
+
+    /**
+     * @param maxDeltaRatio 이 비율보다 많은 기사가 바뀌었으면 전체 실행
+     */
+    public IncrementalDedup(double maxDeltaRatio) {
+        this.maxDeltaRatio = maxDeltaRatio;
+    }
+
+    /**
+     * 카테고리 계획 세우기 (DELTA면 입력 파일을 씀)
+     * @param run 계획할 실행 - 상세 파일과 중복 제거 폴더 위치를 정함
+     */
+    public Plan plan(RunContext run, String category) throws IOException {
+        Path detailed = run.detailFile(category);
+        Path dedupDir = run.getDedupDirectory();
+        String suffix = category + "_" + run.getRunKey() + StageFiles.CSV_EXTENSION;
+        Path manifest = dedupDir.resolve(INCREMENTAL_DIR).resolve("manifest_" + suffix);
+        Path input = dedupDir.resolve(INCREMENTAL_DIR).resolve("input_" + suffix);
+        deleteStage(input); // 이전 실행이 남긴 입력이 다시 쓰이지 않도록
+
+        if (!StageFiles.exists(detailed)) {
+            return new Plan(category, Mode.FULL, null, manifest, Map.of(), 0, 0);
+        }
+        DetailRows rows = readDetailRows(StageFiles.resolveForRead(detailed));
+        Path previousOutput = dedupDir.resolve("deduplicated_" + suffix);
+        if (!Files.exists(manifest) || !StageFiles.exists(previousOutput) || rows.missingOidAid) {
+            return new Plan(category, Mode.FULL, null, manifest, rows.hashes, rows.byOidAid.size(), 0);
+        }
+
+        Map<String, String> done = readManifest(manifest);
+        List<String> delta = new ArrayList<>();
+        rows.hashes.forEach((oidAid, hash) -> {
+            if (!hash.equals(done.get(oidAid))) {
+                delta.add(oidAid);
+            }
+        });
+        if (delta.isEmpty()) {
+            return new Plan(category, Mode.SKIP, null, manifest, Map.of(), 0, 0);
+        }
+        if (delta.size() > rows.byOidAid.size() * maxDeltaRatio) {
+            return new Plan(category, Mode.FULL, null, manifest, rows.hashes, delta.size(), 0);
+        }
+
+        // 이전 실행의 대표 기사 (바뀐 기사는 입력에 이미 있음)
+        List<String> representatives = new ArrayList<>();
+        Set<String> deltaSet = Set.copyOf(delta);
+        try (RecordReader reader = StageFiles.openReader(StageFiles.resolveForRead(previousOutput))) {
+            if (reader.readHeader()) {
+                int oidAid = reader.requireColumn("oid_aid");
+                int state = reader.column("dedup_state");
+                while (reader.next()) {
+                    String id = reader.get(oidAid);
+                    if (REPRESENTATIVE_STATES.contains(reader.get(state)) && !deltaSet.contains(id) && rows.byOidAid.containsKey(id)) {
+                        representatives.add(id);
+                    }
+                }
+            }
+        }
+
+        Files.createDirectories(input.getParent());
+        try (CsvWriter writer = CsvWriter.create(StageFiles.outputPath(input), rows.header)) {
+            for (String id : delta) {
+                writer.writeRecord(rows.byOidAid.get(id));
+            }
+            for (String id : representatives) {
+                writer.writeRecord(rows.byOidAid.get(id));
+            }
+        }
+
+        Map<String, String> hashes = new HashMap<>(done);
+        for (String id : delta) {
+            hashes.put(id, rows.hashes.get(id));
+        }
+        return new Plan(category, Mode.DELTA, input, manifest, hashes, delta.size(), representatives.size());
+    }
+
+    /**
+     * Python 작업이 성공한 뒤 매니페스트 갱신, 입력 파일 삭제
+     */
+    public static void complete(Plan plan) throws IOException {
+        if (plan.mode() == Mode.SKIP) {
+            return;
+        }
+        if (!plan.hashes().isEmpty()) {
+            writeManifest(plan.manifest(), plan.hashes());
+        }
+        if (plan.input() != null) {
+            deleteStage(plan.input());
+        }
+    }
+
+    private record DetailRows(String[] header, Map<String, String[]> byOidAid, Map<String, String> hashes,
+                              boolean missingOidAid) {
+    }
+
+    // 상세 파일 읽기 - 이어쓰기로 같은 oid_aid가 여러 번 있으면 마지막 행 사용, 해시 컬럼이 없는 이전 파일은 본문으로 계산
+    private static DetailRows readDetailRows(Path path) throws IOException {
+        Map<String, String[]> byOidAid = new LinkedHashMap<>();
+        Map<String, String> hashes = new LinkedHashMap<>();
+        boolean missingOidAid = false;
+        try (RecordReader reader = StageFiles.openReader(path)) {
+            if (!reader.readHeader()) {
+                return new DetailRows(new String[0], byOidAid, hashes, false);
+            }
+            String[] header = reader.getHeader().toArray(String[]::new);
+            int oidAid = reader.requireColumn("oid_aid");
+            int contentHash = reader.column("content_hash");
+            int content = reader.requireColumn("content");
+            while (reader.next()) {
+                String id = reader.get(oidAid);
+                if (id.isEmpty()) {
+                    missingOidAid = true; // 추적할 수 없는 기사 - 전체 실행
+                    continue;
+                }
+                String[] row = new String[header.length];
+                for (int i = 0; i < header.length; i++) {
+                    row[i] = reader.get(i);
+                }
+                String hash = reader.get(contentHash);
+                byOidAid.put(id, row);
+                hashes.put(id, hash.isEmpty() ? ContentHash.of(row[content]) : hash);
+            }
+            return new DetailRows(header, byOidAid, hashes, missingOidAid);
+        }
+    }
+
+    static Map<String, String> readManifest(Path path) throws IOException {
+        Map<String, String> hashes = new HashMap<>();
+        try (RecordReader reader = StageFiles.openReader(path)) {
+            if (reader.readHeader()) {
+                int oidAid = reader.requireColumn("oid_aid");
+                int contentHash = reader.requireColumn("content_hash");
+                while (reader.next()) {
+                    hashes.put(reader.get(oidAid), reader.get(contentHash));
+                }
+            }
+        }
+        return hashes;
+    }
+
+    static void writeManifest(Path path, Map<String, String> hashes) throws IOException {
+        Files.createDirectories(path.getParent());
+        Path temp = path.resolveSibling(".tmp-" + path.getFileName());
+        try (CsvWriter writer = CsvWriter.create(temp, "oid_aid", "content_hash")) {
+            for (Map.Entry<String, String> entry : hashes.entrySet()) {
+                writer.writeRecord(entry.getKey(), entry.getValue());
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void deleteStage(Path logicalPath) throws IOException {
+        for (StageCompression compression : StageCompression.values()) {
+            Files.deleteIfExists(logicalPath.resolveSibling(logicalPath.getFileName() + compression.getExtension()));
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.news.news_crawler.dedup;
+
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.stage.RecordReader;
+import com.news.news_crawler.stage.StageCompression;
+import com.news.news_crawler.stage.StageFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 상세 파일의 제목 후보 그룹 파일 처리
+ *
+ * naver_news_정치_am_detailed.csv 옆에 naver_news_정치_am_title_candidates.csv를 쓴다.
+ * 컬럼은 group(후보 그룹 번호), row(상세 파일의 0부터 시작하는 행 번호)이고, 한 행이 여러 그룹에 나올 수 있다.
+ * 중복 제거(grouping.py)는 이 파일이 상세 파일보다 새로우면 후보 그룹 안의 쌍만 비교하고,
+ * 없거나 오래됐으면 전체 쌍을 비교한다.
+ */
+public final class TitleCandidates {
+
+    public static final String FILE_SUFFIX = "_title_candidates";
+    private static final String DETAILED_SUFFIX = "_detailed";
+
+    private TitleCandidates() {
+    }
+
+    /**
+     * 상세 파일 논리 경로에 대응하는 후보 파일 논리 경로
+     * (naver_news_정치_am_detailed.csv → naver_news_정치_am_title_candidates.csv)
+     */
+    public static Path candidatesPath(Path detailedCsvPath) {
+        String base = StageFiles.baseName(detailedCsvPath.getFileName().toString());
+        if (base.endsWith(DETAILED_SUFFIX)) {
+            base = base.substring(0, base.length() - DETAILED_SUFFIX.length());
+        }
+        return detailedCsvPath.resolveSibling(base + FILE_SUFFIX + StageFiles.CSV_EXTENSION);
+    }
+
+    /**
+     * 상세 파일 전체(이어쓴 행 포함)의 제목으로 후보 그룹을 만들어 후보 파일을 새로 씀
+     * @param detailedCsvPath 압축 확장자 없는 상세 CSV 논리 경로
+     * @return 후보 그룹 수
+     */
+    public static int generate(Path detailedCsvPath, TitleMinHashLsh lsh) throws IOException {
+        Path candidates = candidatesPath(detailedCsvPath);
+        deleteExisting(candidates); // 실패해도 이전 실행의 후보가 남아 잘못 쓰이지 않도록 먼저 지움
+
+        long start = System.nanoTime();
+        List<String> titles = readTitles(StageFiles.resolveForRead(detailedCsvPath));
+        List<int[]> groups = lsh.candidateGroups(titles);
+        write(StageFiles.outputPath(candidates), groups);
+
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long allPairs = (long) titles.size() * (titles.size() - 1) / 2;
+        System.out.println("제목 후보 그룹 생성 완료: " + candidates.getFileName() + " (제목 " + titles.size()
+                + "개, 그룹 " + groups.size() + "개, 비교 쌍 " + TitleMinHashLsh.pairCount(groups) + "/" + allPairs
+                + ", " + elapsedMillis + "ms)");
+        return groups.size();
+    }
+
+    static List<String> readTitles(Path detailedPath) throws IOException {
+        List<String> titles = new ArrayList<>();
+        try (RecordReader reader = StageFiles.openReader(detailedPath)) {
+            if (!reader.readHeader()) {
+                return titles;
+            }
+            int title = reader.requireColumn("title");
+            while (reader.next()) {
+                titles.add(reader.get(title));
+            }
+        }
+        return titles;
+    }
+
+    static void write(Path path, List<int[]> groups) throws IOException {
+        try (CsvWriter writer = CsvWriter.create(path, "group", "row")) {
+            for (int group = 0; group < groups.size(); group++) {
+                for (int row : groups.get(group)) {
+                    writer.field(group).field(row);
+                    writer.endRecord();
+                }
+            }
+        }
+    }
+
+    private static void deleteExisting(Path logicalPath) throws IOException {
+        for (StageCompression compression : StageCompression.values()) {
+            Files.deleteIfExists(logicalPath.resolveSibling(logicalPath.getFileName() + compression.getExtension()));
+        }
+    }
+}
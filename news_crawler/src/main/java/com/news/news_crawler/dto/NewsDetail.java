@@ -18,6 +18,7 @@ public class NewsDetail {
     private String imageUrl;
     private int trusted;
     private String oidAid;
+    private String contentHash;   // 정규화한 본문 해시 (ContentHash)
 
     public NewsDetail(String title, String reporter, String date, String link, String press, int categoryId, String categoryName, String content, String imageUrl) {
         this.title = title;
@@ -31,5 +32,6 @@ public class NewsDetail {
         this.imageUrl = imageUrl;
         this.trusted = 1;
         this.oidAid = "";
+        this.contentHash = "";
     }
 }
@@ -0,0 +1,11 @@
+package com.news.news_crawler.entity;
+
+/**
+ * 중복 제거 결과 (duplicate_detector의 대표/연관/유지/제거 표시)
+ */
+public enum DedupState {
+    REPRESENTATIVE,
+    RELATED,
+    KEPT,
+    REMOVED
+}
@@ -0,0 +1,75 @@
+package com.news.news_crawler.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장된 뉴스 기사 (news 테이블)
+ *
+ * id는 시퀀스(MySQL은 news_seq 테이블)에서 allocationSize개씩 미리 받아 JDBC 배치 삽입이 가능하게 한다.
+ */
+@Entity
+@Table(name = "news")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class News {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_seq")
+    @SequenceGenerator(name = "news_seq", sequenceName = "news_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String title;
+
+    @Lob
+    private String content;
+
+    private String press;
+
+    private LocalDateTime publishedAt;
+
+    private String reporter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private DedupState dedupState;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private boolean trusted;
+
+    @Column(length = 1000)
+    private String imageUrl;
+
+    @Column(unique = true, length = 64)
+    private String oidAid;
+
+    @Column(length = 16)
+    private String contentHash; // 정규화한 본문 해시 (같은 본문의 통신사 기사 찾기용)
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category_name", length = 32)
+    private NewsCategory category;
+}
@@ -0,0 +1,36 @@
+package com.news.news_crawler.entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 뉴스 카테고리 (DB에는 이름, 크롤링 파일에는 한글 라벨로 저장)
+ */
+public enum NewsCategory {
+    POLITICS("정치"),
+    ECONOMY("경제"),
+    SOCIETY("사회"),
+    LIFE("생활"),
+    INTERNATIONAL("세계"),
+    IT_SCIENCE("IT과학"),
+    VEHICLE("자동차"),
+    TRAVEL_FOOD("여행"),
+    ART("예술");
+
+    private final String label;
+
+    NewsCategory(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * 파일 이름에 쓰는 한글 라벨로 찾기
+     */
+    public static Optional<NewsCategory> fromLabel(String label) {
+        return Arrays.stream(values()).filter(category -> category.label.equals(label)).findFirst();
+    }
+}
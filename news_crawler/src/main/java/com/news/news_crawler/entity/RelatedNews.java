@@ -0,0 +1,43 @@
+package com.news.news_crawler.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대표 기사와 연관 기사 쌍 (related_news 테이블, oid_aid로 연결)
+ */
+@Entity
+@Table(name = "related_news", uniqueConstraints = @UniqueConstraint(columnNames = {"rep_oid_aid", "related_oid_aid"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RelatedNews {
+
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "related_news_seq")
+    @SequenceGenerator(name = "related_news_seq", sequenceName = "related_news_seq", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    private String repOidAid;
+
+    private String relatedOidAid;
+
+    private float similarity;
+
+    private LocalDateTime createdAt;
+}
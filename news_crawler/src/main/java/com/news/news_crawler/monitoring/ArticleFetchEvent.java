@@ -0,0 +1,31 @@
+package com.news.news_crawler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 기사 상세 페이지 HTTP 요청 (다운로드까지)
+ */
+@Name("com.news.crawler.ArticleFetch")
+@Label("Article Fetch")
+@Category({"News Crawler", "Detail"})
+@Description("기사 상세 페이지 요청 및 본문 다운로드")
+public class ArticleFetchEvent extends Event {
+
+    @Label("URL")
+    public String url;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Status Code")
+    public int statusCode;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
@@ -0,0 +1,29 @@
+package com.news.news_crawler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Jsoup 파싱 및 기사 필드 추출
+ */
+@Name("com.news.crawler.ArticleParse")
+@Label("Article Parse")
+@Category({"News Crawler", "Detail"})
+@Description("기사 HTML 파싱 및 제목/본문/기자 추출")
+public class ArticleParseEvent extends Event {
+
+    @Label("URL")
+    public String url;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Content Length")
+    public int contentLength;
+
+    @Label("Accepted")
+    public boolean accepted;
+}
@@ -0,0 +1,23 @@
+package com.news.news_crawler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Selenium(Chrome) 목록 페이지 로딩
+ */
+@Name("com.news.crawler.ChromePageLoad")
+@Label("Chrome Page Load")
+@Category({"News Crawler", "List"})
+@Description("헤드리스 Chrome으로 뉴스 목록 페이지 로딩")
+public class ChromePageLoadEvent extends Event {
+
+    @Label("URL")
+    public String url;
+
+    @Label("Category")
+    public String category;
+}
@@ -0,0 +1,50 @@
+package com.news.news_crawler.monitoring;
+
+/**
+ * 크롤링 단계별 진행 상황 수신자
+ *
+ * 크롤러 유틸(목록/상세/DB)이 실행 중인 작업에 카테고리별 처리 건수를 알리는 용도이며,
+ * 단독 실행(main) 시에는 {@link #NOOP}을 사용한다.
+ */
+public interface CrawlProgressListener {
+
+    CrawlProgressListener NOOP = new CrawlProgressListener() {
+    };
+
+    /**
+     * 카테고리에서 처리 대상 기사 수가 확정됨 (누적이 아닌 설정값)
+     */
+    default void onDiscovered(String category, int count) {
+    }
+
+    /**
+     * 기사 상세 크롤링 성공
+     */
+    default void onFetched(String category) {
+    }
+
+    /**
+     * 기사 상세 크롤링 실패 (제외 포함)
+     */
+    default void onFailed(String category) {
+    }
+
+    /**
+     * DB에 기사가 삽입됨
+     */
+    default void onInserted(String category, int count) {
+    }
+
+    /**
+     * 상세 크롤링 동시성 변경
+     */
+    default void onConcurrencyChanged(int concurrency) {
+    }
+
+    /**
+     * 실행 취소 여부 (작업자가 배치/카테고리 사이에 확인하고 스스로 멈춤)
+     */
+    default boolean isCancelled() {
+        return false;
+    }
+}
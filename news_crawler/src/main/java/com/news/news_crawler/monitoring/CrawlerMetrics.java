@@ -0,0 +1,142 @@
+package com.news.news_crawler.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 크롤링 파이프라인 단계별 Micrometer 지표
+ *
+ * 크롤러 유틸들이 static으로 호출되므로 Spring Boot가 Prometheus 레지스트리를 등록하는
+ * {@link Metrics#globalRegistry}에 기록한다. 단독 실행(main) 시에는 레지스트리가 비어 있어 no-op으로 동작한다.
+ */
+public final class CrawlerMetrics {
+
+    // 기사 제외 사유 (rejections 태그 값)
+    public static final String REJECT_VOD = "vod";
+    public static final String REJECT_SHORT_BODY = "short_body";
+    public static final String REJECT_PRESS_FILTER = "press_filter";
+    public static final String REJECT_KEYWORD_FILTER = "keyword_filter";
+
+    private CrawlerMetrics() {
+    }
+
+    /**
+     * 기사 HTTP 요청 지연시간과 다운로드 바이트 수 기록
+     */
+    public static void recordFetch(String category, long elapsedNanos, long bytes) {
+        Timer.builder("crawler.fetch.latency")
+                .description("기사 상세 페이지 요청 지연시간")
+                .tag("category", safe(category))
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("crawler.fetch.bytes")
+                .description("기사 상세 페이지 다운로드 크기")
+                .baseUnit("bytes")
+                .tag("category", safe(category))
+                .register(Metrics.globalRegistry)
+                .record(bytes);
+    }
+
+    /**
+     * Jsoup 파싱 및 본문 추출 시간 기록
+     */
+    public static void recordParse(String category, long elapsedNanos) {
+        Timer.builder("crawler.parse.duration")
+                .description("기사 HTML 파싱 및 필드 추출 시간")
+                .tag("category", safe(category))
+                .publishPercentileHistogram()
+                .register(Metrics.globalRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 상세 크롤링 재시도 횟수 기록
+     */
+    public static void recordRetry(String category) {
+        Counter.builder("crawler.fetch.retries")
+                .description("기사 상세 크롤링 재시도 횟수")
+                .tag("category", safe(category))
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * 사유별 기사 제외 건수 기록 (VOD, 짧은 본문, 언론사 필터, 키워드 필터)
+     */
+    public static void recordRejection(String reason, String category) {
+        Counter.builder("crawler.articles.rejected")
+                .description("사유별 제외된 기사 수")
+                .tag("reason", reason)
+                .tag("category", safe(category))
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * 목록 크롤링에서 수집된 링크 수 기록
+     */
+    public static void recordListCollected(String category, int count) {
+        Counter.builder("crawler.list.collected")
+                .description("목록 크롤링으로 수집된 기사 링크 수")
+                .tag("category", safe(category))
+                .register(Metrics.globalRegistry)
+                .increment(count);
+    }
+
+    /**
+     * 카테고리별 상세 크롤링 처리 결과 기록 (처리량 산출용)
+     */
+    public static void recordArticle(String category, boolean success) {
+        Counter.builder("crawler.articles.processed")
+                .description("카테고리별 상세 크롤링 처리 기사 수")
+                .tag("category", safe(category))
+                .tag("result", success ? "success" : "failure")
+                .register(Metrics.globalRegistry)
+                .increment();
+    }
+
+    /**
+     * DB 삽입 행 수 기록
+     */
+    public static void recordDbInsert(String table, String category, int rows) {
+        Counter.builder("crawler.db.inserted")
+                .description("테이블별 DB 삽입 행 수")
+                .baseUnit("rows")
+                .tag("table", table)
+                .tag("category", safe(category))
+                .register(Metrics.globalRegistry)
+                .increment(rows);
+    }
+
+    /**
+     * 중복 제거(Python) 처리 시간 기록
+     */
+    public static void recordDedup(long elapsedNanos, boolean success) {
+        Timer.builder("crawler.dedup.duration")
+                .description("중복 제거 프로세스 실행 시간")
+                .tag("result", success ? "success" : "failure")
+                .register(Metrics.globalRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 현재 상세 크롤링 동시성 게이지 등록 (실행 중인 모든 세션의 합)
+     */
+    public static void registerConcurrencyGauge(Supplier<Number> concurrency) {
+        Gauge.builder("crawler.detail.concurrency", concurrency)
+                .description("실행 중인 상세 크롤링 세션의 동시 요청 수 합계")
+                .register(Metrics.globalRegistry);
+    }
+
+    private static String safe(String value) {
+        return value == null || value.isEmpty() ? "unknown" : value;
+    }
+}
@@ -0,0 +1,31 @@
+package com.news.news_crawler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * 단계 결과 CSV 파일 쓰기
+ */
+@Name("com.news.crawler.CsvWrite")
+@Label("CSV Write")
+@Category({"News Crawler", "IO"})
+@Description("목록/상세 크롤링 결과 CSV 저장")
+public class CsvWriteEvent extends Event {
+
+    @Label("Path")
+    public String path;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Bytes")
+    @DataAmount(DataAmount.BYTES)
+    public long bytes;
+}
@@ -0,0 +1,32 @@
+package com.news.news_crawler.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * CSV 파일 단위 DB 삽입
+ */
+@Name("com.news.crawler.DbInsertBatch")
+@Label("DB Insert Batch")
+@Category({"News Crawler", "Database"})
+@Description("CSV 파일의 행들을 DB 테이블에 삽입")
+public class DbInsertBatchEvent extends Event {
+
+    @Label("Table")
+    public String table;
+
+    @Label("Category")
+    public String category;
+
+    @Label("Source Path")
+    public String path;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("Failed Rows")
+    public int failedRows;
+}
@@ -0,0 +1,220 @@
+package com.news.news_crawler.pipeline;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 단계 DAG 실행기
+ *
+ * 노드(예: 카테고리 하나의 상세 크롤링)는 선행 노드가 모두 끝나면 자기 단계의 스레드 풀에서 실행된다.
+ * 단계 사이에 전체 장벽이 없으므로 먼저 끝난 카테고리는 다른 카테고리를 기다리지 않고 다음 단계로 넘어간다.
+ *
+ * - 단계마다 풀 크기로 동시 실행 수를 제한 (브라우저 수, 상세 크롤링 세션 수, 중복 제거 워커 수, DB 연결 수 등)
+ * - 예외로 끝난 노드만 maxAttempts까지 다시 실행하고, 끝내 실패하면 그 노드에 의존하는 노드는 건너뜀
+ * - 취소되면 아직 시작하지 않은 노드는 실행하지 않음
+ *
+ * 인스턴스는 한 번만 실행할 수 있다 (실행이 끝나면 단계 풀을 닫음).
+ */
+public class StageDag {
+
+    public enum Status {
+        SUCCEEDED,
+        FAILED,
+        SKIPPED,   // 선행 노드 실패
+        CANCELLED  // 시작 전에 취소됨
+    }
+
+    /**
+     * 노드 작업 (예외를 던지면 재시도)
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    public record NodeResult(String id, String stage, Status status, int attempts, long millis, Throwable error) {
+    }
+
+    /**
+     * 노드 핸들 (다른 노드의 선행 노드로 넘김)
+     */
+    public static final class Node {
+        private final String id;
+        private final String stage;
+        private final Task task;
+        private final List<Node> dependencies;
+        private CompletableFuture<NodeResult> future;
+
+        private Node(String id, String stage, Task task, List<Node> dependencies) {
+            this.id = id;
+            this.stage = stage;
+            this.task = task;
+            this.dependencies = dependencies;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    private final int maxAttempts;
+    private final long retryDelayMillis;
+    private final CrawlProgressListener listener;
+    private final Map<String, ExecutorService> pools = new LinkedHashMap<>(); // 등록 순서 = 단계 순서
+    private final Map<String, AtomicInteger> remaining = new LinkedHashMap<>();
+    private final Map<String, Node> nodes = new LinkedHashMap<>();
+    private volatile Consumer<NodeResult> onFinished = result -> {
+    };
+
+    /**
+     * @param maxAttempts 노드당 최대 실행 횟수 (1이면 재시도 없음)
+     * @param retryDelayMillis 재시도 전 대기 시간
+     * @param listener 취소 여부 확인용
+     */
+    public StageDag(int maxAttempts, long retryDelayMillis, CrawlProgressListener listener) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayMillis = retryDelayMillis;
+        this.listener = listener;
+    }
+
+    /**
+     * 단계와 그 단계의 동시 실행 수 등록 (등록 순서가 단계 순서)
+     */
+    public StageDag stage(String name, int parallelism) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        pools.put(name, Executors.newFixedThreadPool(Math.max(1, parallelism), r -> {
+            Thread thread = new Thread(r, "dag-" + name + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }));
+        remaining.put(name, new AtomicInteger());
+        return this;
+    }
+
+    /**
+     * 노드 추가 (선행 노드는 먼저 추가한 노드여야 함)
+     */
+    public synchronized Node node(String id, String stage, Task task, Node... dependencies) {
+        if (!pools.containsKey(stage)) {
+            throw new IllegalArgumentException("등록되지 않은 단계: " + stage);
+        }
+        if (nodes.containsKey(id)) {
+            throw new IllegalArgumentException("이미 있는 노드: " + id);
+        }
+        Node node = new Node(id, stage, task, List.of(dependencies));
+        nodes.put(id, node);
+        remaining.get(stage).incrementAndGet();
+        return node;
+    }
+
+    /**
+     * 노드가 끝날 때마다 호출 (노드를 실행한 단계 스레드에서)
+     */
+    public void onFinished(Consumer<NodeResult> callback) {
+        this.onFinished = callback;
+    }
+
+    /**
+     * 아직 끝나지 않은 노드가 있는 가장 앞 단계 (모두 끝났으면 null)
+     */
+    public String earliestUnfinishedStage() {
+        for (Map.Entry<String, AtomicInteger> entry : remaining.entrySet()) {
+            if (entry.getValue().get() > 0) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 모든 노드를 실행하고 끝날 때까지 대기
+     * @return 노드 id → 결과 (추가한 순서)
+     * @throws InterruptedException 대기 중 인터럽트 - 실행 중인 노드도 인터럽트함
+     */
+    public Map<String, NodeResult> run() throws InterruptedException {
+        List<Node> ordered;
+        synchronized (this) {
+            ordered = new ArrayList<>(nodes.values());
+        }
+        try {
+            for (Node node : ordered) {
+                CompletableFuture<?>[] upstream = node.dependencies.stream().map(dependency -> dependency.future)
+                        .toArray(CompletableFuture[]::new);
+                node.future = CompletableFuture.allOf(upstream)
+                        .thenApplyAsync(ignored -> execute(node), pools.get(node.stage));
+            }
+            Map<String, NodeResult> results = new LinkedHashMap<>();
+            for (Node node : ordered) {
+                try {
+                    results.put(node.id, node.future.get());
+                } catch (ExecutionException e) {
+                    // execute는 예외를 결과로 바꾸므로 풀이 닫힌 경우 등에만 옴
+                    results.put(node.id, new NodeResult(node.id, node.stage, Status.FAILED, 0, 0, e.getCause()));
+                }
+            }
+            return results;
+        } finally {
+            pools.values().forEach(ExecutorService::shutdownNow);
+        }
+    }
+
+    private NodeResult execute(Node node) {
+        NodeResult result = attempt(node);
+        remaining.get(node.stage).decrementAndGet();
+        try {
+            onFinished.accept(result);
+        } catch (RuntimeException e) {
+            // 알림 실패가 노드 결과를 바꾸지 않도록 무시
+        }
+        return result;
+    }
+
+    private NodeResult attempt(Node node) {
+        for (Node dependency : node.dependencies) {
+            if (dependency.future.join().status() != Status.SUCCEEDED) {
+                return new NodeResult(node.id, node.stage, Status.SKIPPED, 0, 0, null);
+            }
+        }
+
+        long start = System.nanoTime();
+        Throwable error = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (listener.isCancelled() || Thread.currentThread().isInterrupted()) {
+                return new NodeResult(node.id, node.stage, Status.CANCELLED, attempt - 1, elapsedMillis(start), error);
+            }
+            try {
+                node.task.run();
+                return new NodeResult(node.id, node.stage, Status.SUCCEEDED, attempt, elapsedMillis(start), null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new NodeResult(node.id, node.stage, Status.CANCELLED, attempt, elapsedMillis(start), e);
+            } catch (Exception e) {
+                error = e;
+                System.err.println("[" + node.id + "] 실패 (" + attempt + "/" + maxAttempts + "): " + e.getMessage());
+            }
+            if (attempt < maxAttempts) {
+                try {
+                    Thread.sleep(retryDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return new NodeResult(node.id, node.stage, Status.CANCELLED, attempt, elapsedMillis(start), error);
+                }
+            }
+        }
+        return new NodeResult(node.id, node.stage, Status.FAILED, maxAttempts, elapsedMillis(start), error);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
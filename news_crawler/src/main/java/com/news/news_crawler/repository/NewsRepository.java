@@ -0,0 +1,24 @@
+package com.news.news_crawler.repository;
+
+import com.news.news_crawler.entity.News;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NewsRepository extends JpaRepository<News, Long> {
+
+    Optional<News> findByOidAid(String oidAid);
+
+    /**
+     * 주어진 oid_aid 중 이미 저장된 것
+     */
+    @Query("select n.oidAid from News n where n.oidAid in :oidAids")
+    List<String> findExistingOidAids(@Param("oidAids") Collection<String> oidAids);
+
+    @Query("select coalesce(max(n.id), 0) from News n")
+    long findMaxId();
+}
@@ -0,0 +1,16 @@
+package com.news.news_crawler.repository;
+
+import com.news.news_crawler.entity.RelatedNews;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RelatedNewsRepository extends JpaRepository<RelatedNews, Long> {
+
+    List<RelatedNews> findByRepOidAidIn(Collection<String> repOidAids);
+
+    @Query("select coalesce(max(r.id), 0) from RelatedNews r")
+    long findMaxId();
+}
@@ -1,6 +1,6 @@
 package com.news.news_crawler.scheduler;
 
-import com.news.news_crawler.service.NewsCrawlingService;
+import com.news.news_crawler.service.CrawlRunCoordinator;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -16,7 +16,7 @@ public class NewsCrawlingScheduler {
     private static final Logger logger = LoggerFactory.getLogger(NewsCrawlingScheduler.class);
     
     @Autowired
-    private NewsCrawlingService newsCrawlingService;
+    private CrawlRunCoordinator crawlRunCoordinator;
     
     /**
      * 매일 오전 9시와 오후 6시에 크롤링 실행
@@ -30,8 +30,8 @@ public class NewsCrawlingScheduler {
         logger.info("⏰ 스케줄된 크롤링 시작: " + formattedTime);
         
         try {
-            // 비동기로 크롤링 실행 (백그라운드에서 실행)
-            newsCrawlingService.runFullCrawlingProcessAsync()
+            // 비동기로 크롤링 실행 (이미 실행 중이면 해당 실행에 합쳐짐)
+            crawlRunCoordinator.trigger("scheduled").job().getFuture()
                 .thenRun(() -> {
                     LocalDateTime endTime = LocalDateTime.now();
                     String endFormattedTime = endTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
@@ -58,7 +58,7 @@ public class NewsCrawlingScheduler {
         logger.info("일일 크롤링 시작: " + formattedTime);
         
         try {
-            newsCrawlingService.runFullCrawlingProcessAsync()
+            crawlRunCoordinator.trigger("daily").job().getFuture()
                 .thenRun(() -> {
                     LocalDateTime endTime = LocalDateTime.now();
                     String endFormattedTime = endTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
@@ -0,0 +1,256 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.stage.RunContext;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 크롤링 1회 실행의 진행 상황
+ *
+ * 각 단계가 {@link CrawlProgressListener}로 보고한 카테고리별 건수를 모아
+ * 처리 속도와 예상 종료 시간(ETA)을 계산한다.
+ */
+public class CrawlJob implements CrawlProgressListener {
+
+    public enum Stage {
+        QUEUED, LIST, DETAIL, DEDUP, DATABASE, COMPLETED, FAILED, CANCELLED
+    }
+
+    private final RunContext run;
+    private final String trigger;
+    private final LocalDateTime startedAt;
+    private final Map<String, CategoryProgress> categories = new ConcurrentHashMap<>();
+    private final AtomicInteger concurrency = new AtomicInteger(0);
+    private final AtomicInteger coalescedTriggers = new AtomicInteger(0);
+
+    private volatile Stage stage = Stage.QUEUED;
+    private volatile LocalDateTime stageStartedAt;
+    private volatile LocalDateTime detailStartedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+    private volatile String recordingPath;
+    private volatile CompletableFuture<Void> future;
+    private volatile Thread worker;
+    private volatile boolean cancelled;
+    private volatile String cancelReason;
+
+    public CrawlJob(RunContext run, String trigger) {
+        this.run = run;
+        this.trigger = trigger;
+        this.startedAt = run.getStartedAt();
+        this.stageStartedAt = startedAt;
+    }
+
+    public String getRunId() {
+        return run.getRunId();
+    }
+
+    /**
+     * 모든 단계가 공유하는 실행 기준 (날짜, 시간대, 출력 경로)
+     */
+    public RunContext getRun() {
+        return run;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    public boolean isFinished() {
+        return stage == Stage.COMPLETED || stage == Stage.FAILED || stage == Stage.CANCELLED;
+    }
+
+    public CompletableFuture<Void> getFuture() {
+        return future;
+    }
+
+    void setFuture(CompletableFuture<Void> future) {
+        this.future = future;
+    }
+
+    public void setRecordingPath(String recordingPath) {
+        this.recordingPath = recordingPath;
+    }
+
+    void moveTo(Stage next) {
+        LocalDateTime now = LocalDateTime.now();
+        if (next == Stage.DETAIL) {
+            detailStartedAt = now;
+        }
+        stageStartedAt = now;
+        stage = next;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        moveTo(Stage.COMPLETED);
+    }
+
+    void fail(Throwable throwable) {
+        finishedAt = LocalDateTime.now();
+        error = throwable.getMessage();
+        moveTo(Stage.FAILED);
+    }
+
+    void markCancelled() {
+        finishedAt = LocalDateTime.now();
+        moveTo(Stage.CANCELLED);
+    }
+
+    /**
+     * 실행 중인 스레드 등록 (취소 시 인터럽트 대상)
+     */
+    void attachWorker(Thread thread) {
+        this.worker = thread;
+    }
+
+    void detachWorker() {
+        this.worker = null;
+    }
+
+    /**
+     * 실행 취소 요청 - 작업자는 다음 확인 지점에서 멈추고, 대기 중인 sleep/wait는 인터럽트로 깨움
+     * @return 취소 요청이 받아들여졌는지 여부 (이미 종료된 실행이면 false)
+     */
+    public boolean cancel(String reason) {
+        if (isFinished() || cancelled) {
+            return false;
+        }
+        cancelReason = reason;
+        cancelled = true;
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        return true;
+    }
+
+    /**
+     * 실행 중에 들어온 다른 실행 요청을 이 실행으로 합침
+     */
+    void coalesce() {
+        coalescedTriggers.incrementAndGet();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void onDiscovered(String category, int count) {
+        progress(category).discovered.set(count);
+    }
+
+    @Override
+    public void onFetched(String category) {
+        progress(category).fetched.incrementAndGet();
+    }
+
+    @Override
+    public void onFailed(String category) {
+        progress(category).failed.incrementAndGet();
+    }
+
+    @Override
+    public void onInserted(String category, int count) {
+        progress(category).inserted.addAndGet(count);
+    }
+
+    @Override
+    public void onConcurrencyChanged(int value) {
+        concurrency.set(value);
+    }
+
+    private CategoryProgress progress(String category) {
+        return categories.computeIfAbsent(category == null ? "unknown" : category, key -> new CategoryProgress());
+    }
+
+    /**
+     * 상태 API 응답용 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        LocalDateTime now = finishedAt != null ? finishedAt : LocalDateTime.now();
+
+        int discovered = 0;
+        int fetched = 0;
+        int failed = 0;
+        int inserted = 0;
+        Map<String, Object> categoryCounts = new LinkedHashMap<>();
+        for (Map.Entry<String, CategoryProgress> entry : categories.entrySet()) {
+            CategoryProgress p = entry.getValue();
+            discovered += p.discovered.get();
+            fetched += p.fetched.get();
+            failed += p.failed.get();
+            inserted += p.inserted.get();
+            categoryCounts.put(entry.getKey(), p.toMap());
+        }
+
+        // 처리 속도와 ETA는 상세 크롤링 단계 기준 (가장 오래 걸리는 단계)
+        Double articlesPerSecond = null;
+        Long etaSeconds = null;
+        if (detailStartedAt != null) {
+            double seconds = Math.max(1, Duration.between(detailStartedAt, now).toMillis()) / 1000.0;
+            articlesPerSecond = (fetched + failed) / seconds;
+            int remaining = Math.max(0, discovered - fetched - failed);
+            if (stage == Stage.DETAIL && articlesPerSecond > 0) {
+                etaSeconds = Math.round(remaining / articlesPerSecond);
+            }
+        }
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("runId", run.getRunId());
+        snapshot.put("trigger", trigger);
+        snapshot.put("stage", stage.name());
+        snapshot.put("startedAt", startedAt.toString());
+        snapshot.put("stageStartedAt", stageStartedAt.toString());
+        snapshot.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+        snapshot.put("elapsedSeconds", Duration.between(startedAt, now).getSeconds());
+        snapshot.put("concurrency", concurrency.get());
+        snapshot.put("discovered", discovered);
+        snapshot.put("fetched", fetched);
+        snapshot.put("failed", failed);
+        snapshot.put("inserted", inserted);
+        snapshot.put("articlesPerSecond", articlesPerSecond);
+        snapshot.put("etaSeconds", etaSeconds);
+        snapshot.put("categories", categoryCounts);
+        snapshot.put("coalescedTriggers", coalescedTriggers.get());
+        if (cancelReason != null) {
+            snapshot.put("cancelReason", cancelReason);
+        }
+        if (error != null) {
+            snapshot.put("error", error);
+        }
+        if (recordingPath != null) {
+            snapshot.put("recording", recordingPath);
+        }
+        return snapshot;
+    }
+
+    private static class CategoryProgress {
+        final AtomicInteger discovered = new AtomicInteger();
+        final AtomicInteger fetched = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger inserted = new AtomicInteger();
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("discovered", discovered.get());
+            map.put("fetched", fetched.get());
+            map.put("failed", failed.get());
+            map.put("inserted", inserted.get());
+            return map;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.stage.RunContext;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링 실행(run) 목록과 진행 상황 스트림 관리
+ */
+@Component
+public class CrawlJobRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlJobRegistry.class);
+    private static final int MAX_FINISHED_JOBS = 20; // 보관할 종료된 실행 수
+    private static final long STREAM_INTERVAL_SECONDS = 1;
+    private static final long STREAM_TIMEOUT_MILLIS = 6 * 60 * 60 * 1000L; // SSE 최대 유지 시간 (6시간)
+
+    private final Map<String, CrawlJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService streamExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "crawl-status-stream");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CrawlJobRegistry() {
+        streamExecutor.scheduleAtFixedRate(this::broadcast, STREAM_INTERVAL_SECONDS, STREAM_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 새 실행 등록 (runId: yyyy-MM-dd_am-xxxxxxxx)
+     * @param run 실행 시작 시 한 번 만든 실행 기준 - 모든 단계가 같은 날짜/시간대를 씀
+     */
+    public synchronized CrawlJob create(RunContext run, String trigger) {
+        CrawlJob job = new CrawlJob(run, trigger);
+        jobs.put(run.getRunId(), job);
+        evictFinishedJobs();
+        return job;
+    }
+
+    /**
+     * 새 실행 등록 - 같은 실행 키(날짜_시간대) 폴더에 쓰는 실행이 아직 끝나지 않았으면 거부
+     * 정기 실행과 백필(또는 백필 둘)이 같은 상세 파일에 동시에 이어쓰면 줄이 섞이고, 되돌린 쪽이 그사이 다른 쪽이 쓴 줄까지 잘라냄
+     * @throws IllegalStateException 같은 실행 키의 실행이 진행 중
+     */
+    public synchronized CrawlJob createExclusive(RunContext run, String trigger) {
+        for (CrawlJob job : jobs.values()) {
+            if (!job.isFinished() && job.getRun().getRunKey().equals(run.getRunKey())) {
+                throw new IllegalStateException("같은 폴더를 처리 중인 실행이 있습니다: " + job.getRunId());
+            }
+        }
+        return create(run, trigger);
+    }
+
+    public Optional<CrawlJob> find(String runId) {
+        return Optional.ofNullable(jobs.get(runId));
+    }
+
+    /**
+     * 가장 최근에 시작된 실행
+     */
+    public Optional<CrawlJob> latest() {
+        return jobs.values().stream().max(Comparator.comparing(CrawlJob::getStartedAt));
+    }
+
+    public List<Map<String, Object>> snapshots() {
+        List<CrawlJob> sorted = new ArrayList<>(jobs.values());
+        sorted.sort(Comparator.comparing(CrawlJob::getStartedAt));
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (CrawlJob job : sorted) {
+            result.add(job.snapshot());
+        }
+        return result;
+    }
+
+    /**
+     * 실행 진행 상황을 SSE로 구독 (1초 간격 전송, 실행 종료 시 스트림 종료)
+     */
+    public SseEmitter subscribe(CrawlJob job) {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        List<SseEmitter> list = emitters.computeIfAbsent(job.getRunId(), key -> new CopyOnWriteArrayList<>());
+        list.add(emitter);
+        emitter.onCompletion(() -> list.remove(emitter));
+        emitter.onTimeout(() -> list.remove(emitter));
+        emitter.onError(e -> list.remove(emitter));
+        send(job, emitter);
+        return emitter;
+    }
+
+    private void broadcast() {
+        for (Map.Entry<String, List<SseEmitter>> entry : emitters.entrySet()) {
+            CrawlJob job = jobs.get(entry.getKey());
+            for (SseEmitter emitter : entry.getValue()) {
+                if (job == null) {
+                    emitter.complete();
+                } else {
+                    send(job, emitter);
+                }
+            }
+            if (job == null || entry.getValue().isEmpty()) {
+                emitters.remove(entry.getKey());
+            }
+        }
+    }
+
+    private void send(CrawlJob job, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().name("status").data(job.snapshot()));
+            if (job.isFinished()) {
+                emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        List<CrawlJob> finished = new ArrayList<>();
+        for (CrawlJob job : jobs.values()) {
+            if (job.isFinished()) {
+                finished.add(job);
+            }
+        }
+        if (finished.size() <= MAX_FINISHED_JOBS) {
+            return;
+        }
+        finished.sort(Comparator.comparing(CrawlJob::getStartedAt));
+        for (int i = 0; i < finished.size() - MAX_FINISHED_JOBS; i++) {
+            jobs.remove(finished.get(i).getRunId());
+            logger.debug("종료된 실행 정리: " + finished.get(i).getRunId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamExecutor.shutdownNow();
+    }
+}
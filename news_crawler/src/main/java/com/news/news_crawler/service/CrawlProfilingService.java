@@ -0,0 +1,72 @@
+package com.news.news_crawler.service;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 크롤링 1회 실행 구간을 JDK Flight Recorder로 기록
+ */
+@Service
+public class CrawlProfilingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlProfilingService.class);
+    private static final Path RECORDING_DIR = Paths.get("recordings");
+    private static final DateTimeFormatter FILE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    // 크롤러 커스텀 이벤트 (monitoring 패키지)
+    private static final String[] CRAWLER_EVENTS = {
+        "com.news.crawler.ArticleFetch",
+        "com.news.crawler.ArticleParse",
+        "com.news.crawler.CsvWrite",
+        "com.news.crawler.DbInsertBatch",
+        "com.news.crawler.ChromePageLoad"
+    };
+
+    /**
+     * 방금 시작된 크롤링 실행을 기록하고, 실행이 끝나면 .jfr 파일로 저장
+     * @return 기록 파일 경로
+     */
+    public Path recordRun(CrawlJob job) throws IOException, ParseException {
+        Files.createDirectories(RECORDING_DIR);
+        Path destination = RECORDING_DIR.resolve("crawl_" + LocalDateTime.now().format(FILE_TIME_FORMAT) + ".jfr")
+                .toAbsolutePath();
+
+        Recording recording = new Recording(Configuration.getConfiguration("profile"));
+        recording.setName("news-crawl");
+        recording.setToDisk(true);
+        recording.setDestination(destination);
+        for (String eventName : CRAWLER_EVENTS) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+        }
+        recording.start();
+        logger.info("JFR 기록 시작: " + destination);
+
+        job.setRecordingPath(destination.toString());
+
+        job.getFuture().whenComplete((result, throwable) -> {
+            try {
+                // destination이 지정되어 있으므로 stop() 시 파일로 저장됨
+                recording.stop();
+                logger.info("JFR 기록 저장 완료: " + destination);
+            } catch (Exception e) {
+                logger.error("JFR 기록 저장 실패: " + e.getMessage(), e);
+            } finally {
+                recording.close();
+            }
+        });
+
+        return destination;
+    }
+}
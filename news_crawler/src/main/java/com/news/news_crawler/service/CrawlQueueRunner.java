@@ -0,0 +1,187 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.db.CrawlWorkQueue;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.util.CrawlQueueConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작업 큐({@link CrawlWorkQueue})에서 작업을 가져와 처리하는 서버 쪽 루프
+ *
+ * 여러 서버가 같은 실행을 등록하면 먼저 등록한 서버의 작업에 합류하고, 큐가 빌 때까지 각자 작업을 가져가 처리한다.
+ * 처리 중인 작업은 heartbeat 스레드가 임대를 늘리고, 서버가 죽으면 임대가 끝난 작업을 다른 서버가 가져간다.
+ */
+@Component
+public class CrawlQueueRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlQueueRunner.class);
+
+    /**
+     * 작업 하나 처리 (예외를 던지면 큐가 재시도를 예약)
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void handle(CrawlWorkQueue.Item item) throws Exception;
+    }
+
+    private final CrawlQueueConfig config;
+    private final CrawlWorkQueue queue;
+
+    @Autowired
+    public CrawlQueueRunner(DataSource dataSource, Environment environment) {
+        this(dataSource, CrawlQueueConfig.from(environment));
+    }
+
+    public CrawlQueueRunner(DataSource dataSource, CrawlQueueConfig config) {
+        this.config = config;
+        this.queue = new CrawlWorkQueue(dataSource, config.getLeaseSeconds(), config.getDetailShards(),
+                config.getMaxAttempts(), config.getRetryDelaySeconds());
+    }
+
+    public CrawlQueueConfig getConfig() {
+        return config;
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    /**
+     * 실행을 등록(이미 있으면 합류, 끝난 실행이면 실패한 작업을 다시 시도)하고 큐가 빌 때까지 이 서버에서 작업 처리
+     * @return 끝난 시점의 실행 작업 상태
+     */
+    public CrawlWorkQueue.Progress drain(String runKey, List<String> categories, CrawlProgressListener listener, Handler handler)
+            throws SQLException, InterruptedException {
+        queue.createTable();
+        int enqueued = queue.enqueueRun(runKey, categories);
+        logger.info("[" + runKey + "] 작업 큐: " + (enqueued > 0 ? "작업 " + enqueued + "개 등록 (새 실행 또는 실패한 작업 재시도)" : "기존 실행에 합류") + " (서버: " + config.getNodeId()
+                + ", 동시 작업: " + config.getThreads() + ")");
+
+        Set<Long> held = ConcurrentHashMap.newKeySet();
+        ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "crawl-queue-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleWithFixedDelay(() -> extendLeases(held), config.getHeartbeatSeconds(), config.getHeartbeatSeconds(), TimeUnit.SECONDS);
+
+        ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, config.getThreads()));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < Math.max(1, config.getThreads()); i++) {
+                futures.add(workers.submit(() -> {
+                    drainLoop(runKey, listener, handler, held);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.error("[" + runKey + "] 작업 큐 처리 스레드 오류: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+            return queue.progress(runKey);
+        } finally {
+            workers.shutdownNow();
+            heartbeat.shutdownNow();
+        }
+    }
+
+    private void drainLoop(String runKey, CrawlProgressListener listener, Handler handler, Set<Long> held)
+            throws InterruptedException {
+        while (!listener.isCancelled() && !Thread.currentThread().isInterrupted()) {
+            Optional<CrawlWorkQueue.Item> claimed;
+            try {
+                claimed = queue.claim(runKey, config.getNodeId());
+                if (claimed.isEmpty()) {
+                    if (queue.progress(runKey).isDrained()) {
+                        return;
+                    }
+                    Thread.sleep(config.getPollMillis()); // 다른 서버가 처리 중 - 다음 단계 작업이 생기거나 임대가 끝나길 기다림
+                    continue;
+                }
+            } catch (SQLException e) {
+                logger.warn("[" + runKey + "] 작업 큐 조회 실패 (다시 시도): " + e.getMessage());
+                Thread.sleep(config.getPollMillis());
+                continue;
+            }
+
+            CrawlWorkQueue.Item item = claimed.get();
+            String name = item.kind() + "/" + item.category() + (item.kind() == CrawlWorkQueue.Kind.DETAIL ? "#" + item.shard() : "");
+            held.add(item.id());
+            try {
+                handler.handle(item);
+                if (!queue.complete(item, config.getNodeId())) {
+                    logger.warn("[" + runKey + "] " + name + " 임대를 잃어 결과를 기록하지 못함 (다른 서버가 다시 처리)");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                release(item);
+                return;
+            } catch (Exception e) {
+                if (listener.isCancelled()) {
+                    release(item);
+                    return;
+                }
+                recordFailure(item, name, e);
+            } finally {
+                held.remove(item.id());
+            }
+        }
+    }
+
+    private void recordFailure(CrawlWorkQueue.Item item, String name, Exception error) {
+        try {
+            if (queue.fail(item, config.getNodeId(), String.valueOf(error.getMessage()))) {
+                logger.error("[" + item.runKey() + "] " + name + " 최종 실패 (" + item.attempts() + "회 시도): " + error.getMessage(), error);
+            } else {
+                logger.warn("[" + item.runKey() + "] " + name + " 실패 (" + item.attempts() + "회 시도, 다시 예약): " + error.getMessage());
+            }
+        } catch (SQLException e) {
+            logger.error("[" + item.runKey() + "] " + name + " 실패 기록 오류 (임대가 끝나면 다시 처리됨): " + e.getMessage());
+        }
+    }
+
+    // 취소/종료 시 다른 서버가 바로 가져가도록 반납 (실패해도 임대가 끝나면 다시 처리됨)
+    private void release(CrawlWorkQueue.Item item) {
+        try {
+            queue.release(item, config.getNodeId());
+        } catch (SQLException e) {
+            logger.warn("[" + item.runKey() + "] 작업 반납 실패: " + e.getMessage());
+        }
+    }
+
+    private void extendLeases(Set<Long> held) {
+        if (held.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(held);
+        try {
+            int extended = queue.heartbeat(config.getNodeId(), ids);
+            if (extended < ids.size()) {
+                logger.warn("임대를 잃은 작업이 있습니다 (" + (ids.size() - extended) + "개) - 다른 서버가 다시 처리");
+            }
+        } catch (SQLException e) {
+            logger.warn("작업 임대 연장 실패: " + e.getMessage());
+        }
+    }
+}
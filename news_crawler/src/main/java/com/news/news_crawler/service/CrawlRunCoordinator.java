@@ -0,0 +1,130 @@
+package com.news.news_crawler.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 크롤링 실행 단일화 (single-flight)
+ *
+ * 스케줄러와 수동 요청이 동시에 들어와도 전체 실행은 한 번에 하나만 돌게 한다.
+ * 실행 중에 들어온 요청은 진행 중인 실행에 합쳐지고(coalesce), 실행마다 마감 시간이 지나면 취소된다.
+ */
+@Service
+public class CrawlRunCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CrawlRunCoordinator.class);
+
+    @Autowired
+    private NewsCrawlingService newsCrawlingService;
+
+    @Autowired
+    private CrawlJobRegistry crawlJobRegistry;
+
+    @Value("${crawler.run.deadline-minutes:180}")
+    private long deadlineMinutes;
+
+    private final ScheduledExecutorService deadlineExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "crawl-run-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CrawlJob activeJob;
+    private String activeStep;
+
+    /**
+     * 실행 요청 결과
+     * @param job 시작되었거나 합쳐진 실행
+     * @param coalesced 이미 진행 중인 실행에 합쳐졌는지 여부
+     */
+    public record Submission(CrawlJob job, boolean coalesced) {
+    }
+
+    /**
+     * 전체 크롤링 실행 요청 - 진행 중인 실행이 있으면 새로 시작하지 않고 합침
+     */
+    public synchronized Submission trigger(String trigger) {
+        if (activeJob != null && !activeJob.isFinished()) {
+            activeJob.coalesce();
+            logger.info("실행 중인 크롤링에 요청 합침: " + trigger + " → " + activeJob.getRunId());
+            return new Submission(activeJob, true);
+        }
+        if (activeStep != null) {
+            throw new IllegalStateException("단계 실행 중에는 전체 크롤링을 시작할 수 없습니다: " + activeStep);
+        }
+
+        CrawlJob job = newsCrawlingService.startFullCrawlingProcess(trigger);
+        activeJob = job;
+
+        ScheduledFuture<?> deadline = deadlineExecutor.schedule(() -> {
+            if (job.cancel("deadline")) {
+                logger.warn("[" + job.getRunId() + "] 실행 마감 시간(" + deadlineMinutes + "분) 초과로 취소 요청");
+            }
+        }, deadlineMinutes, TimeUnit.MINUTES);
+
+        job.getFuture().whenComplete((result, throwable) -> {
+            deadline.cancel(false);
+            release(job);
+        });
+        logger.info("[" + job.getRunId() + "] 크롤링 실행 시작 (" + trigger + ")");
+        return new Submission(job, false);
+    }
+
+    /**
+     * 실행 취소 요청 (작업자는 다음 확인 지점에서 스스로 종료)
+     */
+    public boolean cancel(String runId) {
+        return crawlJobRegistry.find(runId)
+                .map(job -> job.cancel("manual"))
+                .orElse(false);
+    }
+
+    /**
+     * 단일 단계를 다른 실행과 겹치지 않게 동기 실행 (테스트용 단계 실행 API)
+     */
+    public void runStepExclusively(String stepName, Runnable step) {
+        synchronized (this) {
+            if (activeJob != null && !activeJob.isFinished()) {
+                throw new IllegalStateException("크롤링 실행 중입니다: " + activeJob.getRunId());
+            }
+            if (activeStep != null) {
+                throw new IllegalStateException("다른 단계가 실행 중입니다: " + activeStep);
+            }
+            activeStep = stepName;
+        }
+        try {
+            step.run();
+        } finally {
+            synchronized (this) {
+                activeStep = null;
+            }
+        }
+    }
+
+    private synchronized void release(CrawlJob job) {
+        if (activeJob == job) {
+            activeJob = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        CrawlJob job;
+        synchronized (this) {
+            job = activeJob;
+        }
+        if (job != null) {
+            job.cancel("shutdown");
+        }
+        deadlineExecutor.shutdownNow();
+    }
+}
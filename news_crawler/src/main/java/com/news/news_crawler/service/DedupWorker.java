@@ -0,0 +1,390 @@
+package com.news.news_crawler.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.stage.StageFiles;
+import com.news.news_crawler.util.DedupWorkerConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상주 중복 제거 워커 (duplicate_detector/dedup_worker.py) 관리
+ *
+ * Python 프로세스를 한 번 띄워 pandas/konlpy(Okt)/SBERT 모델을 읽어 둔 채로 두고,
+ * stdin/stdout으로 JSON 한 줄짜리 요청/응답을 주고받는다. 워커 출력(print)은 stderr로 와서 로그에 남긴다.
+ *
+ * - 작업은 한 번에 하나씩 보낸다 (워커는 단일 스레드)
+ * - 작업마다 대기 한도가 있고, 한도를 넘기거나 취소되면 워커를 다시 띄운다 (실행 중인 Python 작업은 중간에 멈출 수 없음)
+ * - 주기적으로 ping을 보내 응답이 없거나 프로세스가 죽었으면 다시 띄운다
+ *
+ * 여러 워커를 띄워 카테고리를 나눠 처리하는 것은 {@link DedupWorkerPool}이 맡는다.
+ */
+public class DedupWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(DedupWorker.class);
+
+    /**
+     * 카테고리 하나의 처리 결과
+     * @param status ok, missing(입력 파일 없음), error
+     */
+    public record CategoryResult(String status, double seconds, String error) {
+        public boolean isOk() {
+            return "ok".equals(status);
+        }
+
+        public boolean isMissing() {
+            return "missing".equals(status);
+        }
+    }
+
+    private final DedupWorkerConfig config;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, CompletableFuture<JsonNode>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private final AtomicLong restarts = new AtomicLong();
+    private final ReentrantLock jobLock = new ReentrantLock();
+    private final ScheduledExecutorService healthExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "dedup-worker-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 현재 워커 (start/stop은 this로 동기화)
+    private Process process;
+    private BufferedWriter requests;
+    private CompletableFuture<JsonNode> ready;
+    private boolean healthCheckScheduled;
+
+    public DedupWorker(DedupWorkerConfig config) {
+        this.config = config;
+    }
+
+    public DedupWorkerConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 지금까지 워커를 다시 띄운 횟수 (시간 초과, 취소, 상태 확인 실패)
+     */
+    public long getRestartCount() {
+        return restarts.get();
+    }
+
+    /**
+     * 워커를 미리 띄움 (모델 로드가 크롤링 실행 경로에 들어가지 않도록 별도 스레드에서)
+     */
+    public void prestart() {
+        healthExecutor.execute(() -> {
+            try {
+                ensureStarted();
+            } catch (Exception e) {
+                logger.warn("중복 제거 워커 미리 시작 실패 (첫 작업 때 다시 시도): " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 카테고리별 중복 제거 실행
+     * @param categories 비어 있으면 워커의 전체 카테고리
+     * @return 카테고리 → 결과 (워커가 보낸 순서)
+     */
+    public Map<String, CategoryResult> dedup(String date, String period, List<String> categories, CrawlProgressListener listener)
+            throws IOException, TimeoutException, InterruptedException {
+        return dedup(date, period, categories, Map.of(), listener);
+    }
+
+    /**
+     * 카테고리별 중복 제거 실행 (일부 카테고리는 증분 입력으로)
+     * @param inputs 카테고리 → 증분 입력 파일 (상세 파일 대신 이 입력만 비교하고 이전 결과에 합침)
+     */
+    public Map<String, CategoryResult> dedup(String date, String period, List<String> categories, Map<String, Path> inputs,
+                                             CrawlProgressListener listener) throws IOException, TimeoutException, InterruptedException {
+        ObjectNode request = mapper.createObjectNode();
+        request.put("op", "dedup");
+        request.put("date", date);
+        request.put("period", period);
+        request.putPOJO("categories", categories);
+        if (!inputs.isEmpty()) {
+            ObjectNode inputNode = request.putObject("inputs");
+            inputs.forEach((category, input) -> inputNode.put(category, input.toAbsolutePath().toString()));
+        }
+
+        JsonNode response;
+        jobLock.lockInterruptibly();
+        try {
+            ensureStarted();
+            response = call(request, TimeUnit.SECONDS.toMillis(config.getJobTimeoutSeconds()), listener);
+        } finally {
+            jobLock.unlock();
+        }
+
+        Map<String, CategoryResult> results = new LinkedHashMap<>();
+        response.path("results").properties().forEach(entry -> results.put(entry.getKey(), new CategoryResult(
+                entry.getValue().path("status").asText(),
+                entry.getValue().path("seconds").asDouble(),
+                entry.getValue().hasNonNull("error") ? entry.getValue().get("error").asText() : null)));
+        return results;
+    }
+
+    /**
+     * 워커가 응답하는지 확인
+     */
+    public boolean ping() {
+        ObjectNode request = mapper.createObjectNode();
+        request.put("op", "ping");
+        try {
+            return "pong".equals(call(request, TimeUnit.SECONDS.toMillis(config.getPingTimeoutSeconds()), CrawlProgressListener.NOOP)
+                    .path("type").asText());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    // 요청을 보내고 응답을 기다림 - 시간 초과/취소 시 워커를 다시 띄움
+    private JsonNode call(ObjectNode request, long timeoutMillis, CrawlProgressListener listener)
+            throws IOException, TimeoutException, InterruptedException {
+        String id = Long.toString(requestIds.incrementAndGet());
+        request.put("id", id);
+        CompletableFuture<JsonNode> response = new CompletableFuture<>();
+        pending.put(id, response);
+        try {
+            send(request);
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            while (true) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    restart("요청 " + request.path("op").asText() + " 시간 초과 (" + timeoutMillis / 1000 + "초)");
+                    throw new TimeoutException("중복 제거 워커 응답 시간 초과");
+                }
+                if (listener.isCancelled()) {
+                    restart("작업 취소");
+                    throw new CancellationException("중복 제거 처리 취소");
+                }
+                try {
+                    JsonNode node = response.get(Math.min(remaining, 1000), TimeUnit.MILLISECONDS);
+                    if ("error".equals(node.path("type").asText())) {
+                        throw new IOException("중복 제거 워커 오류: " + node.path("error").asText());
+                    }
+                    return node;
+                } catch (TimeoutException e) {
+                    // 취소/마감 확인 후 계속 대기
+                } catch (ExecutionException e) {
+                    throw new IOException("중복 제거 워커 종료: " + e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    private synchronized void send(ObjectNode request) throws IOException {
+        if (requests == null) {
+            throw new IOException("중복 제거 워커가 실행 중이 아닙니다");
+        }
+        requests.write(mapper.writeValueAsString(request));
+        requests.newLine();
+        requests.flush();
+    }
+
+    /**
+     * 워커가 없거나 죽었으면 새로 띄우고 준비될 때까지 대기
+     */
+    public void ensureStarted() throws IOException, TimeoutException, InterruptedException {
+        CompletableFuture<JsonNode> starting;
+        synchronized (this) {
+            if (process == null || !process.isAlive()) {
+                start();
+            }
+            starting = ready;
+        }
+        try {
+            starting.get(config.getStartupTimeoutSeconds(), TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            stop();
+            throw new IOException("중복 제거 워커 시작 실패: " + e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            stop();
+            throw new TimeoutException("중복 제거 워커 준비 시간 초과 (" + config.getStartupTimeoutSeconds() + "초)");
+        }
+    }
+
+    private synchronized void start() throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(config.getPythonCommand(), "-u", config.getWorkerScript().toString());
+        processBuilder.directory(config.getWorkingDirectory().toFile());
+        processBuilder.environment().put(StageFiles.COMPRESSION_ENV, StageFiles.getCompression().configName());
+        processBuilder.environment().put("PYTHONIOENCODING", "utf-8");
+
+        logger.info("중복 제거 워커 시작: " + config.getWorkerScript());
+        Process started = processBuilder.start();
+        CompletableFuture<JsonNode> startedReady = new CompletableFuture<>();
+        process = started;
+        ready = startedReady;
+        requests = new BufferedWriter(new OutputStreamWriter(started.getOutputStream(), StandardCharsets.UTF_8));
+
+        Thread outputThread = new Thread(() -> readResponses(started, startedReady), "dedup-worker-out");
+        Thread errorThread = new Thread(() -> readLog(started), "dedup-worker-err");
+        outputThread.setDaemon(true);
+        errorThread.setDaemon(true);
+        outputThread.start();
+        errorThread.start();
+
+        if (!healthCheckScheduled && config.getHealthCheckIntervalSeconds() > 0) {
+            healthCheckScheduled = true;
+            healthExecutor.scheduleWithFixedDelay(this::checkHealth, config.getHealthCheckIntervalSeconds(),
+                    config.getHealthCheckIntervalSeconds(), TimeUnit.SECONDS);
+        }
+    }
+
+    // 워커 stdout: 프로토콜 응답
+    private void readResponses(Process source, CompletableFuture<JsonNode> sourceReady) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonNode node;
+                try {
+                    node = mapper.readTree(line);
+                } catch (IOException e) {
+                    logger.warn("중복 제거 워커 응답 해석 실패: " + line);
+                    continue;
+                }
+                String type = node.path("type").asText();
+                if ("ready".equals(type)) {
+                    logger.info("중복 제거 워커 준비 완료 (pid " + node.path("pid").asText() + ", " + node.path("seconds").asText() + "초)");
+                    sourceReady.complete(node);
+                } else if (!node.hasNonNull("id")) {
+                    sourceReady.completeExceptionally(new IOException(node.path("error").asText(line)));
+                } else {
+                    CompletableFuture<JsonNode> response = pending.get(node.get("id").asText());
+                    if (response != null) {
+                        response.complete(node);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("중복 제거 워커 출력 읽기 종료: " + e.getMessage());
+        }
+        sourceReady.completeExceptionally(new IOException("중복 제거 워커 프로세스 종료"));
+        synchronized (this) {
+            // 출력이 닫혔으면 종료 중인 프로세스 - 다음 작업이 새로 띄우도록 정리하고 대기 중인 요청을 실패 처리
+            if (process == source) {
+                stop();
+            }
+        }
+    }
+
+    // 워커 stderr: 작업 출력(print)과 오류
+    private void readLog(Process source) {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.getErrorStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                logger.info("Python 출력: " + line);
+            }
+        } catch (IOException e) {
+            logger.debug("중복 제거 워커 로그 읽기 종료: " + e.getMessage());
+        }
+    }
+
+    // 주기적 상태 확인 - 작업 중에는 워커가 ping에 답할 수 없으므로 프로세스 생존만 확인
+    private void checkHealth() {
+        Process current;
+        synchronized (this) {
+            current = process;
+        }
+        if (current == null) {
+            return;
+        }
+        if (!current.isAlive()) {
+            logger.warn("중복 제거 워커가 종료되어 다시 시작합니다 (종료 코드 " + current.exitValue() + ")");
+            restartQuietly();
+            return;
+        }
+        if (!jobLock.tryLock()) {
+            return;
+        }
+        try {
+            CompletableFuture<JsonNode> currentReady = ready;
+            // 응답이 없으면 call()이 시간 초과 처리로 워커를 다시 띄움
+            if (currentReady.isDone() && !currentReady.isCompletedExceptionally() && !ping()) {
+                logger.warn("중복 제거 워커 ping 실패");
+            }
+        } finally {
+            jobLock.unlock();
+        }
+    }
+
+    private void restartQuietly() {
+        try {
+            restart("프로세스 종료");
+        } catch (IOException e) {
+            logger.warn("중복 제거 워커 재시작 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 워커를 멈추고 새로 띄움 (준비는 기다리지 않음 - 다음 작업이 기다림)
+     */
+    private synchronized void restart(String reason) throws IOException {
+        logger.warn("중복 제거 워커 재시작: " + reason);
+        restarts.incrementAndGet();
+        stop();
+        start();
+    }
+
+    private synchronized void stop() {
+        if (process == null) {
+            return;
+        }
+        Process stopping = process;
+        process = null;
+        requests = null;
+        stopping.destroy();
+        try {
+            if (!stopping.waitFor(5, TimeUnit.SECONDS)) {
+                stopping.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            stopping.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+        IOException stopped = new IOException("중복 제거 워커 중지");
+        pending.values().forEach(response -> response.completeExceptionally(stopped));
+    }
+
+    public void shutdown() {
+        healthExecutor.shutdownNow();
+        synchronized (this) {
+            if (process != null && requests != null) {
+                try {
+                    send(mapper.createObjectNode().put("op", "shutdown"));
+                    process.waitFor(5, TimeUnit.SECONDS);
+                } catch (IOException | InterruptedException e) {
+                    logger.debug("중복 제거 워커 종료 요청 실패: " + e.getMessage());
+                }
+            }
+            stop();
+        }
+    }
+}
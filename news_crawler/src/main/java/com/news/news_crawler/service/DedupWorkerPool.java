@@ -0,0 +1,113 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.util.DedupWorkerConfig;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 상주 중복 제거 워커 여러 개 (crawler.dedup.worker.count)
+ *
+ * Python 워커는 단일 스레드라 카테고리를 한 프로세스에서 순서대로 처리하면 CPU 코어 하나만 쓴다.
+ * 워커를 여러 개 띄워 두고 카테고리 하나씩 비어 있는 워커에 보내 동시에 처리한다.
+ * 워커마다 모델을 따로 읽으므로 메모리를 보고 개수를 정한다.
+ */
+@Component
+public class DedupWorkerPool {
+
+    private final DedupWorkerConfig config;
+    private final List<DedupWorker> workers = new ArrayList<>();
+    private final BlockingQueue<DedupWorker> idle = new LinkedBlockingQueue<>();
+
+    @Autowired
+    public DedupWorkerPool(Environment environment) {
+        this(DedupWorkerConfig.from(environment));
+    }
+
+    public DedupWorkerPool(DedupWorkerConfig config) {
+        this.config = config;
+        for (int i = 0; i < Math.max(1, config.getWorkerCount()); i++) {
+            DedupWorker worker = new DedupWorker(config);
+            workers.add(worker);
+            idle.add(worker);
+        }
+    }
+
+    public DedupWorkerConfig getConfig() {
+        return config;
+    }
+
+    public boolean isEnabled() {
+        return config.isWorkerEnabled();
+    }
+
+    public int size() {
+        return workers.size();
+    }
+
+    /**
+     * 지금까지 워커를 다시 띄운 횟수 (모든 워커 합)
+     */
+    public long getRestartCount() {
+        return workers.stream().mapToLong(DedupWorker::getRestartCount).sum();
+    }
+
+    /**
+     * 서버 시작 시 워커를 미리 띄움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prestart() {
+        if (config.isWorkerEnabled() && config.isPrestart()) {
+            workers.forEach(DedupWorker::prestart);
+        }
+    }
+
+    /**
+     * 카테고리 하나 중복 제거 (비어 있는 워커가 생길 때까지 대기)
+     * @param input 증분 입력 파일 (null이면 상세 파일 전체)
+     */
+    public DedupWorker.CategoryResult dedup(String date, String period, String category, Path input, CrawlProgressListener listener)
+            throws IOException, TimeoutException, InterruptedException {
+        DedupWorker worker = borrow(listener);
+        try {
+            Map<String, DedupWorker.CategoryResult> results = worker.dedup(date, period, List.of(category),
+                    input == null ? Map.of() : Map.of(category, input), listener);
+            DedupWorker.CategoryResult result = results.get(category);
+            return result != null ? result : new DedupWorker.CategoryResult("error", 0, "워커 응답에 카테고리 결과가 없습니다");
+        } finally {
+            idle.add(worker);
+        }
+    }
+
+    private DedupWorker borrow(CrawlProgressListener listener) throws InterruptedException {
+        while (true) {
+            DedupWorker worker = idle.poll(1, TimeUnit.SECONDS);
+            if (worker != null) {
+                return worker;
+            }
+            if (listener.isCancelled()) {
+                throw new CancellationException("중복 제거 처리 취소");
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.forEach(DedupWorker::shutdown);
+    }
+}
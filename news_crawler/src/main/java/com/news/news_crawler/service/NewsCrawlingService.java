@@ -1,14 +1,38 @@
 package com.news.news_crawler.service;
 
+import com.news.news_crawler.db.CrawlWorkQueue;
+import com.news.news_crawler.dedup.IncrementalDedup;
+import com.news.news_crawler.entity.NewsCategory;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.monitoring.CrawlerMetrics;
+import com.news.news_crawler.pipeline.StageDag;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.stage.RunManifest;
+import com.news.news_crawler.stage.StageFiles;
 import com.news.news_crawler.util.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 @Service
 public class NewsCrawlingService {
@@ -16,32 +40,290 @@ public class NewsCrawlingService {
     private static final Logger logger = LoggerFactory.getLogger(NewsCrawlingService.class);
     private final ExecutorService executorService = Executors.newFixedThreadPool(3);
     
+    @Autowired
+    private CrawlJobRegistry crawlJobRegistry;
+    
+    @Autowired
+    private NewsDetailCrawlEngine newsDetailCrawlEngine;
+    
+    @Autowired
+    private NewsDatabaseLoader newsDatabaseLoader;
+    
+    @Autowired
+    private DedupWorkerPool dedupWorkers;
+    
+    @Autowired
+    private CrawlQueueRunner crawlQueueRunner;
+    
+    @Autowired
+    private Environment environment;
+    
     /**
-     * 전체 크롤링 프로세스를 순차적으로 실행
+     * 전체 크롤링 프로세스를 순차적으로 실행하며 단계와 진행 상황을 job에 기록
+     * 취소 요청은 단계 사이와 각 단계 내부의 확인 지점에서 반영됨
      */
-    public void runFullCrawlingProcess() {
+    void runFullCrawlingProcess(CrawlJob job) {
         
         try {
+            if (crawlQueueRunner.isEnabled() && dedupWorkers.isEnabled()) {
+                // 여러 서버가 DB 작업 큐로 실행 하나를 나눠 처리
+                runQueued(job);
+                checkCancelled(job);
+                job.complete();
+                logger.info("[" + job.getRunId() + "] 전체 크롤링 프로세스 완료!");
+                return;
+            }
+            
+            PipelineConfig pipeline = PipelineConfig.from(environment);
+            if (pipeline.isEnabled() && dedupWorkers.isEnabled()) {
+                // 카테고리마다 목록 → 상세 → 중복 제거 → DB 저장을 독립적으로 진행
+                runPipelined(job, pipeline);
+                checkCancelled(job);
+                job.complete();
+                logger.info("[" + job.getRunId() + "] 전체 크롤링 프로세스 완료!");
+                return;
+            }
+            
             // 1단계: 뉴스 목록 크롤링
-            logger.info("1단계: 뉴스 목록 크롤링 시작");
-            runNewsListCrawling();
+            logger.info("[" + job.getRunId() + "] 1단계: 뉴스 목록 크롤링 시작");
+            job.moveTo(CrawlJob.Stage.LIST);
+            runNewsListCrawling(job.getRun(), job);
+            checkCancelled(job);
             
             // 2단계: 뉴스 상세 크롤링
-            logger.info("2단계: 뉴스 상세 크롤링 시작");
-            runNewsDetailCrawling();
+            logger.info("[" + job.getRunId() + "] 2단계: 뉴스 상세 크롤링 시작");
+            job.moveTo(CrawlJob.Stage.DETAIL);
+            runNewsDetailCrawling(job.getRun(), job);
+            checkCancelled(job);
             
-            // 3단계: 중복 제거 처리 (Python 스크립트 실행)
-            logger.info("3단계: 중복 제거 처리 시작");
-            runDeduplicationProcess();
+            if (dedupWorkers.isEnabled()) {
+                // 3~4단계: 카테고리별 중복 제거 (상주 워커 여러 개), 끝난 카테고리부터 데이터베이스 저장
+                logger.info("[" + job.getRunId() + "] 3단계: 중복 제거 처리 시작 (끝난 카테고리부터 DB 저장)");
+                job.moveTo(CrawlJob.Stage.DEDUP);
+                runDeduplicationAndInsertion(job);
+                checkCancelled(job);
+            } else {
+                // 3단계: 중복 제거 처리 (Python 스크립트 실행)
+                logger.info("[" + job.getRunId() + "] 3단계: 중복 제거 처리 시작");
+                job.moveTo(CrawlJob.Stage.DEDUP);
+                runDeduplicationProcess(job.getRun(), job);
+                checkCancelled(job);
+                
+                // 4단계: 데이터베이스 저장
+                logger.info("[" + job.getRunId() + "] 4단계: 데이터베이스 저장 시작");
+                job.moveTo(CrawlJob.Stage.DATABASE);
+                runDatabaseInsertion(job.getRun(), job);
+                checkCancelled(job);
+            }
             
-            // 4단계: 데이터베이스 저장
-            logger.info("4단계: 데이터베이스 저장 시작");
-            runDatabaseInsertion();
+            job.complete();
+            logger.info("[" + job.getRunId() + "] 전체 크롤링 프로세스 완료!");
             
-            logger.info("전체 크롤링 프로세스 완료!");
+        } catch (Exception e) {
+            if (job.isCancelled()) {
+                job.markCancelled();
+                logger.warn("[" + job.getRunId() + "] 크롤링 프로세스 취소됨 (" + job.getStage() + ")");
+            } else {
+                job.fail(e);
+                logger.error("크롤링 프로세스 중 오류 발생: " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    /**
+     * 카테고리별 단계 DAG 실행
+     * 카테고리마다 목록 → 상세 → 중복 제거 → DB 저장 노드를 잇고, 단계마다 동시 실행 수를 제한한다.
+     * 단계 사이에 전체 장벽이 없으므로 느린 카테고리가 다른 카테고리의 저장을 막지 않으며
+     * 실패한 노드만 재시도하고, 끝내 실패하면 그 카테고리의 뒤 단계만 건너뛴다.
+     * job 단계는 아직 끝나지 않은 노드가 있는 가장 앞 단계로 표시한다.
+     */
+    private void runPipelined(CrawlJob job, PipelineConfig pipeline) throws InterruptedException {
+        RunContext run = job.getRun();
+        DetailCrawlConfig detailConfig = newsDetailCrawlEngine.defaultConfig();
+        
+        CsvToDatabase.Session db = null;
+        try {
+            db = newsDatabaseLoader.openSession(run);
+        } catch (Exception e) {
+            logger.error("데이터베이스 저장 준비 실패 (DB 저장 없이 실행): " + e.getMessage(), e);
+        }
+        
+        StageDag dag = new StageDag(pipeline.getMaxAttempts(), pipeline.getRetryDelayMillis(), job)
+                .stage(CrawlJob.Stage.LIST.name(), pipeline.getListParallelism())
+                .stage(CrawlJob.Stage.DETAIL.name(), pipeline.getDetailParallelism())
+                .stage(CrawlJob.Stage.DEDUP.name(), dedupWorkers.size())
+                .stage(CrawlJob.Stage.DATABASE.name(), newsDatabaseLoader.defaultConfig().getCategoryParallelism());
+        CsvToDatabase.Session session = db;
+        for (NewsCategory newsCategory : NewsCategory.values()) {
+            String category = newsCategory.getLabel();
+            Path listFile = run.listFile(category);
             
+            StageDag.Node list = dag.node(category + "/list", CrawlJob.Stage.LIST.name(), () -> {
+                NaverNewsListEfficientCrawler.crawlCategory(category, pipeline.getListTargetCount(), run, job);
+                if (!StageFiles.exists(listFile)) {
+                    throw new IllegalStateException("목록 파일이 없습니다: " + listFile.getFileName());
+                }
+            });
+            StageDag.Node detail = dag.node(category + "/detail", CrawlJob.Stage.DETAIL.name(), () -> {
+                int saved = newsDetailCrawlEngine.runFile(detailConfig, StageFiles.resolveForRead(listFile).toFile(), job);
+                logger.info("[" + category + "] 상세 크롤링 완료 (" + saved + "개)");
+            }, list);
+            StageDag.Node dedup = dag.node(category + "/dedup", CrawlJob.Stage.DEDUP.name(), () -> {
+                if (!dedupCategory(run, category, job) && session != null) {
+                    session.skip(category); // 목록이 비어 상세 파일이 없음 - 저장 노드는 할 일 없이 끝남
+                }
+            }, detail);
+            if (session != null) {
+                dag.node(category + "/database", CrawlJob.Stage.DATABASE.name(), () -> session.load(category, job), dedup);
+            }
+        }
+        
+        job.moveTo(CrawlJob.Stage.LIST);
+        dag.onFinished(result -> {
+            if (result.status() == StageDag.Status.FAILED) {
+                logger.error("[" + job.getRunId() + "] " + result.id() + " 실패 (" + result.attempts() + "회 시도): "
+                        + result.error().getMessage(), result.error());
+            } else if (result.status() != StageDag.Status.SUCCEEDED) {
+                logger.warn("[" + job.getRunId() + "] " + result.id() + " " + result.status());
+            }
+            advanceStage(job, dag.earliestUnfinishedStage());
+        });
+        logger.info("[" + job.getRunId() + "] 카테고리별 단계 실행 시작 (" + NewsCategory.values().length + "개 카테고리)");
+        
+        Map<String, StageDag.NodeResult> results;
+        try {
+            results = dag.run();
+        } finally {
+            if (session != null) {
+                session.close();
+            }
+        }
+        
+        List<String> failed = results.values().stream()
+                .filter(result -> result.status() == StageDag.Status.FAILED)
+                .map(StageDag.NodeResult::id)
+                .toList();
+        if (!failed.isEmpty()) {
+            throw new RuntimeException("실패한 단계가 있습니다 (다른 카테고리는 저장됨): " + String.join(", ", failed));
+        }
+    }
+    
+    /**
+     * DB 작업 큐로 여러 서버가 같은 실행(날짜_시간대)을 나눠 처리
+     * 카테고리 목록 → 목록 링크 샤드별 상세 → 샤드 합치기·중복 제거·DB 저장 작업을 어느 서버든 가져가 처리하며,
+     * 이 서버는 큐에 남은 작업이 없을 때 끝난다. 모든 서버가 static 폴더를 공유해야 함
+     */
+    private void runQueued(CrawlJob job) throws Exception {
+        RunContext run = job.getRun();
+        DetailCrawlConfig detailConfig = newsDetailCrawlEngine.defaultConfig();
+        int listTargetCount = PipelineConfig.from(environment).getListTargetCount();
+        List<String> categories = Arrays.stream(NewsCategory.values()).map(NewsCategory::getLabel).toList();
+        
+        CsvToDatabase.Session db = null;
+        try {
+            db = newsDatabaseLoader.openSession(run);
         } catch (Exception e) {
-            logger.error("크롤링 프로세스 중 오류 발생: " + e.getMessage(), e);
+            logger.error("데이터베이스 저장 준비 실패 (DB 저장 없이 실행): " + e.getMessage(), e);
+        }
+        CsvToDatabase.Session session = db;
+        
+        job.moveTo(CrawlJob.Stage.LIST);
+        CrawlWorkQueue.Progress progress;
+        try {
+            progress = crawlQueueRunner.drain(run.getRunKey(), categories, job, item -> {
+                String category = item.category();
+                Path listFile = run.listFile(category);
+                Path detailDir = run.getDetailDirectory();
+                advanceStage(job, item.kind().name());
+                switch (item.kind()) {
+                    case LIST -> {
+                        StageFiles.delete(listFile); // 다시 가져간 작업이 이전 시도의 목록에 이어 쓰지 않도록
+                        NaverNewsListEfficientCrawler.crawlCategory(category, listTargetCount, run, job);
+                        if (!StageFiles.exists(listFile)) {
+                            throw new IllegalStateException("목록 파일이 없습니다: " + listFile.getFileName());
+                        }
+                    }
+                    case DETAIL -> {
+                        int saved = newsDetailCrawlEngine.runShard(detailConfig, StageFiles.resolveForRead(listFile).toFile(),
+                                item.shard(), item.shardCount(), detailShardPath(detailDir, category, run.getPeriod(), item.shard(), item.shardCount()), job);
+                        logger.info("[" + category + "] 상세 샤드 " + item.shard() + "/" + item.shardCount() + " 완료 (" + saved + "개)");
+                    }
+                    case DEDUP -> {
+                        if (session == null) {
+                            // 완료로 표시하면 이 카테고리는 DB에 저장되지 않은 채 끝나므로 실패시켜 다시 예약되게 함
+                            throw new IllegalStateException("데이터베이스 저장 준비에 실패해 중복 제거·DB 저장을 진행할 수 없습니다: " + category);
+                        }
+                        List<Path> shards = new ArrayList<>();
+                        for (int shard = 0; shard < item.shardCount(); shard++) {
+                            shards.add(detailShardPath(detailDir, category, run.getPeriod(), shard, item.shardCount()));
+                        }
+                        int merged = NewsDetailBatchProcessor.mergeShards(shards, run.detailFile(category),
+                                detailConfig.isTitleCandidates());
+                        logger.info("[" + category + "] 상세 샤드 합침 (" + merged + "개)");
+                        if (dedupCategory(run, category, job)) {
+                            session.load(category, job);
+                        }
+                    }
+                }
+            });
+        } finally {
+            if (session != null) {
+                session.close();
+            }
+        }
+        
+        logger.info("[" + job.getRunId() + "] 작업 큐 처리 끝: 완료 " + progress.done() + "개, 실패 " + progress.failed() + "개");
+        if (progress.failed() > 0) {
+            throw new RuntimeException("실패한 작업이 있습니다 (" + progress.failed() + "개, crawl_work_item 테이블 참고)");
+        }
+    }
+    
+    // 상세 샤드 출력 (detail/shards 아래 - 중복 제거 입력으로 읽히지 않도록 카테고리 상세 파일과 분리)
+    private static Path detailShardPath(Path detailDir, String category, String period, int shard, int shardCount) {
+        return detailDir.resolve("shards").resolve("naver_news_" + category + "_" + period + "_detailed_"
+                + shard + "of" + shardCount + StageFiles.CSV_EXTENSION);
+    }
+    
+    // 단계 표시는 앞으로만 이동 (완료 알림은 여러 단계 스레드에서 옴)
+    private synchronized void advanceStage(CrawlJob job, String earliestUnfinished) {
+        CrawlJob.Stage next = earliestUnfinished == null ? CrawlJob.Stage.DATABASE : CrawlJob.Stage.valueOf(earliestUnfinished);
+        if (next.ordinal() > job.getStage().ordinal() && !job.isCancelled()) {
+            job.moveTo(next);
+        }
+    }
+    
+    // 카테고리 하나 중복 제거 (상주 워커) - 워커 오류는 예외로 던져 노드를 재시도
+    // 저장할 결과가 있으면 true, 입력 파일이 없어(목록이 비어 상세를 쓰지 않음) 건너뛰었으면 false
+    private boolean dedupCategory(RunContext run, String category, CrawlProgressListener listener) throws Exception {
+        IncrementalDedup.Plan plan = planDeduplication(run, category);
+        if (plan.mode() == IncrementalDedup.Mode.SKIP) {
+            recordDedupOutput(run);
+            return true; // 이전 결과 그대로 - 저장된 기사는 oid_aid 확인에서 걸러짐
+        }
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            DedupWorker.CategoryResult result = dedupWorkers.dedup(run.getDate(), run.getPeriod(), category, plan.input(), listener);
+            if (!result.isOk() && !result.isMissing()) {
+                throw new IllegalStateException("중복 제거 " + result.status() + ": " + result.error());
+            }
+            if (result.isOk()) {
+                logger.info("[" + category + "] 중복 제거 완료 (" + result.seconds() + "초)");
+                completeDeduplication(plan);
+                recordDedupOutput(run);
+            } else {
+                logger.warn("[" + category + "] 중복 제거 입력 파일 없음 - 건너뜀");
+            }
+            succeeded = true;
+            return result.isOk();
+        } finally {
+            CrawlerMetrics.recordDedup(System.nanoTime() - start, succeeded);
+        }
+    }
+    
+    private void checkCancelled(CrawlJob job) {
+        if (job.isCancelled()) {
+            throw new CancellationException("크롤링 실행이 취소되었습니다: " + job.getRunId());
         }
     }
     
@@ -49,10 +331,12 @@ public class NewsCrawlingService {
      * 뉴스 목록 크롤링 실행
      */
     public void runNewsListCrawling() {
+        runNewsListCrawling(newRun(), CrawlProgressListener.NOOP);
+    }
+    
+    private void runNewsListCrawling(RunContext run, CrawlProgressListener listener) {
         try {
-            // NaverNewsListEfficientCrawler의 main 메서드 호출
-            String[] args = {"100"}; // 목표 개수 100개
-            NaverNewsListEfficientCrawler.main(args);
+            NaverNewsListEfficientCrawler.crawl(100, run, listener); // 목표 개수 100개
             logger.info("뉴스 목록 크롤링 완료");
         } catch (Exception e) {
             logger.error("뉴스 목록 크롤링 실패: " + e.getMessage(), e);
@@ -64,9 +348,17 @@ public class NewsCrawlingService {
      * 뉴스 상세 크롤링 실행
      */
     public void runNewsDetailCrawling() {
+        runNewsDetailCrawling(null, CrawlProgressListener.NOOP);
+    }
+    
+    // run이 null이면 현재 시간대 폴더 (없으면 실행 목록의 가장 최근 목록 폴더)
+    private void runNewsDetailCrawling(RunContext run, CrawlProgressListener listener) {
         try {
-            // NewsDetailBatchProcessor의 main 메서드 호출
-            NewsDetailBatchProcessor.main(new String[]{});
+            if (run != null) {
+                newsDetailCrawlEngine.run(run, listener);
+            } else {
+                newsDetailCrawlEngine.run(listener);
+            }
             logger.info("뉴스 상세 크롤링 완료");
         } catch (Exception e) {
             logger.error("뉴스 상세 크롤링 실패: " + e.getMessage(), e);
@@ -75,9 +367,217 @@ public class NewsCrawlingService {
     }
     
     /**
-     * 중복 제거 처리 실행 (Python 스크립트)
+     * 지난 날짜/시간 폴더의 상세 크롤링을 별도 세션으로 재실행 (백필)
+     * 정기 실행과 스레드 풀/카운터를 공유하지 않으므로 실행 중인 크롤링과 동시에 돌릴 수 있음
+     * 실행으로 등록해 백그라운드에서 처리하므로 상태 조회/스트림/취소 API를 그대로 쓸 수 있음
+     * @param folder static 기준 상대 경로 (예: am/2025-08-01_am)
+     * @param maxConcurrency 세션 최대 동시 요청 수 (null이면 기본값, 1 이상)
+     * @throws IllegalArgumentException 폴더 형식이 틀렸거나 없는 폴더, 동시 요청 수가 1 미만
+     * @throws IllegalStateException 정기 실행이나 다른 백필이 같은 폴더를 처리 중
+     */
+    public CrawlJob startDetailBackfill(String folder, Integer maxConcurrency) {
+        if (folder == null || !folder.matches("(am|pm)/\\d{4}-\\d{2}-\\d{2}_\\1")) {
+            throw new IllegalArgumentException("폴더 형식이 올바르지 않습니다 (예: am/2025-08-01_am): " + folder);
+        }
+        if (maxConcurrency != null && maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency는 1 이상이어야 합니다: " + maxConcurrency);
+        }
+        String period = folder.substring(0, 2);
+        RunContext run = RunContext.of(folder.substring(3, 13), period, dedupWorkers.getConfig().getStaticBase());
+        File target = run.getRunFolder().toFile();
+        if (!target.isDirectory()) {
+            throw new IllegalArgumentException("폴더가 존재하지 않습니다: " + folder);
+        }
+        
+        DetailCrawlConfig defaults = newsDetailCrawlEngine.defaultConfig();
+        DetailCrawlConfig config = maxConcurrency == null ? defaults : defaults.toBuilder()
+                .maxConcurrency(maxConcurrency)
+                .initialConcurrency(Math.min(defaults.getInitialConcurrency(), maxConcurrency))
+                .minConcurrency(Math.min(defaults.getMinConcurrency(), maxConcurrency))
+                .build();
+        
+        CrawlJob job = crawlJobRegistry.createExclusive(run, "backfill");
+        submit(job, () -> {
+            logger.info("[" + job.getRunId() + "] 상세 크롤링 백필 시작: " + folder);
+            job.moveTo(CrawlJob.Stage.DETAIL);
+            newsDetailCrawlEngine.run(config, target, job);
+            checkCancelled(job);
+            job.complete();
+            logger.info("[" + job.getRunId() + "] 상세 크롤링 백필 완료: " + folder);
+        });
+        return job;
+    }
+    
+    /**
+     * 중복 제거 처리 실행 (상주 Python 워커, 꺼져 있으면 스크립트를 새로 실행)
      */
     public void runDeduplicationProcess() {
+        runDeduplicationProcess(newRun(), CrawlProgressListener.NOOP);
+    }
+    
+    private void runDeduplicationProcess(RunContext run, CrawlProgressListener listener) {
+        if (dedupWorkers.isEnabled()) {
+            runDeduplicationWithWorkers(run, listener, null);
+        } else {
+            runDeduplicationScript(run, listener);
+        }
+    }
+    
+    // 상주 워커들에 카테고리를 하나씩 나눠 동시에 처리 (모델/형태소 분석기는 워커가 이미 읽어 둠)
+    // db가 있으면 카테고리 중복 제거가 끝나는 대로 그 카테고리의 DB 저장을 시작
+    private void runDeduplicationWithWorkers(RunContext run, CrawlProgressListener listener, CsvToDatabase.Session db) {
+        String date = run.getDate();
+        String period = run.getPeriod();
+        long dedupStart = System.nanoTime();
+        boolean dedupSucceeded = false;
+        ExecutorService dedupExecutor = Executors.newFixedThreadPool(dedupWorkers.size());
+        try {
+            Map<String, IncrementalDedup.Plan> plans = planDeduplication(run);
+            Map<String, Future<DedupWorker.CategoryResult>> futures = new LinkedHashMap<>();
+            for (Map.Entry<String, IncrementalDedup.Plan> entry : plans.entrySet()) {
+                String category = entry.getKey();
+                IncrementalDedup.Plan plan = entry.getValue();
+                if (plan.mode() == IncrementalDedup.Mode.SKIP) {
+                    recordDedupOutput(run);
+                    if (db != null) {
+                        db.submit(category, listener); // 이전 결과 그대로 - 저장된 기사는 oid_aid 확인에서 걸러짐
+                    }
+                    continue;
+                }
+                futures.put(category, dedupExecutor.submit(() -> {
+                    DedupWorker.CategoryResult result = dedupWorkers.dedup(date, period, category, plan.input(), listener);
+                    if (result.isOk()) {
+                        logger.info("[" + category + "] 중복 제거 완료 (" + result.seconds() + "초)");
+                        completeDeduplication(plan);
+                        recordDedupOutput(run);
+                        if (db != null) {
+                            db.submit(category, listener);
+                        }
+                    } else if (result.isMissing()) {
+                        logger.warn("[" + category + "] 중복 제거 입력 파일 없음 - 건너뜀");
+                    } else {
+                        // error 등 - 아래에서 실패로 모아 실행을 실패 처리
+                        throw new IllegalStateException("중복 제거 " + result.status() + ": " + result.error());
+                    }
+                    return result;
+                }));
+            }
+            if (futures.isEmpty()) {
+                logger.info("중복 제거: 모든 카테고리가 이전 실행 이후 바뀐 기사가 없어 건너뜀");
+            } else {
+                logger.info("중복 제거 워커 " + dedupWorkers.size() + "개에 작업 요청: " + date + "_" + period
+                        + " (" + futures.size() + "개 카테고리)");
+            }
+
+            Throwable failure = null;
+            for (Map.Entry<String, Future<DedupWorker.CategoryResult>> entry : futures.entrySet()) {
+                try {
+                    entry.getValue().get();
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof CancellationException cancelled) {
+                        throw cancelled;
+                    }
+                    logger.error("[" + entry.getKey() + "] 중복 제거 처리 중 오류: " + e.getCause().getMessage(), e.getCause());
+                    failure = e.getCause();
+                }
+            }
+            if (failure != null) {
+                throw new RuntimeException("중복 제거 처리 실패", failure);
+            }
+            dedupSucceeded = true;
+            logger.info("중복 제거 처리 완료");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("중복 제거 처리 중단");
+        } finally {
+            dedupExecutor.shutdownNow();
+            CrawlerMetrics.recordDedup(System.nanoTime() - dedupStart, dedupSucceeded);
+        }
+    }
+    
+    // 중복 제거(워커)와 DB 저장을 카테고리 단위로 이어서 실행 - 먼저 끝난 카테고리는 다른 카테고리의 중복 제거 중에 저장됨
+    private void runDeduplicationAndInsertion(CrawlJob job) {
+        RunContext run = job.getRun();
+        CsvToDatabase.Session db = null;
+        try {
+            db = newsDatabaseLoader.openSession(run);
+        } catch (Exception e) {
+            logger.error("데이터베이스 저장 준비 실패 (중복 제거만 실행): " + e.getMessage(), e);
+        }
+        try {
+            runDeduplicationWithWorkers(run, job, db);
+            checkCancelled(job);
+            
+            logger.info("[" + job.getRunId() + "] 4단계: 남은 데이터베이스 저장 대기");
+            job.moveTo(CrawlJob.Stage.DATABASE);
+            if (db != null) {
+                db.awaitAll();
+                logger.info("데이터베이스 저장 완료");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("데이터베이스 저장 대기 중단");
+        } finally {
+            if (db != null) {
+                db.close(); // 이미 시작한 카테고리 저장은 끝까지 기다림
+            }
+        }
+    }
+    
+    // 카테고리별 증분 계획 (꺼져 있으면 모두 전체 실행, 계획 실패도 전체 실행)
+    private Map<String, IncrementalDedup.Plan> planDeduplication(RunContext run) {
+        Map<String, IncrementalDedup.Plan> plans = new LinkedHashMap<>();
+        for (NewsCategory newsCategory : NewsCategory.values()) {
+            plans.put(newsCategory.getLabel(), planDeduplication(run, newsCategory.getLabel()));
+        }
+        return plans;
+    }
+    
+    private IncrementalDedup.Plan planDeduplication(RunContext run, String category) {
+        DedupWorkerConfig config = dedupWorkers.getConfig();
+        IncrementalDedup.Plan plan = null;
+        if (config.isIncremental()) {
+            try {
+                plan = new IncrementalDedup(config.getIncrementalMaxDeltaRatio()).plan(run, category);
+            } catch (IOException e) {
+                logger.warn("[" + category + "] 증분 중복 제거 계획 실패 (전체 실행): " + e.getMessage());
+            }
+        }
+        if (plan == null) {
+            plan = new IncrementalDedup.Plan(category, IncrementalDedup.Mode.FULL, null, null, Map.of(), 0, 0);
+        } else if (plan.mode() == IncrementalDedup.Mode.SKIP) {
+            logger.info("[" + category + "] 바뀐 기사 없음 - 중복 제거 건너뜀");
+        } else if (plan.mode() == IncrementalDedup.Mode.DELTA) {
+            logger.info("[" + category + "] 증분 중복 제거: 바뀐 기사 " + plan.deltaRows() + "개 + 이전 대표 기사 " + plan.representatives() + "개");
+        }
+        return plan;
+    }
+    
+    // 작업이 성공한 카테고리의 매니페스트 갱신 (실패하면 다음 실행이 다시 비교)
+    private void completeDeduplication(IncrementalDedup.Plan plan) {
+        if (plan == null || plan.manifest() == null) {
+            return;
+        }
+        try {
+            IncrementalDedup.complete(plan);
+        } catch (IOException e) {
+            logger.warn("[" + plan.category() + "] 증분 중복 제거 매니페스트 갱신 실패: " + e.getMessage());
+        }
+    }
+    
+    // 실행 목록에 중복 제거 결과 폴더 기록 - DB 저장 단계가 폴더를 훑지 않고 바로 찾음 (실패해도 결과에는 영향 없음)
+    private void recordDedupOutput(RunContext run) {
+        try {
+            run.record(RunManifest.Stage.DEDUP);
+        } catch (IOException e) {
+            logger.warn("실행 목록 기록 실패: " + e.getMessage());
+        }
+    }
+    
+    // 실행마다 run_all_categories.py를 새로 띄우는 방식 (crawler.dedup.worker.enabled=false)
+    private void runDeduplicationScript(RunContext run, CrawlProgressListener listener) {
+        long dedupStart = System.nanoTime();
+        boolean dedupSucceeded = false;
         try {
             // Python 스크립트 실행을 위한 ProcessBuilder 사용
             ProcessBuilder processBuilder = new ProcessBuilder();
@@ -87,14 +587,15 @@ public class NewsCrawlingService {
             processBuilder.directory(new File(projectRoot));
             
             // Python 스크립트 실행 명령어
-            String pythonScript = "duplicate_detector/run_all_categories.py";
+            String pythonScript = dedupWorkers.getConfig().getOneShotScript().toString();
             
-            // 운영체제에 따라 명령어 설정
-            if (System.getProperty("os.name").toLowerCase().contains("windows")) {
-                processBuilder.command("python", pythonScript);
-            } else {
-                processBuilder.command("python3", pythonScript);
-            }
+            // 운영체제에 따라 명령어 설정 (기본값 python / python3)
+            processBuilder.command(dedupWorkers.getConfig().getPythonCommand(), pythonScript);
+            
+            // 출력 압축 방식을 Python 단계와 맞춤
+            processBuilder.environment().put(StageFiles.COMPRESSION_ENV, StageFiles.getCompression().configName());
+            // 스크립트가 시각을 다시 계산하지 않고 이 실행의 날짜/시간대 폴더를 처리하도록 전달
+            run.putEnvironment(processBuilder.environment());
             
             logger.info("Python 중복 제거 스크립트 실행: " + pythonScript);
             
@@ -139,15 +640,32 @@ public class NewsCrawlingService {
             outputThread.start();
             errorThread.start();
 
-            // 프로세스 완료 대기 (최대 30분)
-            int exitCode = process.waitFor();
+            // 프로세스 완료 대기 (취소 요청이나 대기 한도 초과 시 Python 프로세스 종료)
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(dedupWorkers.getConfig().getJobTimeoutSeconds());
+            try {
+                while (!process.waitFor(1, TimeUnit.SECONDS)) {
+                    if (listener.isCancelled()) {
+                        throw new CancellationException("중복 제거 처리 취소");
+                    }
+                    if (System.nanoTime() > deadline) {
+                        process.destroyForcibly();
+                        throw new TimeoutException("중복 제거 스크립트 대기 한도 초과");
+                    }
+                }
+            } catch (InterruptedException | CancellationException e) {
+                process.destroyForcibly();
+                throw e;
+            }
+            int exitCode = process.exitValue();
             
             // 스레드들이 완료될 때까지 대기
             outputThread.join(5000);
             errorThread.join(5000);
 
             if (exitCode == 0) {
+                dedupSucceeded = true;
                 logger.info("중복 제거 처리 완료");
+                recordDedupOutput(run);
                 logger.info("Python 스크립트 출력: " + output.toString());
             } else {
                 logger.error("중복 제거 처리 실패 (종료 코드: " + exitCode + ")");
@@ -158,6 +676,8 @@ public class NewsCrawlingService {
         } catch (Exception e) {
             logger.error("중복 제거 처리 중 오류: " + e.getMessage(), e);
             throw new RuntimeException("중복 제거 처리 실패", e);
+        } finally {
+            CrawlerMetrics.recordDedup(System.nanoTime() - dedupStart, dedupSucceeded);
         }
     }
     
@@ -165,9 +685,17 @@ public class NewsCrawlingService {
      * 데이터베이스 저장 실행
      */
     public void runDatabaseInsertion() {
+        runDatabaseInsertion(null, CrawlProgressListener.NOOP);
+    }
+    
+    // run이 null이면 실행 목록에서 중복 제거 결과가 있는 가장 최근 실행을 저장
+    private void runDatabaseInsertion(RunContext run, CrawlProgressListener listener) {
         try {
-            // CsvToDatabase의 main 메서드 호출
-            CsvToDatabase.main(new String[]{});
+            if (run != null) {
+                newsDatabaseLoader.run(run, listener);
+            } else {
+                newsDatabaseLoader.run(listener);
+            }
             logger.info("데이터베이스 저장 완료");
         } catch (Exception e) {
             logger.error("데이터베이스 저장 실패: " + e.getMessage(), e);
@@ -176,10 +704,41 @@ public class NewsCrawlingService {
     }
     
     /**
-     * 비동기로 크롤링 프로세스 실행
+     * 새 실행을 등록하고 백그라운드에서 전체 크롤링 프로세스 시작
+     * 중복 실행 방지를 위해 {@link CrawlRunCoordinator}를 통해서만 호출
+     * @param trigger 실행 주체 (manual, scheduled 등)
      */
-    public CompletableFuture<Void> runFullCrawlingProcessAsync() {
-        return CompletableFuture.runAsync(this::runFullCrawlingProcess, executorService);
+    CrawlJob startFullCrawlingProcess(String trigger) {
+        CrawlJob job = crawlJobRegistry.createExclusive(newRun(), trigger); // 같은 폴더의 백필이 끝나기 전에는 시작하지 않음
+        submit(job, () -> runFullCrawlingProcess(job));
+        return job;
+    }
+    
+    // 실행을 백그라운드 풀에서 시작 (취소 시 인터럽트할 스레드 등록)
+    // 본문이 던진 예외는 실행 실패/취소로 기록 - runFullCrawlingProcess는 스스로 기록하므로 던지지 않음
+    private void submit(CrawlJob job, Runnable body) {
+        job.setFuture(CompletableFuture.runAsync(() -> {
+            job.attachWorker(Thread.currentThread());
+            try {
+                body.run();
+            } catch (Exception e) {
+                if (job.isCancelled()) {
+                    job.markCancelled();
+                    logger.warn("[" + job.getRunId() + "] 실행 취소됨 (" + job.getStage() + ")");
+                } else {
+                    job.fail(e);
+                    logger.error("[" + job.getRunId() + "] 실행 실패: " + e.getMessage(), e);
+                }
+            } finally {
+                job.detachWorker();
+                Thread.interrupted(); // 취소 인터럽트가 풀 스레드에 남지 않도록 정리
+            }
+        }, executorService));
+    }
+    
+    // 지금 시작하는 실행 - 날짜/시간대를 여기서 한 번 정하고 모든 단계가 공유
+    private RunContext newRun() {
+        return RunContext.start(LocalDateTime.now(), dedupWorkers.getConfig().getStaticBase());
     }
     
     /**
@@ -0,0 +1,95 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.db.JpaNewsWriter;
+import com.news.news_crawler.db.NewsFingerprintIndex;
+import com.news.news_crawler.db.OidAidFilter;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.util.CsvToDatabase;
+import com.news.news_crawler.util.DbLoadConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * DB 저장 단계 실행기
+ *
+ * 애플리케이션의 커넥션 풀(DataSource)을 그대로 써서 {@link CsvToDatabase}를 실행한다.
+ * 실행마다 스프링 컨텍스트를 새로 띄우거나 DriverManager로 연결을 직접 열지 않는다.
+ * 기존 oid_aid 필터와 기사 지문 색인은 처음 한 번 읽고 실행 사이에 유지하면서 저장한 기사를 계속 더한다.
+ */
+@Component
+public class NewsDatabaseLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsDatabaseLoader.class);
+
+    private final DataSource dataSource;
+    private final DbLoadConfig defaultConfig;
+    private final OidAidFilter oidFilter;
+    private final JpaNewsWriter jpaWriter;
+    private final NewsFingerprintIndex fingerprints;
+
+    public NewsDatabaseLoader(DataSource dataSource, Environment environment, JpaNewsWriter jpaWriter) {
+        this.dataSource = dataSource;
+        this.jpaWriter = jpaWriter;
+        this.defaultConfig = DbLoadConfig.from(environment);
+        this.oidFilter = new OidAidFilter(defaultConfig.getOidFilterFpp());
+        this.fingerprints = defaultConfig.newFingerprintIndex(); // 꺼져 있으면 null
+    }
+
+    public DbLoadConfig defaultConfig() {
+        return defaultConfig;
+    }
+
+    /**
+     * 서버 시작 시 기존 oid_aid 필터 미리 읽기 (실패하면 첫 저장 때 다시 시도)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOidFilter() {
+        if (!defaultConfig.isOidFilterEnabled()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            oidFilter.ensureLoaded(connection);
+        } catch (SQLException e) {
+            logger.warn("oid_aid 필터 로드 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 기본 설정으로 최신 중복 제거 결과 저장
+     */
+    public void run(CrawlProgressListener listener) {
+        run(defaultConfig, listener);
+    }
+
+    public void run(DbLoadConfig config, CrawlProgressListener listener) {
+        newCsvToDatabase(config).run(listener);
+    }
+
+    /**
+     * 기본 설정으로 실행 하나의 중복 제거 결과 저장
+     */
+    public void run(RunContext run, CrawlProgressListener listener) {
+        newCsvToDatabase(defaultConfig).run(run, listener);
+    }
+
+    /**
+     * 실행 하나의 카테고리별 저장 세션 (중복 제거가 끝난 카테고리부터 바로 저장)
+     */
+    public CsvToDatabase.Session openSession(RunContext run) throws SQLException {
+        return newCsvToDatabase(defaultConfig).openSession(run);
+    }
+
+    private CsvToDatabase newCsvToDatabase(DbLoadConfig config) {
+        return new CsvToDatabase(dataSource, config, config.isOidFilterEnabled() ? oidFilter : null, jpaWriter,
+                config.isFingerprintEnabled() ? fingerprints : null);
+    }
+}
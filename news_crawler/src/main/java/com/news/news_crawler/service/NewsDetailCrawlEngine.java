@@ -0,0 +1,132 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.monitoring.CrawlerMetrics;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.util.DetailCrawlConfig;
+import com.news.news_crawler.util.NewsDetailBatchProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상세 크롤링 엔진
+ *
+ * 실행마다 독립된 세션({@link NewsDetailBatchProcessor} 인스턴스)을 만들어
+ * 스레드 풀, 성공/실패 카운터, 동시성 한도를 세션 안에 가둔다.
+ * 정기 크롤링과 백필처럼 서로 다른 설정의 실행을 한 JVM에서 동시에 돌릴 수 있다.
+ */
+@Component
+public class NewsDetailCrawlEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsDetailCrawlEngine.class);
+
+    private final Set<NewsDetailBatchProcessor> activeSessions = ConcurrentHashMap.newKeySet();
+    private final DetailCrawlConfig defaultConfig;
+
+    public NewsDetailCrawlEngine(
+            @Value("${crawler.detail.batch-size:5}") int batchSize,
+            @Value("${crawler.detail.initial-concurrency:1}") int initialConcurrency,
+            @Value("${crawler.detail.max-concurrency:3}") int maxConcurrency,
+            @Value("${crawler.detail.min-concurrency:1}") int minConcurrency,
+            @Value("${crawler.detail.connection-timeout-ms:30000}") int connectionTimeoutMillis,
+            @Value("${crawler.detail.retry-attempts:3}") int retryAttempts,
+            @Value("${crawler.detail.retry-delay-ms:5000}") long retryDelayMillis,
+            @Value("${crawler.detail.title-candidates:true}") boolean titleCandidates) {
+        this.defaultConfig = DetailCrawlConfig.builder()
+                .batchSize(batchSize)
+                .initialConcurrency(initialConcurrency)
+                .maxConcurrency(maxConcurrency)
+                .minConcurrency(minConcurrency)
+                .connectionTimeoutMillis(connectionTimeoutMillis)
+                .retryAttempts(retryAttempts)
+                .retryDelayMillis(retryDelayMillis)
+                .titleCandidates(titleCandidates)
+                .build();
+        CrawlerMetrics.registerConcurrencyGauge(this::totalConcurrency);
+    }
+
+    /**
+     * 애플리케이션 설정으로 만든 기본 세션 설정 (toBuilder()로 실행별 값 덮어쓰기)
+     */
+    public DetailCrawlConfig defaultConfig() {
+        return defaultConfig;
+    }
+
+    /**
+     * 기본 설정으로 현재 시간 기준 최신 폴더 처리
+     */
+    public void run(CrawlProgressListener listener) {
+        run(defaultConfig, null, listener);
+    }
+
+    /**
+     * 기본 설정으로 실행 하나의 목록 폴더 처리 (폴더를 찾지 않고 실행의 날짜/시간대 폴더를 바로 사용)
+     */
+    public void run(RunContext run, CrawlProgressListener listener) {
+        run(defaultConfig, run.getRunFolder().toFile(), listener);
+    }
+
+    /**
+     * 새 세션을 만들어 상세 크롤링 실행 (호출 스레드에서 끝날 때까지 실행)
+     * @param folder 처리할 날짜/시간 폴더 (null이면 최신 폴더)
+     */
+    public void run(DetailCrawlConfig config, File folder, CrawlProgressListener listener) {
+        NewsDetailBatchProcessor session = new NewsDetailBatchProcessor(config, listener);
+        activeSessions.add(session);
+        logger.info("상세 크롤링 세션 시작 (동시 실행 세션: " + activeSessions.size() + ", 최대 동시성: " + config.getMaxConcurrency() + ")");
+        try {
+            session.run(folder);
+        } finally {
+            activeSessions.remove(session);
+        }
+    }
+
+    /**
+     * 새 세션을 만들어 목록 파일 하나만 상세 크롤링 (카테고리별 파이프라인용)
+     * @return 상세 파일에 저장한 기사 수
+     */
+    public int runFile(DetailCrawlConfig config, File listCsv, CrawlProgressListener listener) {
+        NewsDetailBatchProcessor session = new NewsDetailBatchProcessor(config, listener);
+        activeSessions.add(session);
+        try {
+            return session.runFile(listCsv);
+        } finally {
+            activeSessions.remove(session);
+        }
+    }
+
+    /**
+     * 새 세션을 만들어 목록 파일의 샤드 하나만 상세 크롤링 (여러 서버가 작업 큐로 나눠 처리할 때)
+     * @return 샤드 상세 파일에 저장한 기사 수
+     */
+    public int runShard(DetailCrawlConfig config, File listCsv, int shard, int shardCount, Path shardOutput,
+                        CrawlProgressListener listener) throws IOException {
+        NewsDetailBatchProcessor session = new NewsDetailBatchProcessor(config, listener);
+        activeSessions.add(session);
+        try {
+            return session.runShard(listCsv, shard, shardCount, shardOutput);
+        } finally {
+            activeSessions.remove(session);
+        }
+    }
+
+    public int activeSessionCount() {
+        return activeSessions.size();
+    }
+
+    private int totalConcurrency() {
+        int total = 0;
+        for (NewsDetailBatchProcessor session : activeSessions) {
+            total += session.getCurrentConcurrency();
+        }
+        return total;
+    }
+}
@@ -0,0 +1,329 @@
+package com.news.news_crawler.stage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼형 바이너리 중간 파일(.ncol) 리더 (형식은 {@link ColumnarWriter} 참고)
+ *
+ * 파일 전체를 메모리 매핑(압축 파일은 풀어서 힙에 적재)하고, 행 그룹 안에서 컬럼마다 커서를 두어 실제로 조회한 필드만 디코딩한다.
+ * 사전 인코딩 컬럼은 파일을 열 때 사전만 한 번 디코딩한다.
+ */
+public class ColumnarReader implements RecordReader {
+
+    private final Closeable resource;
+    private final ByteBuffer data;
+    private final List<String> header;
+    private final Map<String, Integer> headerIndex = new HashMap<>();
+    private final boolean[] dictionaryColumns;
+    private final String[][] dictionaries;
+    private final long[] groupOffsets;
+    private final int[] groupRows;
+    private final long totalRows;
+
+    // 현재 행 그룹의 컬럼별 커서
+    private final int[] columnPositions;
+    private final int[] columnRows;
+    private int group = -1;
+    private int rowInGroup;
+    private long recordNumber;
+    private byte[] scratch = new byte[256];
+
+    private ColumnarReader(ByteBuffer data, Closeable resource) throws IOException {
+        this.resource = resource;
+        this.data = data;
+        int size = data.limit();
+        if (size < ColumnarWriter.MAGIC.length + 1 + ColumnarWriter.TRAILER_SIZE) {
+            throw new IOException("컬럼형 파일이 너무 짧습니다: " + size + " bytes");
+        }
+
+        // 헤더
+        checkMagic(0);
+        int version = data.get(4);
+        if (version != ColumnarWriter.VERSION) {
+            throw new IOException("지원하지 않는 컬럼형 파일 버전: " + version);
+        }
+        data.position(5);
+        int columnCount = readVarint();
+        String[] names = new String[columnCount];
+        dictionaryColumns = new boolean[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            names[i] = readString();
+            dictionaryColumns[i] = data.get() == ColumnarWriter.ENCODING_DICTIONARY;
+            headerIndex.putIfAbsent(names[i], i);
+        }
+        header = Collections.unmodifiableList(Arrays.asList(names));
+
+        // 트레일러 → 푸터
+        int trailer = size - ColumnarWriter.TRAILER_SIZE;
+        checkMagic(trailer + 16);
+        long footerOffset = data.getLong(trailer);
+        totalRows = data.getLong(trailer + 8);
+        data.position((int) footerOffset);
+        int groups = data.getInt();
+        groupOffsets = new long[groups];
+        groupRows = new int[groups];
+        for (int i = 0; i < groups; i++) {
+            groupOffsets[i] = data.getLong();
+            groupRows[i] = data.getInt();
+        }
+        dictionaries = new String[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            if (!dictionaryColumns[i]) {
+                continue;
+            }
+            String[] entries = new String[data.getInt()];
+            for (int e = 0; e < entries.length; e++) {
+                entries[e] = readString();
+            }
+            dictionaries[i] = entries;
+        }
+
+        columnPositions = new int[columnCount];
+        columnRows = new int[columnCount];
+    }
+
+    // 행 그룹 하나만 읽는 뷰 (버퍼 위치만 독립, 스키마/사전은 공유)
+    private ColumnarReader(ColumnarReader source, int groupIndex) {
+        this.resource = () -> { };
+        this.data = source.data.duplicate();
+        this.header = source.header;
+        this.headerIndex.putAll(source.headerIndex);
+        this.dictionaryColumns = source.dictionaryColumns;
+        this.dictionaries = source.dictionaries;
+        this.groupOffsets = new long[]{source.groupOffsets[groupIndex]};
+        this.groupRows = new int[]{source.groupRows[groupIndex]};
+        this.totalRows = groupRows[0];
+        this.columnPositions = new int[header.size()];
+        this.columnRows = new int[header.size()];
+    }
+
+    /**
+     * 파일 열기 - 압축되지 않은 파일은 메모리 매핑, 압축 파일(.gz/.zst)은 풀어서 힙 버퍼로 읽음
+     */
+    public static ColumnarReader open(Path path) throws IOException {
+        if (StageCompression.detect(path) != StageCompression.NONE) {
+            byte[] bytes;
+            try (InputStream in = StageFiles.newInputStream(path)) {
+                bytes = in.readAllBytes();
+            }
+            return create(ByteBuffer.wrap(bytes), () -> { }, path);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GB를 넘는 컬럼형 파일은 지원하지 않습니다: " + size);
+            }
+            return create(channel.map(FileChannel.MapMode.READ_ONLY, 0, size), channel, path);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static ColumnarReader create(ByteBuffer data, Closeable resource, Path path) throws IOException {
+        try {
+            return new ColumnarReader(data, resource);
+        } catch (RuntimeException e) {
+            throw new IOException("컬럼형 파일 읽기 실패: " + path, e);
+        }
+    }
+
+    /**
+     * 스키마는 파일을 열 때 이미 읽으므로 행을 소비하지 않음
+     */
+    @Override
+    public boolean readHeader() {
+        return !header.isEmpty();
+    }
+
+    @Override
+    public List<String> getHeader() {
+        return header;
+    }
+
+    @Override
+    public int column(String name) {
+        Integer index = headerIndex.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    public int getRowGroupCount() {
+        return groupRows.length;
+    }
+
+    // 이어쓰기(ColumnarWriter.append)용 - 내용 길이(압축 파일은 푼 길이), 행 그룹 목록, 사전
+
+    long getDataSize() {
+        return data.limit();
+    }
+
+    long getRowGroupOffset(int index) {
+        return groupOffsets[index];
+    }
+
+    int getRowGroupRows(int index) {
+        return groupRows[index];
+    }
+
+    boolean isDictionaryColumn(int column) {
+        return dictionaryColumns[column];
+    }
+
+    String[] getDictionary(int column) {
+        return dictionaries[column];
+    }
+
+    /**
+     * index번째 행 그룹만 읽는 리더 - 원본과 독립된 커서를 가지므로 여러 스레드에서 각자 읽을 수 있음
+     * (원본을 닫으면 함께 무효가 됨)
+     */
+    public ColumnarReader rowGroup(int index) {
+        return new ColumnarReader(this, index);
+    }
+
+    @Override
+    public boolean next() {
+        if (group >= 0 && rowInGroup + 1 < groupRows[group]) {
+            rowInGroup++;
+            recordNumber++;
+            return true;
+        }
+        while (++group < groupRows.length) {
+            if (groupRows[group] > 0) {
+                enterGroup(group);
+                recordNumber++;
+                return true;
+            }
+        }
+        group = groupRows.length;
+        return false;
+    }
+
+    private void enterGroup(int index) {
+        int position = (int) groupOffsets[index];
+        for (int c = 0; c < columnPositions.length; c++) {
+            int length = data.getInt(position);
+            columnPositions[c] = position + 4;
+            columnRows[c] = 0;
+            position += 4 + length;
+        }
+        rowInGroup = 0;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= columnPositions.length || group < 0 || group >= groupRows.length) {
+            return "";
+        }
+        // 커서를 현재 행까지 이동 (건너뛴 행의 값은 디코딩하지 않음)
+        data.position(columnPositions[index]);
+        for (int row = columnRows[index]; row < rowInGroup; row++) {
+            skipValue(index);
+        }
+        columnPositions[index] = data.position();
+        columnRows[index] = rowInGroup;
+
+        int marker = readVarint();
+        data.position(columnPositions[index]);
+        if (marker == 0) {
+            return "";
+        }
+        if (dictionaryColumns[index]) {
+            return dictionaries[index][marker - 1];
+        }
+        int length = marker - 1;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        int start = data.position() + varintSize(marker);
+        data.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void skipValue(int column) {
+        int marker = readVarint();
+        if (!dictionaryColumns[column] && marker > 0) {
+            data.position(data.position() + marker - 1);
+        }
+    }
+
+    @Override
+    public long getRecordNumber() {
+        return recordNumber;
+    }
+
+    private void checkMagic(int position) throws IOException {
+        for (int i = 0; i < ColumnarWriter.MAGIC.length; i++) {
+            if (data.get(position + i) != ColumnarWriter.MAGIC[i]) {
+                throw new IOException("컬럼형 파일 형식이 아닙니다 (magic 불일치)");
+            }
+        }
+    }
+
+    private int readVarint() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private String readString() {
+        int length = readVarint();
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 전체 행을 문자열 배열 목록으로 읽기 (작은 파일 병합용)
+     */
+    public List<String[]> readAll() {
+        List<String[]> rows = new ArrayList<>();
+        while (next()) {
+            String[] row = new String[columnPositions.length];
+            for (int c = 0; c < row.length; c++) {
+                row[c] = get(c);
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        resource.close();
+    }
+}
@@ -0,0 +1,352 @@
+package com.news.news_crawler.stage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 컬럼형 바이너리 중간 파일(.ncol) 스트리밍 라이터
+ *
+ * 행을 최대 {@link #ROW_GROUP_SIZE}개씩 컬럼별 버퍼에 모았다가 행 그룹 단위로 파일에 내보내므로
+ * 메모리 사용량은 파일 크기와 무관하다. 파일 구조:
+ *
+ * <pre>
+ * 헤더   : "NCOL" | version(1) | 컬럼 수(varint) | 컬럼마다 [이름 길이(varint) | 이름(UTF-8) | 인코딩(1)]
+ * 행 그룹: 컬럼마다 [바이트 길이(int32) | 값...]
+ *          일반 값 = (UTF-8 길이 + 1)(varint) + 바이트, 사전 값 = (사전 id + 1)(varint), 0 = null
+ * 푸터   : 행 그룹 수(int32) | 그룹마다 [오프셋(int64) | 행 수(int32)]
+ *          사전 컬럼마다 [항목 수(int32) | 항목마다 (길이(varint) | UTF-8)]
+ * 트레일러: 푸터 오프셋(int64) | 전체 행 수(int64) | "NCOL"
+ * </pre>
+ *
+ * 정수는 빅 엔디언이다. 언론사/카테고리처럼 값 종류가 적은 컬럼은 사전 인코딩으로 지정한다.
+ *
+ * {@link #append}는 기존 행 그룹을 그대로 두고 파일 끝에 새 행 그룹과 새 푸터/트레일러를 이어 쓴다.
+ * 리더는 마지막 트레일러만 보므로 이전 푸터는 남아 있어도 읽히지 않는다.
+ */
+public class ColumnarWriter implements Closeable {
+
+    static final byte[] MAGIC = {'N', 'C', 'O', 'L'};
+    static final byte VERSION = 1;
+    static final byte ENCODING_PLAIN = 0;
+    static final byte ENCODING_DICTIONARY = 1;
+    static final int TRAILER_SIZE = 8 + 8 + 4;
+
+    private static final int ROW_GROUP_SIZE = 1024;
+    private static final int ROW_GROUP_BYTES = 4 * 1024 * 1024;
+
+    private final OutputStream out;
+    private final String[] columns;
+    private final boolean[] dictionaryColumns;
+    private final ByteArrayOutputStream[] columnBuffers;
+    private final List<Map<String, Integer>> dictionaries = new ArrayList<>();
+    private final List<long[]> rowGroups = new ArrayList<>(); // {offset, rowCount}
+    private final StageFiles.AppendStream appendStream; // append로 연 경우만
+
+    private long offset;
+    private int groupRows;
+    private int groupBytes;
+    private long totalRows;
+    private int fieldIndex;
+    private boolean finished;
+    private boolean closed;
+
+    public ColumnarWriter(OutputStream out, String[] columns, Collection<String> dictionaryColumnNames) throws IOException {
+        this(out, columns, dictionaryColumnNames, null);
+        writeHeader();
+    }
+
+    private ColumnarWriter(OutputStream out, String[] columns, Collection<String> dictionaryColumnNames,
+                           StageFiles.AppendStream appendStream) {
+        this.out = out;
+        this.appendStream = appendStream;
+        this.columns = columns.clone();
+        this.dictionaryColumns = new boolean[columns.length];
+        this.columnBuffers = new ByteArrayOutputStream[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            dictionaryColumns[i] = dictionaryColumnNames.contains(columns[i]);
+            columnBuffers[i] = new ByteArrayOutputStream();
+            dictionaries.add(dictionaryColumns[i] ? new HashMap<>() : null);
+        }
+    }
+
+    /**
+     * 파일 생성 (덮어쓰기, .gz/.zst 확장자면 파일 전체를 압축)
+     */
+    public static ColumnarWriter create(Path path, String[] columns, Collection<String> dictionaryColumnNames) throws IOException {
+        return new ColumnarWriter(new BufferedOutputStream(StageFiles.newOutputStream(path), 64 * 1024), columns, dictionaryColumnNames);
+    }
+
+    /**
+     * 기존 파일 뒤에 행 그룹 이어쓰기 (압축 파일은 새 gzip 멤버/zstd 프레임으로, 파일이 없으면 새로 만듦)
+     * 다 쓴 뒤 {@link #commit()}을 불러야 하며, 커밋 없이 닫으면 파일은 열기 전 상태로 돌아간다.
+     * 컬럼 구성이 다른 파일이면 IOException ({@link #canAppend}로 먼저 확인)
+     */
+    public static ColumnarWriter append(Path path, String[] columns, Collection<String> dictionaryColumnNames) throws IOException {
+        long existingSize = 0;
+        long existingRows = 0;
+        List<long[]> existingGroups = new ArrayList<>();
+        String[][] existingDictionaries = new String[columns.length][];
+        if (Files.exists(path) && Files.size(path) > 0) {
+            try (ColumnarReader reader = ColumnarReader.open(path)) {
+                if (!sameSchema(reader, columns, dictionaryColumnNames)) {
+                    throw new IOException("컬럼 구성이 다른 파일에는 이어 쓸 수 없습니다: " + path + " " + reader.getHeader());
+                }
+                existingSize = reader.getDataSize();
+                existingRows = reader.getRowCount();
+                for (int g = 0; g < reader.getRowGroupCount(); g++) {
+                    existingGroups.add(new long[]{reader.getRowGroupOffset(g), reader.getRowGroupRows(g)});
+                }
+                for (int i = 0; i < columns.length; i++) {
+                    existingDictionaries[i] = reader.getDictionary(i);
+                }
+            }
+        }
+
+        StageFiles.AppendStream stream = StageFiles.newAppendStream(path);
+        ColumnarWriter writer = new ColumnarWriter(new BufferedOutputStream(stream, 64 * 1024), columns, dictionaryColumnNames, stream);
+        try {
+            if (existingSize == 0) {
+                writer.writeHeader();
+            } else {
+                writer.offset = existingSize;
+                writer.totalRows = existingRows;
+                writer.rowGroups.addAll(existingGroups);
+                for (int i = 0; i < columns.length; i++) {
+                    String[] entries = existingDictionaries[i];
+                    for (int id = 0; entries != null && id < entries.length; id++) {
+                        writer.dictionaries.get(i).put(entries[id], id);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+        return writer;
+    }
+
+    /**
+     * {@link #append}로 이어 쓸 수 있는지 (파일이 없거나 비어 있거나, 컬럼 이름/인코딩이 같음)
+     */
+    public static boolean canAppend(Path path, String[] columns, Collection<String> dictionaryColumnNames) throws IOException {
+        if (!Files.exists(path) || Files.size(path) == 0) {
+            return true;
+        }
+        try (ColumnarReader reader = ColumnarReader.open(path)) {
+            return sameSchema(reader, columns, dictionaryColumnNames);
+        }
+    }
+
+    private static boolean sameSchema(ColumnarReader reader, String[] columns, Collection<String> dictionaryColumnNames) {
+        if (!reader.getHeader().equals(Arrays.asList(columns))) {
+            return false;
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (reader.isDictionaryColumn(i) != dictionaryColumnNames.contains(columns[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void writeHeader() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.write(MAGIC);
+        header.write(VERSION);
+        writeVarint(header, columns.length);
+        for (int i = 0; i < columns.length; i++) {
+            writeString(header, columns[i]);
+            header.write(dictionaryColumns[i] ? ENCODING_DICTIONARY : ENCODING_PLAIN);
+        }
+        writeRaw(header.toByteArray());
+    }
+
+    /**
+     * 현재 행의 다음 필드 쓰기 (null 허용)
+     */
+    public ColumnarWriter field(String value) throws IOException {
+        if (finished) {
+            throw new IOException("이미 마무리된 컬럼형 파일입니다");
+        }
+        if (fieldIndex >= columns.length) {
+            throw new IOException("컬럼 수(" + columns.length + ")보다 많은 필드를 썼습니다");
+        }
+        ByteArrayOutputStream buffer = columnBuffers[fieldIndex];
+        int before = buffer.size();
+        if (value == null) {
+            buffer.write(0);
+        } else if (dictionaryColumns[fieldIndex]) {
+            Map<String, Integer> dictionary = dictionaries.get(fieldIndex);
+            Integer id = dictionary.get(value);
+            if (id == null) {
+                id = dictionary.size();
+                dictionary.put(value, id);
+            }
+            writeVarint(buffer, id + 1);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(buffer, bytes.length + 1);
+            buffer.write(bytes);
+        }
+        groupBytes += buffer.size() - before;
+        fieldIndex++;
+        return this;
+    }
+
+    public ColumnarWriter field(long value) throws IOException {
+        return field(Long.toString(value));
+    }
+
+    /**
+     * 현재 행 종료 - 부족한 필드는 null로 채움
+     */
+    public void endRecord() throws IOException {
+        while (fieldIndex < columns.length) {
+            field(null);
+        }
+        fieldIndex = 0;
+        groupRows++;
+        totalRows++;
+        if (groupRows >= ROW_GROUP_SIZE || groupBytes >= ROW_GROUP_BYTES) {
+            flushRowGroup();
+        }
+    }
+
+    public void writeRecord(String... values) throws IOException {
+        for (String value : values) {
+            field(value);
+        }
+        endRecord();
+    }
+
+    public long getRowCount() {
+        return totalRows;
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (groupRows == 0) {
+            return;
+        }
+        rowGroups.add(new long[]{offset, groupRows});
+        for (ByteArrayOutputStream buffer : columnBuffers) {
+            writeInt(buffer.size());
+            writeRaw(buffer.toByteArray());
+            buffer.reset();
+        }
+        groupRows = 0;
+        groupBytes = 0;
+    }
+
+    /**
+     * 이어 쓴 행 확정 - 남은 행 그룹과 푸터를 쓴다 (create로 연 경우에는 close에서 하는 일을 미리 하는 것과 같음)
+     */
+    public void commit() throws IOException {
+        finish();
+        out.flush();
+        if (appendStream != null) {
+            appendStream.commit();
+        }
+    }
+
+    /**
+     * create로 연 경우 푸터를 쓰고 닫음, append로 연 경우 커밋하지 않았으면 이어 쓴 내용을 버림
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (appendStream == null) {
+                finish();
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    private void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        if (fieldIndex > 0) {
+            endRecord();
+        }
+        flushRowGroup();
+        finished = true;
+
+        long footerOffset = offset;
+        ByteArrayOutputStream footer = new ByteArrayOutputStream();
+        writeInt(footer, rowGroups.size());
+        for (long[] group : rowGroups) {
+            writeLong(footer, group[0]);
+            writeInt(footer, (int) group[1]);
+        }
+        for (int i = 0; i < columns.length; i++) {
+            if (!dictionaryColumns[i]) {
+                continue;
+            }
+            Map<String, Integer> dictionary = dictionaries.get(i);
+            String[] entries = new String[dictionary.size()];
+            dictionary.forEach((value, id) -> entries[id] = value);
+            writeInt(footer, entries.length);
+            for (String entry : entries) {
+                writeString(footer, entry);
+            }
+        }
+        writeLong(footer, footerOffset);
+        writeLong(footer, totalRows);
+        footer.write(MAGIC);
+        writeRaw(footer.toByteArray());
+    }
+
+    private void writeRaw(byte[] bytes) throws IOException {
+        out.write(bytes);
+        offset += bytes.length;
+    }
+
+    private void writeInt(int value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4);
+        writeInt(bytes, value);
+        writeRaw(bytes.toByteArray());
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static void writeInt(ByteArrayOutputStream out, int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        writeInt(out, (int) (value >>> 32));
+        writeInt(out, (int) value);
+    }
+}
@@ -0,0 +1,141 @@
+package com.news.news_crawler.stage;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * 단계 파일 조각({@link RecordChunks})을 ForkJoinPool에서 병렬로 파싱하고, 결과를 파일 순서대로 전달
+ *
+ * 한 번에 병렬도의 두 배만큼만 조각을 앞서 파싱해 메모리 사용량을 제한한다.
+ * 소비자는 호출 스레드에서 조각 순서대로 호출되므로 JDBC 연결처럼 스레드 안전하지 않은 자원을 써도 되고,
+ * 소비자가 앞 조각을 쓰는 동안 뒤 조각의 파싱이 계속된다.
+ */
+public final class ParallelRecordParser {
+
+    private ParallelRecordParser() {
+    }
+
+    /**
+     * 레코드 하나를 값 객체로 변환 (여러 스레드에서 동시에 호출되므로 상태를 두지 말 것)
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(RecordReader row) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface ChunkConsumer<T> {
+        void accept(ParsedChunk<T> chunk) throws Exception;
+    }
+
+    /**
+     * 변환에 실패한 레코드 (recordNumber: 헤더를 뺀 파일 전체 기준 1부터)
+     */
+    public record RowFailure(long recordNumber, String message) {
+    }
+
+    /**
+     * 파싱된 조각
+     * @param firstRecordNumber 조각 첫 레코드의 파일 전체 기준 번호 (1부터)
+     * @param rows 변환된 행 (파일 순서, 실패한 레코드는 빠짐)
+     */
+    public record ParsedChunk<T>(int index, long firstRecordNumber, List<T> rows, List<RowFailure> failures) {
+
+        public long recordCount() {
+            return rows.size() + failures.size();
+        }
+
+        /**
+         * rows의 rowIndex번째 행의 파일 전체 기준 레코드 번호 (앞선 실패 레코드를 건너뛰어 계산)
+         */
+        public long recordNumber(int rowIndex) {
+            long number = firstRecordNumber + rowIndex;
+            for (RowFailure failure : failures) {
+                if (failure.recordNumber() > number) {
+                    break;
+                }
+                number++;
+            }
+            return number;
+        }
+    }
+
+    /**
+     * 모든 조각을 파싱해 순서대로 소비자에 전달
+     * @return 전체 레코드 수
+     */
+    public static <T> long parse(RecordChunks chunks, ForkJoinPool pool, RowMapper<T> mapper, ChunkConsumer<T> consumer) throws Exception {
+        int window = Math.max(1, pool.getParallelism() * 2);
+        Deque<ForkJoinTask<ParsedChunk<T>>> pending = new ArrayDeque<>();
+        int next = 0;
+        long recordNumber = 1;
+        try {
+            while (next < chunks.size() || !pending.isEmpty()) {
+                while (next < chunks.size() && pending.size() < window) {
+                    int index = next++;
+                    pending.add(pool.submit(() -> parseChunk(chunks, index, mapper)));
+                }
+                ParsedChunk<T> chunk = renumber(join(pending.poll()), recordNumber);
+                recordNumber += chunk.recordCount();
+                consumer.accept(chunk);
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(true));
+        }
+        return recordNumber - 1;
+    }
+
+    private static <T> ParsedChunk<T> parseChunk(RecordChunks chunks, int index, RowMapper<T> mapper) throws IOException {
+        List<T> rows = new ArrayList<>();
+        List<RowFailure> failures = new ArrayList<>();
+        long local = 0; // 리더의 레코드 번호는 헤더 포함 여부가 형식마다 달라 직접 셈
+        try (RecordReader reader = chunks.open(index)) {
+            while (reader.next()) {
+                local++;
+                try {
+                    rows.add(mapper.map(reader));
+                } catch (Exception e) {
+                    failures.add(new RowFailure(local, e.getMessage()));
+                }
+            }
+        }
+        return new ParsedChunk<>(index, 1, rows, failures);
+    }
+
+    // 조각 안 레코드 번호를 파일 전체 기준으로 변환
+    private static <T> ParsedChunk<T> renumber(ParsedChunk<T> chunk, long firstRecordNumber) {
+        List<RowFailure> failures = chunk.failures().isEmpty() ? Collections.emptyList() : new ArrayList<>();
+        for (RowFailure failure : chunk.failures()) {
+            failures.add(new RowFailure(firstRecordNumber + failure.recordNumber() - 1, failure.message()));
+        }
+        return new ParsedChunk<>(chunk.index(), firstRecordNumber, chunk.rows(), failures);
+    }
+
+    private static <T> T join(ForkJoinTask<T> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("파싱 대기 중 인터럽트", e);
+        } catch (CancellationException e) {
+            throw new IOException("파싱이 취소되었습니다", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("조각 파싱 실패", cause);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.csv.CsvReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 단계 파일을 레코드 경계에서 나눈 조각들 (병렬 파싱용)
+ *
+ * <ul>
+ *   <li>압축되지 않은 CSV: 따옴표 짝/홀만 세며 파일을 한 번 훑고, 따옴표 밖의 줄바꿈 중 목표 크기를 넘긴 위치에서 자른다.
+ *       필드 안에 줄바꿈이 있어도 레코드 중간에서 잘리지 않는다.
+ *       파일 끝에서 따옴표가 닫히지 않았으면(형식이 깨진 파일) 나누지 않는다.</li>
+ *   <li>컬럼형 파일: 행 그룹 단위로 나눈다.</li>
+ *   <li>그 외(압축 CSV, 목표 크기보다 작은 파일): 조각 하나로 처리한다.</li>
+ * </ul>
+ *
+ * 조각마다 독립된 리더를 열 수 있으므로 여러 스레드에서 동시에 읽어도 된다.
+ */
+public abstract class RecordChunks implements Closeable {
+
+    private static final int SCAN_BUFFER_SIZE = 256 * 1024;
+
+    private final List<String> header;
+
+    private RecordChunks(List<String> header) {
+        this.header = header;
+    }
+
+    /**
+     * 파일을 조각으로 나누기
+     * @param targetChunkBytes CSV 조각 목표 크기 (바이트)
+     */
+    public static RecordChunks split(Path path, long targetChunkBytes) throws IOException {
+        String name = path.getFileName().toString();
+        if (StageFiles.stripCompression(name).endsWith(StageFiles.COLUMNAR_EXTENSION)) {
+            return new ColumnarChunks(ColumnarReader.open(path));
+        }
+        if (StageCompression.detect(path) == StageCompression.NONE) {
+            RecordChunks chunks = CsvChunks.scan(path, targetChunkBytes);
+            if (chunks != null) {
+                return chunks;
+            }
+        }
+        return SingleChunk.open(path);
+    }
+
+    /**
+     * 헤더 (빈 파일이면 빈 목록)
+     */
+    public List<String> getHeader() {
+        return header;
+    }
+
+    /**
+     * 컬럼 인덱스 (없으면 IOException)
+     */
+    public int requireColumn(String name) throws IOException {
+        int index = header.indexOf(name);
+        if (index < 0) {
+            throw new IOException("헤더에 '" + name + "' 컬럼이 없습니다: " + header);
+        }
+        return index;
+    }
+
+    public abstract int size();
+
+    /**
+     * index번째 조각의 레코드를 읽는 리더 (헤더는 이미 건너뜀, 컬럼은 인덱스로 조회)
+     */
+    public abstract RecordReader open(int index) throws IOException;
+
+    // 압축되지 않은 CSV - 바이트 범위로 나눔
+    private static final class CsvChunks extends RecordChunks {
+
+        private final FileChannel channel;
+        private final long[] bounds;
+
+        private CsvChunks(List<String> header, FileChannel channel, long[] bounds) {
+            super(header);
+            this.channel = channel;
+            this.bounds = bounds;
+        }
+
+        /**
+         * @return 나눌 수 없으면 null
+         */
+        static CsvChunks scan(Path path, long targetChunkBytes) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            try {
+                long size = channel.size();
+                if (size <= targetChunkBytes) {
+                    channel.close();
+                    return null;
+                }
+
+                // '"'와 '\n'은 UTF-8 멀티바이트 문자 안에 나타나지 않으므로 바이트 단위로 셀 수 있음
+                List<Long> bounds = new ArrayList<>();
+                ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+                byte[] bytes = buffer.array();
+                boolean inQuotes = false;
+                long position = 0;
+                long nextBound = -1;
+                int read;
+                while ((read = channel.read(buffer, position)) > 0) {
+                    for (int i = 0; i < read; i++) {
+                        byte b = bytes[i];
+                        if (b == '"') {
+                            inQuotes = !inQuotes;
+                        } else if (b == '\n' && !inQuotes && position + i + 1 >= nextBound) {
+                            long recordStart = position + i + 1;
+                            bounds.add(recordStart); // 첫 경계 = 헤더 끝
+                            nextBound = recordStart + targetChunkBytes;
+                        }
+                    }
+                    position += read;
+                    buffer.clear();
+                }
+                if (inQuotes || bounds.isEmpty()) {
+                    channel.close();
+                    return null;
+                }
+                if (bounds.get(bounds.size() - 1) < size) {
+                    bounds.add(size);
+                }
+
+                long headerEnd = bounds.get(0);
+                List<String> header;
+                try (CsvReader reader = new CsvReader(new InputStreamReader(
+                        new ByteArrayInputStream(read(channel, 0, headerEnd)), StandardCharsets.UTF_8))) {
+                    header = reader.readHeader() ? reader.getHeader() : Collections.emptyList();
+                }
+                return new CsvChunks(header, channel, bounds.stream().mapToLong(Long::longValue).toArray());
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public int size() {
+            return bounds.length - 1;
+        }
+
+        @Override
+        public RecordReader open(int index) throws IOException {
+            byte[] bytes = read(channel, bounds[index], bounds[index + 1]);
+            return new CsvReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8));
+        }
+
+        // 위치 지정 읽기는 채널 위치를 바꾸지 않으므로 여러 스레드에서 동시에 호출 가능
+        private static byte[] read(FileChannel channel, long start, long end) throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, start + buffer.position()) < 0) {
+                    throw new IOException("파일이 읽는 도중 줄어들었습니다");
+                }
+            }
+            return buffer.array();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    // 컬럼형 파일 - 행 그룹 단위
+    private static final class ColumnarChunks extends RecordChunks {
+
+        private final ColumnarReader reader;
+
+        private ColumnarChunks(ColumnarReader reader) {
+            super(reader.getHeader());
+            this.reader = reader;
+        }
+
+        @Override
+        public int size() {
+            return reader.getRowGroupCount();
+        }
+
+        @Override
+        public RecordReader open(int index) {
+            return reader.rowGroup(index);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // 나누지 않는 파일 - 이미 헤더를 읽은 리더 하나
+    private static final class SingleChunk extends RecordChunks {
+
+        private final RecordReader reader;
+        private final boolean empty;
+
+        private SingleChunk(RecordReader reader, boolean hasHeader) {
+            super(hasHeader ? reader.getHeader() : Collections.emptyList());
+            this.reader = reader;
+            this.empty = !hasHeader;
+        }
+
+        static SingleChunk open(Path path) throws IOException {
+            RecordReader reader = StageFiles.openReader(path);
+            try {
+                return new SingleChunk(reader, reader.readHeader());
+            } catch (IOException | RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+        }
+
+        @Override
+        public int size() {
+            return empty ? 0 : 1;
+        }
+
+        @Override
+        public RecordReader open(int index) {
+            return reader;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.news.news_crawler.stage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 단계 사이 중간 파일(CSV, 컬럼형 바이너리)을 레코드 단위로 읽는 공통 인터페이스
+ */
+public interface RecordReader extends Closeable {
+
+    /**
+     * 헤더(스키마) 읽기
+     * @return 헤더가 있으면 true (빈 파일이면 false)
+     */
+    boolean readHeader() throws IOException;
+
+    List<String> getHeader();
+
+    /**
+     * 컬럼 인덱스 (없으면 -1)
+     */
+    int column(String name);
+
+    /**
+     * 컬럼 인덱스 (없으면 IOException)
+     */
+    default int requireColumn(String name) throws IOException {
+        int index = column(name);
+        if (index < 0) {
+            throw new IOException("헤더에 '" + name + "' 컬럼이 없습니다: " + getHeader());
+        }
+        return index;
+    }
+
+    /**
+     * 다음 레코드로 이동
+     * @return 레코드가 있으면 true, 끝이면 false
+     */
+    boolean next() throws IOException;
+
+    /**
+     * 현재 레코드의 i번째 필드 (범위 밖이거나 null이면 빈 문자열)
+     */
+    String get(int index);
+
+    default String get(String columnName) {
+        return get(column(columnName));
+    }
+
+    /**
+     * 현재 레코드 번호 (1부터, 오류 메시지용)
+     */
+    long getRecordNumber();
+}
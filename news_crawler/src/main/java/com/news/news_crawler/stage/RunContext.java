@@ -0,0 +1,157 @@
+package com.news.news_crawler.stage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 크롤링 1회 실행의 고정된 기준 (실행 id, 시작 시각, 날짜, am/pm, 단계 출력 경로)
+ *
+ * 실행을 시작할 때 한 번 만들어 모든 단계에 넘긴다. 단계마다 현재 시각으로 시간대를 다시 계산하면
+ * 11:58에 시작한 실행이 목록은 am/ 폴더에 쓰고 상세/중복 제거는 pm/ 폴더에서 찾게 되므로,
+ * 실행 안에서는 날짜와 시간대를 이 객체에서만 읽는다. 중복 제거 스크립트에는 {@link #putEnvironment}로 전달한다.
+ */
+public final class RunContext {
+
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    public static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd a hh:mm:ss", Locale.ENGLISH);
+    public static final String DATE_ENV = "CRAWLER_RUN_DATE";     // duplicate_detector/config.py와 같은 이름
+    public static final String PERIOD_ENV = "CRAWLER_RUN_PERIOD";
+
+    private final String runId;
+    private final LocalDateTime startedAt;
+    private final String date;
+    private final String period;
+    private final RunManifest manifest;
+
+    private RunContext(String runId, LocalDateTime startedAt, String date, String period, Path staticBase) {
+        this.runId = runId;
+        this.startedAt = startedAt;
+        this.date = date;
+        this.period = period;
+        this.manifest = RunManifest.at(staticBase);
+    }
+
+    /**
+     * 지금 시작하는 실행 (작업 디렉터리 기준 기본 static 폴더)
+     */
+    public static RunContext start() {
+        return start(LocalDateTime.now(), RunManifest.local().getStaticBase());
+    }
+
+    /**
+     * @param startedAt 실행 기준 시각 - 날짜와 am/pm은 이 시각으로 한 번만 정함
+     */
+    public static RunContext start(LocalDateTime startedAt, Path staticBase) {
+        String date = startedAt.format(DATE_FORMAT);
+        String period = periodOf(startedAt);
+        return new RunContext(date + "_" + period + "-" + UUID.randomUUID().toString().substring(0, 8),
+                startedAt, date, period, staticBase);
+    }
+
+    /**
+     * 이미 있는 실행 폴더를 다시 처리할 때 (백필 등) - 같은 폴더를 여러 번 처리해도 실행 id는 다름
+     */
+    public static RunContext of(String date, String period, Path staticBase) {
+        return new RunContext(date + "_" + period + "-" + UUID.randomUUID().toString().substring(0, 8),
+                LocalDateTime.now(), date, period, staticBase);
+    }
+
+    public static String periodOf(LocalDateTime time) {
+        return time.getHour() < 12 ? "am" : "pm";
+    }
+
+    /**
+     * 실행 id (yyyy-MM-dd_am-xxxxxxxx)
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * 실행 키 (yyyy-MM-dd_am) - 실행 폴더 이름, 실행 목록/작업 큐의 키
+     */
+    public String getRunKey() {
+        return date + "_" + period;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public String getPeriod() {
+        return period;
+    }
+
+    public Path getStaticBase() {
+        return manifest.getStaticBase();
+    }
+
+    public RunManifest getManifest() {
+        return manifest;
+    }
+
+    /**
+     * 목록 CSV 폴더 ({am|pm}/{날짜}_{am|pm})
+     */
+    public Path getRunFolder() {
+        return manifest.stageDirectory(date, period, RunManifest.Stage.LIST);
+    }
+
+    public Path getDetailDirectory() {
+        return manifest.stageDirectory(date, period, RunManifest.Stage.DETAIL);
+    }
+
+    public Path getDedupDirectory() {
+        return manifest.stageDirectory(date, period, RunManifest.Stage.DEDUP);
+    }
+
+    /**
+     * 카테고리 목록 파일 논리 경로 (압축 확장자 없는 .csv)
+     */
+    public Path listFile(String category) {
+        return getRunFolder().resolve("naver_news_" + category + "_" + period + StageFiles.CSV_EXTENSION);
+    }
+
+    /**
+     * 카테고리 상세 파일 논리 경로 (압축 확장자 없는 .csv)
+     */
+    public Path detailFile(String category) {
+        return getDetailDirectory().resolve("naver_news_" + category + "_" + period + "_detailed" + StageFiles.CSV_EXTENSION);
+    }
+
+    /**
+     * 실행 목록에 이 실행의 단계 출력 기록
+     */
+    public void record(RunManifest.Stage stage) throws IOException {
+        manifest.record(date, period, stage);
+    }
+
+    /**
+     * 행 기록 시각 (실제 현재 시각, 포맷터는 공유)
+     */
+    public static String timestamp() {
+        return LocalDateTime.now().format(TIMESTAMP_FORMAT);
+    }
+
+    /**
+     * 외부 프로세스(중복 제거 스크립트)가 같은 날짜/시간대를 쓰도록 환경 변수 설정
+     */
+    public void putEnvironment(Map<String, String> environment) {
+        environment.put(DATE_ENV, date);
+        environment.put(PERIOD_ENV, period);
+    }
+
+    @Override
+    public String toString() {
+        return runId;
+    }
+}
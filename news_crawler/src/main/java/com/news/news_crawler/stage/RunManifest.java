@@ -0,0 +1,252 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.csv.CsvReader;
+import com.news.news_crawler.csv.CsvWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실행 목록 (static/run-manifest.csv)
+ *
+ * 실행(run_key = {날짜}_{am|pm})마다 단계 출력 폴더를 한 줄씩 남겨, 다음 단계가 static 폴더 전체를 뒤지지 않고
+ * 입력 위치를 바로 찾게 한다. 컬럼: run_key, period, stage, path(static 기준 상대 경로), recorded_at
+ *
+ * - 같은 실행·단계를 다시 기록하면 마지막 줄이 이김 (파일은 이어쓰기만 함, 다시 만들 때도 자르지 않음)
+ * - 파일이 없으면 처음 한 번만 {am|pm}/{날짜}_{am|pm} 폴더를 훑어 만든다 (이전 실행 기록 이전)
+ * - 다른 프로세스가 기록했으면 파일 크기/수정 시각이 바뀐 것을 보고 다시 읽음
+ * - 읽기·기록은 옆의 잠금 파일(run-manifest.csv.lock)을 잡고 하므로, 여러 프로세스가 동시에 기록해도
+ *   서로의 줄을 놓치거나 목록을 두 번 만들지 않음
+ */
+public final class RunManifest {
+
+    public enum Stage {
+        LIST,   // 목록 CSV 폴더 ({am|pm}/{날짜}_{am|pm})
+        DETAIL, // 상세 CSV 폴더 (…/detail)
+        DEDUP   // 중복 제거 결과 폴더 (…/deduplicated-related)
+    }
+
+    public record Entry(String runKey, String period, Stage stage, Path path, String recordedAt) {
+
+        public String date() {
+            return runKey.substring(0, runKey.length() - period.length() - 1);
+        }
+    }
+
+    public static final String FILE_NAME = "run-manifest.csv";
+    private static final String LOCK_FILE_NAME = FILE_NAME + ".lock";
+    private static final String[] HEADER = {"run_key", "period", "stage", "path", "recorded_at"};
+    private static final Path LOCAL_STATIC_BASE = Path.of("news_crawler", "src", "main", "resources", "static");
+    private static final Map<Path, RunManifest> INSTANCES = new ConcurrentHashMap<>();
+
+    private final Path staticBase;
+    private final Path file;
+    private final Path lockFile;
+    private final Map<String, Entry> byRunAndStage = new HashMap<>();
+    private final Map<Stage, Entry> latest = new EnumMap<>(Stage.class);
+    private long loadedSize = -1;
+    private long loadedModified = -1;
+
+    private RunManifest(Path staticBase) {
+        this.staticBase = staticBase;
+        this.file = staticBase.resolve(FILE_NAME);
+        this.lockFile = staticBase.resolve(LOCK_FILE_NAME);
+    }
+
+    /**
+     * 작업 디렉터리 기준 기본 static 폴더의 실행 목록
+     */
+    public static RunManifest local() {
+        return at(LOCAL_STATIC_BASE);
+    }
+
+    public static RunManifest at(Path staticBase) {
+        return INSTANCES.computeIfAbsent(staticBase.toAbsolutePath().normalize(), RunManifest::new);
+    }
+
+    public Path getStaticBase() {
+        return staticBase;
+    }
+
+    /**
+     * 실행·단계의 출력 폴더 (폴더 구조를 정하는 한 곳)
+     */
+    public Path stageDirectory(String date, String period, Stage stage) {
+        Path runFolder = staticBase.resolve(period).resolve(date + "_" + period);
+        return switch (stage) {
+            case LIST -> runFolder;
+            case DETAIL -> runFolder.resolve("detail");
+            case DEDUP -> runFolder.resolve("deduplicated-related");
+        };
+    }
+
+    /**
+     * 단계 출력 기록 (같은 실행·단계·경로가 이미 있으면 쓰지 않음)
+     */
+    public synchronized void record(String date, String period, Stage stage) throws IOException {
+        String runKey = date + "_" + period;
+        Path path = stageDirectory(date, period, stage);
+        FileLock lock = lock();
+        try {
+            refresh(); // 다른 프로세스가 먼저 같은 실행·단계를 기록했을 수 있음
+            Entry current = byRunAndStage.get(runKey + "/" + stage);
+            if (current != null && current.path().equals(path)) {
+                return;
+            }
+            try (CsvWriter writer = CsvWriter.append(file, HEADER)) {
+                writer.writeRecord(runKey, period, stage.name(), relative(path), LocalDateTime.now().toString());
+                writer.commit();
+            }
+            refresh(); // 방금 쓴 줄까지 읽고 나서 크기 기억 (건너뛴 줄 없이)
+        } finally {
+            lock.channel().close(); // 채널을 닫으면 잠금도 풀림
+        }
+    }
+
+    /**
+     * 실행 폴더({날짜}_{am|pm}) 이름으로 단계 출력 기록 (실행 형식이 아닌 폴더는 무시)
+     */
+    public void record(Path runFolder, Stage stage) throws IOException {
+        String name = runFolder.getFileName().toString();
+        if (name.matches("\\d{4}-\\d{2}-\\d{2}_(am|pm)")) {
+            record(name.substring(0, 10), name.substring(11), stage);
+        }
+    }
+
+    /**
+     * 실행·단계의 기록
+     */
+    public synchronized Optional<Entry> find(String date, String period, Stage stage) {
+        refreshQuietly();
+        return Optional.ofNullable(byRunAndStage.get(date + "_" + period + "/" + stage));
+    }
+
+    /**
+     * 단계 출력이 있는 가장 최근 실행 (날짜, am → pm 순)
+     */
+    public synchronized Optional<Entry> latest(Stage stage) {
+        refreshQuietly();
+        return Optional.ofNullable(latest.get(stage));
+    }
+
+    private void refreshQuietly() {
+        try {
+            FileLock lock = lock();
+            try {
+                refresh();
+            } finally {
+                lock.channel().close();
+            }
+        } catch (IOException e) {
+            System.err.println("실행 목록 읽기 실패: " + e.getMessage());
+        }
+    }
+
+    // 잠금 파일을 잡은 채로 호출
+    private void refresh() throws IOException {
+        if (!Files.exists(file)) {
+            if (loadedSize < 0) {
+                rebuild();
+            }
+            if (!Files.exists(file)) {
+                return;
+            }
+        }
+        if (Files.size(file) == loadedSize && Files.getLastModifiedTime(file).toMillis() == loadedModified) {
+            return;
+        }
+        byRunAndStage.clear();
+        latest.clear();
+        try (CsvReader reader = CsvReader.open(file)) {
+            if (reader.readHeader()) {
+                int runKey = reader.column("run_key");
+                int period = reader.column("period");
+                int stage = reader.column("stage");
+                int path = reader.column("path");
+                int recordedAt = reader.column("recorded_at");
+                while (reader.next()) {
+                    add(new Entry(reader.get(runKey), reader.get(period), Stage.valueOf(reader.get(stage)),
+                            staticBase.resolve(reader.get(path)), reader.get(recordedAt)));
+                }
+            }
+        }
+        remember();
+    }
+
+    // 목록 파일이 없을 때 한 번만 기존 실행 폴더로 목록 만들기 (고정된 두 단계 깊이만 확인)
+    // 이어쓰기로 만들어, 잠금 없이 먼저 쓴 줄이 있어도 자르지 않음 - 읽기는 refresh가 파일에서 다시 함
+    private void rebuild() throws IOException {
+        List<Entry> found = new ArrayList<>();
+        for (String period : List.of("am", "pm")) {
+            File[] runFolders = staticBase.resolve(period).toFile()
+                    .listFiles(folder -> folder.isDirectory() && folder.getName().matches("\\d{4}-\\d{2}-\\d{2}_" + period));
+            if (runFolders == null) {
+                continue;
+            }
+            for (File runFolder : runFolders) {
+                String date = runFolder.getName().substring(0, 10);
+                for (Stage stage : Stage.values()) {
+                    Path directory = stageDirectory(date, period, stage);
+                    File[] csvFiles = directory.toFile().listFiles((dir, name) -> StageFiles.isCsv(name));
+                    if (csvFiles != null && csvFiles.length > 0) {
+                        found.add(new Entry(date + "_" + period, period, stage, directory, ""));
+                    }
+                }
+            }
+        }
+        found.sort(Comparator.comparing(Entry::runKey).thenComparing(Entry::stage));
+        if (found.isEmpty()) {
+            loadedSize = 0; // 다음 기록 때까지 다시 훑지 않음
+            return;
+        }
+        try (CsvWriter writer = CsvWriter.append(file, HEADER)) {
+            for (Entry entry : found) {
+                writer.writeRecord(entry.runKey(), entry.period(), entry.stage().name(), relative(entry.path()), entry.recordedAt());
+            }
+            writer.commit();
+        }
+    }
+
+    // 프로세스 사이 잠금 (목록 파일 자체가 아닌 옆 파일 - 이어쓰기 채널을 닫을 때 잠금이 풀리지 않도록)
+    private FileLock lock() throws IOException {
+        Files.createDirectories(staticBase);
+        FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            return channel.lock();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private void add(Entry entry) {
+        byRunAndStage.put(entry.runKey() + "/" + entry.stage(), entry);
+        Entry current = latest.get(entry.stage());
+        if (current == null || entry.runKey().compareTo(current.runKey()) >= 0) {
+            latest.put(entry.stage(), entry); // 날짜_am < 날짜_pm < 다음날_am (문자열 순서)
+        }
+    }
+
+    private void remember() throws IOException {
+        loadedSize = Files.size(file);
+        loadedModified = Files.getLastModifiedTime(file).toMillis();
+    }
+
+    private String relative(Path path) {
+        return staticBase.relativize(path).toString().replace(File.separatorChar, '/');
+    }
+}
@@ -0,0 +1,108 @@
+package com.news.news_crawler.stage;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 단계 출력 파일 압축 방식 (확장자로 구분: .gz, .zst)
+ */
+public enum StageCompression {
+
+    NONE("") {
+        @Override
+        public OutputStream wrap(OutputStream out) {
+            return out;
+        }
+
+        @Override
+        public InputStream wrap(InputStream in) {
+            return in;
+        }
+    },
+    GZIP(".gz") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new GZIPOutputStream(out, 64 * 1024);
+        }
+
+        @Override
+        public InputStream wrap(InputStream in) throws IOException {
+            return new GZIPInputStream(in, 64 * 1024);
+        }
+    },
+    ZSTD(".zst") {
+        @Override
+        public OutputStream wrap(OutputStream out) throws IOException {
+            return new ZstdOutputStream(out, 3);
+        }
+
+        @Override
+        public InputStream wrap(InputStream in) throws IOException {
+            return new ZstdInputStream(in);
+        }
+    };
+
+    private final String extension;
+
+    StageCompression(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract OutputStream wrap(OutputStream out) throws IOException;
+
+    public abstract InputStream wrap(InputStream in) throws IOException;
+
+    /**
+     * 파일 확장자로 압축 방식 판별
+     */
+    public static StageCompression detect(Path path) {
+        String name = path.getFileName().toString();
+        if (name.endsWith(GZIP.extension)) {
+            return GZIP;
+        }
+        if (name.endsWith(ZSTD.extension)) {
+            return ZSTD;
+        }
+        return NONE;
+    }
+
+    /**
+     * 설정값(none, gzip, zstd)으로 압축 방식 선택 (비어 있으면 NONE)
+     */
+    public static StageCompression fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return NONE;
+        }
+        switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "none":
+                return NONE;
+            case "gzip":
+            case "gz":
+                return GZIP;
+            case "zstd":
+            case "zst":
+                return ZSTD;
+            default:
+                throw new IllegalArgumentException("지원하지 않는 압축 방식: " + name + " (none, gzip, zstd)");
+        }
+    }
+
+    /**
+     * 설정값 이름 (Python 단계에 환경 변수로 전달)
+     */
+    public String configName() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
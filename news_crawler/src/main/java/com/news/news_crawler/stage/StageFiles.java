@@ -0,0 +1,263 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.csv.CsvReader;
+
+import java.io.BufferedInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 단계 사이 중간 파일 경로/형식 처리
+ *
+ * 각 단계는 사람이 볼 수 있는 CSV와 함께 같은 이름의 컬럼형 바이너리(.ncol)를 쓴다.
+ * 읽는 쪽은 .ncol이 있으면 그것을, 없으면 CSV를 읽는다.
+ *
+ * 출력 파일은 설정된 압축 방식({@code crawler.stage.compression}: none, gzip, zstd)의 확장자를 붙여 쓰고
+ * (예: naver_news_정치_am.csv.gz), 읽을 때는 확장자로 압축 방식을 판별한다.
+ * 코드에서는 압축 확장자 없는 논리 경로(.csv)를 쓰고 실제 경로는 여기서 결정한다.
+ */
+public final class StageFiles {
+
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String COLUMNAR_EXTENSION = ".ncol";
+    public static final String COMPRESSION_PROPERTY = "crawler.stage.compression";
+    public static final String COMPRESSION_ENV = "CRAWLER_STAGE_COMPRESSION";
+
+    // 값 종류가 적어 사전 인코딩하는 컬럼
+    public static final Set<String> DICTIONARY_COLUMNS = Set.of(
+            "news_category_id", "news_category_name", "press", "trusted", "mark", "dedup_state");
+
+    // 단독 실행(main) 시에는 시스템 속성/환경 변수, 서버 실행 시에는 StageSettings가 설정
+    private static volatile StageCompression compression = StageCompression.fromName(
+            System.getProperty(COMPRESSION_PROPERTY, System.getenv(COMPRESSION_ENV)));
+
+    private StageFiles() {
+    }
+
+    public static StageCompression getCompression() {
+        return compression;
+    }
+
+    public static void setCompression(StageCompression value) {
+        compression = value;
+    }
+
+    /**
+     * 논리 경로(.csv/.ncol)에 설정된 압축 확장자를 붙인 실제 출력 경로
+     */
+    public static Path outputPath(Path logicalPath) {
+        return logicalPath.resolveSibling(logicalPath.getFileName() + compression.getExtension());
+    }
+
+    /**
+     * 압축 확장자를 뗀 파일 이름 (naver_news_정치_am.csv.gz → naver_news_정치_am.csv)
+     */
+    public static String stripCompression(String fileName) {
+        for (StageCompression candidate : StageCompression.values()) {
+            if (candidate != StageCompression.NONE && fileName.endsWith(candidate.getExtension())) {
+                return fileName.substring(0, fileName.length() - candidate.getExtension().length());
+            }
+        }
+        return fileName;
+    }
+
+    /**
+     * 압축 여부와 관계없이 CSV 단계 파일인지
+     */
+    public static boolean isCsv(String fileName) {
+        return stripCompression(fileName).toLowerCase().endsWith(CSV_EXTENSION);
+    }
+
+    /**
+     * 확장자(.csv와 압축 확장자)를 모두 뗀 이름
+     */
+    public static String baseName(String fileName) {
+        String name = stripCompression(fileName);
+        return name.toLowerCase().endsWith(CSV_EXTENSION) ? name.substring(0, name.length() - CSV_EXTENSION.length()) : name;
+    }
+
+    /**
+     * CSV 경로와 같은 위치/이름의 컬럼형 파일 경로 (압축 확장자도 같게 유지)
+     */
+    public static Path columnarSibling(Path csvPath) {
+        String name = csvPath.getFileName().toString();
+        StageCompression fileCompression = StageCompression.detect(csvPath);
+        return csvPath.resolveSibling(baseName(name) + COLUMNAR_EXTENSION + fileCompression.getExtension());
+    }
+
+    /**
+     * 읽을 파일 선택 - 컬럼형 파일이 있으면 우선, 같은 형식 안에서는 설정된 압축 방식 우선
+     * @param logicalCsvPath 압축 확장자 없는 CSV 경로
+     * @return 존재하는 파일 (없으면 logicalCsvPath 그대로)
+     */
+    public static Path resolveForRead(Path logicalCsvPath) {
+        Path columnar = logicalCsvPath.resolveSibling(baseName(logicalCsvPath.getFileName().toString()) + COLUMNAR_EXTENSION);
+        for (Path logical : List.of(columnar, logicalCsvPath)) {
+            for (StageCompression candidate : readOrder()) {
+                Path path = logical.resolveSibling(logical.getFileName() + candidate.getExtension());
+                if (Files.exists(path)) {
+                    return path;
+                }
+            }
+        }
+        return logicalCsvPath;
+    }
+
+    /**
+     * 압축 여부와 관계없이 CSV 단계 파일이 있는지
+     */
+    public static boolean exists(Path logicalCsvPath) {
+        return Files.exists(resolveForRead(logicalCsvPath));
+    }
+
+    /**
+     * 논리 CSV 경로의 모든 형식/압축 파일 삭제 (CSV, 컬럼형)
+     */
+    public static void delete(Path logicalCsvPath) throws IOException {
+        Path columnar = logicalCsvPath.resolveSibling(baseName(logicalCsvPath.getFileName().toString()) + COLUMNAR_EXTENSION);
+        for (Path logical : List.of(columnar, logicalCsvPath)) {
+            for (StageCompression candidate : StageCompression.values()) {
+                Files.deleteIfExists(logical.resolveSibling(logical.getFileName() + candidate.getExtension()));
+            }
+        }
+    }
+
+    private static List<StageCompression> readOrder() {
+        List<StageCompression> order = new ArrayList<>();
+        order.add(compression);
+        for (StageCompression candidate : StageCompression.values()) {
+            if (candidate != compression) {
+                order.add(candidate);
+            }
+        }
+        return order;
+    }
+
+    /**
+     * 확장자에 맞는 리더 열기
+     */
+    public static RecordReader openReader(Path path) throws IOException {
+        if (stripCompression(path.getFileName().toString()).endsWith(COLUMNAR_EXTENSION)) {
+            return ColumnarReader.open(path);
+        }
+        return CsvReader.open(path);
+    }
+
+    /**
+     * 압축을 풀어 읽는 입력 스트림
+     */
+    public static InputStream newInputStream(Path path) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), 64 * 1024);
+        return StageCompression.detect(path).wrap(in);
+    }
+
+    /**
+     * 확장자에 맞게 압축하는 출력 스트림 (덮어쓰기)
+     */
+    public static OutputStream newOutputStream(Path path) throws IOException {
+        return StageCompression.detect(path).wrap(Files.newOutputStream(path));
+    }
+
+    /**
+     * 이어쓰기 출력 스트림 - {@link AppendStream#commit()} 후 닫아야 이어 쓴 내용이 남는다
+     *
+     * 압축 파일은 기존 내용을 다시 쓰지 않고 새 gzip 멤버/zstd 프레임을 뒤에 붙인다.
+     * (GZIPInputStream, ZstdInputStream, 파이썬 gzip/zstandard(read_across_frames) 모두 이어 붙인 멤버/프레임을 끝까지 읽음)
+     */
+    public static AppendStream newAppendStream(Path path) throws IOException {
+        return new AppendStream(path);
+    }
+
+    /**
+     * 커밋해야 남는 이어쓰기 스트림
+     *
+     * 열 때의 파일 크기를 기억해 두고, 커밋하지 않고 닫거나 닫다가 실패하면
+     * 새로 만든 파일은 지우고 기존 파일은 원래 크기로 잘라 이어 쓰던 내용을 되돌린다.
+     */
+    public static final class AppendStream extends FilterOutputStream {
+
+        private final Path path;
+        private final boolean existed;
+        private final long originalSize;
+        private boolean committed;
+        private boolean closed;
+
+        private AppendStream(Path path) throws IOException {
+            super(null);
+            this.path = path;
+            this.existed = Files.exists(path);
+            this.originalSize = existed ? Files.size(path) : 0;
+            OutputStream file = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            try {
+                this.out = StageCompression.detect(path).wrap(file);
+            } catch (IOException e) {
+                file.close();
+                rollback();
+                throw e;
+            }
+        }
+
+        /**
+         * 이어쓰기 전 파일이 비어 있었는지 (헤더를 써야 하는지)
+         */
+        public boolean isEmptyBefore() {
+            return originalSize == 0;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        /**
+         * 이어 쓴 내용을 남기도록 표시 (실제 반영은 close에서 압축 스트림을 마무리한 뒤)
+         */
+        public void commit() throws IOException {
+            if (closed) {
+                throw new IOException("이미 닫힌 스트림입니다: " + path);
+            }
+            out.flush();
+            committed = true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                super.close();
+            } catch (IOException e) {
+                try {
+                    rollback();
+                } catch (IOException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            }
+            if (!committed) {
+                rollback();
+            }
+        }
+
+        private void rollback() throws IOException {
+            if (!existed) {
+                Files.deleteIfExists(path);
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(originalSize);
+            }
+        }
+    }
+}
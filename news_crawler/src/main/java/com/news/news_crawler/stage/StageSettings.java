@@ -0,0 +1,22 @@
+package com.news.news_crawler.stage;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 실행 시 단계 출력 압축 방식을 설정값({@code crawler.stage.compression})으로 적용
+ */
+@Component
+public class StageSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(StageSettings.class);
+
+    public StageSettings(@Value("${" + StageFiles.COMPRESSION_PROPERTY + ":}") String compression) {
+        if (!compression.isBlank()) {
+            StageFiles.setCompression(StageCompression.fromName(compression));
+        }
+        logger.info("단계 출력 압축 방식: " + StageFiles.getCompression().configName());
+    }
+}
@@ -0,0 +1,57 @@
+package com.news.news_crawler.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.PropertyResolver;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 여러 서버가 실행 하나를 나눠 처리하는 DB 작업 큐 설정 (crawler.queue.*)
+ * 모든 서버가 같은 DB와 같은 static 폴더(공유 스토리지)를 써야 함
+ */
+@Getter
+@Builder(toBuilder = true)
+public class CrawlQueueConfig {
+
+    @Builder.Default
+    private final boolean enabled = false; // true면 전체 실행을 crawl_work_item 큐로 다른 서버와 나눠 처리
+    @Builder.Default
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName(); // pid@호스트 이름
+    @Builder.Default
+    private final int threads = 3; // 이 서버에서 동시에 처리하는 작업 수
+    @Builder.Default
+    private final int detailShards = 4; // 카테고리 목록을 나눌 상세 샤드 수
+    @Builder.Default
+    private final int leaseSeconds = 300; // 작업 임대 기간 - 이 시간 동안 heartbeat가 없으면 다른 서버가 가져감
+    @Builder.Default
+    private final int heartbeatSeconds = 60; // 임대 연장 간격
+    @Builder.Default
+    private final int maxAttempts = 3; // 작업당 최대 실행 횟수
+    @Builder.Default
+    private final int retryDelaySeconds = 30; // 실패한 작업을 다시 가져가기까지의 대기 시간
+    @Builder.Default
+    private final long pollMillis = 2_000; // 가져갈 작업이 없을 때 다시 확인하는 간격
+
+    public static CrawlQueueConfig defaults() {
+        return CrawlQueueConfig.builder().build();
+    }
+
+    /**
+     * 설정 속성에서 읽기 (없는 값은 기본값)
+     */
+    public static CrawlQueueConfig from(PropertyResolver properties) {
+        CrawlQueueConfig defaults = defaults();
+        return CrawlQueueConfig.builder()
+                .enabled(properties.getProperty("crawler.queue.enabled", Boolean.class, defaults.isEnabled()))
+                .nodeId(properties.getProperty("crawler.queue.node-id", defaults.getNodeId()))
+                .threads(properties.getProperty("crawler.queue.threads", Integer.class, defaults.getThreads()))
+                .detailShards(properties.getProperty("crawler.queue.detail-shards", Integer.class, defaults.getDetailShards()))
+                .leaseSeconds(properties.getProperty("crawler.queue.lease-seconds", Integer.class, defaults.getLeaseSeconds()))
+                .heartbeatSeconds(properties.getProperty("crawler.queue.heartbeat-seconds", Integer.class, defaults.getHeartbeatSeconds()))
+                .maxAttempts(properties.getProperty("crawler.queue.max-attempts", Integer.class, defaults.getMaxAttempts()))
+                .retryDelaySeconds(properties.getProperty("crawler.queue.retry-delay-seconds", Integer.class, defaults.getRetryDelaySeconds()))
+                .pollMillis(properties.getProperty("crawler.queue.poll-ms", Long.class, defaults.getPollMillis()))
+                .build();
+    }
+}
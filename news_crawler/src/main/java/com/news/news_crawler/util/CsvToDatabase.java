@@ -2,191 +2,212 @@ package com.news.news_crawler.util;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
-import org.springframework.core.env.Environment;
-import com.news.news_crawler.util.DateTimeUtils;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.ResourcePropertySource;
+import com.news.news_crawler.db.BatchInserter;
+import com.news.news_crawler.db.BatchInserter.CommittedBatch;
+import com.news.news_crawler.db.JpaNewsWriter;
+import com.news.news_crawler.db.NewsFingerprintIndex;
+import com.news.news_crawler.db.NewsFingerprintIndex.Fingerprint;
+import com.news.news_crawler.db.NewsFingerprintIndex.Match;
+import com.news.news_crawler.db.NewsRow;
+import com.news.news_crawler.db.OidAidFilter;
+import com.news.news_crawler.db.RelatedNewsRow;
+import com.news.news_crawler.db.StagingBulkLoader;
+import com.news.news_crawler.entity.DedupState;
+import com.news.news_crawler.entity.NewsCategory;
+import com.news.news_crawler.stage.ParallelRecordParser;
+import com.news.news_crawler.stage.ParallelRecordParser.ParsedChunk;
+import com.news.news_crawler.stage.ParallelRecordParser.RowMapper;
+import com.news.news_crawler.stage.ParallelRecordParser.RowFailure;
+import com.news.news_crawler.stage.RecordChunks;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.stage.RunManifest;
+import com.news.news_crawler.stage.StageFiles;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.monitoring.CrawlerMetrics;
+import com.news.news_crawler.monitoring.DbInsertBatchEvent;
 
 public class CsvToDatabase {
 
-    // CSV 경로 (가장 최신 파일을 찾기 위한 동적 생성)
-    private static String getCsvBasePath() {
-        return "news_crawler/src/main/resources/static/";
+    // 파일 이름의 한글 카테고리 (DB 카테고리명은 NewsCategory)
+    private static final String[] CATEGORIES = Arrays.stream(NewsCategory.values()).map(NewsCategory::getLabel).toArray(String[]::new);
+
+    // 카테고리 매핑: CSV의 카테고리명 → DB용 카테고리명
+    private static String categoryForDb(String categoryName) {
+        return NewsCategory.fromLabel(categoryName).map(Enum::name).orElse(null);
     }
-    
-    // 가장 최신 파일의 경로를 찾는 메서드
-    private static String findLatestCsvBasePath() {
-        String basePath = getCsvBasePath();
-        File baseDir = new File(basePath);
-        
-        if (!baseDir.exists() || !baseDir.isDirectory()) {
-            System.err.println("기본 디렉토리를 찾을 수 없습니다: " + basePath);
-            return null;
-        }
-        
-        // 재귀적으로 모든 deduplicated-related 폴더 찾기
-        List<String> dedupPaths = new ArrayList<>();
 
-        System.out.println("기본 디렉토리: " + baseDir.getAbsolutePath());
-        findDeduplicatedRelatedFolders(baseDir, dedupPaths);
-        System.out.println("찾은 deduplicated-related 폴더 수: " + dedupPaths.size());
-        for (String path : dedupPaths) {
-            System.out.println("  - " + path);
+    // 파일 하나를 읽어 삽입할 때 쓰는 설정
+    // oidFilter: 기존 oid_aid 사전 확인 필터 (꺼져 있거나 읽지 못했으면 null)
+    // jpaWriter: mode가 JPA일 때만 사용
+    // fingerprints: 이전 실행 기사 지문 색인 (꺼져 있거나 읽지 못했으면 null)
+    private record LoadOptions(ForkJoinPool parsePool, long parseChunkBytes, int batchSize, DbLoadConfig.Mode mode, Path stagingDir,
+                               OidAidFilter oidFilter, JpaNewsWriter jpaWriter, NewsFingerprintIndex fingerprints) {
+    }
+
+    /**
+     * 카테고리 1회 저장의 이전 실행 비교 상태 (카테고리 저장 스레드에서만 사용)
+     *
+     * 이전 실행 기사와 본문이 거의 같은 기사는 저장하지 않고, 제목이 비슷한 기사는 저장하면서 연관 뉴스로 잇는다.
+     * 지문과 연결은 기사가 실제로 저장된 뒤({@link #stored})에만 남긴다.
+     */
+    private static final class CrossRunCheck {
+        private record Pending(Fingerprint fingerprint, RelatedNewsRow link) {
         }
-        
-        if (dedupPaths.isEmpty()) {
-            System.err.println("deduplicated-related 폴더를 찾을 수 없습니다.");
-            return null;
+
+        private final NewsFingerprintIndex index;
+        private final Map<NewsRow, Pending> pending = new IdentityHashMap<>();
+        private final List<Fingerprint> stored = new ArrayList<>();
+        private final List<RelatedNewsRow> links = new ArrayList<>();
+        private int duplicates;
+
+        CrossRunCheck(NewsFingerprintIndex index) {
+            this.index = index;
         }
-        
-        // 가장 최신 날짜 찾기
-        String latestPath = null;
-        LocalDateTime latestDateTime = null;
-        
-        for (String path : dedupPaths) {
-            // 경로에서 날짜 추출
-            String datePeriod = extractDateFromPath(path);
-            System.out.println("날짜: " + datePeriod);
-            if (datePeriod != null) {
-                try {
-                    String dateStr = datePeriod.substring(0, 10); // yyyy-MM-dd
-                    String periodStr = datePeriod.substring(11).toLowerCase(); // am/pm
-                    
-                    int hour = periodStr.equals("pm") ? 18 : 6;
-                    LocalDateTime dateTime = LocalDateTime.parse(dateStr + " " + hour + ":00:00", 
-                        DateTimeFormatter.ofPattern("yyyy-MM-dd H:mm:ss"));
-                    if (latestDateTime == null || dateTime.isAfter(latestDateTime)) {
-                        latestDateTime = dateTime;
-                        latestPath = path;
-                        System.out.println("최신: " + datePeriod + " → " + path);
-                    }
-                } catch (Exception e) {
-                    System.err.println("날짜 파싱 실패: " + datePeriod);
+
+        /**
+         * 저장할 행 (이전 실행 기사와 중복이면 null)
+         * 이번 실행에서 그룹에 속하지 않았던 기사(KEPT)가 이전 기사와 연관이면 RELATED로 바꾼다
+         */
+        NewsRow check(NewsRow news) {
+            if (index == null || news.oidAid() == null) {
+                return news;
+            }
+            Fingerprint fingerprint = index.fingerprint(news.oidAid(), news.title(), news.content());
+            Match match = index.match(fingerprint);
+            RelatedNewsRow link = null;
+            if (match != null && match.kind() == NewsFingerprintIndex.MatchKind.DUPLICATE) {
+                duplicates++;
+                return null;
+            }
+            if (match != null) {
+                link = new RelatedNewsRow(match.oidAid(), news.oidAid(), match.similarity());
+                if (DedupState.KEPT.name().equals(news.dedupState())) {
+                    news = news.withDedupState(DedupState.RELATED.name());
                 }
             }
+            pending.put(news, new Pending(fingerprint, link));
+            return news;
         }
-        
-        return latestPath;
-    }
-    
-    // 재귀적으로 deduplicated-related 폴더들 찾기
-    private static void findDeduplicatedRelatedFolders(File dir, List<String> results) {
-        if (!dir.exists() || !dir.isDirectory()) {
-            return;
-        }
-        
-        File[] files = dir.listFiles();
-        if (files != null) {
-            for (File file : files) {
-                if (file.isDirectory()) {
-                    System.out.println("검색 : " + file.getAbsolutePath());
-                    if (file.getName().equals("deduplicated-related")) {
-                        System.out.println("deduplicated-related 폴더 발견: " + file.getAbsolutePath());
-                        results.add(file.getAbsolutePath() + "/");
-                    } else {
-                        // 재귀적으로 하위 폴더 검색
-                        findDeduplicatedRelatedFolders(file, results);
-                    }
+
+        /**
+         * check가 돌려준 행이 저장됨
+         */
+        void stored(NewsRow news) {
+            Pending saved = pending.remove(news);
+            if (saved != null) {
+                stored.add(saved.fingerprint());
+                if (saved.link() != null) {
+                    links.add(saved.link());
                 }
             }
         }
     }
-    
-    // 경로에서 날짜 추출
-    private static String extractDateFromPath(String path) {
-        // Windows 경로와 Unix 경로 모두 처리
-        String[] parts = path.split("[\\\\/]");
-        for (String part : parts) {
-            if (part.toLowerCase().matches("\\d{4}-\\d{2}-\\d{2}_(am|pm)")) {
-                return part;
-            }
-        }
-        return null;
+
+    private final DataSource dataSource;
+    private final DbLoadConfig config;
+    private final OidAidFilter oidFilter;
+    private final JpaNewsWriter jpaWriter;
+    private final NewsFingerprintIndex fingerprints;
+
+    /**
+     * @param dataSource 커넥션 풀 (서버 실행 시 애플리케이션의 DataSource)
+     */
+    public CsvToDatabase(DataSource dataSource, DbLoadConfig config) {
+        this(dataSource, config, config.isOidFilterEnabled() ? new OidAidFilter(config.getOidFilterFpp()) : null, null,
+                config.newFingerprintIndex());
     }
 
-    // 카테고리 매핑
-    private static final Map<String, String> CATEGORY_MAPPING = Map.of(
-        "정치", "POLITICS",
-        "경제", "ECONOMY",
-        "사회", "SOCIETY",
-        "생활", "LIFE",
-        "세계", "INTERNATIONAL",
-        "IT과학", "IT_SCIENCE",
-        "자동차", "VEHICLE",
-        "여행", "TRAVEL_FOOD",
-        "예술", "ART"
-    );
-
-    private static final String[] CATEGORIES = {"정치", "경제", "사회", "생활", "세계", "IT과학", "자동차", "여행", "예술"};
+    /**
+     * @param oidFilter 실행 사이에 유지하는 oid_aid 필터 (null이면 사전 확인 없이 INSERT IGNORE만 사용)
+     * @param jpaWriter crawler.db.mode=jpa일 때 쓰는 JPA 쓰기 경로 (스프링 컨텍스트 밖에서는 null)
+     * @param fingerprints 실행 사이에 유지하는 기사 지문 색인 (null이면 이전 실행 기사와 비교하지 않음)
+     */
+    public CsvToDatabase(DataSource dataSource, DbLoadConfig config, OidAidFilter oidFilter, JpaNewsWriter jpaWriter,
+                         NewsFingerprintIndex fingerprints) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.oidFilter = oidFilter;
+        this.jpaWriter = jpaWriter;
+        this.fingerprints = fingerprints;
+    }
 
     /**
-     * 메인 메서드
+     * 메인 메서드 - 스프링 컨텍스트 없이 application.properties/시스템 속성/환경 변수만 읽어 단독 실행
      * @param args
      */
     public static void main(String[] args) {
-        System.out.println("=== CSV to DB 시작 ===");
-        
-        // Spring 컨텍스트를 통해 설정값 가져오기
-        String dbUrl, dbUser, dbPassword;
-        try {
-            // Spring Boot 애플리케이션 컨텍스트 생성
-            org.springframework.boot.SpringApplication app = new org.springframework.boot.SpringApplication(com.news.news_crawler.NewsCrawlerApplication.class);
-            app.setWebApplicationType(org.springframework.boot.WebApplicationType.NONE);
-            org.springframework.context.ConfigurableApplicationContext context = app.run(args);
-            
-            // Environment에서 설정값 가져오기
-            org.springframework.core.env.Environment env = context.getEnvironment();
-            dbUrl = env.getProperty("spring.datasource.url");
-            dbUser = env.getProperty("spring.datasource.username");
-            dbPassword = env.getProperty("spring.datasource.password");
-            
-            context.close();
-        } catch (Exception e) {
-            System.err.println("Spring 설정 로드 실패: " + e.getMessage());
-            return;
-        }
-        
-        try {
-            Class.forName("com.mysql.cj.jdbc.Driver");
-            Connection conn = DriverManager.getConnection(dbUrl, dbUser, dbPassword);
-            System.out.println("DB 연결 성공");
-            
-            // 테이블 존재 여부 확인
+        StandardEnvironment env = new StandardEnvironment();
+        ClassPathResource properties = new ClassPathResource("application.properties");
+        if (properties.exists()) {
             try {
-                DatabaseMetaData metaData = conn.getMetaData();
-                ResultSet tables = metaData.getTables(null, null, "news", null);
-                if (tables.next()) {
-                    System.out.println("news 테이블 존재 확인");
-                } else {
-                    System.err.println("news 테이블이 존재하지 않습니다!");
-                }
-                
-                tables = metaData.getTables(null, null, "related_news", null);
-                if (tables.next()) {
-                    System.out.println("related_news 테이블 존재 확인");
-                } else {
-                    System.err.println("related_news 테이블이 존재하지 않습니다!");
-                }
-            } catch (Exception e) {
-                System.err.println("테이블 확인 중 오류: " + e.getMessage());
+                env.getPropertySources().addLast(new ResourcePropertySource(properties));
+            } catch (IOException e) {
+                System.err.println("application.properties 읽기 실패: " + e.getMessage());
             }
-            
-            // 가장 최신 파일의 CSV 경로 찾기
-            String csvBasePath = findLatestCsvBasePath();
-            if (csvBasePath == null) {
-                System.err.println("최신 CSV 파일을 찾을 수 없습니다.");
-                return;
+        }
+
+        try (HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(BatchInserter.withRewriteBatchedStatements(env.getProperty("spring.datasource.url")))
+                .username(env.getProperty("spring.datasource.username"))
+                .password(env.getProperty("spring.datasource.password"))
+                .build()) {
+            DbLoadConfig config = DbLoadConfig.from(env);
+            if (config.getMode() == DbLoadConfig.Mode.BULK) {
+                dataSource.setJdbcUrl(StagingBulkLoader.withLocalInfilePath(dataSource.getJdbcUrl(), config.getStagingDir()));
             }
+            dataSource.setMaximumPoolSize(config.getCategoryParallelism() + 1);
+            new CsvToDatabase(dataSource, config).run(CrawlProgressListener.NOOP);
+        }
+    }
+
+    /**
+     * 실행 목록에서 중복 제거 결과가 있는 가장 최근 실행을 찾아 저장 (단독 실행)
+     */
+    public void run(CrawlProgressListener listener) {
+        RunManifest manifest = RunManifest.local();
+        Optional<RunManifest.Entry> latestRun = manifest.latest(RunManifest.Stage.DEDUP);
+        if (latestRun.isEmpty()) {
+            System.err.println("최신 CSV 파일을 찾을 수 없습니다 (실행 목록에 중복 제거 결과 없음).");
+            return;
+        }
+        run(RunContext.of(latestRun.get().date(), latestRun.get().period(), manifest.getStaticBase()), listener);
+    }
+
+    /**
+     * CSV → DB 저장 실행 (카테고리별 삽입 건수를 listener로 보고)
+     *
+     * 카테고리 파일은 서로 독립적이므로 카테고리마다 풀에서 연결을 하나씩 받아 최대 categoryParallelism개를 동시에 저장한다.
+     * 한 카테고리 안에서는 뉴스 삽입이 끝난 뒤 연관 뉴스를 삽입한다.
+     * @param run 저장할 실행 - 중복 제거 결과 폴더를 찾지 않고 바로 읽음
+     */
+    public void run(RunContext run, CrawlProgressListener listener) {
+        System.out.println("=== CSV to DB 시작 ===");
+
+        try {
+            checkTables();
             
-            // 파일 경로에서 날짜와 시간 추출
-            String[] pathParts = csvBasePath.split("[\\\\/]");
-            String datePeriod = pathParts[pathParts.length - 2]; // yyyy-MM-dd_am/pm
-            String period = datePeriod.substring(11); // am/pm
-            String date = datePeriod.substring(0, 10); // yyyy-MM-dd
+            String csvBasePath = run.getDedupDirectory() + "/";
+            String datePeriod = run.getRunKey(); // yyyy-MM-dd_am/pm
+            String period = run.getPeriod(); // am/pm
+            String date = run.getDate(); // yyyy-MM-dd
             
             System.out.println("처리할 최신 파일: " + datePeriod);
             System.out.println("날짜: " + date + " (" + period.toUpperCase() + ")");
@@ -196,7 +217,7 @@ public class CsvToDatabase {
             File baseDir = new File(csvBasePath);
             if (baseDir.exists() && baseDir.isDirectory()) {
                 System.out.println("\n실제 CSV 파일 목록:");
-                File[] files = baseDir.listFiles((dir, name) -> name.endsWith(".csv"));
+                File[] files = baseDir.listFiles((dir, name) -> StageFiles.isCsv(name));
                 if (files != null) {
                     for (File file : files) {
                         System.out.println("  - " + file.getName());
@@ -207,39 +228,17 @@ public class CsvToDatabase {
                 return;
             }
 
-            for (String category : CATEGORIES) {
-                String newsFile = "deduplicated_" + category + "_" + date + "_" + period + ".csv";
-                String relatedFile = "related_" + category + "_" + date + "_" + period + ".csv";
-
-                String newsPath = csvBasePath + newsFile;
-                String relatedPath = csvBasePath + relatedFile;
-
-                System.out.println("\n[" + category + "] 처리 시작");
-                
-                // 파일 존재 여부 확인
-                File newsFileObj = new File(newsPath);
-                File relatedFileObj = new File(relatedPath);
-                
-                if (!newsFileObj.exists()) {
-                    System.err.println("뉴스 파일을 찾을 수 없습니다: " + newsPath);
-                    continue;
-                }
-                
-                if (!relatedFileObj.exists()) {
-                    System.err.println("연관 뉴스 파일을 찾을 수 없습니다: " + relatedPath);
-                }
-                
-                Map<Integer, Long> indexToNewsId = insertNewsCsv(conn, newsPath, category);
-                if (relatedFileObj.exists()) {
-                    insertRelatedNewsCsv(conn, relatedPath, indexToNewsId);
-                } else {
-                    System.out.println("연관 뉴스 파일이 없어서 스킵합니다.");
+            try (Session session = new Session(csvBasePath, date, period)) {
+                for (String category : CATEGORIES) {
+                    session.submit(category, listener);
                 }
+                session.awaitAll();
             }
-
-            conn.close();
             System.out.println("\n모든 삽입 완료!");
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("DB 저장 대기 중 인터럽트");
         } catch (Exception e) {
             System.err.println("오류 발생: " + e.getMessage());
             System.err.println("오류 타입: " + e.getClass().getSimpleName());
@@ -247,114 +246,745 @@ public class CsvToDatabase {
         }
     }
 
-    // 1. 뉴스 insert 및 인덱스 매핑 반환 - 중복 무시
-    private static Map<Integer, Long> insertNewsCsv(Connection conn, String filePath, String categoryName) {
-        Map<Integer, Long> indexToNewsId = new HashMap<>();
-        String sql = "INSERT IGNORE INTO news (title, content, press, published_at, reporter, dedup_state, created_at, updated_at, trusted, image_url, oid_aid, category_name) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // 테이블 존재 여부 확인
+    private void checkTables() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            System.out.println("DB 연결 성공");
+            try {
+                DatabaseMetaData metaData = conn.getMetaData();
+                for (String table : new String[]{"news", "related_news"}) {
+                    try (ResultSet tables = metaData.getTables(null, null, table, null)) {
+                        if (tables.next()) {
+                            System.out.println(table + " 테이블 존재 확인");
+                        } else {
+                            System.err.println(table + " 테이블이 존재하지 않습니다!");
+                        }
+                    }
+                }
+                ensureContentHashColumn(conn);
+            } catch (Exception e) {
+                System.err.println("테이블 확인 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    // news.content_hash 컬럼이 없으면 추가 (컬럼이 생기기 전에 만든 테이블)
+    private static void ensureContentHashColumn(Connection conn) throws SQLException {
+        DatabaseMetaData metaData = conn.getMetaData();
+        for (String[] names : new String[][]{{"news", "content_hash"}, {"NEWS", "CONTENT_HASH"}}) {
+            try (ResultSet columns = metaData.getColumns(conn.getCatalog(), null, names[0], names[1])) {
+                if (columns.next()) {
+                    return;
+                }
+            }
+        }
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("ALTER TABLE news ADD COLUMN content_hash VARCHAR(16)");
+        }
+        System.out.println("news.content_hash 컬럼 추가");
+    }
+
+    // oid_aid 필터를 아직 읽지 않았으면 읽기 - 실패하면 이번 실행은 필터 없이 저장
+    private OidAidFilter prepareOidFilter() {
+        if (oidFilter == null) {
+            return null;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            oidFilter.ensureLoaded(conn);
+            return oidFilter;
+        } catch (SQLException e) {
+            System.err.println("oid_aid 필터 로드 실패, 사전 확인 없이 저장합니다: " + e.getMessage());
+            return null;
+        }
+    }
 
-        try (PreparedStatement pstmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
-             BufferedReader reader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+    // 지문 색인 준비 (보존 기간 정리 포함) - 실패하면 이번 실행은 이전 실행 기사와 비교하지 않음
+    private NewsFingerprintIndex prepareFingerprints() {
+        if (fingerprints == null) {
+            return null;
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            fingerprints.ensureLoaded(conn);
+            return fingerprints;
+        } catch (SQLException e) {
+            System.err.println("기사 지문 색인 로드 실패, 이전 실행 기사와 비교하지 않고 저장합니다: " + e.getMessage());
+            return null;
+        }
+    }
 
-            String line = reader.readLine(); // 헤더 스킵
-            if (line == null) return indexToNewsId;
+    /**
+     * 날짜/시간대 하나의 카테고리별 저장 세션 열기 (테이블 확인, oid_aid 필터/지문 색인 준비)
+     *
+     * 중복 제거가 끝난 카테고리부터 {@link Session#submit}으로 바로 저장할 때 사용한다.
+     */
+    public Session openSession(RunContext run) throws SQLException {
+        checkTables();
+        return new Session(run.getDedupDirectory() + "/", run.getDate(), run.getPeriod());
+    }
+
+    /**
+     * 카테고리별 저장 세션
+     *
+     * 카테고리 파일은 서로 독립적이므로 카테고리마다 풀에서 연결을 하나씩 받아 최대 categoryParallelism개를 동시에 저장한다.
+     * 닫으면 남은 저장을 기다린 뒤 이번 실행에서 저장한 기사 지문을 색인에 더한다.
+     */
+    public final class Session implements AutoCloseable {
+
+        private final String csvBasePath;
+        private final String date;
+        private final String period;
+        private final ForkJoinPool parsePool;
+        private final ExecutorService categoryPool;
+        private final LoadOptions options;
+        private final Map<String, Future<?>> submitted = new LinkedHashMap<>();
+        private final Set<String> nothingToLoad = ConcurrentHashMap.newKeySet();
+
+        private Session(String csvBasePath, String date, String period) {
+            this.csvBasePath = csvBasePath;
+            this.date = date;
+            this.period = period;
+            int parallelism = Math.max(1, Math.min(config.getCategoryParallelism(), CATEGORIES.length));
+            DbLoadConfig.Mode mode = config.getMode();
+            if (mode == DbLoadConfig.Mode.JPA) {
+                // batch로 대신 저장하면 JPA 시퀀스가 받아 둔 id와 AUTO_INCREMENT id가 겹침
+                if (jpaWriter == null) {
+                    throw new IllegalStateException("JPA 저장은 스프링 컨텍스트 안에서만 가능합니다 (crawler.db.mode=jpa)");
+                }
+                jpaWriter.beginSession();
+            }
+            this.parsePool = new ForkJoinPool(Math.max(1, config.getParseParallelism()));
+            this.categoryPool = Executors.newFixedThreadPool(parallelism);
+            this.options = new LoadOptions(parsePool, config.getParseChunkBytes(), config.getBatchSize(),
+                    mode, config.getStagingDir(), prepareOidFilter(), jpaWriter, prepareFingerprints());
+        }
 
-            int count = 0;
-            int csvIndex = 0;
-            LocalDateTime now = LocalDateTime.now();
+        /**
+         * 카테고리 하나 저장 예약 (뉴스 삽입이 끝난 뒤 연관 뉴스 삽입)
+         */
+        public synchronized Future<?> submit(String category, CrawlProgressListener listener) {
+            Future<?> future = categoryPool.submit(() -> {
+                loadCategory(csvBasePath, date, period, category, options, listener);
+                return null;
+            });
+            submitted.put(category, future);
+            return future;
+        }
 
-            while ((line = reader.readLine()) != null) {
+        /**
+         * 카테고리 하나 저장하고 끝날 때까지 대기 (단계 DAG/작업 큐의 저장 노드용)
+         * 중복 제거 결과 파일이 없거나, DB 연결에 실패하거나, 삽입이 중간에 중단되면 호출 측 재시도를 위해 던짐
+         */
+        public void load(String category, CrawlProgressListener listener) throws InterruptedException, ExecutionException {
+            if (nothingToLoad.contains(category)) {
+                System.out.println("[" + category + "] 중복 제거 입력이 없어 DB 저장을 건너뜁니다.");
+                return;
+            }
+            submit(category, listener).get();
+        }
+
+        /**
+         * 저장할 것이 없는 카테고리 표시 (목록이 비어 상세 파일이 없어 중복 제거가 missing을 보고한 경우)
+         * 이후 load는 결과 파일을 찾지 않고 바로 끝남 - 결과 파일이 있어야 하는 카테고리의 누락은 계속 오류
+         */
+        public void skip(String category) {
+            nothingToLoad.add(category);
+        }
+
+        /**
+         * 예약한 저장이 모두 끝날 때까지 대기 (카테고리 오류는 기록만 함)
+         */
+        public void awaitAll() throws InterruptedException {
+            Map<String, Future<?>> futures;
+            synchronized (this) {
+                futures = new LinkedHashMap<>(submitted);
+            }
+            for (Map.Entry<String, Future<?>> entry : futures.entrySet()) {
                 try {
-                    String[] fields = parseCsvLine(line);
-                    if (fields.length < 12) continue; // 컬럼 수 증가로 인한 최소 필드 수 조정
-
-                    // CSV 헤더: "news_category_id","press","title","reporter","published_at","link","created_at","image_url","trusted","oid_aid","content","mark", "dedup_state"
-   
-                    String press = fields[1];
-                    String title = fields[2];
-                    String reporter = fields[3];
-                    String publishedAt = fields[4];
-                    String imageUrl = fields[7];
-                    String trusted = fields[8];
-                    String oidAid = fields[9];
-                    String content = fields[10];
-                    String dedupState = fields[12]; // dedup_state는 이미 ENUM 값으로 저장됨
-
-                    LocalDateTime parsedPublishedAt = parseDate(publishedAt);
-                    boolean trustedValue = "1".equals(trusted) || "true".equalsIgnoreCase(trusted);
-                    
-                    // 카테고리 매핑: CSV의 카테고리명 → DB용 카테고리명
-                    String categoryForDb = CATEGORY_MAPPING.get(categoryName);
-
-                    pstmt.setString(1, title);
-                    pstmt.setString(2, content);
-                    pstmt.setString(3, press);
-                    pstmt.setTimestamp(4, Timestamp.valueOf(parsedPublishedAt));
-                    pstmt.setString(5, reporter);
-                    pstmt.setString(6, dedupState); // 매핑된 ENUM 값 사용
-                    pstmt.setTimestamp(7, Timestamp.valueOf(now));
-                    pstmt.setNull(8, Types.TIMESTAMP);
-                    pstmt.setBoolean(9, trustedValue);
-                    pstmt.setString(10, imageUrl.isEmpty() ? null : imageUrl);
-                    pstmt.setString(11, oidAid.isEmpty() ? null : oidAid);
-                    pstmt.setString(12, categoryForDb); // 카테고리 추가
-
-                    pstmt.executeUpdate();
-
-                    ResultSet keys = pstmt.getGeneratedKeys();
-                    if (keys.next()) {
-                        indexToNewsId.put(csvIndex, keys.getLong(1));
-                    }
+                    entry.getValue().get();
+                } catch (ExecutionException e) {
+                    System.err.println("[" + entry.getKey() + "] 저장 중 오류: " + e.getCause().getMessage());
+                }
+            }
+        }
 
-                    csvIndex++;
-                    count++;
-                } catch (Exception e) {
-                    System.err.println("뉴스 삽입 실패: " + line);
-                    System.err.println(" - " + e.getMessage());
+        @Override
+        public void close() {
+            try {
+                awaitAll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // 취소 - 진행 중인 저장은 아래에서 인터럽트
+            }
+            categoryPool.shutdownNow();
+            parsePool.shutdown();
+            if (options.oidFilter() != null) {
+                System.out.println("oid_aid 필터: " + options.oidFilter().stats());
+            }
+            if (options.fingerprints() != null) {
+                options.fingerprints().publishPending();
+                System.out.println("기사 지문 색인: " + options.fingerprints().stats());
+            }
+        }
+    }
+
+    // 카테고리 하나 저장 - 풀에서 받은 연결 하나로 뉴스 → 연관 뉴스 순서 (실패는 Session.load/awaitAll에서 처리)
+    private void loadCategory(String csvBasePath, String date, String period, String category,
+                              LoadOptions options, CrawlProgressListener listener) throws Exception {
+        if (listener.isCancelled()) {
+            System.out.println("[" + category + "] 크롤링 취소 요청으로 DB 저장을 건너뜁니다.");
+            return;
+        }
+        String newsFile = "deduplicated_" + category + "_" + date + "_" + period + ".csv";
+        String relatedFile = "related_" + category + "_" + date + "_" + period + ".csv";
+
+        // 컬럼형 파일(.ncol)이 있으면 CSV 대신 읽음
+        String newsPath = StageFiles.resolveForRead(Path.of(csvBasePath + newsFile)).toString();
+        String relatedPath = StageFiles.resolveForRead(Path.of(csvBasePath + relatedFile)).toString();
+
+        System.out.println("\n[" + category + "] 처리 시작");
+        
+        // 파일 존재 여부 확인
+        File newsFileObj = new File(newsPath);
+        File relatedFileObj = new File(relatedPath);
+        
+        if (!newsFileObj.exists()) {
+            throw new FileNotFoundException("뉴스 파일을 찾을 수 없습니다: " + newsPath);
+        }
+        
+        if (!relatedFileObj.exists()) {
+            System.err.println("연관 뉴스 파일을 찾을 수 없습니다: " + relatedPath);
+        }
+
+        CrossRunCheck crossRun = new CrossRunCheck(options.fingerprints());
+        if (options.mode() == DbLoadConfig.Mode.JPA) {
+            Map<Integer, Long> indexToNewsId = jpaInsertNewsCsv(newsPath, category, options, crossRun);
+            listener.onInserted(category, indexToNewsId.size());
+            saveCrossRun(category, crossRun, options);
+            if (relatedFileObj.exists()) {
+                jpaInsertRelatedNewsCsv(relatedPath, category, options);
+            } else {
+                System.out.println("[" + category + "] 연관 뉴스 파일이 없어서 스킵합니다.");
+            }
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection()) {
+            boolean bulk = options.mode() == DbLoadConfig.Mode.BULK;
+            Map<Integer, Long> indexToNewsId = bulk
+                    ? bulkInsertNewsCsv(conn, newsPath, category, options, crossRun)
+                    : insertNewsCsv(conn, newsPath, category, options, crossRun);
+            listener.onInserted(category, indexToNewsId.size());
+            saveCrossRun(conn, category, crossRun, options);
+            if (relatedFileObj.exists()) {
+                if (bulk) {
+                    bulkInsertRelatedNewsCsv(conn, relatedPath, category, options);
+                } else {
+                    insertRelatedNewsCsv(conn, relatedPath, indexToNewsId, category, options);
                 }
+            } else {
+                System.out.println("[" + category + "] 연관 뉴스 파일이 없어서 스킵합니다.");
             }
+        }
+    }
 
-            System.out.printf("[%s] 뉴스 %d개 삽입 완료\n", categoryName, count);
-        } catch (Exception e) {
-            System.err.println("뉴스 처리 중 오류: " + e.getMessage());
+    // 1. 뉴스 insert 및 인덱스 매핑 반환 - 중복 무시
+    // 파일을 레코드 경계에서 나눠 병렬 파싱하고, 이 스레드에서 조각 순서대로 배치 삽입 (인덱스 = 삽입 성공 순서)
+    private static Map<Integer, Long> insertNewsCsv(Connection conn, String filePath, String categoryName, LoadOptions options,
+                                                    CrossRunCheck crossRun) throws Exception {
+        Map<Integer, Long> indexToNewsId = new HashMap<>();
+        String sql = "INSERT IGNORE INTO news (title, content, press, published_at, reporter, dedup_state, created_at, updated_at, trusted, image_url, oid_aid, category_name, content_hash) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int[] count = {0};
+        int[] failed = {0};
+        int[] skipped = {0};
+
+        String categoryForDb = categoryForDb(categoryName);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (BatchInserter<NewsRow> inserter = new BatchInserter<>(conn, sql, true, options.batchSize(), (pstmt, news) -> {
+                 pstmt.setString(1, news.title());
+                 pstmt.setString(2, news.content());
+                 pstmt.setString(3, news.press());
+                 pstmt.setTimestamp(4, Timestamp.valueOf(news.publishedAt()));
+                 pstmt.setString(5, news.reporter());
+                 pstmt.setString(6, news.dedupState()); // 매핑된 ENUM 값 사용
+                 pstmt.setTimestamp(7, now);
+                 pstmt.setNull(8, Types.TIMESTAMP);
+                 pstmt.setBoolean(9, news.trusted());
+                 pstmt.setString(10, news.imageUrl());
+                 pstmt.setString(11, news.oidAid());
+                 pstmt.setString(12, categoryForDb); // 카테고리 추가
+                 pstmt.setString(13, news.contentHash());
+             });
+             RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes())) {
+
+            if (chunks.getHeader().isEmpty()) return indexToNewsId;
+
+            ParallelRecordParser.parse(chunks, options.parsePool(), newsMapper(chunks), chunk -> {
+                reportFailures("뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+
+                // 이미 저장된 기사는 DB에 보내기 전에 제외 (rowIndexes: 남은 행의 조각 내 위치)
+                List<NewsRow> rows = new ArrayList<>(chunk.rows().size());
+                List<Integer> rowIndexes = new ArrayList<>(chunk.rows().size());
+                Set<String> existing = findExisting(conn, chunk.rows(), options.oidFilter());
+                for (int i = 0; i < chunk.rows().size(); i++) {
+                    NewsRow news = chunk.rows().get(i);
+                    if (news.oidAid() != null && existing.contains(news.oidAid())) {
+                        skipped[0]++;
+                    } else if ((news = crossRun.check(news)) != null) {
+                        rows.add(news);
+                        rowIndexes.add(i);
+                    }
+                }
+
+                // 커밋된 배치는 파일 순서대로 전달됨
+                inserter.insert(rows, batch -> {
+                    long[] ids = resolveNewsIds(conn, batch);
+                    for (int i = 0; i < ids.length; i++) {
+                        if (ids[i] > 0) { // INSERT IGNORE가 무시한 행(0)은 삽입 수에 넣지 않음
+                            indexToNewsId.put(count[0]++, ids[i]);
+                            crossRun.stored(batch.rows().get(i));
+                        }
+                    }
+                    if (options.oidFilter() != null) {
+                        batch.rows().forEach(news -> options.oidFilter().add(news.oidAid()));
+                    }
+                }, (news, index, e) -> {
+                    failed[0]++;
+                    System.err.println("뉴스 삽입 실패 (" + filePath + " 레코드 " + chunk.recordNumber(rowIndexes.get(index)) + ")");
+                    System.err.println(" - " + e.getMessage());
+                });
+            });
+
+            System.out.printf("[%s] 뉴스 %d개 삽입 완료 (기존 기사 %d개 제외)\n", categoryName, count[0], skipped[0]);
+            CrawlerMetrics.recordDbInsert("news", categoryName, count[0]);
+        } finally {
+            commitInsertEvent(event, "news", categoryName, filePath, count[0], failed[0]);
         }
 
         return indexToNewsId;
     }
 
+    /**
+     * 배치의 행별 새 news.id (INSERT IGNORE로 무시된 행은 0)
+     *
+     * 드라이버가 행마다 반영 건수를 알려 주면 생성 키를 반영된 행에 순서대로 붙이고,
+     * 여러 행 INSERT로 다시 쓴 배치처럼 건수를 알 수 없으면 oid_aid로 조회한 id 중 이번 배치의 생성 키만 인정한다.
+     */
+    private static long[] resolveNewsIds(Connection conn, CommittedBatch<NewsRow> batch) throws SQLException {
+        List<NewsRow> rows = batch.rows();
+        long[] keys = batch.generatedKeys();
+        long[] ids = new long[rows.size()];
+        if (keys.length == rows.size()) {
+            return keys.clone();
+        }
+
+        int[] counts = batch.updateCounts();
+        int applied = 0;
+        boolean countsKnown = counts.length == rows.size();
+        for (int i = 0; countsKnown && i < counts.length; i++) {
+            if (counts[i] < 0) {
+                countsKnown = false;
+            } else if (counts[i] > 0) {
+                applied++;
+            }
+        }
+        if (countsKnown && applied == keys.length) {
+            int key = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    ids[i] = keys[key++];
+                }
+            }
+            return ids;
+        }
+
+        if (keys.length == 0) {
+            return ids;
+        }
+        Set<Long> generated = new HashSet<>();
+        for (long key : keys) {
+            generated.add(key);
+        }
+        List<String> oidAids = new ArrayList<>();
+        for (NewsRow row : rows) {
+            if (row.oidAid() != null) {
+                oidAids.add(row.oidAid());
+            }
+        }
+        if (oidAids.isEmpty()) {
+            return ids;
+        }
+        Map<String, Long> idByOidAid = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(oidAids.size(), "?"));
+        try (PreparedStatement select = conn.prepareStatement("SELECT id, oid_aid FROM news WHERE oid_aid IN (" + placeholders + ")")) {
+            for (int i = 0; i < oidAids.size(); i++) {
+                select.setString(i + 1, oidAids.get(i));
+            }
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    long id = resultSet.getLong(1);
+                    if (generated.contains(id)) {
+                        idByOidAid.put(resultSet.getString(2), id);
+                    }
+                }
+            }
+        }
+        for (int i = 0; i < rows.size(); i++) {
+            Long id = rows.get(i).oidAid() == null ? null : idByOidAid.get(rows.get(i).oidAid());
+            ids[i] = id == null ? 0 : id;
+        }
+        return ids;
+    }
+
     // 2. 연관 뉴스 insert (oid_aid 기반) - 중복 무시
-    private static void insertRelatedNewsCsv(Connection conn, String filePath, Map<Integer, Long> indexToIdMap) {
+    private static void insertRelatedNewsCsv(Connection conn, String filePath, Map<Integer, Long> indexToIdMap, String categoryName, LoadOptions options) throws Exception {
         String insertSql = "INSERT IGNORE INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at) VALUES (?, ?, ?, NOW())";
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int[] count = {0};
+        int[] failed = {0};
+
+        // 직접 oid_aid 값으로 삽입 (news.id 조회 불필요)
+        try (BatchInserter<RelatedNewsRow> inserter = new BatchInserter<>(conn, insertSql, false, options.batchSize(), (insertPstmt, related) -> {
+                 insertPstmt.setString(1, related.repOidAid());
+                 insertPstmt.setString(2, related.relatedOidAid());
+                 insertPstmt.setFloat(3, related.similarity());
+             });
+             RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes())) {
+
+            if (chunks.getHeader().isEmpty()) return;
+
+            ParallelRecordParser.parse(chunks, options.parsePool(), relatedMapper(chunks), chunk -> {
+                reportFailures("연관 뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+
+                count[0] += inserter.insert(chunk.rows(), null, (related, index, e) -> {
+                    failed[0]++;
+                    System.err.println("연관 뉴스 삽입 실패 (" + filePath + " 레코드 " + chunk.recordNumber(index) + ")");
+                    System.err.println(" - " + e.getMessage());
+                });
+            });
 
-        try (PreparedStatement insertPstmt = conn.prepareStatement(insertSql);
-             BufferedReader reader = new BufferedReader(new FileReader(filePath, StandardCharsets.UTF_8))) {
+            System.out.printf("📎 연관 뉴스 %d개 삽입 완료 (%s)\n", count[0], filePath);
+            CrawlerMetrics.recordDbInsert("related_news", categoryName, count[0]);
 
-            String line = reader.readLine(); // 헤더 스킵
-            if (line == null) return;
+        } finally {
+            commitInsertEvent(event, "related_news", categoryName, filePath, count[0], failed[0]);
+        }
+    }
 
-            int count = 0;
+    // 1-c. 뉴스 JPA 저장 (crawler.db.mode=jpa) - StatelessSession 배치 insert, 이미 있는 oid_aid는 미리 제외
+    private static Map<Integer, Long> jpaInsertNewsCsv(String filePath, String categoryName, LoadOptions options, CrossRunCheck crossRun) throws Exception {
+        Map<Integer, Long> indexToNewsId = new HashMap<>();
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int[] count = {0};
+        int[] failed = {0};
+        int[] skipped = {0};
+        JpaNewsWriter writer = options.jpaWriter();
+        NewsCategory category = NewsCategory.fromLabel(categoryName).orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> seen = new HashSet<>(); // INSERT IGNORE가 없으므로 파일 안 중복도 여기서 제외
+
+        try (RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes())) {
+
+            if (chunks.getHeader().isEmpty()) return indexToNewsId;
+
+            ParallelRecordParser.parse(chunks, options.parsePool(), newsMapper(chunks), chunk -> {
+                reportFailures("뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+
+                List<String> oidAids = new ArrayList<>(chunk.rows().size());
+                for (NewsRow news : chunk.rows()) {
+                    oidAids.add(news.oidAid());
+                }
+                // 필터가 있으면 있을 수도 있는 키만 리포지토리로 확인
+                Set<String> existing = options.oidFilter() != null
+                        ? options.oidFilter().findExisting(oidAids, writer::findExistingOidAids)
+                        : writer.findExistingOidAids(oidAids);
+
+                List<NewsRow> rows = new ArrayList<>(chunk.rows().size());
+                List<Integer> rowIndexes = new ArrayList<>(chunk.rows().size());
+                for (int i = 0; i < chunk.rows().size(); i++) {
+                    NewsRow news = chunk.rows().get(i);
+                    if (news.oidAid() != null && (existing.contains(news.oidAid()) || !seen.add(news.oidAid()))) {
+                        skipped[0]++;
+                    } else if ((news = crossRun.check(news)) != null) {
+                        rows.add(news);
+                        rowIndexes.add(i);
+                    }
+                }
 
-            while ((line = reader.readLine()) != null) {
-                String[] fields = parseCsvLine(line);
-                if (fields.length < 3) continue;
+                long[] ids = writer.insertNews(rows, category, now, options.batchSize(), (news, index, e) -> {
+                    failed[0]++;
+                    System.err.println("뉴스 저장 실패 (" + filePath + " 레코드 " + chunk.recordNumber(rowIndexes.get(index)) + ")");
+                    System.err.println(" - " + e.getMessage());
+                });
+                for (int i = 0; i < ids.length; i++) {
+                    if (ids[i] > 0) {
+                        indexToNewsId.put(count[0]++, ids[i]);
+                        crossRun.stored(rows.get(i));
+                        if (options.oidFilter() != null) {
+                            options.oidFilter().add(rows.get(i).oidAid());
+                        }
+                    }
+                }
+            });
 
-                // CSV 헤더: "rep_oid_aid","related_oid_aid","similarity"
-                String repOidAid = fields[0];
-                String relatedOidAid = fields[1];
-                float similarity = Float.parseFloat(fields[2]);
+            System.out.printf("[%s] 뉴스 %d개 JPA 저장 완료 (기존 기사 %d개 제외)\n", categoryName, count[0], skipped[0]);
+            CrawlerMetrics.recordDbInsert("news", categoryName, count[0]);
+        } finally {
+            commitInsertEvent(event, "news", categoryName, filePath, count[0], failed[0]);
+        }
 
-                // 직접 oid_aid 값으로 삽입 (news.id 조회 불필요)
-                insertPstmt.setString(1, repOidAid);
-                insertPstmt.setString(2, relatedOidAid);
-                insertPstmt.setFloat(3, similarity);
-                insertPstmt.executeUpdate();
-                count++;
+        return indexToNewsId;
+    }
+
+    // 2-c. 연관 뉴스 JPA 저장 (crawler.db.mode=jpa)
+    private static void jpaInsertRelatedNewsCsv(String filePath, String categoryName, LoadOptions options) throws Exception {
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int[] count = {0};
+        int[] failed = {0};
+        JpaNewsWriter writer = options.jpaWriter();
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> seen = new HashSet<>();
+
+        try (RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes())) {
+
+            if (chunks.getHeader().isEmpty()) return;
+
+            ParallelRecordParser.parse(chunks, options.parsePool(), relatedMapper(chunks), chunk -> {
+                reportFailures("연관 뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+
+                Set<String> existing = writer.findExistingPairs(chunk.rows());
+                List<RelatedNewsRow> rows = new ArrayList<>(chunk.rows().size());
+                List<Integer> rowIndexes = new ArrayList<>(chunk.rows().size());
+                for (int i = 0; i < chunk.rows().size(); i++) {
+                    RelatedNewsRow related = chunk.rows().get(i);
+                    String key = JpaNewsWriter.pairKey(related.repOidAid(), related.relatedOidAid());
+                    if (!existing.contains(key) && seen.add(key)) {
+                        rows.add(related);
+                        rowIndexes.add(i);
+                    }
+                }
+
+                count[0] += writer.insertRelated(rows, now, options.batchSize(), (related, index, e) -> {
+                    failed[0]++;
+                    System.err.println("연관 뉴스 저장 실패 (" + filePath + " 레코드 " + chunk.recordNumber(rowIndexes.get(index)) + ")");
+                    System.err.println(" - " + e.getMessage());
+                });
+            });
+
+            System.out.printf("📎 연관 뉴스 %d개 JPA 저장 완료 (%s)\n", count[0], filePath);
+            CrawlerMetrics.recordDbInsert("related_news", categoryName, count[0]);
+        } finally {
+            commitInsertEvent(event, "related_news", categoryName, filePath, count[0], failed[0]);
+        }
+    }
+
+    // 조각의 oid_aid 중 이미 저장된 것 (필터가 있을 수도 있다고 한 키만 DB에서 확인)
+    private static Set<String> findExisting(Connection conn, List<NewsRow> rows, OidAidFilter oidFilter) throws SQLException {
+        if (oidFilter == null) {
+            return Collections.emptySet();
+        }
+        List<String> oidAids = new ArrayList<>(rows.size());
+        for (NewsRow news : rows) {
+            oidAids.add(news.oidAid());
+        }
+        return oidFilter.findExisting(conn, oidAids);
+    }
+
+    // 뉴스 파일 레코드 → NewsRow (헤더에서 컬럼 위치를 한 번만 찾음)
+    private static RowMapper<NewsRow> newsMapper(RecordChunks chunks) throws IOException {
+        // CSV 헤더: "news_category_id","press","title","reporter","published_at","link","created_at","image_url","trusted","oid_aid","content","content_hash","mark","dedup_state"
+        int pressColumn = chunks.requireColumn("press");
+        int titleColumn = chunks.requireColumn("title");
+        int reporterColumn = chunks.requireColumn("reporter");
+        int publishedAtColumn = chunks.requireColumn("published_at");
+        int imageUrlColumn = chunks.requireColumn("image_url");
+        int trustedColumn = chunks.requireColumn("trusted");
+        int oidAidColumn = chunks.requireColumn("oid_aid");
+        int contentColumn = chunks.requireColumn("content");
+        int dedupStateColumn = chunks.requireColumn("dedup_state");
+        int contentHashColumn = chunks.getHeader().indexOf("content_hash"); // 이전 형식 파일에는 없음 (-1이면 빈 값)
+
+        return row -> {
+            String trusted = row.get(trustedColumn);
+            String imageUrl = row.get(imageUrlColumn);
+            String oidAid = row.get(oidAidColumn);
+            String contentHash = row.get(contentHashColumn);
+            return new NewsRow(
+                    row.get(titleColumn),
+                    row.get(contentColumn),
+                    row.get(pressColumn),
+                    parseDate(row.get(publishedAtColumn)),
+                    row.get(reporterColumn),
+                    row.get(dedupStateColumn), // dedup_state는 이미 ENUM 값으로 저장됨
+                    "1".equals(trusted) || "true".equalsIgnoreCase(trusted),
+                    imageUrl.isEmpty() ? null : imageUrl,
+                    oidAid.isEmpty() ? null : oidAid,
+                    contentHash.isEmpty() ? null : contentHash);
+        };
+    }
+
+    // 연관 뉴스 파일 레코드 → RelatedNewsRow
+    private static RowMapper<RelatedNewsRow> relatedMapper(RecordChunks chunks) throws IOException {
+        // CSV 헤더: "rep_oid_aid","related_oid_aid","similarity"
+        int repColumn = chunks.requireColumn("rep_oid_aid");
+        int relatedColumn = chunks.requireColumn("related_oid_aid");
+        int similarityColumn = chunks.requireColumn("similarity");
+
+        return row -> new RelatedNewsRow(
+                row.get(repColumn),
+                row.get(relatedColumn),
+                Float.parseFloat(row.get(similarityColumn)));
+    }
+
+    // 1-b. 뉴스 대량 적재 (crawler.db.mode=bulk) - 스테이징 테이블에 한 번에 적재 후 INSERT ... SELECT로 병합
+    private static Map<Integer, Long> bulkInsertNewsCsv(Connection conn, String filePath, String categoryName, LoadOptions options,
+                                                        CrossRunCheck crossRun) throws Exception {
+        Map<Integer, Long> indexToNewsId = new HashMap<>();
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int[] failed = {0};
+        int[] skipped = {0};
+
+        try (RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes());
+             StagingBulkLoader.NewsStaging staging = new StagingBulkLoader(conn, options.stagingDir()).newsStaging()) {
+
+            if (chunks.getHeader().isEmpty()) return indexToNewsId;
+
+            List<NewsRow> staged = new ArrayList<>();
+            ParallelRecordParser.parse(chunks, options.parsePool(), newsMapper(chunks), chunk -> {
+                reportFailures("뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+                Set<String> existing = findExisting(conn, chunk.rows(), options.oidFilter());
+                for (NewsRow news : chunk.rows()) {
+                    if (news.oidAid() != null && existing.contains(news.oidAid())) {
+                        skipped[0]++;
+                        continue;
+                    }
+                    if ((news = crossRun.check(news)) != null) {
+                        staging.add(news);
+                        staged.add(news);
+                    }
+                }
+            });
+            indexToNewsId = staging.merge(categoryForDb(categoryName), Timestamp.valueOf(LocalDateTime.now()));
+            // 병합에서 건너뛴 행(이미 있던 oid_aid)도 지문은 INSERT IGNORE로 무시되므로 모두 저장된 것으로 처리
+            for (NewsRow news : staged) {
+                crossRun.stored(news);
+                if (options.oidFilter() != null) {
+                    options.oidFilter().add(news.oidAid());
+                }
             }
 
-            System.out.printf("📎 연관 뉴스 %d개 삽입 완료 (%s)\n", count, filePath);
+            System.out.printf("[%s] 뉴스 %d개 대량 적재 완료 (기존 기사 %d개 제외)\n", categoryName, indexToNewsId.size(), skipped[0]);
+            CrawlerMetrics.recordDbInsert("news", categoryName, indexToNewsId.size());
+        } finally {
+            commitInsertEvent(event, "news", categoryName, filePath, indexToNewsId.size(), failed[0]);
+        }
+
+        return indexToNewsId;
+    }
 
-        } catch (Exception e) {
-            System.err.println("연관 뉴스 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+    // 2-b. 연관 뉴스 대량 적재 (crawler.db.mode=bulk)
+    private static void bulkInsertRelatedNewsCsv(Connection conn, String filePath, String categoryName, LoadOptions options) throws Exception {
+        DbInsertBatchEvent event = new DbInsertBatchEvent();
+        event.begin();
+        int inserted = 0;
+        int[] failed = {0};
+
+        try (RecordChunks chunks = RecordChunks.split(Path.of(filePath), options.parseChunkBytes());
+             StagingBulkLoader.RelatedStaging staging = new StagingBulkLoader(conn, options.stagingDir()).relatedStaging()) {
+
+            if (chunks.getHeader().isEmpty()) return;
+
+            ParallelRecordParser.parse(chunks, options.parsePool(), relatedMapper(chunks), chunk -> {
+                reportFailures("연관 뉴스", filePath, chunk);
+                failed[0] += chunk.failures().size();
+                for (RelatedNewsRow related : chunk.rows()) {
+                    staging.add(related);
+                }
+            });
+            inserted = staging.merge(Timestamp.valueOf(LocalDateTime.now()));
+
+            System.out.printf("📎 연관 뉴스 %d개 대량 적재 완료 (%s)\n", inserted, filePath);
+            CrawlerMetrics.recordDbInsert("related_news", categoryName, inserted);
+        } finally {
+            commitInsertEvent(event, "related_news", categoryName, filePath, inserted, failed[0]);
+        }
+    }
+
+    // 이전 실행 비교 결과 반영 (JPA) - 지문은 JDBC로, 연관 뉴스 연결은 JPA 쓰기 경로로 저장
+    private void saveCrossRun(String categoryName, CrossRunCheck crossRun, LoadOptions options) {
+        if (options.fingerprints() == null) {
+            return;
+        }
+        int linked = options.jpaWriter().insertRelated(crossRun.links, LocalDateTime.now(), options.batchSize(), (related, index, e) ->
+                System.err.println("이전 실행 연관 뉴스 저장 실패 (" + related.relatedOidAid() + "): " + e.getMessage()));
+        try (Connection conn = dataSource.getConnection()) {
+            options.fingerprints().save(conn, crossRun.stored);
+        } catch (SQLException e) {
+            System.err.println("[" + categoryName + "] 기사 지문 저장 실패: " + e.getMessage());
+        }
+        reportCrossRun(categoryName, crossRun, linked);
+    }
+
+    // 이전 실행 비교 결과 반영 - 저장한 기사의 지문을 남기고 이전 기사와의 연관 뉴스 연결 삽입
+    private static void saveCrossRun(Connection conn, String categoryName, CrossRunCheck crossRun, LoadOptions options) {
+        if (options.fingerprints() == null) {
+            return;
+        }
+        int linked = 0;
+        try (BatchInserter<RelatedNewsRow> inserter = new BatchInserter<>(conn,
+                "INSERT IGNORE INTO related_news (rep_oid_aid, related_oid_aid, similarity, created_at) VALUES (?, ?, ?, NOW())",
+                false, options.batchSize(), (pstmt, related) -> {
+                    pstmt.setString(1, related.repOidAid());
+                    pstmt.setString(2, related.relatedOidAid());
+                    pstmt.setFloat(3, related.similarity());
+                })) {
+            linked = inserter.insert(crossRun.links, null, (related, index, e) ->
+                    System.err.println("이전 실행 연관 뉴스 삽입 실패 (" + related.relatedOidAid() + "): " + e.getMessage()));
+        } catch (SQLException e) {
+            System.err.println("[" + categoryName + "] 이전 실행 연관 뉴스 삽입 실패: " + e.getMessage());
+        }
+        try {
+            options.fingerprints().save(conn, crossRun.stored);
+        } catch (SQLException e) {
+            System.err.println("[" + categoryName + "] 기사 지문 저장 실패: " + e.getMessage());
+        }
+        reportCrossRun(categoryName, crossRun, linked);
+    }
+
+    private static void reportCrossRun(String categoryName, CrossRunCheck crossRun, int linked) {
+        System.out.printf("[%s] 이전 실행 기사와 중복 %d개 제외, 연관 %d개 연결, 지문 %d개 저장\n",
+                categoryName, crossRun.duplicates, linked, crossRun.stored.size());
+        CrawlerMetrics.recordDbInsert("related_news", categoryName, linked);
+    }
+
+    // 파싱 실패 레코드 출력
+    private static void reportFailures(String kind, String filePath, ParsedChunk<?> chunk) {
+        for (RowFailure failure : chunk.failures()) {
+            System.err.println(kind + " 파싱 실패 (" + filePath + " 레코드 " + failure.recordNumber() + ")");
+            System.err.println(" - " + failure.message());
+        }
+    }
+
+    // JFR DB 삽입 이벤트 기록
+    private static void commitInsertEvent(DbInsertBatchEvent event, String table, String categoryName, String filePath, int rows, int failedRows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.table = table;
+            event.category = categoryName;
+            event.path = filePath;
+            event.rows = rows;
+            event.failedRows = failedRows;
+            event.commit();
         }
     }
 
@@ -368,32 +998,4 @@ public class CsvToDatabase {
             return LocalDateTime.now();
         }
     }
-
-    // 4. CSV 한 줄 파싱
-    private static String[] parseCsvLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-        boolean inQuotes = false;
-
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                fields.add(current.toString());
-                current.setLength(0);
-            } else {
-                current.append(c);
-            }
-        }
-
-        fields.add(current.toString());
-        return fields.toArray(new String[0]);
-    }
 }
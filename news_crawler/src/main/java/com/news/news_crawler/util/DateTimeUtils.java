@@ -1,32 +1,34 @@
 package com.news.news_crawler.util;
 
+import com.news.news_crawler.stage.RunContext;
+
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Locale;
 
+/**
+ * 현재 시각 기준 날짜/시간대 (단독 실행용)
+ * 크롤링 실행 안에서는 단계마다 시각이 달라지지 않도록 {@link RunContext}의 값을 쓴다
+ */
 public class DateTimeUtils {
-    
+
     /**
      * 현재 시간을 기반으로 날짜 문자열을 반환 (yyyy-MM-dd 형식)
      */
     public static String getCurrentDate() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        return LocalDateTime.now().format(RunContext.DATE_FORMAT);
     }
-    
-        /**
+
+    /**
      * 현재 시간을 기반으로 AM/PM을 반환 (소문자로 통일)
      */
     public static String getCurrentPeriod() {
-        LocalDateTime now = LocalDateTime.now();
-        return now.getHour() < 12 ? "am" : "pm";
+        return RunContext.periodOf(LocalDateTime.now());
     }
 
     /**
      * 현재 시간을 기반으로 am/pm을 반환 (소문자)
      */
     public static String getCurrentPeriodLower() {
-        LocalDateTime now = LocalDateTime.now();
-        return now.getHour() < 12 ? "am" : "pm";
+        return RunContext.periodOf(LocalDateTime.now());
     }
 
     /**
@@ -34,30 +36,21 @@ public class DateTimeUtils {
      */
     public static String getCurrentDatePeriod() {
         LocalDateTime now = LocalDateTime.now();
-        String date = now.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        String period = now.getHour() < 12 ? "am" : "pm";
-        return date + "_" + period;
+        return now.format(RunContext.DATE_FORMAT) + "_" + RunContext.periodOf(now);
     }
-    
+
     /**
      * 현재 시간을 기반으로 타임스탬프를 반환
      */
     public static String getCurrentTimestamp() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd a hh:mm:ss", Locale.ENGLISH));
+        return RunContext.timestamp();
     }
-    
-        /**
+
+    /**
      * 가장 최근의 날짜-시간대 폴더를 찾기 위한 기준 시간을 반환
      * 현재 시간에서 가장 가까운 시간대를 계산
      */
     public static String getNearestDatePeriod() {
-        LocalDateTime now = LocalDateTime.now();
-        int hour = now.getHour();
-
-        // 오전(0-11시)이면 am, 오후(12-23시)이면 pm
-        String period = hour < 12 ? "am" : "pm";
-        String date = now.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-
-        return date + "_" + period;
+        return getCurrentDatePeriod();
     }
 }
@@ -0,0 +1,87 @@
+package com.news.news_crawler.util;
+
+import com.news.news_crawler.db.NewsFingerprintIndex;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.PropertyResolver;
+
+import java.nio.file.Path;
+
+/**
+ * DB 저장 1회 실행의 설정 (crawler.db.*)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DbLoadConfig {
+
+    /**
+     * 저장 방식 (crawler.db.mode)
+     */
+    public enum Mode {
+        BATCH, // JDBC 배치 INSERT IGNORE
+        BULK,  // 스테이징 테이블 대량 적재 후 INSERT ... SELECT 병합
+        JPA    // News/RelatedNews 엔티티를 StatelessSession 배치로 저장 (스프링 컨텍스트 필요)
+               // id를 시퀀스에서 미리 받아 두므로 같은 DB에 batch/bulk 모드(AUTO_INCREMENT)로 쓰는 서버·단독 실행과 함께 쓸 수 없음
+    }
+
+    @Builder.Default
+    private final Mode mode = Mode.BATCH;
+    @Builder.Default
+    private final Path stagingDir = Path.of(System.getProperty("java.io.tmpdir"), "news-crawler-staging"); // 대량 적재 임시 CSV 폴더
+
+    @Builder.Default
+    private final int parseParallelism = Runtime.getRuntime().availableProcessors(); // 병렬 파싱 스레드 수
+    @Builder.Default
+    private final long parseChunkBytes = 1024 * 1024; // CSV 조각 목표 크기
+    @Builder.Default
+    private final int batchSize = 500; // JDBC 배치(트랜잭션) 크기
+    @Builder.Default
+    private final int categoryParallelism = 3; // 동시에 저장하는 카테고리 수 (카테고리마다 풀 연결 하나)
+    @Builder.Default
+    private final boolean oidFilterEnabled = true; // 기존 oid_aid Bloom 필터 사전 확인
+    @Builder.Default
+    private final double oidFilterFpp = 0.01; // Bloom 필터 목표 오탐률
+    @Builder.Default
+    private final boolean fingerprintEnabled = true; // 이전 실행 기사와 지문 비교 (news_fingerprint)
+    @Builder.Default
+    private final int fingerprintRetentionDays = 7; // 지문 보존 기간 (일)
+    @Builder.Default
+    private final int fingerprintDuplicateDistance = 3; // 중복으로 볼 본문 SimHash 최대 해밍 거리 (0~3)
+    @Builder.Default
+    private final double fingerprintRelatedSimilarity = 0.5; // 연관으로 볼 제목 MinHash 최소 유사도
+
+    /**
+     * 설정에 맞는 새 지문 색인 (비활성이면 null)
+     */
+    public NewsFingerprintIndex newFingerprintIndex() {
+        return fingerprintEnabled
+                ? new NewsFingerprintIndex(fingerprintRetentionDays, fingerprintDuplicateDistance, fingerprintRelatedSimilarity)
+                : null;
+    }
+
+    public static DbLoadConfig defaults() {
+        return DbLoadConfig.builder().build();
+    }
+
+    /**
+     * 설정 속성에서 읽기 (없는 값은 기본값)
+     */
+    public static DbLoadConfig from(PropertyResolver properties) {
+        DbLoadConfig defaults = defaults();
+        String stagingDir = properties.getProperty("crawler.db.staging-dir");
+        return DbLoadConfig.builder()
+                .mode(Mode.valueOf(properties.getProperty("crawler.db.mode", defaults.getMode().name()).trim().toUpperCase()))
+                .stagingDir(stagingDir == null || stagingDir.isBlank() ? defaults.getStagingDir() : Path.of(stagingDir))
+                .parseParallelism(properties.getProperty("crawler.db.parse-parallelism", Integer.class, defaults.getParseParallelism()))
+                .parseChunkBytes(properties.getProperty("crawler.db.parse-chunk-bytes", Long.class, defaults.getParseChunkBytes()))
+                .batchSize(properties.getProperty("crawler.db.batch-size", Integer.class, defaults.getBatchSize()))
+                .categoryParallelism(properties.getProperty("crawler.db.category-parallelism", Integer.class, defaults.getCategoryParallelism()))
+                .oidFilterEnabled(properties.getProperty("crawler.db.oid-filter.enabled", Boolean.class, defaults.isOidFilterEnabled()))
+                .oidFilterFpp(properties.getProperty("crawler.db.oid-filter.fpp", Double.class, defaults.getOidFilterFpp()))
+                .fingerprintEnabled(properties.getProperty("crawler.db.fingerprint.enabled", Boolean.class, defaults.isFingerprintEnabled()))
+                .fingerprintRetentionDays(properties.getProperty("crawler.db.fingerprint.retention-days", Integer.class, defaults.getFingerprintRetentionDays()))
+                .fingerprintDuplicateDistance(properties.getProperty("crawler.db.fingerprint.duplicate-distance", Integer.class, defaults.getFingerprintDuplicateDistance()))
+                .fingerprintRelatedSimilarity(properties.getProperty("crawler.db.fingerprint.related-similarity", Double.class, defaults.getFingerprintRelatedSimilarity()))
+                .build();
+    }
+}
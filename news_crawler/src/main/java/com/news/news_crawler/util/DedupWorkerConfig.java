@@ -0,0 +1,73 @@
+package com.news.news_crawler.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.PropertyResolver;
+
+import java.nio.file.Path;
+
+/**
+ * 상주 중복 제거 워커 설정 (crawler.dedup.*)
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DedupWorkerConfig {
+
+    @Builder.Default
+    private final boolean workerEnabled = true; // false면 실행마다 run_all_categories.py를 새로 띄움
+    @Builder.Default
+    private final boolean prestart = true; // 서버 시작 시 워커를 미리 띄워 모델을 읽어 둠
+    @Builder.Default
+    private final int workerCount = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2)); // 동시에 카테고리를 처리할 워커 수 (워커마다 모델을 따로 읽음)
+    @Builder.Default
+    private final String pythonCommand = System.getProperty("os.name").toLowerCase().contains("windows") ? "python" : "python3";
+    @Builder.Default
+    private final Path workerScript = Path.of("duplicate_detector", "dedup_worker.py");
+    @Builder.Default
+    private final Path oneShotScript = Path.of("duplicate_detector", "run_all_categories.py");
+    @Builder.Default
+    private final Path workingDirectory = Path.of(System.getProperty("user.dir")); // 프로젝트 루트
+    @Builder.Default
+    private final long startupTimeoutSeconds = 600; // 모델 로드(처음에는 다운로드 포함) 대기 한도
+    @Builder.Default
+    private final long jobTimeoutSeconds = 30 * 60; // 중복 제거 1회 대기 한도 (30분)
+    @Builder.Default
+    private final long healthCheckIntervalSeconds = 60; // 상태 확인(ping) 간격
+    @Builder.Default
+    private final long pingTimeoutSeconds = 10; // ping 응답 대기 한도
+    @Builder.Default
+    private final boolean incremental = true; // 같은 시간대 재실행 시 바뀐 기사만 중복 제거 (상주 워커 사용 시)
+    @Builder.Default
+    private final double incrementalMaxDeltaRatio = 0.5; // 바뀐 기사가 이 비율보다 많으면 전체 실행
+
+    public static DedupWorkerConfig defaults() {
+        return DedupWorkerConfig.builder().build();
+    }
+
+    /**
+     * 크롤링 파일 루트 (static 폴더)
+     */
+    public Path getStaticBase() {
+        return workingDirectory.resolve(Path.of("news_crawler", "src", "main", "resources", "static"));
+    }
+
+    /**
+     * 설정 속성에서 읽기 (없는 값은 기본값)
+     */
+    public static DedupWorkerConfig from(PropertyResolver properties) {
+        DedupWorkerConfig defaults = defaults();
+        return DedupWorkerConfig.builder()
+                .workerEnabled(properties.getProperty("crawler.dedup.worker.enabled", Boolean.class, defaults.isWorkerEnabled()))
+                .prestart(properties.getProperty("crawler.dedup.worker.prestart", Boolean.class, defaults.isPrestart()))
+                .workerCount(properties.getProperty("crawler.dedup.worker.count", Integer.class, defaults.getWorkerCount()))
+                .pythonCommand(properties.getProperty("crawler.dedup.python", defaults.getPythonCommand()))
+                .workerScript(Path.of(properties.getProperty("crawler.dedup.worker.script", defaults.getWorkerScript().toString())))
+                .startupTimeoutSeconds(properties.getProperty("crawler.dedup.worker.startup-timeout-seconds", Long.class, defaults.getStartupTimeoutSeconds()))
+                .jobTimeoutSeconds(properties.getProperty("crawler.dedup.job-timeout-seconds", Long.class, defaults.getJobTimeoutSeconds()))
+                .healthCheckIntervalSeconds(properties.getProperty("crawler.dedup.worker.health-check-interval-seconds", Long.class, defaults.getHealthCheckIntervalSeconds()))
+                .pingTimeoutSeconds(properties.getProperty("crawler.dedup.worker.ping-timeout-seconds", Long.class, defaults.getPingTimeoutSeconds()))
+                .incremental(properties.getProperty("crawler.dedup.incremental.enabled", Boolean.class, defaults.isIncremental()))
+                .incrementalMaxDeltaRatio(properties.getProperty("crawler.dedup.incremental.max-delta-ratio", Double.class, defaults.getIncrementalMaxDeltaRatio()))
+                .build();
+    }
+}
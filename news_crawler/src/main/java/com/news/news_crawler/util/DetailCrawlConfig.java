@@ -0,0 +1,42 @@
+package com.news.news_crawler.util;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상세 크롤링 1회 실행(세션)의 설정
+ *
+ * 세션마다 따로 지정할 수 있어 정기 크롤링과 백필을 서로 다른 동시성/재시도 예산으로 돌릴 수 있다.
+ * 기본값은 기존 상수값과 동일하다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class DetailCrawlConfig {
+
+    @Builder.Default
+    private final int batchSize = 5; // 배치 크기
+    @Builder.Default
+    private final int initialConcurrency = 1; // 초기 동시 요청 수
+    @Builder.Default
+    private final int maxConcurrency = 3; // 최대 동시 요청 수 (세션 스레드 풀 크기)
+    @Builder.Default
+    private final int minConcurrency = 1; // 최소 동시 요청 수
+    @Builder.Default
+    private final int connectionTimeoutMillis = 30000; // 연결 타임아웃
+    @Builder.Default
+    private final int articleTimeoutSeconds = 45; // 기사 1건 처리 대기 한도
+    @Builder.Default
+    private final int retryAttempts = 3; // 재시도 횟수
+    @Builder.Default
+    private final long retryDelayMillis = 5000; // 재시도 간격 (시도 횟수만큼 곱해서 대기)
+    @Builder.Default
+    private final long batchDelayMillis = 1000; // 배치/파일 사이 대기
+    @Builder.Default
+    private final double successRateThreshold = 0.5; // 동시성 조절 기준 성공률
+    @Builder.Default
+    private final boolean titleCandidates = true; // 상세 파일 저장 후 제목 MinHash LSH 후보 그룹 파일 생성
+
+    public static DetailCrawlConfig defaults() {
+        return DetailCrawlConfig.builder().build();
+    }
+}
@@ -5,6 +5,14 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.jsoup.Connection;
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.monitoring.ChromePageLoadEvent;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.monitoring.CrawlerMetrics;
+import com.news.news_crawler.monitoring.CsvWriteEvent;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.stage.RunManifest;
+import com.news.news_crawler.stage.StageFiles;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -18,12 +26,13 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.*;
-import com.news.news_crawler.util.DateTimeUtils;
 
 public class NaverNewsListEfficientCrawler {
 
 
 
+    private static final String[] LIST_CSV_HEADER = {"title", "link", "press", "news_category", "published_at"};
+
     private static final Map<Integer, String> CATEGORIES = Map.of(
         100, "정치",
         101, "경제",
@@ -38,7 +47,14 @@ public class NaverNewsListEfficientCrawler {
 
     public static void main(String[] args) {
         int targetCount = args.length >= 1 ? parseTargetCount(args[0]) : 100;
+        crawl(targetCount, RunContext.start(), CrawlProgressListener.NOOP);
+    }
 
+    /**
+     * 모든 카테고리 목록 크롤링 (카테고리별 수집 건수를 listener로 보고)
+     * @param run 목록 파일을 쓸 실행 (날짜/시간대 폴더)
+     */
+    public static void crawl(int targetCount, RunContext run, CrawlProgressListener listener) {
         System.out.println("모든 카테고리에 대해 각각 " + targetCount + "개씩 크롤링을 시작합니다.\n");
 
         ExecutorService executor = Executors.newFixedThreadPool(3);
@@ -46,39 +62,86 @@ public class NaverNewsListEfficientCrawler {
 
         for (Map.Entry<Integer, String> category : CATEGORIES.entrySet()) {
             final int categoryCode = category.getKey();
-            futures.add(executor.submit(() -> processCategory(categoryCode, targetCount)));
+            futures.add(executor.submit(() -> processCategory(categoryCode, targetCount, run, listener)));
         }
 
         executor.shutdown();
         try {
             for (Future<?> future : futures) future.get();
+        } catch (InterruptedException e) {
+            // 실행 취소 시 진행 중인 카테고리 작업도 중단
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            return;
         } catch (Exception e) {
             e.printStackTrace();
         }
 
         System.out.println("모든 카테고리 크롤링이 완료되었습니다!");
+        recordListOutput(run);
+        if (listener.isCancelled()) {
+            System.out.println("크롤링 취소 요청으로 나머지 카테고리를 건너뜁니다.");
+            return;
+        }
         
         // 자동차 카테고리 크롤링 추가
         System.out.println("\n자동차 카테고리 크롤링을 시작합니다.");
-        processVehicleCategory();
+        processVehicleCategory(run, listener);
+        if (listener.isCancelled()) return;
         
         // 생활 카테고리 크롤링 추가
         System.out.println("\n생활 카테고리 크롤링을 시작합니다.");
-        processLifeCategory();
+        processLifeCategory(run, listener);
+        if (listener.isCancelled()) return;
         
         // 여행 카테고리 크롤링 추가
         System.out.println("\n여행 카테고리 크롤링을 시작합니다.");
-        processTravelCategory();
+        processTravelCategory(run, listener);
+        if (listener.isCancelled()) return;
         
         // 예술 카테고리 크롤링 추가
         System.out.println("\n예술 카테고리 크롤링을 시작합니다.");
-        processArtCategory();
+        processArtCategory(run, listener);
         
         // 패션뷰티 카테고리 크롤링 제거
         // System.out.println("\n패션뷰티 카테고리 크롤링을 시작합니다.");
         // processFashionCategory();
     }
 
+    /**
+     * 카테고리 하나만 목록 크롤링 (카테고리별 파이프라인용, 호출 스레드에서 실행)
+     * 자동차/생활/여행/예술은 고정 목표 개수를 쓰므로 targetCount는 섹션 카테고리에만 적용
+     * @param categoryName 카테고리 한글 라벨 (예: 정치, 자동차)
+     */
+    public static void crawlCategory(String categoryName, int targetCount, RunContext run, CrawlProgressListener listener) {
+        switch (categoryName) {
+            case "자동차" -> processVehicleCategory(run, listener);
+            case "생활" -> processLifeCategory(run, listener);
+            case "여행" -> processTravelCategory(run, listener);
+            case "예술" -> processArtCategory(run, listener);
+            default -> {
+                int categoryCode = CATEGORIES.entrySet().stream()
+                        .filter(entry -> entry.getValue().equals(categoryName))
+                        .map(Map.Entry::getKey)
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("알 수 없는 카테고리: " + categoryName));
+                processCategory(categoryCode, targetCount, run, listener);
+            }
+        }
+        recordListOutput(run);
+    }
+
+    /**
+     * 실행 목록에 실행의 목록 폴더 기록 (실패해도 크롤링 결과에는 영향 없음)
+     */
+    private static void recordListOutput(RunContext run) {
+        try {
+            run.record(RunManifest.Stage.LIST);
+        } catch (IOException e) {
+            System.out.println("실행 목록 기록 실패: " + e.getMessage());
+        }
+    }
+
     private static int parseTargetCount(String arg) {
         try {
             return Integer.parseInt(arg);
@@ -88,7 +151,7 @@ public class NaverNewsListEfficientCrawler {
         }
     }
 
-    private static void processCategory(int categoryCode, int targetCount) {
+    private static void processCategory(int categoryCode, int targetCount, RunContext run, CrawlProgressListener listener) {
 
         String categoryName = CATEGORIES.get(categoryCode);
         System.out.printf("[%s] 크롤링 시작 - 목표: %d개%n", categoryName, targetCount);
@@ -107,9 +170,9 @@ public class NaverNewsListEfficientCrawler {
 
         try {
             String url = "https://news.naver.com/section/" + categoryCode;
-            driver.get(url);
+            loadPage(driver, url, categoryName);
 
-            while (collectedLinks.size() < targetCount) {
+            while (collectedLinks.size() < targetCount && !listener.isCancelled()) {
                 if (!clickMoreButton(wait)) break;
             }
 
@@ -119,7 +182,7 @@ public class NaverNewsListEfficientCrawler {
             for (Element article : articles) {
                 
                 if (collectedLinks.size() >= targetCount) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, categoryName);
 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -129,8 +192,10 @@ public class NaverNewsListEfficientCrawler {
 
             }
             System.out.printf("[%s] 수집 완료 - 총 %d개%n", categoryName, batch.size());
+            CrawlerMetrics.recordListCollected(categoryName, batch.size());
+            listener.onDiscovered(categoryName, batch.size());
             
-            saveToCsv(batch, categoryCode);
+            saveToCsv(batch, categoryCode, run);
 
         } catch (Exception e) {
             System.out.println("[오류] 카테고리 " + categoryCode + ": " + e.getMessage());
@@ -152,7 +217,7 @@ public class NaverNewsListEfficientCrawler {
         }
     }
 
-    private static NewsItem extractNewsItem(Element article) {
+    private static NewsItem extractNewsItem(Element article, String categoryName) {
         try {
             Element titleEl = article.selectFirst("div.sa_text > a");
             Element pressEl = article.selectFirst("div.sa_text_info_left > div.sa_text_press");
@@ -162,10 +227,14 @@ public class NaverNewsListEfficientCrawler {
             String link = titleEl.absUrl("href");
             String press = pressEl.text();
 
-            if (!ALLOWED_PRESSES.contains(press.trim())) return null;
+            if (!ALLOWED_PRESSES.contains(press.trim())) {
+                CrawlerMetrics.recordRejection(CrawlerMetrics.REJECT_PRESS_FILTER, categoryName);
+                return null;
+            }
             
             // 대괄호 안에 "시사", "칼럼", "컬럼"이 포함된 기사 필터링
             if (containsFilteredKeywords(title)) {
+                CrawlerMetrics.recordRejection(CrawlerMetrics.REJECT_KEYWORD_FILTER, categoryName);
                 return null;
             }
 
@@ -175,37 +244,29 @@ public class NaverNewsListEfficientCrawler {
         }
     }
 
-    private static void saveToCsv(List<NewsItem> newsList, int categoryCode) {
-        String ampm = DateTimeUtils.getCurrentPeriodLower();
-        String dateFolderName = DateTimeUtils.getCurrentDatePeriod();
+    private static void saveToCsv(List<NewsItem> newsList, int categoryCode, RunContext run) {
+        String ampm = run.getPeriod();
+        String dateFolderName = run.getRunKey();
         String categoryName = CATEGORIES.get(categoryCode);
         String fileName = "naver_news_" + categoryName + "_" + ampm + ".csv";
 
-        File baseDir = new File("news_crawler/src/main/resources/static");
-        File ampmFolder = new File(baseDir, ampm);
-        File dateFolder = new File(ampmFolder, dateFolderName);
+        File dateFolder = run.getRunFolder().toFile();
         if (!dateFolder.exists()) dateFolder.mkdirs();
 
-        File file = new File(dateFolder, fileName);
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            if (file.length() == 0) {
-                writer.println("title,link,press,news_category,published_at");
-            }
+        File file = StageFiles.outputPath(new File(dateFolder, fileName).toPath()).toFile();
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        try (CsvWriter writer = CsvWriter.append(file.toPath(), LIST_CSV_HEADER)) {
             for (NewsItem news : newsList) {
-                String timestamp = DateTimeUtils.getCurrentTimestamp();
-                writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                    escape(news.title), escape(news.link), escape(news.press),
-                    categoryName, timestamp);
+                String timestamp = RunContext.timestamp();
+                writer.writeRecord(news.title, news.link, news.press, categoryName, timestamp);
             }
+            writer.commit();
             System.out.println("CSV 저장 완료: " + ampm + "/" + dateFolderName + "/" + fileName);
         } catch (Exception e) {
             System.out.println("CSV 저장 실패: " + e.getMessage());
         }
+        commitCsvWriteEvent(writeEvent, file, categoryName, newsList.size());
     }
 
     /**
@@ -240,8 +301,36 @@ public class NaverNewsListEfficientCrawler {
         return false;
     }
 
-    private static String escape(String text) {
-        return text.replace("\"", "\"\"");
+    /**
+     * 목록 페이지 로딩 (JFR ChromePageLoad 이벤트 기록)
+     */
+    private static void loadPage(WebDriver driver, String url, String categoryName) {
+        ChromePageLoadEvent event = new ChromePageLoadEvent();
+        event.begin();
+        try {
+            driver.get(url);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.url = url;
+                event.category = categoryName;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * CSV 저장 JFR 이벤트 기록
+     */
+    private static void commitCsvWriteEvent(CsvWriteEvent event, File file, String categoryName, int rows) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = file.getPath();
+            event.category = categoryName;
+            event.rows = rows;
+            event.bytes = file.length();
+            event.commit();
+        }
     }
 
     /**
@@ -249,7 +338,7 @@ public class NaverNewsListEfficientCrawler {
      * https://news.naver.com/breakingnews/section/103/239 (50개)
      * https://news.naver.com/breakingnews/section/103/240 (50개)
      */
-    private static void processVehicleCategory() {
+    private static void processVehicleCategory(RunContext run, CrawlProgressListener listener) {
         System.out.println("[자동차] 크롤링 시작 - 목표: 40개 (자동차/시승기: 35개, 도로/교통: 5개개)");
 
         ChromeOptions options = new ChromeOptions();
@@ -268,7 +357,7 @@ public class NaverNewsListEfficientCrawler {
             String url1 = "https://news.naver.com/breakingnews/section/103/239";
             System.out.println("[자동차] 첫 번째 페이지 크롤링 중: " + url1);
             
-            driver.get(url1);
+            loadPage(driver, url1, "자동차");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc1 = Jsoup.parse(driver.getPageSource());
@@ -276,7 +365,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles1) {
                 if (collectedLinks.size() >= 35) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "자동차");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -288,7 +377,7 @@ public class NaverNewsListEfficientCrawler {
             String url2 = "https://news.naver.com/breakingnews/section/103/240";
             System.out.println("[자동차] 두 번째 페이지 크롤링 중: " + url2);
             
-            driver.get(url2);
+            loadPage(driver, url2, "자동차");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc2 = Jsoup.parse(driver.getPageSource());
@@ -296,7 +385,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles2) {
                 if (collectedLinks.size() >= 40) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "자동차");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -305,9 +394,11 @@ public class NaverNewsListEfficientCrawler {
             }
 
             System.out.printf("[자동차] 수집 완료 - 총 %d개%n", batch.size());
+            CrawlerMetrics.recordListCollected("자동차", batch.size());
+            listener.onDiscovered("자동차", batch.size());
             
             // 자동차 카테고리로 저장
-            saveCarCategoryToCsv(batch);
+            saveCarCategoryToCsv(batch, run);
 
         } catch (Exception e) {
             System.out.println("[오류] 자동차 카테고리: " + e.getMessage());
@@ -320,36 +411,28 @@ public class NaverNewsListEfficientCrawler {
     /**
      * 자동차 카테고리 기사를 CSV로 저장하는 메서드
      */
-    private static void saveCarCategoryToCsv(List<NewsItem> newsList) {
-        String ampm = DateTimeUtils.getCurrentPeriodLower();
-        String dateFolderName = DateTimeUtils.getCurrentDatePeriod();
+    private static void saveCarCategoryToCsv(List<NewsItem> newsList, RunContext run) {
+        String ampm = run.getPeriod();
+        String dateFolderName = run.getRunKey();
         String fileName = "naver_news_자동차_" + ampm + ".csv";
 
-        File baseDir = new File("news_crawler/src/main/resources/static");
-        File ampmFolder = new File(baseDir, ampm);
-        File dateFolder = new File(ampmFolder, dateFolderName);
+        File dateFolder = run.getRunFolder().toFile();
         if (!dateFolder.exists()) dateFolder.mkdirs();
 
-        File file = new File(dateFolder, fileName);
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            if (file.length() == 0) {
-                writer.println("title,link,press,news_category,published_at");
-            }
+        File file = StageFiles.outputPath(new File(dateFolder, fileName).toPath()).toFile();
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        try (CsvWriter writer = CsvWriter.append(file.toPath(), LIST_CSV_HEADER)) {
             for (NewsItem news : newsList) {
-                String timestamp = DateTimeUtils.getCurrentTimestamp();
-                writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                    escape(news.title), escape(news.link), escape(news.press),
-                    "자동차", timestamp);
+                String timestamp = RunContext.timestamp();
+                writer.writeRecord(news.title, news.link, news.press, "자동차", timestamp);
             }
+            writer.commit();
             System.out.println("자동차 CSV 저장 완료: " + ampm + "/" + dateFolderName + "/" + fileName);
         } catch (Exception e) {
             System.out.println("자동차 CSV 저장 실패: " + e.getMessage());
         }
+        commitCsvWriteEvent(writeEvent, file, "자동차", newsList.size());
     }
 
     /**
@@ -358,7 +441,7 @@ public class NaverNewsListEfficientCrawler {
      * https://news.naver.com/breakingnews/section/103/248 (30개)
      * https://news.naver.com/breakingnews/section/103/245 (40개)
      */
-    private static void processLifeCategory() {
+    private static void processLifeCategory(RunContext run, CrawlProgressListener listener) {
         System.out.println("[생활] 크롤링 시작 - 목표: 100개 (241: 30개, 248: 30개, 245: 40개)");
 
         ChromeOptions options = new ChromeOptions();
@@ -377,7 +460,7 @@ public class NaverNewsListEfficientCrawler {
             String url1 = "https://news.naver.com/breakingnews/section/103/241";
             System.out.println("[생활] 첫 번째 페이지 크롤링 중: " + url1);
             
-            driver.get(url1);
+            loadPage(driver, url1, "생활");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc1 = Jsoup.parse(driver.getPageSource());
@@ -385,7 +468,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles1) {
                 if (collectedLinks.size() >= 30) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "생활");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -397,7 +480,7 @@ public class NaverNewsListEfficientCrawler {
             String url2 = "https://news.naver.com/breakingnews/section/103/248";
             System.out.println("[생활] 두 번째 페이지 크롤링 중: " + url2);
             
-            driver.get(url2);
+            loadPage(driver, url2, "생활");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc2 = Jsoup.parse(driver.getPageSource());
@@ -405,7 +488,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles2) {
                 if (collectedLinks.size() >= 70) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "생활");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -417,7 +500,7 @@ public class NaverNewsListEfficientCrawler {
             String url3 = "https://news.naver.com/breakingnews/section/103/245";
             System.out.println("[생활] 세 번째 페이지 크롤링 중: " + url3);
             
-            driver.get(url3);
+            loadPage(driver, url3, "생활");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc3 = Jsoup.parse(driver.getPageSource());
@@ -425,7 +508,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles3) {
                 if (collectedLinks.size() >= 120) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "생활");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -434,9 +517,11 @@ public class NaverNewsListEfficientCrawler {
             }
 
             System.out.printf("[생활] 수집 완료 - 총 %d개%n", batch.size());
+            CrawlerMetrics.recordListCollected("생활", batch.size());
+            listener.onDiscovered("생활", batch.size());
             
             // 생활 카테고리로 저장
-            saveLifeCategoryToCsv(batch);
+            saveLifeCategoryToCsv(batch, run);
 
         } catch (Exception e) {
             System.out.println("[오류] 생활 카테고리: " + e.getMessage());
@@ -449,36 +534,28 @@ public class NaverNewsListEfficientCrawler {
     /**
      * 생활 카테고리 기사를 CSV로 저장하는 메서드
      */
-    private static void saveLifeCategoryToCsv(List<NewsItem> newsList) {
-        String ampm = DateTimeUtils.getCurrentPeriodLower();
-        String dateFolderName = DateTimeUtils.getCurrentDatePeriod();
+    private static void saveLifeCategoryToCsv(List<NewsItem> newsList, RunContext run) {
+        String ampm = run.getPeriod();
+        String dateFolderName = run.getRunKey();
         String fileName = "naver_news_생활_" + ampm + ".csv";
 
-        File baseDir = new File("news_crawler/src/main/resources/static");
-        File ampmFolder = new File(baseDir, ampm);
-        File dateFolder = new File(ampmFolder, dateFolderName);
+        File dateFolder = run.getRunFolder().toFile();
         if (!dateFolder.exists()) dateFolder.mkdirs();
 
-        File file = new File(dateFolder, fileName);
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            if (file.length() == 0) {
-                writer.println("title,link,press,news_category,published_at");
-            }
+        File file = StageFiles.outputPath(new File(dateFolder, fileName).toPath()).toFile();
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        try (CsvWriter writer = CsvWriter.append(file.toPath(), LIST_CSV_HEADER)) {
             for (NewsItem news : newsList) {
-                String timestamp = DateTimeUtils.getCurrentTimestamp();
-                writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                    escape(news.title), escape(news.link), escape(news.press),
-                    "생활", timestamp);
+                String timestamp = RunContext.timestamp();
+                writer.writeRecord(news.title, news.link, news.press, "생활", timestamp);
             }
+            writer.commit();
             System.out.println("생활 CSV 저장 완료: " + ampm + "/" + dateFolderName + "/" + fileName);
         } catch (Exception e) {
             System.out.println("생활 CSV 저장 실패: " + e.getMessage());
         }
+        commitCsvWriteEvent(writeEvent, file, "생활", newsList.size());
     }
 
     /**
@@ -486,7 +563,7 @@ public class NaverNewsListEfficientCrawler {
      * https://news.naver.com/breakingnews/section/103/237 (50개)
      * https://news.naver.com/breakingnews/section/103/238 (50개)
      */
-    private static void processTravelCategory() {
+    private static void processTravelCategory(RunContext run, CrawlProgressListener listener) {
         System.out.println("[여행] 크롤링 시작 - 목표: 50개 (여행/레저: 40개, 음식/맛집: 10개)");
 
         ChromeOptions options = new ChromeOptions();
@@ -505,7 +582,7 @@ public class NaverNewsListEfficientCrawler {
             String url1 = "https://news.naver.com/breakingnews/section/103/237";
             System.out.println("[여행] 첫 번째 페이지 크롤링 중: " + url1);
             
-            driver.get(url1);
+            loadPage(driver, url1, "여행");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc1 = Jsoup.parse(driver.getPageSource());
@@ -513,7 +590,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles1) {
                 if (collectedLinks.size() >= 40) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "여행");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -525,7 +602,7 @@ public class NaverNewsListEfficientCrawler {
             String url2 = "https://news.naver.com/breakingnews/section/103/238";
             System.out.println("[여행] 두 번째 페이지 크롤링 중: " + url2);
             
-            driver.get(url2);
+            loadPage(driver, url2, "여행");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc2 = Jsoup.parse(driver.getPageSource());
@@ -533,7 +610,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles2) {
                 if (collectedLinks.size() >= 50) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "여행");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -542,9 +619,11 @@ public class NaverNewsListEfficientCrawler {
             }
 
             System.out.printf("[여행] 수집 완료 - 총 %d개%n", batch.size());
+            CrawlerMetrics.recordListCollected("여행", batch.size());
+            listener.onDiscovered("여행", batch.size());
             
             // 여행 카테고리로 저장
-            saveTravelCategoryToCsv(batch);
+            saveTravelCategoryToCsv(batch, run);
 
         } catch (Exception e) {
             System.out.println("[오류] 여행 카테고리: " + e.getMessage());
@@ -557,36 +636,28 @@ public class NaverNewsListEfficientCrawler {
     /**
      * 여행 카테고리 기사를 CSV로 저장하는 메서드
      */
-    private static void saveTravelCategoryToCsv(List<NewsItem> newsList) {
-        String ampm = DateTimeUtils.getCurrentPeriodLower();
-        String dateFolderName = DateTimeUtils.getCurrentDatePeriod();
+    private static void saveTravelCategoryToCsv(List<NewsItem> newsList, RunContext run) {
+        String ampm = run.getPeriod();
+        String dateFolderName = run.getRunKey();
         String fileName = "naver_news_여행_" + ampm + ".csv";
 
-        File baseDir = new File("news_crawler/src/main/resources/static");
-        File ampmFolder = new File(baseDir, ampm);
-        File dateFolder = new File(ampmFolder, dateFolderName);
+        File dateFolder = run.getRunFolder().toFile();
         if (!dateFolder.exists()) dateFolder.mkdirs();
 
-        File file = new File(dateFolder, fileName);
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            if (file.length() == 0) {
-                writer.println("title,link,press,news_category,published_at");
-            }
+        File file = StageFiles.outputPath(new File(dateFolder, fileName).toPath()).toFile();
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        try (CsvWriter writer = CsvWriter.append(file.toPath(), LIST_CSV_HEADER)) {
             for (NewsItem news : newsList) {
-                String timestamp = DateTimeUtils.getCurrentTimestamp();
-                writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                    escape(news.title), escape(news.link), escape(news.press),
-                    "여행", timestamp);
+                String timestamp = RunContext.timestamp();
+                writer.writeRecord(news.title, news.link, news.press, "여행", timestamp);
             }
+            writer.commit();
             System.out.println("여행 CSV 저장 완료: " + ampm + "/" + dateFolderName + "/" + fileName);
         } catch (Exception e) {
             System.out.println("여행 CSV 저장 실패: " + e.getMessage());
         }
+        commitCsvWriteEvent(writeEvent, file, "여행", newsList.size());
     }
 
     /**
@@ -594,7 +665,7 @@ public class NaverNewsListEfficientCrawler {
      * https://news.naver.com/breakingnews/section/103/242 (45개)
      * https://news.naver.com/breakingnews/section/103/243 (15개)
      */
-    private static void processArtCategory() {
+    private static void processArtCategory(RunContext run, CrawlProgressListener listener) {
         System.out.println("[예술] 크롤링 시작 - 목표: 75개 (242: 45개, 243: 15개, 376: 15개 패션뷰티)");
 
         ChromeOptions options = new ChromeOptions();
@@ -613,7 +684,7 @@ public class NaverNewsListEfficientCrawler {
             String url1 = "https://news.naver.com/breakingnews/section/103/242";
             System.out.println("[예술] 첫 번째 페이지 크롤링 중: " + url1);
             
-            driver.get(url1);
+            loadPage(driver, url1, "예술");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc1 = Jsoup.parse(driver.getPageSource());
@@ -621,7 +692,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles1) {
                 if (collectedLinks.size() >= 45) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "예술");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -633,7 +704,7 @@ public class NaverNewsListEfficientCrawler {
             String url2 = "https://news.naver.com/breakingnews/section/103/243";
             System.out.println("[예술] 두 번째 페이지 크롤링 중: " + url2);
             
-            driver.get(url2);
+            loadPage(driver, url2, "예술");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc2 = Jsoup.parse(driver.getPageSource());
@@ -641,7 +712,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles2) {
                 if (collectedLinks.size() >= 65) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "예술");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -653,7 +724,7 @@ public class NaverNewsListEfficientCrawler {
             String url3 = "https://news.naver.com/breakingnews/section/103/376";
             System.out.println("[예술] 세 번째 페이지 크롤링 중 (패션뷰티): " + url3);
             
-            driver.get(url3);
+            loadPage(driver, url3, "예술");
             Thread.sleep(2000); // 페이지 로딩 대기
             
             Document doc3 = Jsoup.parse(driver.getPageSource());
@@ -661,7 +732,7 @@ public class NaverNewsListEfficientCrawler {
             
             for (Element article : articles3) {
                 if (collectedLinks.size() >= 80) break;
-                NewsItem newsItem = extractNewsItem(article);
+                NewsItem newsItem = extractNewsItem(article, "예술");
                 
                 if (newsItem != null && collectedLinks.add(newsItem.link)) {
                     batch.add(newsItem);
@@ -670,9 +741,11 @@ public class NaverNewsListEfficientCrawler {
             }
 
             System.out.printf("[예술] 수집 완료 - 총 %d개%n", batch.size());
+            CrawlerMetrics.recordListCollected("예술", batch.size());
+            listener.onDiscovered("예술", batch.size());
             
             // 예술 카테고리로 저장
-            saveArtCategoryToCsv(batch);
+            saveArtCategoryToCsv(batch, run);
 
         } catch (Exception e) {
             System.out.println("[오류] 예술 카테고리: " + e.getMessage());
@@ -685,36 +758,28 @@ public class NaverNewsListEfficientCrawler {
     /**
      * 예술 카테고리 기사를 CSV로 저장하는 메서드
      */
-    private static void saveArtCategoryToCsv(List<NewsItem> newsList) {
-        String ampm = DateTimeUtils.getCurrentPeriodLower();
-        String dateFolderName = DateTimeUtils.getCurrentDatePeriod();
+    private static void saveArtCategoryToCsv(List<NewsItem> newsList, RunContext run) {
+        String ampm = run.getPeriod();
+        String dateFolderName = run.getRunKey();
         String fileName = "naver_news_예술_" + ampm + ".csv";
 
-        File baseDir = new File("news_crawler/src/main/resources/static");
-        File ampmFolder = new File(baseDir, ampm);
-        File dateFolder = new File(ampmFolder, dateFolderName);
+        File dateFolder = run.getRunFolder().toFile();
         if (!dateFolder.exists()) dateFolder.mkdirs();
 
-        File file = new File(dateFolder, fileName);
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            if (file.length() == 0) {
-                writer.println("title,link,press,news_category,published_at");
-            }
+        File file = StageFiles.outputPath(new File(dateFolder, fileName).toPath()).toFile();
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        try (CsvWriter writer = CsvWriter.append(file.toPath(), LIST_CSV_HEADER)) {
             for (NewsItem news : newsList) {
-                String timestamp = DateTimeUtils.getCurrentTimestamp();
-                writer.printf("\"%s\",\"%s\",\"%s\",\"%s\",\"%s\"%n",
-                    escape(news.title), escape(news.link), escape(news.press),
-                    "예술", timestamp);
+                String timestamp = RunContext.timestamp();
+                writer.writeRecord(news.title, news.link, news.press, "예술", timestamp);
             }
+            writer.commit();
             System.out.println("예술 CSV 저장 완료: " + ampm + "/" + dateFolderName + "/" + fileName);
         } catch (Exception e) {
             System.out.println("예술 CSV 저장 실패: " + e.getMessage());
         }
+        commitCsvWriteEvent(writeEvent, file, "예술", newsList.size());
     }
 
 
@@ -1,6 +1,22 @@
 package com.news.news_crawler.util;
 
+import com.news.news_crawler.csv.CsvReader;
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.dedup.ContentHash;
+import com.news.news_crawler.dedup.TitleCandidates;
+import com.news.news_crawler.dedup.TitleMinHashLsh;
 import com.news.news_crawler.dto.NewsDetail;
+import com.news.news_crawler.monitoring.ArticleFetchEvent;
+import com.news.news_crawler.monitoring.ArticleParseEvent;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.monitoring.CrawlerMetrics;
+import com.news.news_crawler.monitoring.CsvWriteEvent;
+import com.news.news_crawler.stage.ColumnarReader;
+import com.news.news_crawler.stage.ColumnarWriter;
+import com.news.news_crawler.stage.RecordReader;
+import com.news.news_crawler.stage.RunContext;
+import com.news.news_crawler.stage.RunManifest;
+import com.news.news_crawler.stage.StageFiles;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
@@ -9,8 +25,9 @@ import org.jsoup.Connection;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.regex.Matcher;
@@ -18,133 +35,143 @@ import java.util.regex.Pattern;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.TimeUnit;
-import com.news.news_crawler.util.DateTimeUtils;
 
 public class NewsDetailBatchProcessor {
 
-    // 성능 최적화를 위한 상수들 (안정성 강화)
-    private static final int BATCH_SIZE = 5; // 배치 크기 (8→5로 감소하여 안정성 향상)
-    private static final int INITIAL_CONCURRENT_REQUESTS = 1; // 초기 동시 요청 수 (2→1로 감소)
-    private static final int MAX_CONCURRENT_REQUESTS = 3; // 최대 동시 요청 수 (4→3으로 감소)
-    private static final int MIN_CONCURRENT_REQUESTS = 1; // 최소 동시 요청 수
-    private static final int CONNECTION_TIMEOUT = 30000; // 연결 타임아웃 (30초 유지)
-    private static final int READ_TIMEOUT = 60000; // 읽기 타임아웃 (60초 유지)
-    private static final int RETRY_ATTEMPTS = 3; // 재시도 횟수 (3회 유지)
-    private static final long RETRY_DELAY = 5000; // 재시도 간격 (3초→5초로 증가)
-    private static final long REQUEST_DELAY = 1500; // 요청 간격 (1초→1.5초로 증가)
-    private static final double SUCCESS_RATE_THRESHOLD = 0.5; // 성공률 임계값 (60%→50%로 감소)
-
-    // 연결 풀 관리를 위한 ExecutorService (동적 크기 조절)
-    private static ExecutorService executorService;
+    private static final String[] DETAIL_CSV_HEADER = {"news_category_id", "news_category_name", "press", "title", "reporter",
+            "published_at", "link", "created_at", "image_url", "trusted", "oid_aid", "content", "content_hash"};
+    private static final int LINK_COLUMN = Arrays.asList(DETAIL_CSV_HEADER).indexOf("link");
+
+    // 세션(실행 1회)별 상태 - 실행마다 새 인스턴스를 만들어 다른 세션과 공유하지 않음
+    private final DetailCrawlConfig config;
+    private final CrawlProgressListener listener;
+    private final ExecutorService executorService;
     
     // 진행 상황 추적을 위한 Atomic 변수들
-    private static final AtomicInteger successCount = new AtomicInteger(0);
-    private static final AtomicInteger failCount = new AtomicInteger(0);
-    private static final AtomicInteger processedCount = new AtomicInteger(0);
-    private static final AtomicInteger currentConcurrency = new AtomicInteger(INITIAL_CONCURRENT_REQUESTS);
+    private final AtomicInteger successCount = new AtomicInteger(0);
+    private final AtomicInteger failCount = new AtomicInteger(0);
+    private final AtomicInteger processedCount = new AtomicInteger(0);
+    private final AtomicInteger currentConcurrency;
+
+    public NewsDetailBatchProcessor(DetailCrawlConfig config, CrawlProgressListener listener) {
+        this.config = config;
+        this.listener = listener;
+        this.currentConcurrency = new AtomicInteger(config.getInitialConcurrency());
+        this.executorService = Executors.newFixedThreadPool(config.getMaxConcurrency());
+    }
 
     public static void main(String[] args) {
-    try {
-        executorService = Executors.newFixedThreadPool(MAX_CONCURRENT_REQUESTS);
-        System.out.println("스마트 병렬 크롤러 시작 - 초기 동시 요청: " + INITIAL_CONCURRENT_REQUESTS);
-        processCsvFilesAndCrawlDetails();
-    } finally {
-        if (executorService != null) {
-            executorService.shutdown();
-            try {
-                if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
-                    executorService.shutdownNow();
-                }
-            } catch (InterruptedException e) {
+        NewsDetailBatchProcessor processor = new NewsDetailBatchProcessor(DetailCrawlConfig.defaults(), CrawlProgressListener.NOOP);
+        processor.run(null);
+    }
+
+    /**
+     * 상세 크롤링 실행 (카테고리별 진행 상황을 listener로 보고)
+     * 실행이 끝나면 세션 스레드 풀을 종료하므로 인스턴스는 한 번만 실행할 수 있음
+     * @param folder 처리할 날짜/시간 폴더 (null이면 현재 시간 기준 최신 폴더)
+     */
+    public void run(File folder) {
+        try {
+            System.out.println("스마트 병렬 크롤러 시작 - 초기 동시 요청: " + config.getInitialConcurrency());
+            listener.onConcurrencyChanged(currentConcurrency.get());
+            if (folder != null) {
+                processFolder(folder);
+            } else {
+                processCsvFilesAndCrawlDetails();
+            }
+        } finally {
+            shutdownExecutor();
+        }
+    }
+
+    /**
+     * 목록 파일 하나만 상세 크롤링 (카테고리별 파이프라인용)
+     * run()과 마찬가지로 끝나면 세션 스레드 풀을 종료함
+     * @return 상세 파일에 저장한 기사 수
+     * @throws IllegalStateException 링크가 있는데 상세 기사를 하나도 가져오지 못한 경우 (호출 측 재시도용)
+     */
+    public int runFile(File listCsv) {
+        try {
+            listener.onConcurrencyChanged(currentConcurrency.get());
+            int saved = crawlCsvFile(listCsv);
+            recordDetailOutput(listCsv.getParentFile());
+            return saved;
+        } finally {
+            shutdownExecutor();
+        }
+    }
+
+    private void shutdownExecutor() {
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(60, TimeUnit.SECONDS)) {
                 executorService.shutdownNow();
             }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
         }
     }
-}
 
     /**
-     * 모든 CSV 파일 처리
+     * 현재 동시 요청 수 (세션 단위)
      */
-    public static void processCsvFilesAndCrawlDetails() {
+    public int getCurrentConcurrency() {
+        return currentConcurrency.get();
+    }
+
+    /**
+     * 현재 시간대 폴더의 CSV 파일 처리 (폴더가 없으면 실행 목록에서 가장 최근 목록 폴더)
+     */
+    public void processCsvFilesAndCrawlDetails() {
         try {
-            // static 폴더 경로
-            File staticDirectory = new File("news_crawler/src/main/resources/static");
-            if (!staticDirectory.exists()) {
-                System.out.println("static 폴더가 존재하지 않습니다: " + staticDirectory.getAbsolutePath());
+            RunContext run = RunContext.start();
+            if (!run.getStaticBase().toFile().exists()) {
+                System.out.println("static 폴더가 존재하지 않습니다: " + run.getStaticBase());
                 return;
             }
 
-            // 현재 시간 기반으로 최신 폴더 찾기
-            String currentDatePeriod = DateTimeUtils.getCurrentDatePeriod();
-            String currentPeriod = DateTimeUtils.getCurrentPeriodLower();
-            
-            File currentPeriodFolder = new File(staticDirectory, currentPeriod);
-            File latestFolder = new File(currentPeriodFolder, currentDatePeriod);
-            
+            File latestFolder = run.getRunFolder().toFile();
             if (!latestFolder.exists()) {
-                System.out.println("현재 시간대 폴더가 존재하지 않습니다: " + currentPeriod + "/" + currentDatePeriod);
-                System.out.println("가장 최근 폴더를 찾습니다...");
-                
-                // 폴더가 없으면 가장 최근 폴더 찾기
-                List<File> allDateFolders = new ArrayList<>();
-                for (File ampmFolder : staticDirectory.listFiles(File::isDirectory)) {
-                    File[] dateFolders = ampmFolder.listFiles(File::isDirectory);
-                    if (dateFolders != null) {
-                        allDateFolders.addAll(Arrays.asList(dateFolders));
-                    }
-                }
-
-                if (allDateFolders.isEmpty()) {
-                    System.out.println("날짜/시간 폴더를 찾을 수 없습니다.");
-                    return;
-                }
-
-                latestFolder = allDateFolders.stream()
-                        .filter(folder -> folder.getName().matches("\\d{4}-\\d{2}-\\d{2}_[APap][Mm]"))
-                        .max(Comparator.comparing(File::getName))
-                        .orElse(null);
-
-                if (latestFolder == null) {
-                    System.out.println("최신 날짜/시간 폴더를 찾을 수 없습니다.");
+                System.out.println("현재 시간대 폴더가 존재하지 않습니다: " + run.getPeriod() + "/" + run.getRunKey());
+                Optional<RunManifest.Entry> latestList = run.getManifest().latest(RunManifest.Stage.LIST);
+                if (latestList.isEmpty()) {
+                    System.out.println("실행 목록에 목록 크롤링 기록이 없습니다.");
                     return;
                 }
+                latestFolder = latestList.get().path().toFile();
+                System.out.println("실행 목록의 가장 최근 목록 폴더: " + latestList.get().runKey());
             }
 
-            System.out.println("발견된 날짜/시간 폴더들:");
-            List<File> allDateFolders = new ArrayList<>();
-            for (File ampmFolder : staticDirectory.listFiles(File::isDirectory)) {
-                File[] dateFolders = ampmFolder.listFiles(File::isDirectory);
-                if (dateFolders != null) {
-                    allDateFolders.addAll(Arrays.asList(dateFolders));
-                }
-            }
-            for (File folder : allDateFolders) {
-                String indicator = (folder.equals(latestFolder)) ? " (최신)" : "";
-                System.out.println("- " + folder.getParentFile().getName() + "/" + folder.getName() + indicator);
-            }
-
-            System.out.println("발견된 날짜/시간 폴더들:");
-            for (File folder : allDateFolders) {
-                String indicator = (folder.equals(latestFolder)) ? " (최신)" : "";
-                System.out.println("- " + folder.getParentFile().getName() + "/" + folder.getName() + indicator);
-            }
-            
-
+            processFolder(latestFolder);
+        } catch (Exception e) {
+            System.err.println("CSV 파일 처리 중 오류 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
 
-            // 가장 최신 폴더 안의 모든 CSV 파일 처리
-            File[] csvFiles = latestFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(".csv"));
+    /**
+     * 지정한 날짜/시간 폴더 안의 모든 CSV 파일 처리
+     */
+    public void processFolder(File latestFolder) {
+        try {
+            File[] csvFiles = latestFolder.listFiles((dir, name) -> !name.startsWith(".") && StageFiles.isCsv(name));
             if (csvFiles == null || csvFiles.length == 0) {
                 System.out.println("CSV 파일을 찾을 수 없습니다.");
                 return;
             }
 
             for (File csvFile : csvFiles) {
+                if (listener.isCancelled()) {
+                    System.out.println("크롤링 취소 요청으로 상세 크롤링을 중단합니다.");
+                    break;
+                }
                 System.out.println("\n=== " + csvFile.getName() + " 처리 시작 ===");
                 processSingleCsvFileOptimized(csvFile);
                 System.out.println("=== " + csvFile.getName() + " 처리 완료 ===\n");
 
                 try {
-                    Thread.sleep(1000); // 부하 방지용 딜레이
+                    Thread.sleep(config.getBatchDelayMillis()); // 부하 방지용 딜레이
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
@@ -152,6 +179,7 @@ public class NewsDetailBatchProcessor {
             }
 
             System.out.println("모든 CSV 파일 처리가 완료되었습니다!");
+            recordDetailOutput(latestFolder);
         } catch (Exception e) {
             System.err.println("CSV 파일 처리 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
@@ -162,49 +190,181 @@ public class NewsDetailBatchProcessor {
     /**
      * 단일 CSV 파일 처리
      */
-    private static void processSingleCsvFileOptimized(File csvFile) {    
+    private void processSingleCsvFileOptimized(File csvFile) {
+        try {
+            crawlCsvFile(csvFile);
+        } catch (Exception e) {
+            System.err.println("CSV 파일 처리 중 오류: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 목록 파일 하나의 링크를 상세 크롤링해 detail 폴더에 저장
+     * @return 저장한 기사 수
+     */
+    private int crawlCsvFile(File csvFile) {
+        List<NewsLinkInfo> newsLinks = readLinksFromCsv(csvFile);
+        System.out.println("총 " + newsLinks.size() + "개의 링크를 읽었습니다.");
+        if (!newsLinks.isEmpty()) {
+            listener.onDiscovered(newsLinks.get(0).newsCategoryName, newsLinks.size());
+        }
+        return crawlLinks(newsLinks, csvFile.getName(), detailedPathFor(csvFile), config.isTitleCandidates());
+    }
+
+    /**
+     * 목록 파일 링크 중 샤드 하나만 상세 크롤링해 shardOutput에 새로 씀 (여러 서버가 목록 하나를 나눠 처리할 때)
+     * 링크 문자열 해시로 나누므로 어느 서버에서 계산해도 같은 링크는 같은 샤드에 들어간다.
+     * run()과 마찬가지로 끝나면 세션 스레드 풀을 종료함
+     * @param shardOutput 샤드 상세 파일 논리 경로 - 다시 실행하거나 다른 서버가 이어받은 샤드는 처음부터 씀
+     * @return 저장한 기사 수
+     */
+    public int runShard(File listCsv, int shard, int shardCount, Path shardOutput) throws IOException {
         try {
-            List<NewsLinkInfo> newsLinks = readLinksFromCsv(csvFile);
-            System.out.println("총 " + newsLinks.size() + "개의 링크를 읽었습니다.");
+            listener.onConcurrencyChanged(currentConcurrency.get());
+            StageFiles.delete(shardOutput);
+            List<NewsLinkInfo> newsLinks = readLinksFromCsv(listCsv);
+            List<NewsLinkInfo> shardLinks = newsLinks.stream()
+                    .filter(link -> Math.floorMod(link.link.hashCode(), shardCount) == shard)
+                    .toList();
+            System.out.println("총 " + newsLinks.size() + "개 링크 중 샤드 " + shard + "/" + shardCount + ": " + shardLinks.size() + "개");
+            if (!newsLinks.isEmpty()) {
+                listener.onDiscovered(newsLinks.get(0).newsCategoryName, newsLinks.size());
+            }
+            Files.createDirectories(shardOutput.getParent());
+            return crawlLinks(shardLinks, listCsv.getName() + " #" + shard, shardOutput, false);
+        } finally {
+            shutdownExecutor();
+        }
+    }
+
+    /**
+     * 샤드 상세 파일들을 합쳐 카테고리 상세 파일을 새로 쓰고 샤드 파일 삭제 (없는 샤드는 건너뜀)
+     * 합친 파일을 다 쓴 뒤에만 샤드를 지우므로, 중간에 실패한 작업을 다시 실행하면 같은 샤드로 같은 파일을 다시 만든다.
+     * 샤드가 하나도 없으면 (이전 시도에서 이미 합침) 기존 상세 파일을 그대로 둔다.
+     * 일부 샤드만 있으면 (실패한 샤드만 다시 돌린 실행) 이미 합쳐 지워진 샤드의 기사는 기존 상세 파일에만 있으므로
+     * 기존 행에 새 샤드 행을 더해 다시 쓴다 - 같은 링크는 새 샤드 쪽 행으로 바꿈
+     * @param detailedPath 카테고리 상세 파일 논리 경로
+     * @return 합친 기사 수 (새 샤드 행 기준)
+     */
+    public static int mergeShards(List<Path> shardOutputs, Path detailedPath, boolean titleCandidates) throws IOException {
+        Map<String, String[]> shardRows = new LinkedHashMap<>();
+        boolean mergedBefore = false;
+        for (Path shardOutput : shardOutputs) {
+            if (StageFiles.exists(shardOutput)) {
+                readDetailRows(shardOutput, shardRows);
+            } else {
+                mergedBefore = true;
+            }
+        }
+        if (!shardRows.isEmpty()) {
+            Map<String, String[]> rows = new LinkedHashMap<>();
+            if (mergedBefore && StageFiles.exists(detailedPath)) {
+                readDetailRows(detailedPath, rows);
+            }
+            rows.putAll(shardRows);
+            Files.createDirectories(detailedPath.getParent());
+            replaceDetailedRows(new ArrayList<>(rows.values()), detailedPath);
+            if (titleCandidates) {
+                writeTitleCandidates(detailedPath);
+            }
+            recordDetailOutput(detailedPath.getParent().getParent().toFile());
+        }
+        for (Path shardOutput : shardOutputs) {
+            StageFiles.delete(shardOutput);
+        }
+        return shardRows.size();
+    }
 
-            if (newsLinks.isEmpty()) {
-                System.out.println("크롤링할 링크가 없습니다.");
+    // 상세 파일 행을 링크별로 읽음 (이전 컬럼 구성의 파일은 없는 컬럼을 빈 값으로)
+    private static void readDetailRows(Path logicalPath, Map<String, String[]> into) throws IOException {
+        try (RecordReader reader = StageFiles.openReader(StageFiles.resolveForRead(logicalPath))) {
+            if (!reader.readHeader()) {
                 return;
             }
+            int[] columns = new int[DETAIL_CSV_HEADER.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = reader.column(DETAIL_CSV_HEADER[i]);
+            }
+            while (reader.next()) {
+                String[] row = new String[columns.length];
+                for (int i = 0; i < columns.length; i++) {
+                    row[i] = reader.get(columns[i]);
+                }
+                String link = row[LINK_COLUMN];
+                into.put(link.isEmpty() ? logicalPath + "#" + into.size() : link, row); // 링크 없는 행은 겹치지 않게
+            }
+        }
+    }
 
-            // 배치 단위로 병렬 처리
-            List<NewsDetail> detailedNewsList = processNewsLinksInBatches(newsLinks);
+    /**
+     * 실행 목록에 상세 출력 폴더 기록 (실패해도 크롤링 결과에는 영향 없음)
+     */
+    private static void recordDetailOutput(File runFolder) {
+        if (runFolder == null || !new File(runFolder, "detail").isDirectory()) {
+            return;
+        }
+        try {
+            RunManifest.local().record(runFolder.toPath(), RunManifest.Stage.DETAIL);
+        } catch (IOException e) {
+            System.out.println("실행 목록 기록 실패: " + e.getMessage());
+        }
+    }
 
-            System.out.println("\n=== 크롤링 결과 ===");
-            System.out.println("성공: " + successCount.get() + "개");
-            System.out.println("실패: " + failCount.get() + "개");
-            System.out.println("성공률: " + (successCount.get() * 100.0 / newsLinks.size()) + "%");
+    /**
+     * 링크 목록을 상세 크롤링해 detailedPath에 이어 씀
+     * @param sourceName 로그/오류 메시지용 이름
+     * @return 저장한 기사 수
+     */
+    private int crawlLinks(List<NewsLinkInfo> newsLinks, String sourceName, Path detailedPath, boolean titleCandidates) {
+        if (newsLinks.isEmpty()) {
+            System.out.println("크롤링할 링크가 없습니다.");
+            return 0;
+        }
 
-            // 결과를 새로운 CSV 파일로 저장
-            if (!detailedNewsList.isEmpty()) {
-                saveDetailedNewsToCsv(detailedNewsList, csvFile);
-            }
+        // 배치 단위로 병렬 처리
+        List<NewsDetail> detailedNewsList = processNewsLinksInBatches(newsLinks);
 
-        } catch (Exception e) {
-            System.err.println("CSV 파일 처리 중 오류: " + e.getMessage());
-            e.printStackTrace();
+        System.out.println("\n=== 크롤링 결과 ===");
+        System.out.println("성공: " + successCount.get() + "개");
+        System.out.println("실패: " + failCount.get() + "개");
+        System.out.println("성공률: " + (successCount.get() * 100.0 / newsLinks.size()) + "%");
+
+        if (detailedNewsList.isEmpty()) {
+            throw new IllegalStateException("상세 기사를 하나도 가져오지 못했습니다: " + sourceName);
         }
+
+        // 결과를 새로운 CSV 파일로 저장
+        try {
+            saveDetailedNewsToCsv(detailedNewsList, detailedPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("상세 파일 저장 실패: " + detailedPath, e);
+        }
+        if (titleCandidates) {
+            writeTitleCandidates(detailedPath);
+        }
+        return detailedNewsList.size();
     }
 
     /**
      * 뉴스 링크들을 스마트 배치 단위로 병렬 처리
      */
-    private static List<NewsDetail> processNewsLinksInBatches(List<NewsLinkInfo> newsLinks) {
+    private List<NewsDetail> processNewsLinksInBatches(List<NewsLinkInfo> newsLinks) {
         List<NewsDetail> allResults = Collections.synchronizedList(new ArrayList<>());
-        int totalBatches = (int) Math.ceil((double) newsLinks.size() / BATCH_SIZE);
+        int batchSize = config.getBatchSize();
+        int totalBatches = (int) Math.ceil((double) newsLinks.size() / batchSize);
         
-        System.out.println("배치 크기: " + BATCH_SIZE + ", 총 배치 수: " + totalBatches);
+        System.out.println("배치 크기: " + batchSize + ", 총 배치 수: " + totalBatches);
         System.out.println("스마트 병렬 처리 시작...\n");
 
         // 배치별로 스마트 병렬 처리
         for (int i = 0; i < totalBatches; i++) {
-            int startIndex = i * BATCH_SIZE;
-            int endIndex = Math.min(startIndex + BATCH_SIZE, newsLinks.size());
+            if (listener.isCancelled()) {
+                System.out.println("크롤링 취소 요청으로 남은 배치를 건너뜁니다.");
+                break;
+            }
+            int startIndex = i * batchSize;
+            int endIndex = Math.min(startIndex + batchSize, newsLinks.size());
             List<NewsLinkInfo> batch = newsLinks.subList(startIndex, endIndex);
             
             final int batchNumber = i + 1;
@@ -222,7 +382,7 @@ public class NewsDetailBatchProcessor {
             // 배치 간 짧은 대기 (서버 부하 방지)
             if (i < totalBatches - 1) {
                 try {
-                    Thread.sleep(1000);
+                    Thread.sleep(config.getBatchDelayMillis());
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
@@ -237,14 +397,14 @@ public class NewsDetailBatchProcessor {
     /**
      * 스마트 배치 처리 (동적 병렬 처리)
      */
-    private static void processBatchSmart(List<NewsLinkInfo> batch, List<NewsDetail> allResults, int batchNumber) {
+    private void processBatchSmart(List<NewsLinkInfo> batch, List<NewsDetail> allResults, int batchNumber) {
         System.out.println("배치 " + batchNumber + ": " + batch.size() + "개 링크 스마트 병렬 처리 시작");
         
         // 현재 동시성 수만큼 병렬 처리
         int concurrency = currentConcurrency.get();
         List<CompletableFuture<NewsDetail>> futures = new ArrayList<>();
         
-        for (int i = 0; i < batch.size(); i++) {
+        for (int i = 0; i < batch.size() && !listener.isCancelled(); i++) {
             NewsLinkInfo linkInfo = batch.get(i);
             final int linkIndex = i + 1;
             
@@ -258,14 +418,14 @@ public class NewsDetailBatchProcessor {
             
             // 동시성 제한: 현재 설정된 동시성 수만큼만 동시 실행
             if (futures.size() >= concurrency) {
-                waitForFutures(futures, allResults, batchNumber);
+                waitForFutures(futures, allResults, batchNumber, linkInfo.newsCategoryName);
                 futures.clear();
             }
         }
         
         // 남은 futures 처리
         if (!futures.isEmpty()) {
-            waitForFutures(futures, allResults, batchNumber);
+            waitForFutures(futures, allResults, batchNumber, batch.get(0).newsCategoryName);
         }
         
         System.out.println("배치 " + batchNumber + " 완료: 성공 " + successCount.get() + "개, 실패 " + failCount.get() + "개");
@@ -274,20 +434,23 @@ public class NewsDetailBatchProcessor {
     /**
      * Future들 완료 대기 및 결과 처리
      */
-    private static void waitForFutures(List<CompletableFuture<NewsDetail>> futures, List<NewsDetail> allResults, int batchNumber) {
+    private void waitForFutures(List<CompletableFuture<NewsDetail>> futures, List<NewsDetail> allResults, int batchNumber, String categoryName) {
         for (int i = 0; i < futures.size(); i++) {
             CompletableFuture<NewsDetail> future = futures.get(i);
             try {
-                NewsDetail detail = future.get(45, TimeUnit.SECONDS); // 45초 타임아웃
+                NewsDetail detail = future.get(config.getArticleTimeoutSeconds(), TimeUnit.SECONDS);
                 
                 if (detail != null) {
                     allResults.add(detail);
                     successCount.incrementAndGet();
+                    listener.onFetched(categoryName);
                     System.out.println("배치 " + batchNumber + " - 링크 성공");
                 } else {
                     failCount.incrementAndGet();
+                    listener.onFailed(categoryName);
                     System.out.println("배치 " + batchNumber + " - 링크 실패");
                 }
+                CrawlerMetrics.recordArticle(categoryName, detail != null);
                 
                 int processed = processedCount.incrementAndGet();
                 if (processed % 5 == 0) {
@@ -296,10 +459,14 @@ public class NewsDetailBatchProcessor {
                 
             } catch (InterruptedException | ExecutionException e) {
                 failCount.incrementAndGet();
+                listener.onFailed(categoryName);
+                CrawlerMetrics.recordArticle(categoryName, false);
                 System.err.println("배치 " + batchNumber + " - 링크 처리 중 오류: " + e.getMessage());
             } catch (TimeoutException e) {
                 failCount.incrementAndGet();
-                System.err.println("배치 " + batchNumber + " - 링크 타임아웃 (45초 초과)");
+                listener.onFailed(categoryName);
+                CrawlerMetrics.recordArticle(categoryName, false);
+                System.err.println("배치 " + batchNumber + " - 링크 타임아웃 (" + config.getArticleTimeoutSeconds() + "초 초과)");
                 future.cancel(true);
             }
         }
@@ -308,23 +475,23 @@ public class NewsDetailBatchProcessor {
     /**
      * 성공률에 따른 동시성 조절
      */
-    private static void adjustConcurrency() {
+    private void adjustConcurrency() {
         int total = successCount.get() + failCount.get();
         if (total < 5) return; // 최소 5개 처리 후 조절
         
         double successRate = (double) successCount.get() / total;
         int current = currentConcurrency.get();
         
-        if (successRate >= SUCCESS_RATE_THRESHOLD) {
+        if (successRate >= config.getSuccessRateThreshold()) {
             // 성공률이 높으면 동시성 증가
-            if (current < MAX_CONCURRENT_REQUESTS) {
-                currentConcurrency.incrementAndGet();
+            if (current < config.getMaxConcurrency()) {
+                listener.onConcurrencyChanged(currentConcurrency.incrementAndGet());
                 System.out.println("성공률 " + String.format("%.1f", successRate * 100) + "% - 동시성 증가: " + current + " → " + (current + 1));
             }
         } else {
             // 성공률이 낮으면 동시성 감소
-            if (current > MIN_CONCURRENT_REQUESTS) {
-                currentConcurrency.decrementAndGet();
+            if (current > config.getMinConcurrency()) {
+                listener.onConcurrencyChanged(currentConcurrency.decrementAndGet());
                 System.out.println("성공률 " + String.format("%.1f", successRate * 100) + "% - 동시성 감소: " + current + " → " + (current - 1));
             }
         }
@@ -333,13 +500,17 @@ public class NewsDetailBatchProcessor {
     /**
      * 재시도 로직이 포함된 뉴스 상세 크롤링
      */
-    private static NewsDetail crawlNewsDetailWithRetry(NewsLinkInfo linkInfo) {
-        for (int attempt = 1; attempt <= RETRY_ATTEMPTS; attempt++) {
+    private NewsDetail crawlNewsDetailWithRetry(NewsLinkInfo linkInfo) {
+        for (int attempt = 1; attempt <= config.getRetryAttempts(); attempt++) {
             try {
-                System.out.println("재시도 " + attempt + "/" + RETRY_ATTEMPTS + " - URL: " + linkInfo.link);
+                System.out.println("재시도 " + attempt + "/" + config.getRetryAttempts() + " - URL: " + linkInfo.link);
+                if (attempt > 1) {
+                    CrawlerMetrics.recordRetry(linkInfo.newsCategoryName);
+                }
                 
                 NewsDetail detail = crawlNewsDetailOptimized(linkInfo.link, linkInfo.title, 
-                                                           linkInfo.press, linkInfo.newsCategoryName, linkInfo.newsCategoryId);
+                                                           linkInfo.press, linkInfo.newsCategoryName, linkInfo.newsCategoryId,
+                                                           config.getConnectionTimeoutMillis());
                 
                 if (detail != null) {
                     System.out.println("재시도 " + attempt + " 성공");
@@ -355,8 +526,8 @@ public class NewsDetailBatchProcessor {
                 }
                 
                 // 실패 시 재시도 전 대기
-                if (attempt < RETRY_ATTEMPTS) {
-                    long delay = RETRY_DELAY * attempt;
+                if (attempt < config.getRetryAttempts()) {
+                    long delay = config.getRetryDelayMillis() * attempt;
                     System.out.println("재시도 " + attempt + " 실패. " + delay + "ms 후 재시도...");
                     Thread.sleep(delay); // 지수 백오프
                 }
@@ -367,9 +538,9 @@ public class NewsDetailBatchProcessor {
                 if (errorMessage.contains("timeout") || errorMessage.contains("connect") || 
                     errorMessage.contains("connection") || errorMessage.contains("network")) {
                     System.err.println("네트워크 타임아웃/연결 오류 (재시도 " + attempt + "): " + e.getMessage());
-                    if (attempt < RETRY_ATTEMPTS) {
+                    if (attempt < config.getRetryAttempts()) {
                         try {
-                            long delay = RETRY_DELAY * attempt * 2; // 네트워크 오류 시 더 긴 대기
+                            long delay = config.getRetryDelayMillis() * attempt * 2; // 네트워크 오류 시 더 긴 대기
                             System.out.println("네트워크 오류로 인한 추가 대기: " + delay + "ms");
                             Thread.sleep(delay);
                         } catch (InterruptedException ie) {
@@ -379,9 +550,9 @@ public class NewsDetailBatchProcessor {
                     }
                 } else {
                     System.err.println("일반 오류 (재시도 " + attempt + "): " + e.getMessage());
-                    if (attempt < RETRY_ATTEMPTS) {
+                    if (attempt < config.getRetryAttempts()) {
                         try {
-                            Thread.sleep(RETRY_DELAY * attempt);
+                            Thread.sleep(config.getRetryDelayMillis() * attempt);
                         } catch (InterruptedException ie) {
                             Thread.currentThread().interrupt();
                             break;
@@ -400,11 +571,20 @@ public class NewsDetailBatchProcessor {
      */
     public static NewsDetail crawlNewsDetailOptimized(String url, String title, String press, 
                                                     String newsCategoryName, int newsCategoryId) {
+        return crawlNewsDetailOptimized(url, title, press, newsCategoryName, newsCategoryId,
+                DetailCrawlConfig.defaults().getConnectionTimeoutMillis());
+    }
+
+    /**
+     * 최적화된 뉴스 상세 크롤링 (연결 타임아웃 지정)
+     */
+    public static NewsDetail crawlNewsDetailOptimized(String url, String title, String press, 
+                                                    String newsCategoryName, int newsCategoryId, int timeoutMillis) {
         try {
             // 연결 설정 최적화 (보수적으로)
             Connection connection = Jsoup.connect(url)
                     .userAgent("Mozilla/5.0 (Windowsave NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                    .timeout(CONNECTION_TIMEOUT)
+                    .timeout(timeoutMillis)
                     .followRedirects(true)
                     .ignoreContentType(true)
                     .maxBodySize(0) // 제한 없음
@@ -414,56 +594,115 @@ public class NewsDetailBatchProcessor {
                     .header("Connection", "keep-alive")
                     .header("Upgrade-Insecure-Requests", "1");
 
-            Document doc = connection.get();
+            // 요청(다운로드)과 파싱 시간을 분리해서 측정
+            ArticleFetchEvent fetchEvent = new ArticleFetchEvent();
+            fetchEvent.begin();
+            long fetchStart = System.nanoTime();
+            Connection.Response response = connection.execute();
+            int bodyBytes = response.bodyAsBytes().length;
+            CrawlerMetrics.recordFetch(newsCategoryName, System.nanoTime() - fetchStart, bodyBytes);
+            fetchEvent.end();
+            if (fetchEvent.shouldCommit()) {
+                fetchEvent.url = url;
+                fetchEvent.category = newsCategoryName;
+                fetchEvent.statusCode = response.statusCode();
+                fetchEvent.bytes = bodyBytes;
+                fetchEvent.commit();
+            }
 
-            if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
-                System.out.println("Skipped VOD article: " + url);
-                return null;
+            ArticleParseEvent parseEvent = new ArticleParseEvent();
+            parseEvent.begin();
+            long parseStart = System.nanoTime();
+            NewsDetail detail = null;
+            try {
+                detail = parseNewsDetail(response.parse(), url, title, press, newsCategoryName, newsCategoryId);
+                return detail;
+            } finally {
+                CrawlerMetrics.recordParse(newsCategoryName, System.nanoTime() - parseStart);
+                parseEvent.end();
+                if (parseEvent.shouldCommit()) {
+                    parseEvent.url = url;
+                    parseEvent.category = newsCategoryName;
+                    parseEvent.accepted = detail != null;
+                    parseEvent.contentLength = detail != null ? detail.getContent().length() : 0;
+                    parseEvent.commit();
+                }
             }
 
-            // 이미지 추출 (네이버 뉴스 이미지)
-            String imageUrl = "";
-            
-            
-            // 우선순위 1: 메인 이미지
-            Element imageElement = doc.selectFirst("#img1");
-            if (imageElement != null) {
-                imageUrl = imageElement.attr("src");
+        } catch (Exception e) {
+            System.err.println("크롤링 실패 (" + url + "): " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 다운로드한 문서에서 뉴스 상세 정보 추출
+     */
+    private static NewsDetail parseNewsDetail(Document doc, String url, String title, String press,
+                                              String newsCategoryName, int newsCategoryId) {
+        if (doc.select("#contents > div._VOD_PLAYER_WRAP").size() > 0) {
+            System.out.println("Skipped VOD article: " + url);
+            CrawlerMetrics.recordRejection(CrawlerMetrics.REJECT_VOD, newsCategoryName);
+            return null;
+        }
+
+        // 이미지 추출 (네이버 뉴스 이미지)
+        String imageUrl = "";
+        
+        
+        // 우선순위 1: 메인 이미지
+        Element imageElement = doc.selectFirst("#img1");
+        if (imageElement != null) {
+            imageUrl = imageElement.attr("src");
+        }
+        
+        // 우선순위 2: 대체 이미지 선택자들
+        if (imageUrl.isEmpty()) {
+            Element altImageElement = doc.selectFirst("div.end_body_wrp img");
+            if (altImageElement != null) {
+                imageUrl = altImageElement.attr("src");
             }
-            
-            // 우선순위 2: 대체 이미지 선택자들
-            if (imageUrl.isEmpty()) {
-                Element altImageElement = doc.selectFirst("div.end_body_wrp img");
-                if (altImageElement != null) {
-                    imageUrl = altImageElement.attr("src");
-                }
+        }
+        
+        // 우선순위 3: og:image 메타 태그
+        if (imageUrl.isEmpty()) {
+            Element ogImageElement = doc.selectFirst("meta[property=og:image]");
+            if (ogImageElement != null) {
+                imageUrl = ogImageElement.attr("content");
             }
-            
-            // 우선순위 3: og:image 메타 태그
-            if (imageUrl.isEmpty()) {
-                Element ogImageElement = doc.selectFirst("meta[property=og:image]");
-                if (ogImageElement != null) {
-                    imageUrl = ogImageElement.attr("content");
-                }
+        }
+        
+        // 우선순위 4: twitter:image 메타 태그
+        if (imageUrl.isEmpty()) {
+            Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
+            if (twitterImageElement != null) {
+                imageUrl = twitterImageElement.attr("content");
             }
-            
-            // 우선순위 4: twitter:image 메타 태그
-            if (imageUrl.isEmpty()) {
-                Element twitterImageElement = doc.selectFirst("meta[name=twitter:image]");
-                if (twitterImageElement != null) {
-                    imageUrl = twitterImageElement.attr("content");
+        }
+        
+        // oid-aid 추출
+        String oidAid = extractOidAid(url);
+        
+        // 기자 정보 추출 (우선순위 1: 일반적인 기자 정보 필드)
+        String reporter = "";
+        Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
+        if (!reporterElements.isEmpty()) {
+            List<String> reporterNames = new ArrayList<>();
+            for (Element element : reporterElements) {
+                String reporterName = element.text().trim();
+                if (!reporterName.isEmpty()) {
+                    reporterNames.add(cleanReporterName(reporterName));
                 }
             }
-            
-            // oid-aid 추출
-            String oidAid = extractOidAid(url);
-            
-            // 기자 정보 추출 (우선순위 1: 일반적인 기자 정보 필드)
-            String reporter = "";
-            Elements reporterElements = doc.select("#ct > div.media_end_head.go_trans > div.media_end_head_info.nv_notrans > div.media_end_head_journalist > a > em");
-            if (!reporterElements.isEmpty()) {
+            if (!reporterNames.isEmpty()) {
+                reporter = String.join(", ", reporterNames);
+            }
+        } else {
+            // 우선순위 2: 여러 기자인 경우의 선택자
+            Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
+            if (!multiReporterElements.isEmpty()) {
                 List<String> reporterNames = new ArrayList<>();
-                for (Element element : reporterElements) {
+                for (Element element : multiReporterElements) {
                     String reporterName = element.text().trim();
                     if (!reporterName.isEmpty()) {
                         reporterNames.add(cleanReporterName(reporterName));
@@ -473,103 +712,86 @@ public class NewsDetailBatchProcessor {
                     reporter = String.join(", ", reporterNames);
                 }
             } else {
-                // 우선순위 2: 여러 기자인 경우의 선택자
-                Elements multiReporterElements = doc.select("#_JOURNALIST_BUTTON > em");
-                if (!multiReporterElements.isEmpty()) {
-                    List<String> reporterNames = new ArrayList<>();
-                    for (Element element : multiReporterElements) {
-                        String reporterName = element.text().trim();
-                        if (!reporterName.isEmpty()) {
-                            reporterNames.add(cleanReporterName(reporterName));
-                        }
-                    }
-                    if (!reporterNames.isEmpty()) {
-                        reporter = String.join(", ", reporterNames);
-                    }
-                } else {
-                    // 우선순위 3: 대체 선택자에서 기자 정보 추출
-                    Elements bylineSpans = doc.select("#contents > div.byline > p > span");
-                    if (!bylineSpans.isEmpty()) {
-                        List<String> reporterParts = new ArrayList<>();
-                        for (Element span : bylineSpans) {
-                            String spanText = span.text().trim();
-                            if (!spanText.isEmpty()) {
-                                // 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
-                                int spaceIndex = spanText.indexOf(' ');
-                                int parenthesisIndex = spanText.indexOf('(');
-                                
-                                int endIndex = -1;
-                                if (spaceIndex > 0 && parenthesisIndex > 0) {
-                                    // 띄어쓰기와 괄호 둘 다 있으면 더 앞에 있는 것 선택
-                                    endIndex = Math.min(spaceIndex, parenthesisIndex);
-                                } else if (spaceIndex > 0) {
-                                    // 띄어쓰기만 있으면
-                                    endIndex = spaceIndex;
-                                } else if (parenthesisIndex > 0) {
-                                    // 괄호만 있으면
-                                    endIndex = parenthesisIndex;
-                                }
-                                
-                                if (endIndex > 0) {
-                                    reporterParts.add(cleanReporterName(spanText.substring(0, endIndex)));
-                                } else {
-                                    reporterParts.add(cleanReporterName(spanText));
-                                }
+                // 우선순위 3: 대체 선택자에서 기자 정보 추출
+                Elements bylineSpans = doc.select("#contents > div.byline > p > span");
+                if (!bylineSpans.isEmpty()) {
+                    List<String> reporterParts = new ArrayList<>();
+                    for (Element span : bylineSpans) {
+                        String spanText = span.text().trim();
+                        if (!spanText.isEmpty()) {
+                            // 첫 번째 띄어쓰기 또는 괄호까지의 글자만 추출
+                            int spaceIndex = spanText.indexOf(' ');
+                            int parenthesisIndex = spanText.indexOf('(');
+                            
+                            int endIndex = -1;
+                            if (spaceIndex > 0 && parenthesisIndex > 0) {
+                                // 띄어쓰기와 괄호 둘 다 있으면 더 앞에 있는 것 선택
+                                endIndex = Math.min(spaceIndex, parenthesisIndex);
+                            } else if (spaceIndex > 0) {
+                                // 띄어쓰기만 있으면
+                                endIndex = spaceIndex;
+                            } else if (parenthesisIndex > 0) {
+                                // 괄호만 있으면
+                                endIndex = parenthesisIndex;
+                            }
+                            
+                            if (endIndex > 0) {
+                                reporterParts.add(cleanReporterName(spanText.substring(0, endIndex)));
+                            } else {
+                                reporterParts.add(cleanReporterName(spanText));
                             }
                         }
-                        if (!reporterParts.isEmpty()) {
-                            reporter = String.join(", ", reporterParts);
-                        }
+                    }
+                    if (!reporterParts.isEmpty()) {
+                        reporter = String.join(", ", reporterParts);
                     }
                 }
             }
+        }
 
-            // 네이버 뉴스 본문 추출
-            String content = "";
-            Element contentElement = doc.selectFirst("#dic_area");
-            if (contentElement != null) {
-                content = contentElement.text();
-            }
-
-            // 본문이 비어있거나 너무 짧으면 크롤링 제외
-            if (content == null || content.trim().isEmpty() || content.trim().length() < 120) {
-                System.out.println("본문이 비어있거나 너무 짧아서 제외: " + url);
-                return null;
-            }
+        // 네이버 뉴스 본문 추출
+        String content = "";
+        Element contentElement = doc.selectFirst("#dic_area");
+        if (contentElement != null) {
+            content = contentElement.text();
+        }
 
-            // 우선순위 2: 본문에서 기자 이름 추출 (지정된 필드에 정보가 없을 경우)
-            if (reporter.isEmpty() && !content.isEmpty()) {
-                reporter = extractReporterFromContent(content);
-                if (!reporter.isEmpty()) {
-                    // 기자 정보가 본문에서 제거되었으므로 content는 그대로 유지
-                }
-            }
+        // 본문이 비어있거나 너무 짧으면 크롤링 제외
+        if (content == null || content.trim().isEmpty() || content.trim().length() < 120) {
+            System.out.println("본문이 비어있거나 너무 짧아서 제외: " + url);
+            CrawlerMetrics.recordRejection(CrawlerMetrics.REJECT_SHORT_BODY, newsCategoryName);
+            return null;
+        }
 
-            // 날짜 정보 추출
-            String date = "";
-            Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
-            if (dateElement != null) {
-                date = dateElement.attr("data-date-time");
+        // 우선순위 2: 본문에서 기자 이름 추출 (지정된 필드에 정보가 없을 경우)
+        if (reporter.isEmpty() && !content.isEmpty()) {
+            reporter = extractReporterFromContent(content);
+            if (!reporter.isEmpty()) {
+                // 기자 정보가 본문에서 제거되었으므로 content는 그대로 유지
             }
+        }
 
-            return NewsDetail.builder()
-                .title(title)
-                .reporter(reporter)
-                .date(date)
-                .link(url)
-                .press(press)
-                .newsCategoryId(newsCategoryId)
-                .newsCategoryName(newsCategoryName)
-                .content(content)
-                .imageUrl(imageUrl)
-                .trusted(1)
-                .oidAid(oidAid)
-                .build();
-
-        } catch (Exception e) {
-            System.err.println("크롤링 실패 (" + url + "): " + e.getMessage());
-            return null;
+        // 날짜 정보 추출
+        String date = "";
+        Element dateElement = doc.selectFirst("span.media_end_head_info_datestamp_time._ARTICLE_DATE_TIME");
+        if (dateElement != null) {
+            date = dateElement.attr("data-date-time");
         }
+
+        return NewsDetail.builder()
+            .title(title)
+            .reporter(reporter)
+            .date(date)
+            .link(url)
+            .press(press)
+            .newsCategoryId(newsCategoryId)
+            .newsCategoryName(newsCategoryName)
+            .content(content)
+            .imageUrl(imageUrl)
+            .trusted(1)
+            .oidAid(oidAid)
+            .contentHash(ContentHash.of(content))
+            .build();
     }
 
     /**
@@ -639,47 +861,35 @@ public class NewsDetailBatchProcessor {
     private static List<NewsLinkInfo> readLinksFromCsv(File csvFile) {
         List<NewsLinkInfo> newsLinks = new ArrayList<>();
         
-        try (BufferedReader br = new BufferedReader(new FileReader(csvFile, StandardCharsets.UTF_8))) {
-            String line;
-            boolean isFirstLine = true;
+        try (CsvReader reader = CsvReader.open(csvFile.toPath())) {
+            if (!reader.readHeader()) {
+                return newsLinks;
+            }
+            // 목록 CSV 헤더: title,link,press,news_category,published_at
+            int titleColumn = reader.requireColumn("title");
+            int linkColumn = reader.requireColumn("link");
+            int pressColumn = reader.requireColumn("press");
+            int categoryColumn = reader.column("news_category");
             
-            while ((line = br.readLine()) != null) {
-                if (isFirstLine) {
-                    isFirstLine = false;
-                    continue; // 헤더 건너뛰기
+            while (reader.next()) {
+                String title = reader.get(titleColumn);
+                String link = reader.get(linkColumn);
+                String press = reader.get(pressColumn);
+                
+                // 링크가 유효한지 확인
+                if (link.trim().isEmpty() || !link.startsWith("http")) {
+                    continue;
                 }
                 
-                try {
-                    // CSV 파싱 (큰따옴표로 감싸진 필드 처리)
-                    String[] fields = parseCsvLine(line);
-                    
-                    if (fields.length >= 4) { // 최소 4개 필드 필요 (title, link, press, timestamp)
-                        String title = fields[0].replaceAll("^\"|\"$", "");
-                        String link = fields[1].replaceAll("^\"|\"$", "");
-                        String press = fields[2].replaceAll("^\"|\"$", "");
-                        String timestamp = fields[3].replaceAll("^\"|\"$", "");
-                        
-                        // 링크가 유효한지 확인
-                        if (link != null && !link.trim().isEmpty() && link.startsWith("http")) {
-                            // 카테고리 정보 추출 (CSV 형식에 맞춤)
-                            String categoryName = "정치"; // 기본값
-                            int categoryId = 100; // 기본값
-                            
-                            if (fields.length >= 5) {
-                                // 5개 컬럼 CSV: title,link,press,news_category,published_at
-                                // 4번째 필드(fields[3])가 카테고리, 5번째 필드(fields[4])가 published_at
-                                String categoryField = fields[3].replaceAll("^\"|\"$", "");
-                                categoryName = categoryField;
-                                // 카테고리명으로 ID 추출
-                                categoryId = getCategoryIdByName(categoryName);
-                            }
-                            
-                            newsLinks.add(new NewsLinkInfo(title, link, press, categoryName, categoryId));
-                        }
-                    }
-                } catch (Exception e) {
-                    System.err.println("CSV 라인 파싱 실패: " + line + " - " + e.getMessage());
+                // 카테고리 정보 추출 (컬럼이 없으면 기본값)
+                String categoryName = "정치"; // 기본값
+                if (categoryColumn >= 0 && !reader.get(categoryColumn).isEmpty()) {
+                    categoryName = reader.get(categoryColumn);
                 }
+                // 카테고리명으로 ID 추출
+                int categoryId = getCategoryIdByName(categoryName);
+                
+                newsLinks.add(new NewsLinkInfo(title, link, press, categoryName, categoryId));
             }
             
         } catch (Exception e) {
@@ -708,87 +918,170 @@ public class NewsDetailBatchProcessor {
     }
 
     /**
-     * CSV 파일에서 뉴스 링크 정보 읽기
+     * 상세 파일 전체 제목의 MinHash LSH 후보 그룹을 상세 파일 옆에 저장 (실패해도 중복 제거는 전체 비교로 진행)
      */
-    private static String[] parseCsvLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    // 이스케이프된 큰따옴표
-                    currentField.append('"');
-                    i++; // 다음 큰따옴표 건너뛰기
-                } else {
-                    // 따옴표 시작/끝
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                // 필드 구분자
-                fields.add(currentField.toString());
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
-            }
+    private static void writeTitleCandidates(Path detailedPath) {
+        try {
+            TitleCandidates.generate(detailedPath, new TitleMinHashLsh());
+        } catch (Exception e) {
+            System.out.println("제목 후보 그룹 저장 실패: " + e.getMessage());
         }
-        
-        // 마지막 필드 추가
-        fields.add(currentField.toString());
-        
-        return fields.toArray(new String[0]);
     }
 
     /**
-     * 상세 뉴스 데이터를 CSV 파일에 저장
+     * 목록 파일에 대응하는 상세 파일 논리 경로 (원본 파일이 있는 폴더 안의 detail 폴더, 없으면 생성)
      */
-    private static void saveDetailedNewsToCsv(List<NewsDetail> newsList, File originalFile) {
-        String baseName = originalFile.getName().replaceFirst("[.][^.]+$", ""); // 확장자 제거
+    private static Path detailedPathFor(File originalFile) {
+        String baseName = StageFiles.baseName(originalFile.getName()); // 확장자(압축 포함) 제거
         String fileName = baseName + "_detailed" + ".csv";
 
-        // 원본 파일이 있는 폴더 안에 detail 폴더 생성
         File parentDirectory = originalFile.getParentFile();
         File detailFolder = new File(parentDirectory, "detail");
         if (!detailFolder.exists()) {
             detailFolder.mkdirs();
         }
-        File file = new File(detailFolder, fileName);
-
-        try (
-            FileOutputStream fos = new FileOutputStream(file, true);
-            OutputStreamWriter osw = new OutputStreamWriter(fos, StandardCharsets.UTF_8);
-            BufferedWriter bw = new BufferedWriter(osw);
-            PrintWriter writer = new PrintWriter(bw)
-        ) {
-            writer.println("\"news_category_id\",\"news_category_name\",\"press\",\"title\",\"reporter\",\"published_at\",\"link\",\"created_at\",\"image_url\",\"trusted\",\"oid_aid\",\"content\"");
-
-            DateTimeFormatter timestampFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd a hh:mm:ss", Locale.ENGLISH);
-
-            for (NewsDetail detail : newsList) {
-                String timestamp = LocalDateTime.now().format(timestampFormatter);
-                writer.printf("\"%d\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%s\",\"%d\",\"%s\",\"%s\"%n",
-                    detail.getNewsCategoryId(),
-                    detail.getNewsCategoryName(),
-                    escape(detail.getPress()),
-                    escape(detail.getTitle()),
-                    escape(detail.getReporter()),
-                    escape(detail.getDate()),
-                    escape(detail.getLink()),
-                    timestamp,
-                    escape(detail.getImageUrl()),
-                    detail.getTrusted(),
-                    escape(detail.getOidAid()),
-                    escape(detail.getContent())); 
+        return new File(detailFolder, fileName).toPath();
+    }
+
+    /**
+     * 상세 뉴스 데이터를 CSV 파일에 저장
+     * @param logicalPath 상세 파일 논리 경로 (압축 확장자 없는 .csv)
+     */
+    private static void saveDetailedNewsToCsv(List<NewsDetail> newsList, Path logicalPath) throws IOException {
+        // CSV와 컬럼형 파일이 같은 created_at을 갖도록 행을 한 번만 만듦
+        List<String[]> rows = new ArrayList<>(newsList.size());
+        for (NewsDetail detail : newsList) {
+            String timestamp = RunContext.timestamp();
+            rows.add(new String[]{
+                String.valueOf(detail.getNewsCategoryId()),
+                detail.getNewsCategoryName(),
+                detail.getPress(),
+                detail.getTitle(),
+                detail.getReporter(),
+                detail.getDate(),
+                detail.getLink(),
+                timestamp,
+                detail.getImageUrl(),
+                String.valueOf(detail.getTrusted()),
+                detail.getOidAid(),
+                detail.getContent(),
+                detail.getContentHash()
+            });
+        }
+        writeDetailedRows(rows, logicalPath, newsList.get(0).getNewsCategoryName());
+    }
+
+    /**
+     * 상세 행을 CSV와 컬럼형 파일에 이어 씀
+     *
+     * CSV에 쓴 행은 컬럼형 파일을 커밋한 뒤에 커밋한다. 컬럼형 파일 쓰기가 실패하면 두 파일 모두 원래대로 두고,
+     * 컬럼형 파일만 반영되고 CSV 커밋이 실패하면 어긋난 컬럼형 파일을 지워 읽는 쪽이 CSV를 쓰게 한다.
+     * 컬럼형 파일이 없는 기존 CSV(이전에 지워졌거나 컬럼형 도입 전 파일)에는 컬럼형 파일을 새로 만들지 않는다.
+     */
+    private static void writeDetailedRows(List<String[]> rows, Path logicalPath, String categoryName) throws IOException {
+        String fileName = logicalPath.getFileName().toString();
+        Path csvPath = StageFiles.outputPath(logicalPath);
+        Path columnarPath = StageFiles.columnarSibling(csvPath);
+        boolean csvExisted = Files.exists(csvPath) && Files.size(csvPath) > 0;
+        if (!csvExisted) {
+            Files.deleteIfExists(columnarPath); // CSV 없이 남은 컬럼형 파일은 어느 행과도 맞지 않음
+        }
+        boolean writeColumnar = !csvExisted || Files.exists(columnarPath);
+
+        CsvWriteEvent writeEvent = new CsvWriteEvent();
+        writeEvent.begin();
+        boolean columnarCommitted = false;
+        try (CsvWriter writer = CsvWriter.append(csvPath, DETAIL_CSV_HEADER)) {
+            for (String[] row : rows) {
+                writer.writeRecord(row);
             }
-            
+            writer.flush();
+            if (writeColumnar) {
+                appendColumnar(columnarPath, rows);
+                columnarCommitted = true;
+            }
+            writer.commit();
+        } catch (IOException e) {
+            if (columnarCommitted) {
+                Files.deleteIfExists(columnarPath);
+            }
+            throw e;
+        }
+        System.out.println("상세 뉴스 데이터 CSV 저장 완료: " + fileName);
+
+        writeEvent.end();
+        if (writeEvent.shouldCommit()) {
+            writeEvent.path = csvPath.toString();
+            writeEvent.category = categoryName;
+            writeEvent.rows = rows.size();
+            writeEvent.bytes = csvPath.toFile().length();
+            writeEvent.commit();
+        }
+    }
 
-            System.out.println("상세 뉴스 데이터 CSV 저장 완료: " + fileName);
+    /**
+     * 상세 행으로 CSV와 컬럼형 파일을 새로 씀 - 둘 다 임시 파일에 쓴 뒤 교체 (이전 파일에 이어 쓰지 않음)
+     */
+    private static void replaceDetailedRows(List<String[]> rows, Path logicalPath) throws IOException {
+        Path csvPath = StageFiles.outputPath(logicalPath);
+        Path columnarPath = StageFiles.columnarSibling(csvPath);
+        Path csvTemp = csvPath.resolveSibling(".tmp-" + csvPath.getFileName());
+        Path columnarTemp = columnarPath.resolveSibling(".tmp-" + columnarPath.getFileName());
+        try {
+            try (CsvWriter writer = CsvWriter.create(csvTemp, DETAIL_CSV_HEADER)) {
+                for (String[] row : rows) {
+                    writer.writeRecord(row);
+                }
+            }
+            try (ColumnarWriter writer = ColumnarWriter.create(columnarTemp, DETAIL_CSV_HEADER, StageFiles.DICTIONARY_COLUMNS)) {
+                for (String[] row : rows) {
+                    writer.writeRecord(row);
+                }
+            }
+            // 이전 파일(다른 압축 방식 포함)을 지우고 CSV → 컬럼형 순서로 옮김 - 중간에 멈춰도 CSV만 있는 상태라 서로 어긋나지 않음
+            StageFiles.delete(logicalPath);
+            Files.move(csvTemp, csvPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(columnarTemp, columnarPath, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(csvTemp);
+            Files.deleteIfExists(columnarTemp);
+        }
+        System.out.println("상세 뉴스 데이터 CSV 저장 완료: " + logicalPath.getFileName());
+    }
 
-        } catch (Exception e) {
-            System.out.println("CSV 저장 실패: " + e.getMessage());
+    /**
+     * 상세 뉴스 컬럼형 파일에 행 그룹 추가
+     * 컬럼이 추가되기 전에 만든 파일만 기존 행을 새 컬럼 구성으로 옮겨 한 번 다시 씀 (임시 파일 후 교체)
+     */
+    private static void appendColumnar(Path path, List<String[]> rows) throws IOException {
+        if (ColumnarWriter.canAppend(path, DETAIL_CSV_HEADER, StageFiles.DICTIONARY_COLUMNS)) {
+            try (ColumnarWriter writer = ColumnarWriter.append(path, DETAIL_CSV_HEADER, StageFiles.DICTIONARY_COLUMNS)) {
+                for (String[] row : rows) {
+                    writer.writeRecord(row);
+                }
+                writer.commit();
+            }
+            return;
+        }
+
+        List<String[]> allRows = new ArrayList<>();
+        try (ColumnarReader reader = ColumnarReader.open(path)) {
+            for (String[] row : reader.readAll()) {
+                allRows.add(Arrays.copyOf(row, DETAIL_CSV_HEADER.length)); // 없던 컬럼은 빈 값으로 채움
+            }
+        }
+        allRows.addAll(rows);
+
+        Path temp = path.resolveSibling(".tmp-" + path.getFileName()); // 압축 확장자 유지
+        try {
+            try (ColumnarWriter writer = ColumnarWriter.create(temp, DETAIL_CSV_HEADER, StageFiles.DICTIONARY_COLUMNS)) {
+                for (String[] row : allRows) {
+                    writer.writeRecord(row);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
         }
     }
 
@@ -813,14 +1106,6 @@ public class NewsDetailBatchProcessor {
         return "";
     }
 
-    /**
-     * 큰따옴표 이스케이프
-     */
-    private static String escape(String text) {
-        if (text == null) return "";
-        return text.replace("\"", "\"\""); // 큰따옴표 이스케이프
-    }
-
     /**
      * 뉴스 링크 정보를 담는 내부 클래스
      */
@@ -0,0 +1,46 @@
+package com.news.news_crawler.util;
+
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.core.env.PropertyResolver;
+
+/**
+ * 카테고리별 단계 DAG 설정 (crawler.pipeline.*)
+ * 중복 제거 단계는 워커 수(crawler.dedup.worker.count), DB 저장 단계는 crawler.db.category-parallelism만큼 동시에 실행
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PipelineConfig {
+
+    @Builder.Default
+    private final boolean enabled = true; // false면 단계마다 모든 카테고리를 기다리는 순차 실행
+    @Builder.Default
+    private final int listParallelism = 3; // 동시에 목록을 크롤링하는 카테고리 수 (카테고리마다 Chrome 하나)
+    @Builder.Default
+    private final int detailParallelism = 2; // 동시에 상세 크롤링하는 카테고리 수 (카테고리마다 세션 하나)
+    @Builder.Default
+    private final int listTargetCount = 100; // 섹션 카테고리 목록 목표 개수
+    @Builder.Default
+    private final int maxAttempts = 2; // 노드(카테고리 × 단계)당 최대 실행 횟수
+    @Builder.Default
+    private final long retryDelayMillis = 10_000; // 노드 재시도 전 대기 시간
+
+    public static PipelineConfig defaults() {
+        return PipelineConfig.builder().build();
+    }
+
+    /**
+     * 설정 속성에서 읽기 (없는 값은 기본값)
+     */
+    public static PipelineConfig from(PropertyResolver properties) {
+        PipelineConfig defaults = defaults();
+        return PipelineConfig.builder()
+                .enabled(properties.getProperty("crawler.pipeline.enabled", Boolean.class, defaults.isEnabled()))
+                .listParallelism(properties.getProperty("crawler.pipeline.list-parallelism", Integer.class, defaults.getListParallelism()))
+                .detailParallelism(properties.getProperty("crawler.pipeline.detail-parallelism", Integer.class, defaults.getDetailParallelism()))
+                .listTargetCount(properties.getProperty("crawler.pipeline.list-target-count", Integer.class, defaults.getListTargetCount()))
+                .maxAttempts(properties.getProperty("crawler.pipeline.max-attempts", Integer.class, defaults.getMaxAttempts()))
+                .retryDelayMillis(properties.getProperty("crawler.pipeline.retry-delay-ms", Long.class, defaults.getRetryDelayMillis()))
+                .build();
+    }
+}
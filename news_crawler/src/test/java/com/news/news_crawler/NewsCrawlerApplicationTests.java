@@ -3,7 +3,7 @@ package com.news.news_crawler;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "crawler.dedup.worker.prestart=false")
 class NewsCrawlerApplicationTests {
 
     @Test
@@ -0,0 +1,150 @@
+package com.news.news_crawler.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * CSV 코덱 처리량 측정 (빌드에서 실행되지 않는 수동 벤치마크)
+ *
+ * 상세 CSV와 비슷한 모양(짧은 필드 11개 + 2~4KB 본문)의 레코드를 만들어
+ * 기존 readLine() + 줄 단위 파싱 방식과 {@link CsvReader}를 비교한다.
+ * 기존 방식은 본문에 줄바꿈이 없어야 결과가 맞으므로 비교용 데이터는 줄바꿈 없이 만든다.
+ *
+ * <pre>
+ * gradle testClasses
+ * java -cp build/classes/java/test:build/classes/java/main com.news.news_crawler.csv.CsvCodecBenchmark 20000
+ * </pre>
+ */
+public class CsvCodecBenchmark {
+
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 10;
+
+    public static void main(String[] args) throws IOException {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+        String csv = buildCsv(records);
+        System.out.printf("records=%d, size=%.1f MB%n", records, csv.length() * 2 / 1024.0 / 1024.0);
+
+        long sink = 0;
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += readWithCodec(csv) + readLegacy(csv) + write(records);
+        }
+
+        long codecNanos = 0;
+        long legacyNanos = 0;
+        long writeNanos = 0;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += readWithCodec(csv);
+            codecNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += readLegacy(csv);
+            legacyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            sink += write(records);
+            writeNanos += System.nanoTime() - start;
+        }
+
+        report("CsvReader", codecNanos, records);
+        report("readLine + parseCsvLine", legacyNanos, records);
+        report("CsvWriter", writeNanos, records);
+        System.out.println("(sink " + sink + ")");
+    }
+
+    private static void report(String name, long totalNanos, int records) {
+        double millis = totalNanos / 1_000_000.0 / MEASURE_ROUNDS;
+        System.out.printf("%-26s %8.1f ms/round  %10.0f records/s%n", name, millis, records / (millis / 1000.0));
+    }
+
+    private static long readWithCodec(String csv) throws IOException {
+        long total = 0;
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            reader.readHeader();
+            int content = reader.requireColumn("content");
+            while (reader.next()) {
+                total += reader.get(content).length();
+            }
+        }
+        return total;
+    }
+
+    private static long readLegacy(String csv) throws IOException {
+        long total = 0;
+        try (BufferedReader reader = new BufferedReader(new StringReader(csv))) {
+            String line = reader.readLine();
+            while ((line = reader.readLine()) != null) {
+                total += legacyParseCsvLine(line)[11].length();
+            }
+        }
+        return total;
+    }
+
+    private static long write(int records) throws IOException {
+        StringWriter out = new StringWriter();
+        Random random = new Random(7);
+        try (CsvWriter writer = new CsvWriter(out)) {
+            for (int i = 0; i < records; i++) {
+                writer.writeRecord(row(random, i));
+            }
+        }
+        return out.getBuffer().length();
+    }
+
+    private static String buildCsv(int records) throws IOException {
+        StringWriter out = new StringWriter();
+        Random random = new Random(7);
+        try (CsvWriter writer = new CsvWriter(out)) {
+            writer.writeRecord("news_category_id", "news_category_name", "press", "title", "reporter", "published_at",
+                    "link", "created_at", "image_url", "trusted", "oid_aid", "content");
+            for (int i = 0; i < records; i++) {
+                writer.writeRecord(row(random, i));
+            }
+        }
+        return out.toString();
+    }
+
+    private static String[] row(Random random, int index) {
+        StringBuilder content = new StringBuilder();
+        int length = 2048 + random.nextInt(2048);
+        while (content.length() < length) {
+            content.append("정부는 \"경제 회복\"을 위해, 추가 대책을 발표했다. ");
+        }
+        String oidAid = "001-" + String.format("%010d", index);
+        return new String[]{"101", "경제", "연합뉴스", "기사 제목 " + index, "홍길동 기자", "2025-08-07 11:43:12",
+                "https://n.news.naver.com/mnews/article/001/" + index, "2025-08-07 PM 12:00:00",
+                "https://imgnews.pstatic.net/image/001/" + index + ".jpg", "1", oidAid, content.toString()};
+    }
+
+    // 기존 NewsDetailBatchProcessor/CsvToDatabase의 줄 단위 파서 (비교 기준)
+    private static String[] legacyParseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields.toArray(new String[0]);
+    }
+}
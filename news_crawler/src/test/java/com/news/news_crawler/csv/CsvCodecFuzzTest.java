@@ -0,0 +1,100 @@
+package com.news.news_crawler.csv;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvCodecFuzzTest {
+
+    // 구분자/따옴표/줄바꿈이 자주 나오도록 치우친 문자 집합
+    private static final char[] ALPHABET = {'a', 'b', '가', '나', ' ', ',', '"', '\n', '\r', '\t', '\uFEFF', '1'};
+
+    @Test
+    void writtenRecordsReadBackUnchanged() throws IOException {
+        Random random = new Random(20250807L);
+        for (int iteration = 0; iteration < 2000; iteration++) {
+            List<String[]> records = new ArrayList<>();
+            int recordCount = 1 + random.nextInt(8);
+            int fieldCount = 1 + random.nextInt(6);
+            for (int r = 0; r < recordCount; r++) {
+                String[] fields = new String[fieldCount];
+                for (int f = 0; f < fieldCount; f++) {
+                    fields[f] = randomText(random, random.nextInt(12));
+                }
+                records.add(fields);
+            }
+
+            StringWriter out = new StringWriter();
+            try (CsvWriter writer = new CsvWriter(out)) {
+                for (String[] record : records) {
+                    writer.writeRecord(record);
+                }
+            }
+
+            // 작은 버퍼로 읽어 버퍼 경계에 걸친 따옴표/CRLF도 검증
+            int bufferSize = 1 + random.nextInt(16);
+            try (CsvReader reader = new CsvReader(new StringReader(out.toString()), bufferSize)) {
+                for (String[] expected : records) {
+                    assertTrue(reader.next(), "missing record in: " + out);
+                    assertArrayEquals(expected, reader.toArray(), "input: " + out);
+                }
+                assertFalse(reader.next());
+            }
+        }
+    }
+
+    @Test
+    void arbitraryInputNeverThrows() throws IOException {
+        Random random = new Random(42L);
+        for (int iteration = 0; iteration < 5000; iteration++) {
+            String input = randomText(random, random.nextInt(64));
+            try (CsvReader reader = new CsvReader(new StringReader(input), 1 + random.nextInt(8))) {
+                int guard = 0;
+                while (reader.next()) {
+                    assertTrue(reader.size() > 0);
+                    assertTrue(++guard <= input.length() + 1, "reader did not advance: " + input);
+                }
+            }
+        }
+    }
+
+    @Test
+    void quotedNewlinesStayInOneRecordAndHeaderLookupWorks() throws IOException {
+        String csv = "\uFEFFtitle,link,content\r\n"
+                + "\"제목, 하나\",https://n.news.naver.com/mnews/article/001/0001,\"첫 줄\n둘째 줄 \"\"인용\"\"\"\r\n"
+                + "\n"
+                + "제목2,https://n.news.naver.com/mnews/article/001/0002,본문\n";
+        try (CsvReader reader = new CsvReader(new StringReader(csv), 3)) {
+            assertTrue(reader.readHeader());
+            int content = reader.requireColumn("content");
+            assertEquals(-1, reader.column("missing"));
+
+            assertTrue(reader.next());
+            assertEquals("제목, 하나", reader.get("title"));
+            assertEquals("첫 줄\n둘째 줄 \"인용\"", reader.get(content));
+
+            assertTrue(reader.next());
+            assertEquals("제목2", reader.get(0));
+            assertEquals("", reader.get(5));
+            assertFalse(reader.next());
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return text.toString();
+    }
+}
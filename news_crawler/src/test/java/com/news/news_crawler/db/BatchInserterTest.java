@@ -0,0 +1,104 @@
+package com.news.news_crawler.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchInserterTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:batch_inserter;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news");
+            statement.execute("CREATE TABLE news (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR(100) NOT NULL, oid_aid VARCHAR(30) UNIQUE)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void failingRowsAreIsolatedAndTheRestCommitted() throws SQLException {
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            rows.add(new String[]{i == 17 || i == 64 ? null : "title " + i, "001-" + i}); // NOT NULL 위반 2건
+        }
+
+        List<Integer> failed = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        int committed;
+        try (BatchInserter<String[]> inserter = new BatchInserter<>(connection,
+                "INSERT INTO news (title, oid_aid) VALUES (?, ?)", true, 32, (statement, row) -> {
+                    statement.setString(1, row[0]);
+                    statement.setString(2, row[1]);
+                })) {
+            committed = inserter.insert(rows, batch -> {
+                for (long key : batch.generatedKeys()) {
+                    keys.add(key);
+                }
+            }, (row, index, error) -> failed.add(index));
+        }
+
+        assertEquals(98, committed);
+        assertEquals(List.of(17, 64), failed);
+        assertEquals(98, keys.size());
+        assertEquals(98, count());
+        assertTrue(connection.getAutoCommit(), "닫으면 원래 autocommit 설정으로 복구");
+    }
+
+    @Test
+    void insertIgnoreSkipsExistingRowsWithoutKeys() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO news (title, oid_aid) VALUES ('existing', '001-1')");
+        }
+
+        List<int[]> counts = new ArrayList<>();
+        List<long[]> keys = new ArrayList<>();
+        try (BatchInserter<String> inserter = new BatchInserter<>(connection,
+                "INSERT IGNORE INTO news (title, oid_aid) VALUES ('new', ?)", true, 10, (statement, oidAid) -> statement.setString(1, oidAid))) {
+            inserter.insert(List.of("001-0", "001-1", "001-2"), batch -> {
+                counts.add(batch.updateCounts());
+                keys.add(batch.generatedKeys());
+            }, (row, index, error) -> {
+                throw new AssertionError(error);
+            });
+        }
+
+        assertEquals(1, counts.size());
+        assertEquals(0, counts.get(0)[1]);
+        assertEquals(2, keys.get(0).length);
+        assertEquals(3, count());
+    }
+
+    @Test
+    void rewriteBatchedStatementsOnlyForMysql() {
+        assertEquals("jdbc:mysql://db/news?rewriteBatchedStatements=true", BatchInserter.withRewriteBatchedStatements("jdbc:mysql://db/news"));
+        assertEquals("jdbc:mysql://db/news?useSSL=false&rewriteBatchedStatements=true",
+                BatchInserter.withRewriteBatchedStatements("jdbc:mysql://db/news?useSSL=false"));
+        assertEquals("jdbc:h2:mem:test", BatchInserter.withRewriteBatchedStatements("jdbc:h2:mem:test"));
+    }
+
+    private int count() throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM news")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.db.CrawlWorkQueue.Item;
+import com.news.news_crawler.db.CrawlWorkQueue.Kind;
+import com.news.news_crawler.db.CrawlWorkQueue.Progress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrawlWorkQueueTest {
+
+    private static final String RUN = "2025-08-01_am";
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:crawl_work_queue;MODE=MySQL;DB_CLOSE_DELAY=-1");
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS crawl_work_item");
+        }
+    }
+
+    @Test
+    void nodesShareOneRunThroughListDetailShardsAndDedup() throws SQLException {
+        CrawlWorkQueue queue = new CrawlWorkQueue(dataSource, 60, 2, 3, 0);
+        queue.createTable();
+        assertEquals(1, queue.enqueueRun(RUN, List.of("politics")));
+        assertEquals(0, queue.enqueueRun(RUN, List.of("politics")), "다른 서버가 같은 실행을 등록하면 합류");
+
+        Item list = queue.claim(RUN, "node-a").orElseThrow();
+        assertEquals(Kind.LIST, list.kind());
+        assertTrue(queue.claim(RUN, "node-b").isEmpty(), "처리 중인 작업은 다른 서버가 가져가지 않음");
+        assertTrue(queue.complete(list, "node-a"));
+
+        Item shardA = queue.claim(RUN, "node-a").orElseThrow();
+        Item shardB = queue.claim(RUN, "node-b").orElseThrow();
+        assertEquals(Kind.DETAIL, shardA.kind());
+        assertEquals(Kind.DETAIL, shardB.kind());
+        assertNotEquals(shardA.shard(), shardB.shard());
+        assertEquals(1, queue.heartbeat("node-a", List.of(shardA.id(), shardB.id())), "남의 작업은 연장하지 않음");
+
+        assertTrue(queue.complete(shardA, "node-a"));
+        assertTrue(queue.claim(RUN, "node-a").isEmpty(), "샤드가 남아 있으면 중복 제거 작업 없음");
+        assertTrue(queue.complete(shardB, "node-b"));
+
+        Item dedup = queue.claim(RUN, "node-a").orElseThrow();
+        assertEquals(Kind.DEDUP, dedup.kind());
+        assertEquals(2, dedup.shardCount());
+        assertTrue(queue.complete(dedup, "node-a"));
+        assertEquals(new Progress(0, 0, 4, 0), queue.progress(RUN));
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndFailuresRetryUntilMaxAttempts() throws Exception {
+        CrawlWorkQueue queue = new CrawlWorkQueue(dataSource, 1, 1, 2, 0);
+        queue.createTable();
+        queue.enqueueRun(RUN, List.of("politics"));
+
+        Item lost = queue.claim(RUN, "node-a").orElseThrow();
+        Thread.sleep(1_500); // node-a가 heartbeat 없이 멈춤
+        Item reclaimed = queue.claim(RUN, "node-b").orElseThrow();
+        assertEquals(lost.id(), reclaimed.id());
+        assertEquals(2, reclaimed.attempts());
+        assertFalse(queue.complete(lost, "node-a"), "임대를 잃은 서버의 결과는 기록하지 않음");
+
+        assertTrue(queue.fail(reclaimed, "node-b", "timeout"), "마지막 시도가 실패하면 최종 실패");
+        assertTrue(queue.claim(RUN, "node-a").isEmpty(), "목록이 실패한 카테고리는 상세 작업 없음");
+        assertEquals(new Progress(0, 0, 0, 1), queue.progress(RUN));
+    }
+
+    @Test
+    void laterTriggerOnADrainedRunRetriesOnlyTheFailedItems() throws SQLException {
+        CrawlWorkQueue queue = new CrawlWorkQueue(dataSource, 60, 2, 1, 0);
+        queue.createTable();
+        queue.enqueueRun(RUN, List.of("politics"));
+        assertTrue(queue.complete(queue.claim(RUN, "node-a").orElseThrow(), "node-a"));
+        Item shardA = queue.claim(RUN, "node-a").orElseThrow();
+        Item shardB = queue.claim(RUN, "node-a").orElseThrow();
+        assertTrue(queue.complete(shardA, "node-a"));
+        assertTrue(queue.fail(shardB, "node-a", "timeout"));
+        assertTrue(queue.complete(queue.claim(RUN, "node-a").orElseThrow(), "node-a"));
+        assertEquals(new Progress(0, 0, 3, 1), queue.progress(RUN));
+
+        assertEquals(1, queue.enqueueRun(RUN, List.of("politics")), "끝난 실행에 다시 요청하면 실패한 샤드만 되돌림");
+        assertEquals(0, queue.enqueueRun(RUN, List.of("politics")), "진행 중이면 그대로 합류");
+        Item retried = queue.claim(RUN, "node-b").orElseThrow();
+        assertEquals(shardB.id(), retried.id());
+        assertEquals(1, retried.attempts());
+        assertTrue(queue.complete(retried, "node-b"));
+
+        Item dedup = queue.claim(RUN, "node-b").orElseThrow();
+        assertEquals(Kind.DEDUP, dedup.kind(), "새로 가져온 샤드 기사를 다시 합쳐 저장");
+        assertTrue(queue.complete(dedup, "node-b"));
+        assertEquals(new Progress(0, 0, 4, 0), queue.progress(RUN));
+        assertEquals(0, queue.enqueueRun(RUN, List.of("politics")), "실패 없이 끝난 실행은 다시 돌리지 않음");
+    }
+
+    @Test
+    void concurrentClaimsNeverHandOutTheSameItem() throws Exception {
+        CrawlWorkQueue queue = new CrawlWorkQueue(dataSource, 60, 1, 1, 0);
+        queue.createTable();
+        List<String> categories = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            categories.add("category-" + i);
+        }
+        queue.enqueueRun(RUN, categories);
+
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        ExecutorService nodes = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int node = 0; node < 4; node++) {
+                String owner = "node-" + node;
+                futures.add(nodes.submit(() -> {
+                    int count = 0;
+                    Optional<Item> item;
+                    while ((item = queue.claim(RUN, owner)).isPresent()) {
+                        assertTrue(claimed.add(item.get().id()), "같은 작업을 두 서버가 가져감: " + item.get().id());
+                        count++;
+                    }
+                    return count;
+                }));
+            }
+            int total = 0;
+            for (Future<Integer> future : futures) {
+                total += future.get();
+            }
+            assertEquals(40, total);
+        } finally {
+            nodes.shutdownNow();
+        }
+    }
+}
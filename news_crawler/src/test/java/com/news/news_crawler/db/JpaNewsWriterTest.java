@@ -0,0 +1,128 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.entity.DedupState;
+import com.news.news_crawler.entity.News;
+import com.news.news_crawler.entity.NewsCategory;
+import com.news.news_crawler.repository.NewsRepository;
+import com.news.news_crawler.repository.RelatedNewsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import({JpaNewsWriter.class, JpaBatchConfig.class})
+@TestPropertySource(properties = {"crawler.db.batch-size=20", "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // StatelessSession이 직접 커밋하므로 테스트 트랜잭션 없이 실행
+class JpaNewsWriterTest {
+
+    @Autowired
+    private JpaNewsWriter writer;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private RelatedNewsRepository relatedNewsRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        relatedNewsRepository.deleteAllInBatch();
+        newsRepository.deleteAllInBatch();
+        // batch/bulk 모드(AUTO_INCREMENT)로 먼저 들어간 행
+        jdbcTemplate.update("INSERT INTO news (id, title, trusted, oid_aid) VALUES (1000, 'existing', TRUE, '001-1')");
+    }
+
+    @Test
+    void insertsInJdbcBatchesWithIdsAboveExistingRows() {
+        List<NewsRow> rows = new ArrayList<>();
+        for (int i = 0; i < 45; i++) {
+            rows.add(news("title " + i, "002-" + i));
+        }
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getStatistics().clear();
+
+        long[] ids = writer.insertNews(rows, NewsCategory.ECONOMY, LocalDateTime.now(), 20, (row, index, e) -> {
+            throw new AssertionError(e);
+        });
+
+        assertEquals(45, ids.length);
+        for (long id : ids) {
+            assertTrue(id > 1000, "기존 id보다 큰 시퀀스 값: " + id);
+        }
+        assertEquals(46, newsRepository.count());
+        // 20행씩 배치 3번 (행마다 문장을 준비하지 않음)
+        assertTrue(sessionFactory.getStatistics().getPrepareStatementCount() < 10,
+                "prepared " + sessionFactory.getStatistics().getPrepareStatementCount());
+
+        News saved = newsRepository.findByOidAid("002-0").orElseThrow();
+        assertEquals(NewsCategory.ECONOMY, saved.getCategory());
+        assertEquals(DedupState.REPRESENTATIVE, saved.getDedupState());
+    }
+
+    @Test
+    void failingRowsAreIsolated() {
+        List<NewsRow> rows = List.of(news("a", "003-1"), news("b", "001-1"), news("c", "003-2"));
+        List<Integer> failed = new ArrayList<>();
+
+        long[] ids = writer.insertNews(rows, NewsCategory.POLITICS, LocalDateTime.now(), 10, (row, index, e) -> failed.add(index));
+
+        assertEquals(List.of(1), failed);
+        assertTrue(ids[0] > 0 && ids[1] == 0 && ids[2] > 0);
+        assertEquals(Set.of("001-1", "003-1"), writer.findExistingOidAids(List.of("001-1", "003-1", "003-9")));
+    }
+
+    @Test
+    void relatedPairsRoundTrip() {
+        int inserted = writer.insertRelated(List.of(new RelatedNewsRow("001-1", "003-1", 0.9f)), LocalDateTime.now(), 10,
+                (row, index, e) -> {
+                    throw new AssertionError(e);
+                });
+
+        assertEquals(1, inserted);
+        assertEquals(Set.of(JpaNewsWriter.pairKey("001-1", "003-1")),
+                writer.findExistingPairs(List.of(new RelatedNewsRow("001-1", "003-1", 0.5f))));
+    }
+
+    @Test
+    void sessionIsRefusedAfterRowsWereWrittenOutsideTheSequence() {
+        writer.beginSession();
+        writer.insertNews(List.of(news("jpa", "004-1")), NewsCategory.SOCIETY, LocalDateTime.now(), 10, (row, index, e) -> {
+            throw new AssertionError(e);
+        });
+        writer.beginSession(); // JPA로만 썼으면 통과
+
+        // batch 모드 서버가 AUTO_INCREMENT로 넣은 행 (최대 id 다음 값)
+        jdbcTemplate.update("INSERT INTO news (id, title, trusted, oid_aid) SELECT MAX(id) + 1, 'batch', TRUE, '004-2' FROM news");
+
+        IllegalStateException refused = assertThrows(IllegalStateException.class, writer::beginSession);
+        assertTrue(refused.getMessage().contains("crawler.db.mode=jpa"), refused.getMessage());
+    }
+
+    private static NewsRow news(String title, String oidAid) {
+        return new NewsRow(title, "content", "press", LocalDateTime.of(2025, 8, 1, 8, 30), "reporter",
+                "REPRESENTATIVE", true, null, oidAid, null);
+    }
+}
@@ -0,0 +1,121 @@
+package com.news.news_crawler.db;
+
+import com.news.news_crawler.db.NewsFingerprintIndex.Fingerprint;
+import com.news.news_crawler.db.NewsFingerprintIndex.Match;
+import com.news.news_crawler.db.NewsFingerprintIndex.MatchKind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NewsFingerprintIndexTest {
+
+    private static final String TITLE = "Central bank raises interest rates for the third time";
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:news_fingerprint;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news_fingerprint");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void matchesOnlyArticlesFromPreviousRuns() throws SQLException {
+        NewsFingerprintIndex index = new NewsFingerprintIndex(7, 3, 0.5);
+        index.ensureLoaded(connection);
+        String body = words(400, 1);
+        Fingerprint stored = index.fingerprint("001-1", TITLE, body);
+        assertNull(index.match(stored));
+
+        index.save(connection, List.of(stored));
+        assertNull(index.match(index.fingerprint("002-1", TITLE, body)), "같은 실행에서 저장한 지문은 아직 비교하지 않음");
+
+        // 다음 실행: 다른 인스턴스로 DB에서 다시 읽음
+        NewsFingerprintIndex next = new NewsFingerprintIndex(7, 3, 0.5);
+        next.ensureLoaded(connection);
+
+        Match duplicate = next.match(next.fingerprint("003-1", "Other press headline", body.replace("w1 ", "changed ")));
+        assertEquals(MatchKind.DUPLICATE, duplicate.kind());
+        assertEquals("001-1", duplicate.oidAid());
+
+        Match related = next.match(next.fingerprint("004-1", TITLE + " again", words(400, 2)));
+        assertEquals(MatchKind.RELATED, related.kind());
+        assertEquals("001-1", related.oidAid());
+        assertTrue(related.similarity() >= 0.5f);
+
+        assertNull(next.match(next.fingerprint("005-1", "Volcano eruption forces evacuation", words(400, 3))));
+    }
+
+    @Test
+    void picksUpFingerprintsSavedByAnotherInstanceOnTheNextRun() throws SQLException {
+        // 같은 DB를 쓰는 두 서버
+        NewsFingerprintIndex first = new NewsFingerprintIndex(7, 3, 0.5);
+        NewsFingerprintIndex second = new NewsFingerprintIndex(7, 3, 0.5);
+        first.ensureLoaded(connection);
+        second.ensureLoaded(connection);
+
+        String body = words(400, 1);
+        first.save(connection, List.of(first.fingerprint("001-1", TITLE, body)));
+        first.publishPending();
+        assertNull(second.match(second.fingerprint("002-1", TITLE, body)), "실행 중에는 다시 읽지 않음");
+
+        // 다음 실행 시작
+        second.ensureLoaded(connection);
+        Match duplicate = second.match(second.fingerprint("002-1", TITLE, body));
+        assertEquals(MatchKind.DUPLICATE, duplicate.kind());
+        assertEquals("001-1", duplicate.oidAid());
+
+        second.save(connection, List.of(second.fingerprint("003-1", "Volcano eruption forces evacuation", words(400, 3))));
+        first.ensureLoaded(connection);
+        second.ensureLoaded(connection);
+        assertTrue(first.stats().endsWith("색인 2개"), first.stats());
+        assertTrue(second.stats().endsWith("색인 2개"), "이미 읽은 지문과 자기가 저장한 지문은 다시 더하지 않음: " + second.stats());
+    }
+
+    @Test
+    void expiredFingerprintsAreRemoved() throws SQLException {
+        NewsFingerprintIndex index = new NewsFingerprintIndex(7, 3, 0.5);
+        index.ensureLoaded(connection);
+        index.save(connection, List.of(index.fingerprint("001-1", TITLE, words(100, 1))));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE news_fingerprint SET created_at = DATEADD('DAY', -8, CURRENT_TIMESTAMP)");
+        }
+
+        NewsFingerprintIndex next = new NewsFingerprintIndex(7, 3, 0.5);
+        next.ensureLoaded(connection);
+        assertNull(next.match(next.fingerprint("002-1", TITLE, words(100, 1))));
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM news_fingerprint")) {
+            resultSet.next();
+            assertEquals(0, resultSet.getLong(1));
+        }
+    }
+
+    private static String words(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder text = new StringBuilder("w1 ");
+        for (int i = 0; i < count; i++) {
+            text.append("w").append(random.nextInt(5000)).append(' ');
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,67 @@
+package com.news.news_crawler.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OidAidFilterTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:oid_aid_filter;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news");
+            statement.execute("CREATE TABLE news (id BIGINT AUTO_INCREMENT PRIMARY KEY, oid_aid VARCHAR(64) UNIQUE)");
+            statement.execute("INSERT INTO news (oid_aid) VALUES ('001-1'), ('001-2'), (NULL)");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void onlyStoredKeysAreReportedAsExisting() throws SQLException {
+        OidAidFilter filter = new OidAidFilter(0.01);
+        assertEquals(Set.of(), filter.findExisting(connection, List.of("001-1")), "읽기 전에는 모두 새 기사");
+
+        filter.ensureLoaded(connection);
+        assertEquals(Set.of("001-1", "001-2"), filter.findExisting(connection, Arrays.asList("001-1", "001-2", "001-3", null)));
+
+        // 필터에만 추가된 키는 DB 확인에서 걸러짐
+        filter.add("001-3");
+        assertEquals(Set.of(), filter.findExisting(connection, List.of("001-3")));
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegativesAndBoundedFalsePositives() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloom.add("001-" + i);
+        }
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloom.mightContain("001-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (bloom.mightContain("002-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 2_000, "오탐률 " + falsePositives / 100_000.0);
+    }
+}
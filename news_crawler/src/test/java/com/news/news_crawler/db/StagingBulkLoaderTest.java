@@ -0,0 +1,156 @@
+package com.news.news_crawler.db;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StagingBulkLoaderTest {
+
+    @TempDir
+    Path stagingDir;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:staging_bulk;MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news");
+            statement.execute("DROP TABLE IF EXISTS related_news");
+            statement.execute("CREATE TABLE news (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR NOT NULL, content VARCHAR, "
+                    + "press VARCHAR(255), published_at TIMESTAMP, reporter VARCHAR(255), dedup_state VARCHAR(32), "
+                    + "created_at TIMESTAMP, updated_at TIMESTAMP, trusted BOOLEAN, image_url VARCHAR, "
+                    + "oid_aid VARCHAR(64) UNIQUE, category_name VARCHAR(32), content_hash VARCHAR(16))");
+            statement.execute("CREATE TABLE related_news (id BIGINT AUTO_INCREMENT PRIMARY KEY, rep_oid_aid VARCHAR(64), "
+                    + "related_oid_aid VARCHAR(64), similarity REAL, created_at TIMESTAMP)");
+            statement.execute("INSERT INTO news (title, oid_aid) VALUES ('existing', '001-1')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    void mergeSkipsExistingAndRepeatedOidAid() throws Exception {
+        StagingBulkLoader loader = new StagingBulkLoader(connection, stagingDir);
+        Map<Integer, Long> ids;
+        try (StagingBulkLoader.NewsStaging staging = loader.newsStaging()) {
+            staging.add(news("first \"quoted\"\nline", "001-0", true));
+            staging.add(news("already stored", "001-1", false));
+            staging.add(news("second", "001-2", false));
+            staging.add(news("repeated in file", "001-0", false));
+            ids = staging.merge("POLITICS", Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 9, 0)));
+        }
+
+        assertEquals(2, ids.size());
+        assertTrue(ids.containsKey(0) && ids.containsKey(2));
+        assertEquals(3, count("news"));
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "SELECT title, trusted, published_at, category_name, content_hash FROM news WHERE id = " + ids.get(0))) {
+            assertTrue(resultSet.next());
+            assertEquals("first \"quoted\"\nline", resultSet.getString(1));
+            assertTrue(resultSet.getBoolean(2));
+            assertEquals(Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 8, 30)), resultSet.getTimestamp(3));
+            assertEquals("POLITICS", resultSet.getString(4));
+            assertEquals("00000000000000ab", resultSet.getString(5));
+        }
+        assertTrue(connection.getAutoCommit(), "병합 후 원래 autocommit 설정으로 복구");
+        try (var files = Files.list(stagingDir)) {
+            assertFalse(files.findAny().isPresent(), "닫으면 임시 파일 삭제");
+        }
+    }
+
+    @Test
+    void concurrentMergesOfOverlappingOidAidDoNotFail() throws Exception {
+        // 다른 연결(다른 카테고리/서버)이 같은 oid_aid를 넣고 아직 커밋하지 않은 상태에서 병합 시작
+        try (Connection other = DriverManager.getConnection("jdbc:h2:mem:staging_bulk;MODE=MySQL;DB_CLOSE_DELAY=-1");
+             Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCK_TIMEOUT 10000");
+            other.setAutoCommit(false);
+            try (Statement insert = other.createStatement()) {
+                insert.execute("INSERT INTO news (title, oid_aid, category_name) VALUES ('other', '001-5', 'SOCIETY')");
+            }
+
+            Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2025, 8, 1, 9, 0, 0, 123_000_000));
+            CompletableFuture<Map<Integer, Long>> merged = CompletableFuture.supplyAsync(() -> {
+                try (StagingBulkLoader.NewsStaging staging = new StagingBulkLoader(connection, stagingDir).newsStaging()) {
+                    staging.add(news("mine", "001-4", false));
+                    staging.add(news("overlapping", "001-5", false));
+                    return staging.merge("POLITICS", createdAt);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+            Thread.sleep(300); // 병합이 다른 연결의 행 잠금을 기다리는 동안 커밋
+            other.commit();
+
+            Map<Integer, Long> ids = merged.get(10, TimeUnit.SECONDS);
+            assertEquals(Set.of(0), ids.keySet(), "먼저 커밋된 oid_aid는 이번 병합의 행이 아님");
+        }
+        assertEquals(3, count("news"));
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT title, category_name FROM news WHERE oid_aid = '001-5'")) {
+            assertTrue(resultSet.next());
+            assertEquals("other", resultSet.getString(1));
+            assertEquals("SOCIETY", resultSet.getString(2));
+        }
+    }
+
+    @Test
+    void relatedPairsAreNotInsertedTwice() throws Exception {
+        StagingBulkLoader loader = new StagingBulkLoader(connection, stagingDir);
+        for (int run = 0; run < 2; run++) {
+            try (StagingBulkLoader.RelatedStaging staging = loader.relatedStaging()) {
+                staging.add(new RelatedNewsRow("001-0", "001-2", 0.9f));
+                staging.add(new RelatedNewsRow("001-0", "001-2", 0.9f));
+                staging.add(new RelatedNewsRow("001-0", "001-3", 0.8f));
+                assertEquals(run == 0 ? 2 : 0, staging.merge(Timestamp.valueOf(LocalDateTime.now())));
+            }
+        }
+        assertEquals(2, count("related_news"));
+    }
+
+    @Test
+    void localInfilePathOnlyForMysql() {
+        Path dir = Path.of("/tmp/staging");
+        assertEquals("jdbc:mysql://db/news?rewriteBatchedStatements=true&allowLoadLocalInfileInPath=/tmp/staging",
+                StagingBulkLoader.withLocalInfilePath("jdbc:mysql://db/news?rewriteBatchedStatements=true", dir));
+        assertEquals("jdbc:h2:mem:test", StagingBulkLoader.withLocalInfilePath("jdbc:h2:mem:test", dir));
+    }
+
+    private static NewsRow news(String title, String oidAid, boolean trusted) {
+        return new NewsRow(title, "content", "press", LocalDateTime.of(2025, 8, 1, 8, 30), "reporter",
+                "REPRESENTATIVE", trusted, null, oidAid, "00000000000000ab");
+    }
+
+    private int count(String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
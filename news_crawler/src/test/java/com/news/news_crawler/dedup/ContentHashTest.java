@@ -0,0 +1,28 @@
+package com.news.news_crawler.dedup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ContentHashTest {
+
+    private static final String BODY = "정부가 내년 예산안을 발표했다. 총지출은 전년보다 3% 늘었다.";
+
+    @Test
+    void ignoresDatelineBylineEmailCopyrightAndSpacing() {
+        String wire = "(서울=연합뉴스) 홍길동 기자 = " + BODY + " hong@yna.co.kr ⓒ연합뉴스, 무단 전재-재배포 금지";
+        String reprinted = "[서울=뉴시스]김철수 기자 = " + BODY.replace(" ", "  ") + "\n\nkim@newsis.com (c) 뉴시스";
+
+        assertEquals(ContentHash.of(BODY), ContentHash.of(wire));
+        assertEquals(ContentHash.of(BODY), ContentHash.of(reprinted));
+        assertEquals(16, ContentHash.of(BODY).length());
+    }
+
+    @Test
+    void differentBodiesAndEmptyBody() {
+        assertNotEquals(ContentHash.of(BODY), ContentHash.of(BODY.replace("3%", "5%")));
+        assertEquals("", ContentHash.of(null));
+        assertEquals("", ContentHash.of("  \n "));
+    }
+}
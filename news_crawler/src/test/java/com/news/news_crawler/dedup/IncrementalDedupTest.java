@@ -0,0 +1,112 @@
+package com.news.news_crawler.dedup;
+
+import com.news.news_crawler.csv.CsvReader;
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.dedup.IncrementalDedup.Mode;
+import com.news.news_crawler.dedup.IncrementalDedup.Plan;
+import com.news.news_crawler.stage.RunContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class IncrementalDedupTest {
+
+    private static final String DATE = "2025-08-01";
+    private static final String PERIOD = "am";
+    private static final String CATEGORY = "politics"; // 파일 이름 인코딩이 ASCII인 환경에서도 돌도록
+
+    @TempDir
+    Path staticBase;
+
+    @Test
+    void rerunPassesOnlyChangedArticlesAndPreviousRepresentatives() throws IOException {
+        IncrementalDedup incremental = new IncrementalDedup(0.5);
+        RunContext run = RunContext.of(DATE, PERIOD, staticBase);
+        List<String[]> rows = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            rows.add(new String[]{"title " + i, "content " + i, "001-" + i});
+        }
+        writeDetail(run, rows);
+
+        // 첫 실행: 매니페스트가 없으므로 전체
+        Plan first = incremental.plan(run, CATEGORY);
+        assertEquals(Mode.FULL, first.mode());
+        writePreviousOutput(run);
+        IncrementalDedup.complete(first);
+
+        assertEquals(Mode.SKIP, incremental.plan(run, CATEGORY).mode());
+
+        // 새 기사 1개, 본문이 바뀐 기사 1개
+        rows.add(new String[]{"title 7", "content 7", "001-7"});
+        rows.set(1, new String[]{"title 2", "content 2 updated", "001-2"});
+        writeDetail(run, rows);
+
+        Plan rerun = incremental.plan(run, CATEGORY);
+        assertEquals(Mode.DELTA, rerun.mode());
+        assertEquals(2, rerun.deltaRows());
+        assertEquals(List.of("001-2", "001-7", "001-1", "001-4"), readOidAids(rerun.input()),
+                "바뀐 기사 뒤에 이전 대표/유지 기사 (제거/연관 기사와 바뀐 기사는 제외)");
+
+        IncrementalDedup.complete(rerun);
+        assertFalse(Files.exists(rerun.input()), "성공하면 입력 파일 삭제");
+        assertEquals(Mode.SKIP, incremental.plan(run, CATEGORY).mode());
+    }
+
+    @Test
+    void tooManyChangesFallBackToFullRun() throws IOException {
+        IncrementalDedup incremental = new IncrementalDedup(0.5);
+        RunContext run = RunContext.of(DATE, PERIOD, staticBase);
+        List<String[]> rows = new ArrayList<>();
+        rows.add(new String[]{"title 1", "content 1", "001-1"});
+        writeDetail(run, rows);
+        Plan first = incremental.plan(run, CATEGORY);
+        writePreviousOutput(run);
+        IncrementalDedup.complete(first);
+
+        rows.add(new String[]{"title 2", "content 2", "001-2"});
+        rows.add(new String[]{"title 3", "content 3", "001-3"});
+        writeDetail(run, rows);
+        assertEquals(Mode.FULL, incremental.plan(run, CATEGORY).mode());
+    }
+
+    private static void writeDetail(RunContext run, List<String[]> rows) throws IOException {
+        Path detailed = run.detailFile(CATEGORY);
+        Files.createDirectories(detailed.getParent());
+        try (CsvWriter writer = CsvWriter.create(detailed, "title", "content", "oid_aid")) {
+            for (String[] row : rows) {
+                writer.writeRecord(row);
+            }
+        }
+    }
+
+    private static void writePreviousOutput(RunContext run) throws IOException {
+        Path dedupDir = run.getDedupDirectory();
+        Files.createDirectories(dedupDir);
+        try (CsvWriter writer = CsvWriter.create(dedupDir.resolve("deduplicated_" + CATEGORY + "_" + DATE + "_" + PERIOD + ".csv"),
+                "oid_aid", "dedup_state")) {
+            writer.writeRecord("001-1", "REPRESENTATIVE");
+            writer.writeRecord("001-2", "REPRESENTATIVE");
+            writer.writeRecord("001-3", "RELATED");
+            writer.writeRecord("001-4", "KEPT");
+        }
+    }
+
+    private static List<String> readOidAids(Path path) throws IOException {
+        List<String> oidAids = new ArrayList<>();
+        try (CsvReader reader = CsvReader.open(path)) {
+            reader.readHeader();
+            while (reader.next()) {
+                oidAids.add(reader.get("oid_aid"));
+            }
+        }
+        return oidAids;
+    }
+}
@@ -0,0 +1,89 @@
+package com.news.news_crawler.dedup;
+
+import com.news.news_crawler.csv.CsvReader;
+import com.news.news_crawler.csv.CsvWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleMinHashLshTest {
+
+    @Test
+    void groupsNearDuplicateTitlesAndSkipsUnrelated() {
+        List<String> titles = new ArrayList<>();
+        titles.add("Central bank raises interest rates again");
+        titles.add("[Breaking] Central bank raises interest rates again, 2nd time");
+        titles.add("Local team wins championship final");
+        titles.add("Volcano eruption forces evacuation of island");
+        titles.add("");
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 200; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int word = 0; word < 4; word++) {
+                for (int c = 0; c < 6; c++) {
+                    title.append((char) ('a' + random.nextInt(26)));
+                }
+                title.append(' ');
+            }
+            titles.add(title.toString());
+        }
+
+        List<int[]> groups = new TitleMinHashLsh().candidateGroups(titles);
+
+        assertTrue(groups.stream().anyMatch(g -> contains(g, 0) && contains(g, 1)));
+        assertFalse(groups.stream().anyMatch(g -> contains(g, 4)));
+        // 모든 쌍(약 2만)보다 훨씬 적은 쌍만 비교
+        long allPairs = (long) titles.size() * (titles.size() - 1) / 2;
+        assertTrue(TitleMinHashLsh.pairCount(groups) < allPairs / 4, "pairs=" + TitleMinHashLsh.pairCount(groups));
+    }
+
+    @Test
+    void normalizesLikePythonPreprocessing() {
+        assertEquals("breaking rates up", TitleMinHashLsh.normalize("[Breaking] Rates up 25%!"));
+        assertEquals(0, TitleMinHashLsh.shingles("1 2 3 !").length);
+    }
+
+    @Test
+    void writesCandidatesNextToDetailedFile(@TempDir Path dir) throws Exception {
+        Path detailed = dir.resolve("naver_news_test_am_detailed.csv");
+        try (CsvWriter writer = CsvWriter.create(detailed, "title", "content")) {
+            writer.writeRecord("Central bank raises interest rates again", "a");
+            writer.writeRecord("Volcano eruption forces evacuation", "b");
+            writer.writeRecord("Central bank raises interest rates again today", "c");
+        }
+
+        int groups = TitleCandidates.generate(detailed, new TitleMinHashLsh());
+
+        Path candidates = TitleCandidates.candidatesPath(detailed);
+        assertEquals("naver_news_test_am_title_candidates.csv", candidates.getFileName().toString());
+        assertTrue(Files.exists(candidates));
+        assertTrue(groups >= 1);
+        List<String> rows = new ArrayList<>();
+        try (CsvReader reader = CsvReader.open(candidates)) {
+            reader.readHeader();
+            while (reader.next()) {
+                rows.add(reader.get("row"));
+            }
+        }
+        assertTrue(rows.contains("0") && rows.contains("2"), rows.toString());
+        assertFalse(rows.contains("1"), rows.toString());
+    }
+
+    private static boolean contains(int[] group, int row) {
+        for (int member : group) {
+            if (member == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,73 @@
+package com.news.news_crawler.pipeline;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.pipeline.StageDag.NodeResult;
+import com.news.news_crawler.pipeline.StageDag.Status;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StageDagTest {
+
+    @Test
+    void fastCategoryReachesLastStageWhileSlowCategoryIsStillInFirstStage() throws InterruptedException {
+        CountDownLatch slowRelease = new CountDownLatch(1);
+        CountDownLatch fastLoaded = new CountDownLatch(1);
+        StageDag dag = new StageDag(1, 0, CrawlProgressListener.NOOP)
+                .stage("LIST", 2)
+                .stage("LOAD", 1);
+
+        StageDag.Node slowList = dag.node("slow/list", "LIST", () -> {
+            // 빠른 카테고리가 저장까지 끝나야 풀림 - 단계 장벽이 있으면 시간 초과
+            assertTrue(fastLoaded.await(5, TimeUnit.SECONDS));
+            slowRelease.countDown();
+        });
+        dag.node("slow/load", "LOAD", () -> assertEquals(0, slowRelease.getCount()), slowList);
+        StageDag.Node fastList = dag.node("fast/list", "LIST", () -> {
+        });
+        dag.node("fast/load", "LOAD", fastLoaded::countDown, fastList);
+
+        Map<String, NodeResult> results = dag.run();
+
+        results.values().forEach(result -> assertEquals(Status.SUCCEEDED, result.status(), result.id()));
+        assertNull(dag.earliestUnfinishedStage());
+    }
+
+    @Test
+    void retriesOnlyFailedNodeAndSkipsDependentsOfPermanentFailure() throws InterruptedException {
+        AtomicInteger flakyRuns = new AtomicInteger();
+        AtomicInteger brokenDependentRuns = new AtomicInteger();
+        StageDag dag = new StageDag(3, 1, CrawlProgressListener.NOOP)
+                .stage("DETAIL", 2)
+                .stage("LOAD", 2);
+
+        StageDag.Node flaky = dag.node("a/detail", "DETAIL", () -> {
+            if (flakyRuns.incrementAndGet() < 2) {
+                throw new IllegalStateException("일시 오류");
+            }
+        });
+        dag.node("a/load", "LOAD", () -> {
+        }, flaky);
+        StageDag.Node broken = dag.node("b/detail", "DETAIL", () -> {
+            throw new IllegalStateException("계속 실패");
+        });
+        dag.node("b/load", "LOAD", brokenDependentRuns::incrementAndGet, broken);
+
+        Map<String, NodeResult> results = dag.run();
+
+        assertEquals(Status.SUCCEEDED, results.get("a/detail").status());
+        assertEquals(2, results.get("a/detail").attempts());
+        assertEquals(Status.SUCCEEDED, results.get("a/load").status());
+        assertEquals(Status.FAILED, results.get("b/detail").status());
+        assertEquals(3, results.get("b/detail").attempts());
+        assertEquals(Status.SKIPPED, results.get("b/load").status());
+        assertEquals(0, brokenDependentRuns.get());
+    }
+}
@@ -0,0 +1,32 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.stage.RunContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CrawlJobRegistryTest {
+
+    private final CrawlJobRegistry registry = new CrawlJobRegistry();
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void refusesASecondJobOnTheSameFolderUntilTheFirstFinishes(@TempDir Path staticBase) {
+        CrawlJob running = registry.createExclusive(RunContext.of("2025-08-01", "am", staticBase), "backfill");
+
+        assertThrows(IllegalStateException.class,
+                () -> registry.createExclusive(RunContext.of("2025-08-01", "am", staticBase), "backfill"));
+        registry.createExclusive(RunContext.of("2025-08-01", "pm", staticBase), "backfill"); // 다른 폴더는 동시에 가능
+
+        running.complete();
+        registry.createExclusive(RunContext.of("2025-08-01", "am", staticBase), "scheduled");
+    }
+}
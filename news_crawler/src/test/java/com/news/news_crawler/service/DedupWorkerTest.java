@@ -0,0 +1,128 @@
+package com.news.news_crawler.service;
+
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.util.DedupWorkerConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실제 모델 대신 같은 프로토콜을 말하는 가짜 워커 스크립트로 프로세스 관리만 확인
+ */
+class DedupWorkerTest {
+
+    // date가 "slow"면 응답하지 않고, "crash"면 프로세스 종료, "pause"면 1.5초 뒤 응답
+    private static final String FAKE_WORKER = """
+            import json, os, sys, time
+            print(json.dumps({"type": "ready", "pid": os.getpid(), "seconds": 0}), flush=True)
+            for line in sys.stdin:
+                request = json.loads(line)
+                if request["op"] == "ping":
+                    print(json.dumps({"id": request["id"], "type": "pong", "pid": os.getpid()}), flush=True)
+                elif request["op"] == "dedup":
+                    if request["date"] == "slow":
+                        time.sleep(60)
+                    if request["date"] == "crash":
+                        sys.exit(3)
+                    if request["date"] == "pause":
+                        time.sleep(1.5)
+                    results = {c: {"status": "ok", "seconds": 0.1} for c in request["categories"]}
+                    print(json.dumps({"id": request["id"], "type": "result", "results": results, "pid": os.getpid()}), flush=True)
+                elif request["op"] == "shutdown":
+                    break
+            """;
+
+    @TempDir
+    Path dir;
+
+    private DedupWorker worker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(dir.resolve("fake_worker.py"), FAKE_WORKER, StandardCharsets.UTF_8);
+        worker = startWorker(30);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    private DedupWorker startWorker(long jobTimeoutSeconds) {
+        return new DedupWorker(config(jobTimeoutSeconds).build());
+    }
+
+    private DedupWorkerConfig.DedupWorkerConfigBuilder config(long jobTimeoutSeconds) {
+        return DedupWorkerConfig.builder()
+                .workerScript(dir.resolve("fake_worker.py"))
+                .workingDirectory(dir)
+                .startupTimeoutSeconds(30)
+                .jobTimeoutSeconds(jobTimeoutSeconds)
+                .healthCheckIntervalSeconds(0);
+    }
+
+    @Test
+    void runsJobsOnOneWarmProcess() throws Exception {
+        Map<String, DedupWorker.CategoryResult> first = worker.dedup("2025-08-01", "am", List.of("politics", "economy"), CrawlProgressListener.NOOP);
+        Map<String, DedupWorker.CategoryResult> second = worker.dedup("2025-08-01", "pm", List.of("politics"), CrawlProgressListener.NOOP);
+
+        assertEquals(List.of("politics", "economy"), List.copyOf(first.keySet()));
+        assertTrue(first.get("politics").isOk());
+        assertEquals(1, second.size());
+        assertTrue(worker.ping());
+        assertEquals(0, worker.getRestartCount());
+    }
+
+    @Test
+    void timedOutJobRestartsWorker() throws Exception {
+        worker.shutdown();
+        worker = startWorker(2);
+        assertThrows(TimeoutException.class, () -> worker.dedup("slow", "am", List.of("politics"), CrawlProgressListener.NOOP));
+        assertEquals(1, worker.getRestartCount());
+
+        // 새 워커가 다음 작업을 받음
+        assertTrue(worker.dedup("2025-08-01", "am", List.of("politics"), CrawlProgressListener.NOOP).get("politics").isOk());
+    }
+
+    @Test
+    void crashedWorkerIsStartedAgainForNextJob() throws Exception {
+        assertThrows(IOException.class, () -> worker.dedup("crash", "am", List.of("politics"), CrawlProgressListener.NOOP));
+
+        assertTrue(worker.dedup("2025-08-01", "am", List.of("politics"), CrawlProgressListener.NOOP).get("politics").isOk());
+    }
+
+    @Test
+    void poolRunsCategoriesOnSeparateWorkersAtOnce() throws Exception {
+        DedupWorkerPool pool = new DedupWorkerPool(config(30).workerCount(2).build());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            long start = System.nanoTime();
+            Future<DedupWorker.CategoryResult> politics = executor.submit(() -> pool.dedup("pause", "am", "politics", null, CrawlProgressListener.NOOP));
+            Future<DedupWorker.CategoryResult> economy = executor.submit(() -> pool.dedup("pause", "am", "economy", null, CrawlProgressListener.NOOP));
+            assertTrue(politics.get().isOk());
+            assertTrue(economy.get().isOk());
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            assertTrue(elapsedMillis < 2900, "두 카테고리가 동시에 처리되어야 함 (" + elapsedMillis + "ms)");
+        } finally {
+            executor.shutdownNow();
+            pool.shutdown();
+        }
+    }
+}
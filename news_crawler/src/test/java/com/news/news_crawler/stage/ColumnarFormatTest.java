@@ -0,0 +1,161 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.csv.CsvWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarFormatTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void rowsSpanningSeveralRowGroupsReadBackByColumnName() throws IOException {
+        Path file = tempDir.resolve("detailed.ncol");
+        String[] columns = {"press", "title", "content"};
+        int rows = 2500; // 행 그룹 3개
+        try (ColumnarWriter writer = ColumnarWriter.create(file, columns, Set.of("press"))) {
+            for (int i = 0; i < rows; i++) {
+                writer.writeRecord(i % 2 == 0 ? "연합뉴스" : "한겨레", "제목 " + i, i % 7 == 0 ? null : "본문,\n\"" + i + "\"");
+            }
+        }
+
+        try (RecordReader reader = StageFiles.openReader(file)) {
+            assertTrue(reader.readHeader());
+            int content = reader.requireColumn("content");
+            for (int i = 0; i < rows; i++) {
+                assertTrue(reader.next());
+                // 일부 컬럼만 조회해도 다른 컬럼 커서가 어긋나지 않아야 함
+                if (i % 3 == 0) {
+                    assertEquals(i % 7 == 0 ? "" : "본문,\n\"" + i + "\"", reader.get(content));
+                }
+                assertEquals(i % 2 == 0 ? "연합뉴스" : "한겨레", reader.get("press"));
+                if (i % 5 == 0) {
+                    assertEquals("제목 " + i, reader.get("title"));
+                }
+            }
+            assertFalse(reader.next());
+            assertEquals(rows, reader.getRecordNumber());
+        }
+    }
+
+    @Test
+    void emptyFileKeepsSchema() throws IOException {
+        Path file = tempDir.resolve("related.ncol");
+        ColumnarWriter.create(file, new String[]{"rep_oid_aid", "related_oid_aid", "similarity"}, Set.of()).close();
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals(2, reader.column("similarity"));
+            assertEquals(0, reader.getRowCount());
+            assertFalse(reader.next());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(StageCompression.class)
+    void compressedStageFilesAreDetectedByExtension(StageCompression compression) throws IOException {
+        Path logical = tempDir.resolve("detailed.csv");
+        Path csv = logical.resolveSibling(logical.getFileName() + compression.getExtension());
+        // 이어쓰기 두 번 - 압축 파일은 gzip 멤버/zstd 프레임이 이어 붙음
+        for (int i = 0; i < 2; i++) {
+            try (CsvWriter writer = CsvWriter.append(csv, "press", "title")) {
+                writer.writeRecord("연합뉴스", "제목\n" + i);
+                writer.commit();
+            }
+        }
+        Path columnar = StageFiles.columnarSibling(csv);
+        try (ColumnarWriter writer = ColumnarWriter.create(columnar, new String[]{"press", "title"}, Set.of("press"))) {
+            writer.writeRecord("연합뉴스", "컬럼형");
+        }
+
+        assertEquals(columnar, StageFiles.resolveForRead(logical));
+        try (RecordReader reader = StageFiles.openReader(columnar)) {
+            assertTrue(reader.next());
+            assertEquals("컬럼형", reader.get("title"));
+        }
+        try (RecordReader reader = StageFiles.openReader(csv)) {
+            assertTrue(reader.readHeader());
+            for (int i = 0; i < 2; i++) {
+                assertTrue(reader.next());
+                assertEquals("제목\n" + i, reader.get("title"));
+            }
+            assertFalse(reader.next());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(StageCompression.class)
+    void appendClosedWithoutCommitLeavesTheFileAsItWas(StageCompression compression) throws IOException {
+        Path csv = tempDir.resolve("list.csv" + compression.getExtension());
+        try (CsvWriter writer = CsvWriter.append(csv, "press", "title")) {
+            writer.writeRecord("연합뉴스", "처음");
+            // 커밋 전에 실패 - 새로 만든 파일은 남지 않음
+        }
+        assertFalse(Files.exists(csv));
+
+        try (CsvWriter writer = CsvWriter.append(csv, "press", "title")) {
+            writer.writeRecord("연합뉴스", "처음");
+            writer.commit();
+        }
+        byte[] committed = Files.readAllBytes(csv);
+        try (CsvWriter writer = CsvWriter.append(csv, "press", "title")) {
+            for (int i = 0; i < 5000; i++) {
+                writer.writeRecord("한겨레", "버려질 행 " + i);
+            }
+        }
+        assertArrayEquals(committed, Files.readAllBytes(csv));
+
+        try (RecordReader reader = StageFiles.openReader(csv)) {
+            assertTrue(reader.readHeader());
+            assertTrue(reader.next());
+            assertEquals("처음", reader.get("title"));
+            assertFalse(reader.next());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(StageCompression.class)
+    void appendAddsRowGroupsAfterTheExistingFooter(StageCompression compression) throws IOException {
+        Path file = tempDir.resolve("detailed.ncol" + compression.getExtension());
+        String[] columns = {"press", "title"};
+        int[] batches = {1500, 3, 700};
+        int written = 0;
+        for (int batch : batches) {
+            assertTrue(ColumnarWriter.canAppend(file, columns, Set.of("press")));
+            try (ColumnarWriter writer = ColumnarWriter.append(file, columns, Set.of("press"))) {
+                for (int i = 0; i < batch; i++, written++) {
+                    writer.writeRecord(written % 3 == 0 ? "연합뉴스" : "언론사 " + written % 5, "제목 " + written);
+                }
+                writer.commit();
+            }
+        }
+        byte[] committed = Files.readAllBytes(file);
+        try (ColumnarWriter writer = ColumnarWriter.append(file, columns, Set.of("press"))) {
+            writer.writeRecord("한겨레", "버려질 행"); // 커밋 없이 닫음
+        }
+        assertArrayEquals(committed, Files.readAllBytes(file));
+        assertFalse(ColumnarWriter.canAppend(file, new String[]{"press", "title", "content"}, Set.of("press")));
+
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            assertEquals(written, reader.getRowCount());
+            for (int i = 0; i < written; i++) {
+                assertTrue(reader.next());
+                assertEquals(i % 3 == 0 ? "연합뉴스" : "언론사 " + i % 5, reader.get("press"));
+                assertEquals("제목 " + i, reader.get("title"));
+            }
+            assertFalse(reader.next());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.csv.CsvWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelRecordParserTest {
+
+    private static final int ROWS = 5000;
+
+    @TempDir
+    Path tempDir;
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void csvSplitAtRecordBoundariesKeepsFileOrder() throws Exception {
+        Path file = tempDir.resolve("deduplicated.csv");
+        try (CsvWriter writer = CsvWriter.create(file, "oid_aid", "content")) {
+            for (int i = 0; i < ROWS; i++) {
+                writer.writeRecord(Integer.toString(i), content(i));
+            }
+        }
+
+        try (RecordChunks chunks = RecordChunks.split(file, 4 * 1024)) {
+            assertTrue(chunks.size() > 10, "작은 조각 크기로 여러 조각이 나와야 함");
+            assertParsedInOrder(chunks);
+        }
+    }
+
+    @Test
+    void columnarSplitByRowGroupKeepsFileOrder() throws Exception {
+        Path file = tempDir.resolve("deduplicated.ncol");
+        try (ColumnarWriter writer = ColumnarWriter.create(file, new String[]{"oid_aid", "content"}, Set.of())) {
+            for (int i = 0; i < ROWS; i++) {
+                writer.writeRecord(Integer.toString(i), content(i));
+            }
+        }
+
+        try (RecordChunks chunks = RecordChunks.split(file, 4 * 1024)) {
+            assertEquals(5, chunks.size()); // 1024행 행 그룹
+            assertParsedInOrder(chunks);
+        }
+    }
+
+    @Test
+    void rowFailuresCarryFileWideRecordNumbers() throws Exception {
+        Path file = tempDir.resolve("related.csv");
+        try (CsvWriter writer = CsvWriter.create(file, "similarity")) {
+            for (int i = 0; i < ROWS; i++) {
+                writer.writeRecord(i % 1000 == 999 ? "n/a" : "0." + i);
+            }
+        }
+
+        List<Long> failed = new ArrayList<>();
+        try (RecordChunks chunks = RecordChunks.split(file, 1024)) {
+            int column = chunks.requireColumn("similarity");
+            long records = ParallelRecordParser.parse(chunks, pool, row -> Float.parseFloat(row.get(column)),
+                    chunk -> chunk.failures().forEach(failure -> failed.add(failure.recordNumber())));
+            assertEquals(ROWS, records);
+        }
+        assertEquals(List.of(1000L, 2000L, 3000L, 4000L, 5000L), failed);
+    }
+
+    private void assertParsedInOrder(RecordChunks chunks) throws Exception {
+        int oidAid = chunks.requireColumn("oid_aid");
+        int content = chunks.requireColumn("content");
+        List<Integer> ids = new ArrayList<>();
+        ParallelRecordParser.parse(chunks, pool, row -> {
+            int id = Integer.parseInt(row.get(oidAid));
+            assertEquals(content(id), row.get(content));
+            return id;
+        }, chunk -> {
+            assertTrue(chunk.failures().isEmpty(), () -> chunk.failures().toString());
+            assertEquals(ids.size() + 1, chunk.firstRecordNumber());
+            ids.addAll(chunk.rows());
+        });
+
+        assertEquals(ROWS, ids.size());
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(i, ids.get(i));
+        }
+    }
+
+    // 따옴표와 줄바꿈이 들어간 본문 - 줄 단위로 자르면 레코드가 깨짐
+    private static String content(int i) {
+        return "본문 " + i + "\n\"인용\" 문단,\n" + "x".repeat(i % 50);
+    }
+}
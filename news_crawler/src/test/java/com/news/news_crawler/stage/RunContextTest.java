@@ -0,0 +1,43 @@
+package com.news.news_crawler.stage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunContextTest {
+
+    @Test
+    void runStartedBeforeNoonKeepsEveryStageInTheMorningFolder(@TempDir Path staticBase) throws IOException {
+        RunContext run = RunContext.start(LocalDateTime.of(2025, 8, 1, 11, 58), staticBase);
+
+        Path runFolder = staticBase.resolve("am").resolve("2025-08-01_am");
+        assertEquals("2025-08-01_am", run.getRunKey());
+        assertTrue(run.getRunId().startsWith("2025-08-01_am-"));
+        assertEquals(runFolder, run.getRunFolder());
+        assertEquals(runFolder.resolve("naver_news_politics_am.csv"), run.listFile("politics"));
+        assertEquals(runFolder.resolve("detail").resolve("naver_news_politics_am_detailed.csv"), run.detailFile("politics"));
+        assertEquals(runFolder.resolve("deduplicated-related"), run.getDedupDirectory());
+
+        Map<String, String> environment = new HashMap<>();
+        run.putEnvironment(environment);
+        assertEquals("2025-08-01", environment.get(RunContext.DATE_ENV));
+        assertEquals("am", environment.get(RunContext.PERIOD_ENV));
+
+        run.record(RunManifest.Stage.DEDUP);
+        assertEquals(run.getDedupDirectory(), run.getManifest().latest(RunManifest.Stage.DEDUP).orElseThrow().path());
+    }
+
+    @Test
+    void periodFlipsAtNoon() {
+        assertEquals("am", RunContext.periodOf(LocalDateTime.of(2025, 8, 1, 11, 59, 59)));
+        assertEquals("pm", RunContext.periodOf(LocalDateTime.of(2025, 8, 1, 12, 0)));
+    }
+}
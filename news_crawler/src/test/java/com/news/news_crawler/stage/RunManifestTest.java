@@ -0,0 +1,110 @@
+package com.news.news_crawler.stage;
+
+import com.news.news_crawler.stage.RunManifest.Entry;
+import com.news.news_crawler.stage.RunManifest.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RunManifestTest {
+
+    @Test
+    void latestFollowsDateThenPeriodAndIgnoresRepeatedRecords(@TempDir Path staticBase) throws IOException {
+        RunManifest manifest = RunManifest.at(staticBase);
+        assertTrue(manifest.latest(Stage.DEDUP).isEmpty());
+
+        manifest.record("2025-08-01", "pm", Stage.DEDUP);
+        manifest.record("2025-08-02", "am", Stage.DEDUP);
+        manifest.record("2025-08-01", "am", Stage.DEDUP); // 늦게 다시 돌린 이전 실행
+        manifest.record("2025-08-02", "am", Stage.DEDUP);
+        manifest.record(staticBase.resolve("am").resolve("not-a-run"), Stage.LIST);
+
+        Entry latest = manifest.latest(Stage.DEDUP).orElseThrow();
+        assertEquals("2025-08-02_am", latest.runKey());
+        assertEquals("2025-08-02", latest.date());
+        assertEquals("am", latest.period());
+        assertEquals(staticBase.resolve("am").resolve("2025-08-02_am").resolve("deduplicated-related"), latest.path());
+        assertTrue(manifest.latest(Stage.LIST).isEmpty());
+
+        List<String> lines = Files.readAllLines(staticBase.resolve(RunManifest.FILE_NAME), StandardCharsets.UTF_8);
+        assertEquals(4, lines.size(), "같은 실행·단계는 한 번만 기록");
+    }
+
+    @Test
+    void picksUpRecordsAppendedByAnotherProcess(@TempDir Path staticBase) throws IOException {
+        RunManifest manifest = RunManifest.at(staticBase);
+        manifest.record("2025-08-01", "am", Stage.LIST);
+
+        Files.writeString(staticBase.resolve(RunManifest.FILE_NAME),
+                "2025-08-01_pm,pm,LIST,pm/2025-08-01_pm,2025-08-01T13:00\n", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals("2025-08-01_pm", manifest.latest(Stage.LIST).orElseThrow().runKey());
+        assertEquals(staticBase.resolve("pm").resolve("2025-08-01_pm"),
+                manifest.find("2025-08-01", "pm", Stage.LIST).orElseThrow().path());
+    }
+
+    @Test
+    void rebuildsFromExistingRunFoldersWhenTheFileIsMissing(@TempDir Path staticBase) throws IOException {
+        Path run = staticBase.resolve("pm").resolve("2025-07-31_pm");
+        Files.createDirectories(run.resolve("detail"));
+        Files.createDirectories(run.resolve("deduplicated-related"));
+        Files.writeString(run.resolve("naver_news_politics_pm.csv"), "title\n");
+        Files.writeString(run.resolve("detail").resolve("naver_news_politics_pm_detailed.csv"), "title\n");
+        Files.createDirectories(staticBase.resolve("am").resolve("2025-08-01_am")); // 비어 있는 실행 폴더
+
+        RunManifest manifest = RunManifest.at(staticBase);
+
+        assertEquals("2025-07-31_pm", manifest.latest(Stage.LIST).orElseThrow().runKey());
+        assertEquals(run.resolve("detail"), manifest.latest(Stage.DETAIL).orElseThrow().path());
+        assertTrue(manifest.latest(Stage.DEDUP).isEmpty(), "결과 파일이 없는 단계는 기록하지 않음");
+        assertTrue(Files.exists(staticBase.resolve(RunManifest.FILE_NAME)));
+    }
+
+    @Test
+    void processesRecordingTheSameRunsConcurrentlyWriteEachLineOnce(@TempDir Path staticBase) throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    RecordingProcess.class.getName(), staticBase.toString())
+                    .inheritIO()
+                    .start());
+        }
+        for (Process process : processes) {
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            assertEquals(0, process.exitValue());
+        }
+
+        List<String> lines = Files.readAllLines(staticBase.resolve(RunManifest.FILE_NAME), StandardCharsets.UTF_8);
+        assertEquals(1 + RecordingProcess.RUNS, lines.size(), "같은 실행·단계는 프로세스가 달라도 한 번만 기록");
+    }
+
+    // 다른 프로세스 - 같은 실행들을 기록하고, 마지막에 지금까지 파일에 있는 줄을 모두 봤는지 확인
+    static final class RecordingProcess {
+
+        static final int RUNS = 30;
+
+        public static void main(String[] args) throws IOException {
+            Path staticBase = Path.of(args[0]);
+            RunManifest manifest = RunManifest.at(staticBase);
+            for (int day = 1; day <= RUNS; day++) {
+                manifest.record(String.format("2025-08-%02d", day), "am", Stage.LIST);
+            }
+            if (!"2025-08-30_am".equals(manifest.latest(Stage.LIST).orElseThrow().runKey())) {
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.news.news_crawler.util;
+
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.monitoring.CrawlProgressListener;
+import com.news.news_crawler.pipeline.StageDag;
+import com.news.news_crawler.pipeline.StageDag.NodeResult;
+import com.news.news_crawler.pipeline.StageDag.Status;
+import com.news.news_crawler.stage.RunContext;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvToDatabaseTest {
+
+    private static final String CATEGORY = "economy"; // 파일 이름이 JVM 파일 시스템 인코딩과 무관하도록 ASCII
+
+    @TempDir
+    Path staticBase;
+
+    // 남은 횟수만큼 연결 요청을 실패시키는 데이터 소스 (DB 일시 장애 흉내)
+    private final AtomicInteger connectionFailures = new AtomicInteger();
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:csv_to_database;MODE=MySQL;DB_CLOSE_DELAY=-1") {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    if (connectionFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+                        throw new SQLTransientConnectionException("연결 실패");
+                    }
+                    return super.getConnection();
+                }
+            };
+
+    private final DbLoadConfig config = DbLoadConfig.builder()
+            .categoryParallelism(1)
+            .parseParallelism(1)
+            .oidFilterEnabled(false)
+            .fingerprintEnabled(false)
+            .build();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS news");
+            statement.execute("DROP TABLE IF EXISTS related_news");
+            statement.execute("CREATE TABLE news (id BIGINT AUTO_INCREMENT PRIMARY KEY, title VARCHAR NOT NULL, content VARCHAR, "
+                    + "press VARCHAR(255), published_at TIMESTAMP, reporter VARCHAR(255), dedup_state VARCHAR(32), "
+                    + "created_at TIMESTAMP, updated_at TIMESTAMP, trusted BOOLEAN, image_url VARCHAR, "
+                    + "oid_aid VARCHAR(64) UNIQUE, category_name VARCHAR(32), content_hash VARCHAR(16))");
+            statement.execute("CREATE TABLE related_news (id BIGINT AUTO_INCREMENT PRIMARY KEY, rep_oid_aid VARCHAR(64), "
+                    + "related_oid_aid VARCHAR(64), similarity REAL, created_at TIMESTAMP)");
+        }
+    }
+
+    @Test
+    void failingLoadNodeIsRetriedByTheDag() throws Exception {
+        RunContext run = RunContext.of("2025-08-01", "am", staticBase);
+        writeDedupOutput(run);
+        CsvToDatabase loader = new CsvToDatabase(dataSource, config);
+
+        StageDag dag = new StageDag(3, 0, CrawlProgressListener.NOOP).stage("DATABASE", 1);
+        Map<String, NodeResult> results;
+        try (CsvToDatabase.Session session = loader.openSession(run)) {
+            connectionFailures.set(1); // 첫 시도의 카테고리 연결만 실패
+            dag.node(CATEGORY + "/database", "DATABASE", () -> session.load(CATEGORY, CrawlProgressListener.NOOP));
+            results = dag.run();
+        }
+
+        NodeResult result = results.get(CATEGORY + "/database");
+        assertEquals(Status.SUCCEEDED, result.status());
+        assertEquals(2, result.attempts());
+        assertEquals(2, countNews());
+    }
+
+    @Test
+    void emptyCategoryFinishesTheDagWithoutLoading() throws Exception {
+        RunContext run = RunContext.of("2025-08-01", "am", staticBase);
+        Files.createDirectories(run.getDedupDirectory()); // 목록이 비어 상세·중복 제거 결과가 없는 카테고리
+        CsvToDatabase loader = new CsvToDatabase(dataSource, config);
+
+        StageDag dag = new StageDag(3, 0, CrawlProgressListener.NOOP).stage("DEDUP", 1).stage("DATABASE", 1);
+        Map<String, NodeResult> results;
+        try (CsvToDatabase.Session session = loader.openSession(run)) {
+            StageDag.Node dedup = dag.node(CATEGORY + "/dedup", "DEDUP", () -> session.skip(CATEGORY));
+            dag.node(CATEGORY + "/database", "DATABASE", () -> session.load(CATEGORY, CrawlProgressListener.NOOP), dedup);
+            results = dag.run();
+        }
+
+        NodeResult result = results.get(CATEGORY + "/database");
+        assertEquals(Status.SUCCEEDED, result.status());
+        assertEquals(1, result.attempts());
+        assertEquals(0, countNews());
+    }
+
+    @Test
+    void rowsIgnoredAsDuplicatesAreNotCountedAsInserted() throws Exception {
+        RunContext run = RunContext.of("2025-08-01", "am", staticBase);
+        writeDedupOutput(run);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO news (title, oid_aid) VALUES ('이미 저장된 기사', '001-1')"); // oid_aid 필터는 꺼 둠
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try (CsvToDatabase.Session session = new CsvToDatabase(dataSource, config).openSession(run)) {
+            session.load(CATEGORY, CrawlProgressListener.NOOP);
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+
+        assertEquals(2, countNews());
+        assertEquals(1.0, registry.get("crawler.db.inserted").tags("table", "news", "category", CATEGORY).counter().count());
+    }
+
+    @Test
+    void loadThrowsWhenTheDedupOutputIsMissing() throws Exception {
+        RunContext run = RunContext.of("2025-08-01", "pm", staticBase);
+        Files.createDirectories(run.getDedupDirectory());
+
+        try (CsvToDatabase.Session session = new CsvToDatabase(dataSource, config).openSession(run)) {
+            ExecutionException failure = assertThrows(ExecutionException.class,
+                    () -> session.load(CATEGORY, CrawlProgressListener.NOOP));
+            assertInstanceOf(FileNotFoundException.class, failure.getCause());
+        }
+        assertEquals(0, countNews());
+    }
+
+    private void writeDedupOutput(RunContext run) throws Exception {
+        Files.createDirectories(run.getDedupDirectory());
+        Path file = run.getDedupDirectory().resolve("deduplicated_" + CATEGORY + "_2025-08-01_am.csv");
+        try (CsvWriter writer = CsvWriter.create(file, "press", "title", "reporter", "published_at", "image_url",
+                "trusted", "oid_aid", "content", "dedup_state", "content_hash")) {
+            writer.writeRecord("연합뉴스", "제목 1", "기자", "2025-08-01 09:00:00", "", "1", "001-1", "본문 1", "KEPT", "");
+            writer.writeRecord("한겨레", "제목 2", "기자", "2025-08-01 09:30:00", "", "0", "002-1", "본문 2", "KEPT", "");
+        }
+    }
+
+    private int countNews() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM news")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+}
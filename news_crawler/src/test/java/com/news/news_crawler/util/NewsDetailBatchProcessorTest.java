@@ -0,0 +1,59 @@
+package com.news.news_crawler.util;
+
+import com.news.news_crawler.csv.CsvWriter;
+import com.news.news_crawler.stage.RecordReader;
+import com.news.news_crawler.stage.StageFiles;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class NewsDetailBatchProcessorTest {
+
+    private static final String[] HEADER = {"news_category_id", "news_category_name", "press", "title", "reporter",
+            "published_at", "link", "created_at", "image_url", "trusted", "oid_aid", "content", "content_hash"};
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void mergingOnlyARetriedShardKeepsTheArticlesMergedBefore() throws IOException {
+        Path detailed = tempDir.resolve("out").resolve("naver_news_economy_am_detailed.csv");
+        List<Path> shards = List.of(tempDir.resolve("shard0.csv"), tempDir.resolve("shard1.csv"));
+        writeShard(shards.get(0), "a", "b");
+        writeShard(shards.get(1), "c");
+        assertEquals(3, NewsDetailBatchProcessor.mergeShards(shards, detailed, false));
+
+        // 샤드 1만 다시 돌린 실행 - 샤드 0은 이미 합쳐 지워졌고, c는 다시 가져왔으며 d가 새로 생김
+        writeShard(shards.get(1), "c", "d");
+        assertEquals(2, NewsDetailBatchProcessor.mergeShards(shards, detailed, false));
+
+        assertEquals(List.of("a", "b", "c", "d"), links(detailed));
+        assertFalse(StageFiles.exists(shards.get(1)));
+    }
+
+    private static void writeShard(Path shard, String... links) throws IOException {
+        try (CsvWriter writer = CsvWriter.create(shard, HEADER)) {
+            for (String link : links) {
+                writer.writeRecord("101", "economy", "press", "title " + link, "", "", link, "", "", "0", "", "", "");
+            }
+        }
+    }
+
+    private static List<String> links(Path detailed) throws IOException {
+        List<String> links = new ArrayList<>();
+        try (RecordReader reader = StageFiles.openReader(StageFiles.resolveForRead(detailed))) {
+            reader.readHeader();
+            while (reader.next()) {
+                links.add(reader.get("link"));
+            }
+        }
+        return links;
+    }
+}